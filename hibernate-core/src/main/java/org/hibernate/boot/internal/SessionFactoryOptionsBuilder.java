@@ -76,7 +76,10 @@ import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
+import static org.hibernate.cfg.AvailableSettings.COLLECTION_OPERATION_LOG;
 import static org.hibernate.cfg.AvailableSettings.COLLECTION_JOIN_SUBQUERY;
+import static org.hibernate.cfg.AvailableSettings.COLLECTION_MULTI_ROW_DML_SIZE;
+import static org.hibernate.cfg.AvailableSettings.CONCURRENT_LAZY_LOAD_NO_TRANS;
 import static org.hibernate.cfg.AvailableSettings.CONNECTION_HANDLING;
 import static org.hibernate.cfg.AvailableSettings.CONVENTIONAL_JAVA_CONSTANTS;
 import static org.hibernate.cfg.AvailableSettings.CRITERIA_LITERAL_HANDLING_MODE;
@@ -85,6 +88,8 @@ import static org.hibernate.cfg.AvailableSettings.DEFAULT_BATCH_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_ENTITY_MODE;
 import static org.hibernate.cfg.AvailableSettings.DELAY_ENTITY_LOADER_CREATIONS;
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
+import static org.hibernate.cfg.AvailableSettings.ENHANCED_LAZY_REFERENCES;
+import static org.hibernate.cfg.AvailableSettings.EXTRA_LAZY_WINDOW_SIZE;
 import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
@@ -106,6 +111,7 @@ import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.PROCEDURE_NULL_PARAM_PASSING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.QUERY_PARALLEL_RESULT_PROCESSING_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_SUBSTITUTIONS;
 import static org.hibernate.cfg.AvailableSettings.RELEASE_CONNECTIONS;
@@ -187,6 +193,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private EntityTuplizerFactory entityTuplizerFactory = new EntityTuplizerFactory();
 	private boolean checkNullability;
 	private boolean initializeLazyStateOutsideTransactions;
+	private boolean concurrentLazyLoadNoTrans;
 	private MultiTableBulkIdStrategy multiTableBulkIdStrategy;
 	private TempTableDdlTransactionHandling tempTableDdlTransactionHandling;
 	private BatchFetchStyle batchFetchStyle;
@@ -198,6 +205,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean orderInsertsEnabled;
 	private boolean postInsertIdentifierDelayed;
 	private boolean enhancementAsProxyEnabled;
+	private boolean enhancedLazyReferencesEnabled;
 
 	// JPA callbacks
 	private boolean callbacksEnabled;
@@ -249,6 +257,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private boolean failOnPaginationOverCollectionFetchEnabled;
 	private boolean inClauseParameterPaddingEnabled;
+	private int parallelResultProcessingThreshold;
+	private boolean collectionOperationLogEnabled;
+	private int extraLazyWindowSize;
+	private int collectionMultiRowDmlSize;
 
 	private boolean nativeExceptionHandling51Compliance;
 	private int queryStatisticsMaxSize;
@@ -327,6 +339,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.defaultEntityMode = EntityMode.parse( (String) configurationSettings.get( DEFAULT_ENTITY_MODE ) );
 		this.checkNullability = cfgService.getSetting( CHECK_NULLABILITY, BOOLEAN, true );
 		this.initializeLazyStateOutsideTransactions = cfgService.getSetting( ENABLE_LAZY_LOAD_NO_TRANS, BOOLEAN, false );
+		this.concurrentLazyLoadNoTrans = ConfigurationHelper.getBoolean( CONCURRENT_LAZY_LOAD_NO_TRANS, configurationSettings );
 
 		this.multiTenancyStrategy = MultiTenancyStrategy.determineMultiTenancyStrategy( configurationSettings );
 		this.currentTenantIdentifierResolver = strategySelector.resolveStrategy(
@@ -351,6 +364,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.orderUpdatesEnabled = ConfigurationHelper.getBoolean( ORDER_UPDATES, configurationSettings );
 		this.orderInsertsEnabled = ConfigurationHelper.getBoolean( ORDER_INSERTS, configurationSettings );
 		this.enhancementAsProxyEnabled = ConfigurationHelper.getBoolean( ALLOW_ENHANCEMENT_AS_PROXY, configurationSettings );
+		this.enhancedLazyReferencesEnabled = enhancementAsProxyEnabled
+				&& ConfigurationHelper.getBoolean( ENHANCED_LAZY_REFERENCES, configurationSettings );
 
 		this.callbacksEnabled = ConfigurationHelper.getBoolean( JPA_CALLBACKS_ENABLED, configurationSettings, true );
 
@@ -518,6 +533,30 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				false
 		);
 
+		this.parallelResultProcessingThreshold = ConfigurationHelper.getInt(
+				QUERY_PARALLEL_RESULT_PROCESSING_THRESHOLD,
+				configurationSettings,
+				0
+		);
+
+		this.collectionOperationLogEnabled = ConfigurationHelper.getBoolean(
+				COLLECTION_OPERATION_LOG,
+				configurationSettings,
+				false
+		);
+
+		this.extraLazyWindowSize = ConfigurationHelper.getInt(
+				EXTRA_LAZY_WINDOW_SIZE,
+				configurationSettings,
+				0
+		);
+
+		this.collectionMultiRowDmlSize = ConfigurationHelper.getInt(
+				COLLECTION_MULTI_ROW_DML_SIZE,
+				configurationSettings,
+				0
+		);
+
 		this.nativeExceptionHandling51Compliance = ConfigurationHelper.getBoolean(
 				NATIVE_EXCEPTION_HANDLING_51_COMPLIANCE,
 				configurationSettings,
@@ -1042,6 +1081,26 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return this.inClauseParameterPaddingEnabled;
 	}
 
+	@Override
+	public int getParallelResultProcessingThreshold() {
+		return this.parallelResultProcessingThreshold;
+	}
+
+	@Override
+	public boolean isCollectionOperationLogEnabled() {
+		return this.collectionOperationLogEnabled;
+	}
+
+	@Override
+	public int getExtraLazyWindowSize() {
+		return this.extraLazyWindowSize;
+	}
+
+	@Override
+	public int getCollectionMultiRowDmlSize() {
+		return this.collectionMultiRowDmlSize;
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return jpaCompliance;
@@ -1067,6 +1126,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return enhancementAsProxyEnabled;
 	}
 
+	@Override
+	public boolean isEnhancedLazyReferencesEnabled() {
+		return enhancedLazyReferencesEnabled;
+	}
+
+	@Override
+	public boolean isConcurrentLazyLoadNoTransEnabled() {
+		return initializeLazyStateOutsideTransactions && concurrentLazyLoadNoTrans;
+	}
+
 	@Override
 	public boolean isOmitJoinOfSuperclassTablesEnabled() {
 		return omitJoinOfSuperclassTablesEnabled;
@@ -452,4 +452,34 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 	public boolean isOmitJoinOfSuperclassTablesEnabled() {
 		return delegate.isOmitJoinOfSuperclassTablesEnabled();
 	}
+
+	@Override
+	public int getParallelResultProcessingThreshold() {
+		return delegate.getParallelResultProcessingThreshold();
+	}
+
+	@Override
+	public boolean isCollectionOperationLogEnabled() {
+		return delegate.isCollectionOperationLogEnabled();
+	}
+
+	@Override
+	public int getExtraLazyWindowSize() {
+		return delegate.getExtraLazyWindowSize();
+	}
+
+	@Override
+	public int getCollectionMultiRowDmlSize() {
+		return delegate.getCollectionMultiRowDmlSize();
+	}
+
+	@Override
+	public boolean isEnhancedLazyReferencesEnabled() {
+		return delegate.isEnhancedLazyReferencesEnabled();
+	}
+
+	@Override
+	public boolean isConcurrentLazyLoadNoTransEnabled() {
+		return delegate.isConcurrentLazyLoadNoTransEnabled();
+	}
 }
@@ -316,4 +316,64 @@ public interface SessionFactoryOptions {
 	}
 
 	boolean isOmitJoinOfSuperclassTablesEnabled();
+
+	/**
+	 * The minimum number of rows of a scalar query result for which the rows are hydrated and
+	 * dynamically instantiated in parallel; {@code 0} disables it.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PARALLEL_RESULT_PROCESSING_THRESHOLD
+	 */
+	default int getParallelResultProcessingThreshold() {
+		return 0;
+	}
+
+	/**
+	 * Should persistent sets and bags record their additions and removals rather than keep a
+	 * snapshot of all their elements?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#COLLECTION_OPERATION_LOG
+	 */
+	default boolean isCollectionOperationLogEnabled() {
+		return false;
+	}
+
+	/**
+	 * The number of elements fetched at a time when iterating an uninitialized extra-lazy list;
+	 * {@code 0} disables windowed iteration.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#EXTRA_LAZY_WINDOW_SIZE
+	 */
+	default int getExtraLazyWindowSize() {
+		return 0;
+	}
+
+	/**
+	 * The maximum number of collection rows written by a single SQL statement; {@code 0} disables
+	 * multi-row statements.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#COLLECTION_MULTI_ROW_DML_SIZE
+	 */
+	default int getCollectionMultiRowDmlSize() {
+		return 0;
+	}
+
+	/**
+	 * Are the lazy to-one associations of bytecode-enhanced entities which cannot be represented by an
+	 * enhanced "proxy" loaded as lazy attributes of their owner?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ENHANCED_LAZY_REFERENCES
+	 */
+	default boolean isEnhancedLazyReferencesEnabled() {
+		return false;
+	}
+
+	/**
+	 * Are the proxies and collections of detached read-only entity graphs initialized thread-safely, when
+	 * {@link #isInitializeLazyStateOutsideTransactionsEnabled()}?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CONCURRENT_LAZY_LOAD_NO_TRANS
+	 */
+	default boolean isConcurrentLazyLoadNoTransEnabled() {
+		return false;
+	}
 }
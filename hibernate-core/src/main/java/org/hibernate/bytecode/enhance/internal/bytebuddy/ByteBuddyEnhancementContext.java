@@ -57,6 +57,10 @@ class ByteBuddyEnhancementContext {
 		return enhancementContext.doDirtyCheckingInline( new UnloadedTypeDescription( classDescriptor ) );
 	}
 
+	public boolean doDirtyCheckingByAttributeIndex(TypeDescription classDescriptor) {
+		return enhancementContext.doDirtyCheckingByAttributeIndex( new UnloadedTypeDescription( classDescriptor ) );
+	}
+
 	public boolean doExtendedEnhancement(TypeDescription classDescriptor) {
 		return enhancementContext.doExtendedEnhancement( new UnloadedTypeDescription( classDescriptor ) );
 	}
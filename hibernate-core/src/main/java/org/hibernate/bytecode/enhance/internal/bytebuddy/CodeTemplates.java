@@ -14,6 +14,7 @@ import java.util.Map;
 import org.hibernate.Hibernate;
 import org.hibernate.bytecode.enhance.internal.tracker.CompositeOwnerTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.DirtyTracker;
+import org.hibernate.bytecode.enhance.internal.tracker.IndexedFieldTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.NoopCollectionTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.SimpleCollectionTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.SimpleFieldTracker;
@@ -73,6 +74,32 @@ class CodeTemplates {
 		}
 	}
 
+	static class TrackChangeByName {
+		@Advice.OnMethodEnter
+		static void $$_hibernate_trackChange(
+				@Advice.Argument(0) String name,
+				@Advice.FieldValue(EnhancerConstants.TRACKER_ATTRIBUTE_NAMES_FIELD_NAME) String[] $$_hibernate_trackedAttributeNames,
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker) {
+			if ( $$_hibernate_tracker == null ) {
+				$$_hibernate_tracker = new IndexedFieldTracker( $$_hibernate_trackedAttributeNames );
+			}
+			$$_hibernate_tracker.add( name );
+		}
+	}
+
+	static class TrackChangeByIndex {
+		@Advice.OnMethodEnter
+		static void $$_hibernate_trackChange(
+				@Advice.Argument(0) int index,
+				@Advice.FieldValue(EnhancerConstants.TRACKER_ATTRIBUTE_NAMES_FIELD_NAME) String[] $$_hibernate_trackedAttributeNames,
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker) {
+			if ( $$_hibernate_tracker == null ) {
+				$$_hibernate_tracker = new IndexedFieldTracker( $$_hibernate_trackedAttributeNames );
+			}
+			( (IndexedFieldTracker) $$_hibernate_tracker ).add( index );
+		}
+	}
+
 	static class GetDirtyAttributes {
 		@Advice.OnMethodExit
 		static void $$_hibernate_getDirtyAttributes(
@@ -102,6 +129,57 @@ class CodeTemplates {
 		}
 	}
 
+	static class GetDirtyAttributesByIndex {
+		@Advice.OnMethodExit
+		static void $$_hibernate_getDirtyAttributes(
+				@Advice.This ExtendedSelfDirtinessTracker self,
+				@Advice.Return(readOnly = false) String[] returned,
+				@Advice.FieldValue(EnhancerConstants.TRACKER_ATTRIBUTE_NAMES_FIELD_NAME) String[] $$_hibernate_trackedAttributeNames,
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker,
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_COLLECTION_NAME, readOnly = false) CollectionTracker $$_hibernate_collectionTracker) {
+			if ( $$_hibernate_collectionTracker == null ) {
+				returned = ( $$_hibernate_tracker == null ) ? new String[0] : $$_hibernate_tracker.get();
+			}
+			else {
+				if ( $$_hibernate_tracker == null ) {
+					$$_hibernate_tracker = new IndexedFieldTracker( $$_hibernate_trackedAttributeNames );
+				}
+				self.$$_hibernate_getCollectionFieldDirtyNames( $$_hibernate_tracker );
+				returned = $$_hibernate_tracker.get();
+			}
+		}
+	}
+
+	static class GetDirtyAttributeIndexes {
+		@Advice.OnMethodExit
+		static void $$_hibernate_getDirtyAttributeIndexes(
+				@Advice.This ExtendedSelfDirtinessTracker self,
+				@Advice.Return(readOnly = false) int[] returned,
+				@Advice.FieldValue(EnhancerConstants.TRACKER_ATTRIBUTE_NAMES_FIELD_NAME) String[] $$_hibernate_trackedAttributeNames,
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker,
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_COLLECTION_NAME, readOnly = false) CollectionTracker $$_hibernate_collectionTracker) {
+			if ( $$_hibernate_collectionTracker == null ) {
+				returned = ( $$_hibernate_tracker == null ) ? new int[0] : ( (IndexedFieldTracker) $$_hibernate_tracker ).getIndexes();
+			}
+			else {
+				if ( $$_hibernate_tracker == null ) {
+					$$_hibernate_tracker = new IndexedFieldTracker( $$_hibernate_trackedAttributeNames );
+				}
+				self.$$_hibernate_getCollectionFieldDirtyNames( $$_hibernate_tracker );
+				returned = ( (IndexedFieldTracker) $$_hibernate_tracker ).getIndexes();
+			}
+		}
+	}
+
+	static class GetDirtyAttributeIndexesWithoutCollections {
+		@Advice.OnMethodExit
+		static void $$_hibernate_getDirtyAttributeIndexes(
+				@Advice.Return(readOnly = false) int[] returned,
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME) DirtyTracker $$_hibernate_tracker) {
+			returned = $$_hibernate_tracker == null ? new int[0] : ( (IndexedFieldTracker) $$_hibernate_tracker ).getIndexes();
+		}
+	}
+
 	static class GetCollectionTrackerWithoutCollections {
 		@Advice.OnMethodExit
 		static void $$_hibernate_getCollectionTracker( @Advice.Return(readOnly = false) CollectionTracker returned) {
@@ -162,6 +240,19 @@ class CodeTemplates {
 		}
 	}
 
+	static class SuspendDirtyTrackingByIndex {
+		@Advice.OnMethodEnter
+		static void $$_hibernate_suspendDirtyTracking(
+				@Advice.Argument(0) boolean suspend,
+				@Advice.FieldValue(EnhancerConstants.TRACKER_ATTRIBUTE_NAMES_FIELD_NAME) String[] $$_hibernate_trackedAttributeNames,
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker) {
+			if ( $$_hibernate_tracker == null ) {
+				$$_hibernate_tracker = new IndexedFieldTracker( $$_hibernate_trackedAttributeNames );
+			}
+			$$_hibernate_tracker.suspend( suspend );
+		}
+	}
+
 	static class CollectionAreCollectionFieldsDirty {
 		@Advice.OnMethodExit
 		static void $$_hibernate_areCollectionFieldsDirty(
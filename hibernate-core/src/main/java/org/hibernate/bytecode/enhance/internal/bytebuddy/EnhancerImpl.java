@@ -36,6 +36,7 @@ import org.hibernate.engine.spi.CompositeOwner;
 import org.hibernate.engine.spi.CompositeTracker;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.ExtendedSelfDirtinessTracker;
+import org.hibernate.engine.spi.IndexedSelfDirtinessTracker;
 import org.hibernate.engine.spi.Managed;
 import org.hibernate.engine.spi.ManagedComposite;
 import org.hibernate.engine.spi.ManagedEntity;
@@ -52,7 +53,9 @@ import net.bytebuddy.description.annotation.AnnotationList;
 import net.bytebuddy.description.field.FieldDescription;
 import net.bytebuddy.description.field.FieldDescription.InDefinedShape;
 import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.modifier.FieldManifestation;
 import net.bytebuddy.description.modifier.FieldPersistence;
+import net.bytebuddy.description.modifier.Ownership;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.type.TypeDefinition;
 import net.bytebuddy.description.type.TypeDescription;
@@ -91,6 +94,12 @@ public class EnhancerImpl implements Enhancer {
 	private final Implementation implementationAreFieldsDirty = Advice.to( CodeTemplates.AreFieldsDirty.class, adviceLocator ).wrap( StubMethod.INSTANCE );
 	private final Implementation implementationGetCollectionTrackerWithoutCollections = Advice.to( CodeTemplates.GetCollectionTrackerWithoutCollections.class, adviceLocator ).wrap( StubMethod.INSTANCE );
 	private final Implementation implementationClearDirtyAttributes = Advice.to( CodeTemplates.ClearDirtyAttributes.class, adviceLocator ).wrap( StubMethod.INSTANCE );
+	private final Implementation implementationTrackChangeByName = Advice.to( CodeTemplates.TrackChangeByName.class, adviceLocator ).wrap( StubMethod.INSTANCE );
+	private final Implementation implementationTrackChangeByIndex = Advice.to( CodeTemplates.TrackChangeByIndex.class, adviceLocator ).wrap( StubMethod.INSTANCE );
+	private final Implementation implementationGetDirtyAttributesByIndex = Advice.to( CodeTemplates.GetDirtyAttributesByIndex.class, adviceLocator ).wrap( StubMethod.INSTANCE );
+	private final Implementation implementationGetDirtyAttributeIndexes = Advice.to( CodeTemplates.GetDirtyAttributeIndexes.class, adviceLocator ).wrap( StubMethod.INSTANCE );
+	private final Implementation implementationGetDirtyAttributeIndexesWithoutCollections = Advice.to( CodeTemplates.GetDirtyAttributeIndexesWithoutCollections.class, adviceLocator ).wrap( StubMethod.INSTANCE );
+	private final Implementation implementationSuspendDirtyTrackingByIndex = Advice.to( CodeTemplates.SuspendDirtyTrackingByIndex.class, adviceLocator ).wrap( StubMethod.INSTANCE );
 	//In this case we just extract the Advice:
 	private final Advice adviceInitializeLazyAttributeLoadingInterceptor = Advice.to( CodeTemplates.InitializeLazyAttributeLoadingInterceptor.class, adviceLocator );
 	private final Implementation implementationSetOwner = Advice.to( CodeTemplates.SetOwner.class, adviceLocator ).wrap( StubMethod.INSTANCE );
@@ -185,8 +194,11 @@ public class EnhancerImpl implements Enhancer {
 
 			builder = addInterceptorHandling( builder, managedCtClass );
 
+			final PersistentAttributeTransformer transformer = createTransformer( managedCtClass );
+
 			if ( enhancementContext.doDirtyCheckingInline( managedCtClass ) ) {
 				List<AnnotatedFieldDescription> collectionFields = collectCollectionFields( managedCtClass );
+				final boolean byIndex = enhancementContext.doDirtyCheckingByAttributeIndex( managedCtClass );
 
 				if ( collectionFields.isEmpty() ) {
 					builder = builder.implement( SelfDirtinessTracker.class )
@@ -194,7 +206,7 @@ public class EnhancerImpl implements Enhancer {
 									.annotateField( AnnotationDescription.Builder.ofType( Transient.class ).build() )
 							.defineMethod( EnhancerConstants.TRACKER_CHANGER_NAME, void.class, Visibility.PUBLIC )
 									.withParameters( String.class )
-									.intercept( implementationTrackChange )
+									.intercept( byIndex ? implementationTrackChangeByName : implementationTrackChange )
 							.defineMethod( EnhancerConstants.TRACKER_GET_NAME, String[].class, Visibility.PUBLIC )
 									.intercept( implementationGetDirtyAttributesWithoutCollections )
 							.defineMethod( EnhancerConstants.TRACKER_HAS_CHANGED_NAME, boolean.class, Visibility.PUBLIC )
@@ -203,9 +215,18 @@ public class EnhancerImpl implements Enhancer {
 									.intercept( implementationClearDirtyAttributesWithoutCollections )
 							.defineMethod( EnhancerConstants.TRACKER_SUSPEND_NAME, void.class, Visibility.PUBLIC )
 									.withParameters( boolean.class )
-									.intercept( implementationSuspendDirtyTracking )
+									.intercept( byIndex ? implementationSuspendDirtyTrackingByIndex : implementationSuspendDirtyTracking )
 							.defineMethod( EnhancerConstants.TRACKER_COLLECTION_GET_NAME, CollectionTracker.class, Visibility.PUBLIC )
 									.intercept( implementationGetCollectionTrackerWithoutCollections );
+
+					if ( byIndex ) {
+						builder = addAttributeIndexTracking(
+								builder,
+								managedCtClass,
+								transformer,
+								implementationGetDirtyAttributeIndexesWithoutCollections
+						);
+					}
 				}
 				else {
 					builder = builder.implement( ExtendedSelfDirtinessTracker.class )
@@ -215,19 +236,28 @@ public class EnhancerImpl implements Enhancer {
 									.annotateField( AnnotationDescription.Builder.ofType( Transient.class ).build() )
 							.defineMethod( EnhancerConstants.TRACKER_CHANGER_NAME, void.class, Visibility.PUBLIC )
 									.withParameters( String.class )
-									.intercept( implementationTrackChange )
+									.intercept( byIndex ? implementationTrackChangeByName : implementationTrackChange )
 							.defineMethod( EnhancerConstants.TRACKER_GET_NAME, String[].class, Visibility.PUBLIC )
-									.intercept( implementationGetDirtyAttributes )
+									.intercept( byIndex ? implementationGetDirtyAttributesByIndex : implementationGetDirtyAttributes )
 							.defineMethod( EnhancerConstants.TRACKER_HAS_CHANGED_NAME, boolean.class, Visibility.PUBLIC )
 									.intercept( implementationAreFieldsDirty )
 							.defineMethod( EnhancerConstants.TRACKER_CLEAR_NAME, void.class, Visibility.PUBLIC )
 									.intercept( implementationClearDirtyAttributes )
 							.defineMethod( EnhancerConstants.TRACKER_SUSPEND_NAME, void.class, Visibility.PUBLIC )
 									.withParameters( boolean.class )
-									.intercept( implementationSuspendDirtyTracking )
+									.intercept( byIndex ? implementationSuspendDirtyTrackingByIndex : implementationSuspendDirtyTracking )
 							.defineMethod( EnhancerConstants.TRACKER_COLLECTION_GET_NAME, CollectionTracker.class, Visibility.PUBLIC )
 									.intercept( FieldAccessor.ofField( EnhancerConstants.TRACKER_COLLECTION_NAME ) );
 
+					if ( byIndex ) {
+						builder = addAttributeIndexTracking(
+								builder,
+								managedCtClass,
+								transformer,
+								implementationGetDirtyAttributeIndexes
+						);
+					}
+
 					Implementation isDirty = StubMethod.INSTANCE, getDirtyNames = StubMethod.INSTANCE, clearDirtyNames = StubMethod.INSTANCE;
 					for ( AnnotatedFieldDescription collectionField : collectionFields ) {
 						if ( collectionField.getType().asErasure().isAssignableTo( Map.class ) ) {
@@ -285,7 +315,7 @@ public class EnhancerImpl implements Enhancer {
 				}
 			}
 
-			return createTransformer( managedCtClass ).applyTo( builder );
+			return transformer.applyTo( builder );
 		}
 		else if ( enhancementContext.isCompositeClass( managedCtClass ) ) {
 			log.debugf( "Enhancing [%s] as Composite", managedCtClass.getName() );
@@ -336,6 +366,29 @@ public class EnhancerImpl implements Enhancer {
 		}
 	}
 
+	private DynamicType.Builder<?> addAttributeIndexTracking(
+			DynamicType.Builder<?> builder,
+			TypeDescription managedCtClass,
+			PersistentAttributeTransformer transformer,
+			Implementation getDirtyAttributeIndexes) {
+		return builder.implement( IndexedSelfDirtinessTracker.class )
+				.defineField(
+						EnhancerConstants.TRACKER_ATTRIBUTE_NAMES_FIELD_NAME,
+						String[].class,
+						Visibility.PRIVATE,
+						Ownership.STATIC,
+						FieldManifestation.FINAL
+				)
+				.initializer( new TrackedAttributeNamesInitializer( managedCtClass, transformer.getTrackedAttributeNames() ) )
+				.defineMethod( EnhancerConstants.TRACKER_CHANGER_NAME, void.class, Visibility.PUBLIC )
+						.withParameters( int.class )
+						.intercept( implementationTrackChangeByIndex )
+				.defineMethod( EnhancerConstants.TRACKER_GET_INDEXES_NAME, int[].class, Visibility.PUBLIC )
+						.intercept( getDirtyAttributeIndexes )
+				.defineMethod( EnhancerConstants.TRACKER_ATTRIBUTE_NAMES_GET_NAME, String[].class, Visibility.PUBLIC )
+						.intercept( FieldAccessor.ofField( EnhancerConstants.TRACKER_ATTRIBUTE_NAMES_FIELD_NAME ) );
+	}
+
 	private PersistentAttributeTransformer createTransformer(TypeDescription typeDescription) {
 		return PersistentAttributeTransformer.collectPersistentFields( typeDescription, enhancementContext, typePool );
 	}
@@ -31,18 +31,25 @@ abstract class FieldReaderAppender implements ByteCodeAppender {
 
 	protected final FieldDescription.InDefinedShape persistentFieldAsDefined;
 
-	private FieldReaderAppender(TypeDescription managedCtClass, AnnotatedFieldDescription persistentField) {
+	protected final int attributeIndex;
+
+	private FieldReaderAppender(TypeDescription managedCtClass, AnnotatedFieldDescription persistentField, int attributeIndex) {
 		this.managedCtClass = managedCtClass;
 		this.persistentField = persistentField;
 		this.persistentFieldAsDefined = persistentField.asDefined();
+		this.attributeIndex = attributeIndex;
 	}
 
-	static ByteCodeAppender of(TypeDescription managedCtClass, AnnotatedFieldDescription persistentField) {
+	/**
+	 * @param attributeIndex The index of the attribute when attributes are tracked by index, -1 when they are not; the
+	 * interceptor is then passed the index along with the attribute name
+	 */
+	static ByteCodeAppender of(TypeDescription managedCtClass, AnnotatedFieldDescription persistentField, int attributeIndex) {
 		if ( !persistentField.isVisibleTo( managedCtClass ) ) {
-			return new MethodDispatching( managedCtClass, persistentField );
+			return new MethodDispatching( managedCtClass, persistentField, attributeIndex );
 		}
 		else {
-			return new FieldWriting( managedCtClass, persistentField );
+			return new FieldWriting( managedCtClass, persistentField, attributeIndex );
 		}
 	}
 
@@ -76,8 +83,11 @@ abstract class FieldReaderAppender implements ByteCodeAppender {
 				Type.getMethodDescriptor( Type.getType( PersistentAttributeInterceptor.class ) ),
 				false
 		);
-		// .readXXX( self, fieldName, field );
+		// .readXXX( self, fieldName, field ); or .readXXX( self, attributeIndex, fieldName, field );
 		methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+		if ( attributeIndex >= 0 ) {
+			methodVisitor.visitLdcInsn( attributeIndex );
+		}
 		methodVisitor.visitLdcInsn( persistentFieldAsDefined.getName() );
 		methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
 		fieldRead( methodVisitor );
@@ -85,12 +95,20 @@ abstract class FieldReaderAppender implements ByteCodeAppender {
 				Opcodes.INVOKEINTERFACE,
 				Type.getInternalName( PersistentAttributeInterceptor.class ),
 				"read" + EnhancerImpl.capitalize( dispatcherType.getSimpleName() ),
-				Type.getMethodDescriptor(
-						Type.getType( dispatcherType.getDescriptor() ),
-						Type.getType( Object.class ),
-						Type.getType( String.class ),
-						Type.getType( dispatcherType.getDescriptor() )
-				),
+				attributeIndex >= 0
+						? Type.getMethodDescriptor(
+								Type.getType( dispatcherType.getDescriptor() ),
+								Type.getType( Object.class ),
+								Type.INT_TYPE,
+								Type.getType( String.class ),
+								Type.getType( dispatcherType.getDescriptor() )
+						)
+						: Type.getMethodDescriptor(
+								Type.getType( dispatcherType.getDescriptor() ),
+								Type.getType( Object.class ),
+								Type.getType( String.class ),
+								Type.getType( dispatcherType.getDescriptor() )
+						),
 				true
 		);
 		// field = (cast) XXX
@@ -111,7 +129,7 @@ abstract class FieldReaderAppender implements ByteCodeAppender {
 			methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, persistentField.getType().asErasure().getInternalName() );
 		}
 		methodVisitor.visitInsn( Type.getType( persistentFieldAsDefined.getType().asErasure().getDescriptor() ).getOpcode( Opcodes.IRETURN ) );
-		return new Size( 4 + persistentFieldAsDefined.getType().getStackSize().getSize(), instrumentedMethod.getStackSize() );
+		return new Size( 5 + persistentFieldAsDefined.getType().getStackSize().getSize(), instrumentedMethod.getStackSize() );
 	}
 
 	protected abstract void fieldRead(MethodVisitor methodVisitor);
@@ -120,8 +138,8 @@ abstract class FieldReaderAppender implements ByteCodeAppender {
 
 	private static class FieldWriting extends FieldReaderAppender {
 
-		private FieldWriting(TypeDescription managedCtClass, AnnotatedFieldDescription persistentField) {
-			super( managedCtClass, persistentField );
+		private FieldWriting(TypeDescription managedCtClass, AnnotatedFieldDescription persistentField, int attributeIndex) {
+			super( managedCtClass, persistentField, attributeIndex );
 		}
 
 		@Override
@@ -147,8 +165,8 @@ abstract class FieldReaderAppender implements ByteCodeAppender {
 
 	private static class MethodDispatching extends FieldReaderAppender {
 
-		private MethodDispatching(TypeDescription managedCtClass, AnnotatedFieldDescription persistentField) {
-			super( managedCtClass, persistentField );
+		private MethodDispatching(TypeDescription managedCtClass, AnnotatedFieldDescription persistentField, int attributeIndex) {
+			super( managedCtClass, persistentField, attributeIndex );
 		}
 
 		@Override
@@ -185,12 +203,13 @@ abstract class FieldReaderAppender implements ByteCodeAppender {
 		final FieldReaderAppender that = (FieldReaderAppender) o;
 		return Objects.equals( managedCtClass, that.managedCtClass ) &&
 			Objects.equals( persistentField, that.persistentField ) &&
-			Objects.equals( persistentFieldAsDefined, that.persistentFieldAsDefined );
+			Objects.equals( persistentFieldAsDefined, that.persistentFieldAsDefined ) &&
+			attributeIndex == that.attributeIndex;
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash( managedCtClass, persistentField, persistentFieldAsDefined );
+		return Objects.hash( managedCtClass, persistentField, persistentFieldAsDefined, attributeIndex );
 	}
 
 }
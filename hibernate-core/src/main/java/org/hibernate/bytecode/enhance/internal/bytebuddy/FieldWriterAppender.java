@@ -27,17 +27,24 @@ abstract class FieldWriterAppender implements ByteCodeAppender {
 
 	protected final FieldDescription.InDefinedShape persistentFieldAsDefined;
 
-	private FieldWriterAppender(TypeDescription managedCtClass, FieldDescription.InDefinedShape persistentFieldAsDefined) {
+	protected final int attributeIndex;
+
+	private FieldWriterAppender(TypeDescription managedCtClass, FieldDescription.InDefinedShape persistentFieldAsDefined, int attributeIndex) {
 		this.managedCtClass = managedCtClass;
 		this.persistentFieldAsDefined = persistentFieldAsDefined;
+		this.attributeIndex = attributeIndex;
 	}
 
-	static ByteCodeAppender of(TypeDescription managedCtClass, AnnotatedFieldDescription persistentField) {
+	/**
+	 * @param attributeIndex The index of the attribute when attributes are tracked by index, -1 when they are not; the
+	 * interceptor is then passed the index along with the attribute name
+	 */
+	static ByteCodeAppender of(TypeDescription managedCtClass, AnnotatedFieldDescription persistentField, int attributeIndex) {
 		if ( !persistentField.isVisibleTo( managedCtClass ) ) {
-			return new MethodDispatching( managedCtClass, persistentField.asDefined() );
+			return new MethodDispatching( managedCtClass, persistentField.asDefined(), attributeIndex );
 		}
 		else {
-			return new FieldWriting( managedCtClass, persistentField.asDefined() );
+			return new FieldWriting( managedCtClass, persistentField.asDefined(), attributeIndex );
 		}
 	}
 
@@ -71,8 +78,11 @@ abstract class FieldWriterAppender implements ByteCodeAppender {
 				Type.getMethodDescriptor( Type.getType( PersistentAttributeInterceptor.class ) ),
 				false
 		);
-		// .writeXXX( self, fieldName, field, arg1 );
+		// .writeXXX( self, fieldName, field, arg1 ); or .writeXXX( self, attributeIndex, fieldName, field, arg1 );
 		methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+		if ( attributeIndex >= 0 ) {
+			methodVisitor.visitLdcInsn( attributeIndex );
+		}
 		methodVisitor.visitLdcInsn( persistentFieldAsDefined.getName() );
 		methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
 		fieldRead( methodVisitor );
@@ -81,13 +91,22 @@ abstract class FieldWriterAppender implements ByteCodeAppender {
 				Opcodes.INVOKEINTERFACE,
 				Type.getInternalName( PersistentAttributeInterceptor.class ),
 				"write" + EnhancerImpl.capitalize( dispatcherType.getSimpleName() ),
-				Type.getMethodDescriptor(
-						Type.getType( dispatcherType.getDescriptor() ),
-						Type.getType( Object.class ),
-						Type.getType( String.class ),
-						Type.getType( dispatcherType.getDescriptor() ),
-						Type.getType( dispatcherType.getDescriptor() )
-				),
+				attributeIndex >= 0
+						? Type.getMethodDescriptor(
+								Type.getType( dispatcherType.getDescriptor() ),
+								Type.getType( Object.class ),
+								Type.INT_TYPE,
+								Type.getType( String.class ),
+								Type.getType( dispatcherType.getDescriptor() ),
+								Type.getType( dispatcherType.getDescriptor() )
+						)
+						: Type.getMethodDescriptor(
+								Type.getType( dispatcherType.getDescriptor() ),
+								Type.getType( Object.class ),
+								Type.getType( String.class ),
+								Type.getType( dispatcherType.getDescriptor() ),
+								Type.getType( dispatcherType.getDescriptor() )
+						),
 				true
 		);
 		// arg1 = (cast) XXX
@@ -112,7 +131,7 @@ abstract class FieldWriterAppender implements ByteCodeAppender {
 		fieldWrite( methodVisitor );
 		// return
 		methodVisitor.visitInsn( Opcodes.RETURN );
-		return new Size( 4 + 2 * persistentFieldAsDefined.getType().getStackSize().getSize(), instrumentedMethod.getStackSize() );
+		return new Size( 5 + 2 * persistentFieldAsDefined.getType().getStackSize().getSize(), instrumentedMethod.getStackSize() );
 	}
 
 	protected abstract void fieldRead(MethodVisitor methodVisitor);
@@ -121,8 +140,8 @@ abstract class FieldWriterAppender implements ByteCodeAppender {
 
 	private static class FieldWriting extends FieldWriterAppender {
 
-		private FieldWriting(TypeDescription managedCtClass, FieldDescription.InDefinedShape persistentFieldAsDefined) {
-			super( managedCtClass, persistentFieldAsDefined );
+		private FieldWriting(TypeDescription managedCtClass, FieldDescription.InDefinedShape persistentFieldAsDefined, int attributeIndex) {
+			super( managedCtClass, persistentFieldAsDefined, attributeIndex );
 		}
 
 		@Override
@@ -148,8 +167,8 @@ abstract class FieldWriterAppender implements ByteCodeAppender {
 
 	private static class MethodDispatching extends FieldWriterAppender {
 
-		private MethodDispatching(TypeDescription managedCtClass, FieldDescription.InDefinedShape persistentFieldAsDefined) {
-			super( managedCtClass, persistentFieldAsDefined );
+		private MethodDispatching(TypeDescription managedCtClass, FieldDescription.InDefinedShape persistentFieldAsDefined, int attributeIndex) {
+			super( managedCtClass, persistentFieldAsDefined, attributeIndex );
 		}
 
 		@Override
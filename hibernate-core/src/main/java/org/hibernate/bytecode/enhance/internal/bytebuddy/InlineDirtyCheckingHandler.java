@@ -37,16 +37,28 @@ final class InlineDirtyCheckingHandler implements Implementation, ByteCodeAppend
 
 	private final FieldDescription.InDefinedShape persistentField;
 
-	private InlineDirtyCheckingHandler(Implementation delegate, TypeDescription managedCtClass, FieldDescription.InDefinedShape persistentField) {
+	private final int trackedAttributeIndex;
+
+	private InlineDirtyCheckingHandler(
+			Implementation delegate,
+			TypeDescription managedCtClass,
+			FieldDescription.InDefinedShape persistentField,
+			int trackedAttributeIndex) {
 		this.delegate = delegate;
 		this.managedCtClass = managedCtClass;
 		this.persistentField = persistentField;
+		this.trackedAttributeIndex = trackedAttributeIndex;
 	}
 
+	/**
+	 * @param trackedAttributeIndex The index of the attribute when dirty attributes are tracked by index, -1 when
+	 * they are tracked by name
+	 */
 	static Implementation wrap(
 			TypeDescription managedCtClass,
 			ByteBuddyEnhancementContext enhancementContext,
 			AnnotatedFieldDescription persistentField,
+			int trackedAttributeIndex,
 			Implementation implementation) {
 		if ( enhancementContext.doDirtyCheckingInline( managedCtClass ) ) {
 
@@ -58,7 +70,7 @@ final class InlineDirtyCheckingHandler implements Implementation, ByteCodeAppend
 					&& !( persistentField.getType().asErasure().isAssignableTo( Collection.class )
 					&& enhancementContext.isMappedCollection( persistentField ) ) ) {
 				implementation = new InlineDirtyCheckingHandler( implementation, managedCtClass,
-						persistentField.asDefined() );
+						persistentField.asDefined(), trackedAttributeIndex );
 			}
 
 			if ( enhancementContext.isCompositeClass( persistentField.getType().asErasure() )
@@ -144,16 +156,29 @@ final class InlineDirtyCheckingHandler implements Implementation, ByteCodeAppend
 		}
 		Label skip = new Label();
 		methodVisitor.visitJumpInsn( branchCode, skip );
-		// this.$$_hibernate_trackChange(fieldName)
 		methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
-		methodVisitor.visitLdcInsn( persistentField.getName() );
-		methodVisitor.visitMethodInsn(
-				Opcodes.INVOKEVIRTUAL,
-				managedCtClass.getInternalName(),
-				EnhancerConstants.TRACKER_CHANGER_NAME,
-				Type.getMethodDescriptor( Type.getType( void.class ), Type.getType( String.class ) ),
-				false
-		);
+		if ( trackedAttributeIndex >= 0 ) {
+			// this.$$_hibernate_trackChange(fieldIndex)
+			methodVisitor.visitLdcInsn( trackedAttributeIndex );
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKEVIRTUAL,
+					managedCtClass.getInternalName(),
+					EnhancerConstants.TRACKER_CHANGER_NAME,
+					Type.getMethodDescriptor( Type.getType( void.class ), Type.INT_TYPE ),
+					false
+			);
+		}
+		else {
+			// this.$$_hibernate_trackChange(fieldName)
+			methodVisitor.visitLdcInsn( persistentField.getName() );
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKEVIRTUAL,
+					managedCtClass.getInternalName(),
+					EnhancerConstants.TRACKER_CHANGER_NAME,
+					Type.getMethodDescriptor( Type.getType( void.class ), Type.getType( String.class ) ),
+					false
+			);
+		}
 		// }
 		methodVisitor.visitLabel( skip );
 		if ( implementationContext.getClassFileVersion().isAtLeast( ClassFileVersion.JAVA_V6 ) ) {
@@ -173,11 +198,12 @@ final class InlineDirtyCheckingHandler implements Implementation, ByteCodeAppend
 		final InlineDirtyCheckingHandler that = (InlineDirtyCheckingHandler) o;
 		return Objects.equals( delegate, that.delegate ) &&
 			Objects.equals( managedCtClass, that.managedCtClass ) &&
-			Objects.equals( persistentField, that.persistentField );
+			Objects.equals( persistentField, that.persistentField ) &&
+			trackedAttributeIndex == that.trackedAttributeIndex;
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash( delegate, managedCtClass, persistentField );
+		return Objects.hash( delegate, managedCtClass, persistentField, trackedAttributeIndex );
 	}
 }
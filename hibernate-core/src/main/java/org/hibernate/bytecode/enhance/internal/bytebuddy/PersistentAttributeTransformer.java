@@ -57,6 +57,8 @@ final class PersistentAttributeTransformer implements AsmVisitorWrapper.ForDecla
 
 	private final AnnotatedFieldDescription[] enhancedFields;
 
+	private List<String> trackedAttributeNames;
+
 	private PersistentAttributeTransformer(
 			TypeDescription managedCtClass,
 			ByteBuddyEnhancementContext enhancementContext,
@@ -126,6 +128,31 @@ final class PersistentAttributeTransformer implements AsmVisitorWrapper.ForDecla
 		return persistentFieldList;
 	}
 
+	/**
+	 * The names of the attributes whose changes are tracked by index, by index.  The attributes of the entity
+	 * superclass, if any, come first so that the indexes used by its enhanced methods still apply to this class.
+	 */
+	List<String> getTrackedAttributeNames() {
+		if ( trackedAttributeNames == null ) {
+			final List<String> names = new ArrayList<>();
+			TypeDefinition superClass = managedCtClass.getSuperClass();
+			while ( superClass != null && !superClass.represents( Object.class ) ) {
+				if ( enhancementContext.isEntityClass( superClass.asErasure() ) ) {
+					names.addAll( collectPersistentFields( superClass.asErasure(), enhancementContext, classPool ).getTrackedAttributeNames() );
+					break;
+				}
+				superClass = superClass.getSuperClass();
+			}
+			for ( AnnotatedFieldDescription enhancedField : enhancedFields ) {
+				if ( !names.contains( enhancedField.getName() ) ) {
+					names.add( enhancedField.getName() );
+				}
+			}
+			trackedAttributeNames = names;
+		}
+		return trackedAttributeNames;
+	}
+
 	@Override
 	public MethodVisitor wrap(
 			TypeDescription instrumentedType,
@@ -236,19 +263,34 @@ final class PersistentAttributeTransformer implements AsmVisitorWrapper.ForDecla
 			}
 		}
 		else {
-			return new Implementation.Simple( FieldReaderAppender.of( managedCtClass, enhancedField ) );
+			return new Implementation.Simple( FieldReaderAppender.of( managedCtClass, enhancedField, trackedAttributeIndex( enhancedField ) ) );
 		}
 	}
 
 	private Implementation fieldWriter(AnnotatedFieldDescription enhancedField) {
 		Implementation implementation = fieldWriterImplementation( enhancedField );
 		if ( !enhancementContext.isMappedSuperclassClass( managedCtClass ) ) {
-			implementation = InlineDirtyCheckingHandler.wrap( managedCtClass, enhancementContext, enhancedField, implementation );
+			implementation = InlineDirtyCheckingHandler.wrap(
+					managedCtClass,
+					enhancementContext,
+					enhancedField,
+					trackedAttributeIndex( enhancedField ),
+					implementation
+			);
 			implementation = BiDirectionalAssociationHandler.wrap( managedCtClass, enhancementContext, enhancedField, implementation );
 		}
 		return implementation;
 	}
 
+	private int trackedAttributeIndex(AnnotatedFieldDescription enhancedField) {
+		if ( enhancementContext.isEntityClass( managedCtClass )
+				&& enhancementContext.doDirtyCheckingInline( managedCtClass )
+				&& enhancementContext.doDirtyCheckingByAttributeIndex( managedCtClass ) ) {
+			return getTrackedAttributeNames().indexOf( enhancedField.getName() );
+		}
+		return -1;
+	}
+
 	private Implementation fieldWriterImplementation(AnnotatedFieldDescription enhancedField) {
 		if ( enhancementContext.isMappedSuperclassClass( managedCtClass ) ) {
 			return FieldAccessor.ofField( enhancedField.getName() ).in( enhancedField.getDeclaringType().asErasure() );
@@ -262,7 +304,7 @@ final class PersistentAttributeTransformer implements AsmVisitorWrapper.ForDecla
 			}
 		}
 		else {
-			return new Implementation.Simple( FieldWriterAppender.of( managedCtClass, enhancedField ) );
+			return new Implementation.Simple( FieldWriterAppender.of( managedCtClass, enhancedField, trackedAttributeIndex( enhancedField ) ) );
 		}
 	}
 
@@ -0,0 +1,76 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.enhance.internal.bytebuddy;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
+
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+/**
+ * Initializes the static field holding the names of the attributes tracked by index, within the type initializer.
+ */
+final class TrackedAttributeNamesInitializer implements ByteCodeAppender {
+
+	private final TypeDescription managedCtClass;
+
+	private final List<String> trackedAttributeNames;
+
+	TrackedAttributeNamesInitializer(TypeDescription managedCtClass, List<String> trackedAttributeNames) {
+		this.managedCtClass = managedCtClass;
+		this.trackedAttributeNames = trackedAttributeNames;
+	}
+
+	@Override
+	public Size apply(
+			MethodVisitor methodVisitor,
+			Implementation.Context implementationContext,
+			MethodDescription instrumentedMethod) {
+		// $$_hibernate_trackedAttributeNames = new String[] { ... }
+		methodVisitor.visitLdcInsn( trackedAttributeNames.size() );
+		methodVisitor.visitTypeInsn( Opcodes.ANEWARRAY, Type.getInternalName( String.class ) );
+		for ( int i = 0; i < trackedAttributeNames.size(); i++ ) {
+			methodVisitor.visitInsn( Opcodes.DUP );
+			methodVisitor.visitLdcInsn( i );
+			methodVisitor.visitLdcInsn( trackedAttributeNames.get( i ) );
+			methodVisitor.visitInsn( Opcodes.AASTORE );
+		}
+		methodVisitor.visitFieldInsn(
+				Opcodes.PUTSTATIC,
+				managedCtClass.getInternalName(),
+				EnhancerConstants.TRACKER_ATTRIBUTE_NAMES_FIELD_NAME,
+				Type.getDescriptor( String[].class )
+		);
+		return new Size( 4, instrumentedMethod.getStackSize() );
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || TrackedAttributeNamesInitializer.class != o.getClass() ) {
+			return false;
+		}
+		final TrackedAttributeNamesInitializer that = (TrackedAttributeNamesInitializer) o;
+		return Objects.equals( managedCtClass, that.managedCtClass )
+				&& Objects.equals( trackedAttributeNames, that.trackedAttributeNames );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( managedCtClass, trackedAttributeNames );
+	}
+}
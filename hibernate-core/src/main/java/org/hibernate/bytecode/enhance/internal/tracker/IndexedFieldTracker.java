@@ -0,0 +1,179 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.enhance.internal.tracker;
+
+import java.util.Arrays;
+
+/**
+ * small low memory class to keep track of changed fields by index
+ * <p/>
+ * the names of the tracked fields are shared by all the instances of an entity class, the changed ones are kept as a
+ * bitmask: a long for the first 64 fields and an array of longs for the rest, if any. names of fields which are not
+ * tracked (should not normally happen) are kept aside as in {@link SimpleFieldTracker}.
+ */
+public final class IndexedFieldTracker implements DirtyTracker {
+
+	private static final int[] NO_INDEXES = new int[0];
+
+	private final String[] trackedNames;
+	private long bits;
+	private long[] moreBits;
+	private String[] otherNames;
+	private boolean suspended;
+
+	/**
+	 * @param trackedNames The names of the tracked fields, by index
+	 */
+	public IndexedFieldTracker(String[] trackedNames) {
+		this.trackedNames = trackedNames;
+	}
+
+	public void add(int index) {
+		if ( suspended ) {
+			return;
+		}
+		if ( index < Long.SIZE ) {
+			bits |= 1L << index;
+		}
+		else {
+			if ( moreBits == null ) {
+				moreBits = new long[( trackedNames.length - 1 ) / Long.SIZE];
+			}
+			moreBits[index / Long.SIZE - 1] |= 1L << index;
+		}
+	}
+
+	@Override
+	public void add(String name) {
+		if ( suspended ) {
+			return;
+		}
+		final int index = indexOf( name );
+		if ( index >= 0 ) {
+			add( index );
+		}
+		else if ( otherNames == null ) {
+			otherNames = new String[] { name };
+		}
+		else if ( !Arrays.asList( otherNames ).contains( name ) ) {
+			otherNames = Arrays.copyOf( otherNames, otherNames.length + 1 );
+			otherNames[otherNames.length - 1] = name;
+		}
+	}
+
+	public boolean contains(int index) {
+		if ( index < Long.SIZE ) {
+			return ( bits & ( 1L << index ) ) != 0;
+		}
+		return moreBits != null && ( moreBits[index / Long.SIZE - 1] & ( 1L << index ) ) != 0;
+	}
+
+	@Override
+	public boolean contains(String name) {
+		final int index = indexOf( name );
+		if ( index >= 0 ) {
+			return contains( index );
+		}
+		return otherNames != null && Arrays.asList( otherNames ).contains( name );
+	}
+
+	@Override
+	public void clear() {
+		bits = 0L;
+		if ( moreBits != null ) {
+			Arrays.fill( moreBits, 0L );
+		}
+		otherNames = null;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		if ( bits != 0L || otherNames != null ) {
+			return false;
+		}
+		if ( moreBits != null ) {
+			for ( long word : moreBits ) {
+				if ( word != 0L ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String[] get() {
+		final int[] indexes = collectIndexes();
+		final int otherCount = otherNames == null ? 0 : otherNames.length;
+		final String[] names = new String[indexes.length + otherCount];
+		for ( int i = 0; i < indexes.length; i++ ) {
+			names[i] = trackedNames[indexes[i]];
+		}
+		if ( otherCount > 0 ) {
+			System.arraycopy( otherNames, 0, names, indexes.length, otherCount );
+		}
+		return names;
+	}
+
+	/**
+	 * @return The indexes of the changed fields, in ascending order; {@code null} if some changed fields are not
+	 * tracked by index
+	 */
+	public int[] getIndexes() {
+		return otherNames == null ? collectIndexes() : null;
+	}
+
+	private int[] collectIndexes() {
+		int count = Long.bitCount( bits );
+		if ( moreBits != null ) {
+			for ( long word : moreBits ) {
+				count += Long.bitCount( word );
+			}
+		}
+		if ( count == 0 ) {
+			return NO_INDEXES;
+		}
+
+		final int[] indexes = new int[count];
+		int position = collect( bits, 0, indexes, 0 );
+		if ( moreBits != null ) {
+			for ( int i = 0; i < moreBits.length; i++ ) {
+				position = collect( moreBits[i], ( i + 1 ) * Long.SIZE, indexes, position );
+			}
+		}
+		return indexes;
+	}
+
+	private static int collect(long word, int offset, int[] indexes, int position) {
+		while ( word != 0L ) {
+			indexes[position++] = offset + Long.numberOfTrailingZeros( word );
+			word &= word - 1;
+		}
+		return position;
+	}
+
+	private int indexOf(String name) {
+		// names are mostly string constants, so compare identities first
+		for ( int i = 0; i < trackedNames.length; i++ ) {
+			if ( trackedNames[i] == name ) {
+				return i;
+			}
+		}
+		for ( int i = 0; i < trackedNames.length; i++ ) {
+			if ( trackedNames[i].equals( name ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public void suspend(boolean suspend) {
+		this.suspended = suspend;
+	}
+
+}
@@ -69,6 +69,14 @@ public class DefaultEnhancementContext implements EnhancementContext {
 		return true;
 	}
 
+	/**
+	 * @return false
+	 */
+	@Override
+	public boolean doDirtyCheckingByAttributeIndex(UnloadedClass classDescriptor) {
+		return false;
+	}
+
 	/**
 	 * @return false
 	 */
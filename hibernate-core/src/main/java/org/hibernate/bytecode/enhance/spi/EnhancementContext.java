@@ -78,6 +78,24 @@ public interface EnhancementContext {
 	 */
 	public boolean doDirtyCheckingInline(UnloadedClass classDescriptor);
 
+	/**
+	 * Should the in-lined dirty checking for this class track the attributes by index rather than by name?
+	 * Only applies to classes for which {@link #doDirtyCheckingInline} is {@code true}.
+	 * <p/>
+	 * Each persistent attribute is then assigned an index at enhancement time, and the dirty attributes are kept
+	 * as a bitmask, handed to the flush as indexes (see {@link org.hibernate.engine.spi.IndexedSelfDirtinessTracker}).
+	 * The index is also passed to the {@link org.hibernate.engine.spi.PersistentAttributeInterceptor} on lazy
+	 * attribute access.  The entity classes of a hierarchy need to be enhanced alike.
+	 *
+	 * @param classDescriptor The descriptor of the class to check.
+	 *
+	 * @return {@code true} indicates that dirty attributes should be tracked by index; {@code false} indicates
+	 *         they should be tracked by name.
+	 */
+	public default boolean doDirtyCheckingByAttributeIndex(UnloadedClass classDescriptor) {
+		return false;
+	}
+
 	/**
 	 * Should we enhance field access to entities from this class?
 	 *
@@ -46,6 +46,11 @@ public class EnhancementContextWrapper implements EnhancementContext {
 		return wrappedContext.doDirtyCheckingInline( classDescriptor );
 	}
 
+	@Override
+	public boolean doDirtyCheckingByAttributeIndex(UnloadedClass classDescriptor) {
+		return wrappedContext.doDirtyCheckingByAttributeIndex( classDescriptor );
+	}
+
 	@Override
 	public boolean doExtendedEnhancement(UnloadedClass classDescriptor) {
 		return wrappedContext.doExtendedEnhancement( classDescriptor );
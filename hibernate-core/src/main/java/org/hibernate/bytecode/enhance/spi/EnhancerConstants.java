@@ -132,6 +132,21 @@ public final class EnhancerConstants {
 	 */
 	public static final String TRACKER_GET_NAME = "$$_hibernate_getDirtyAttributes";
 
+	/**
+	 * Name of method to fetch the indexes of the dirty attributes
+	 */
+	public static final String TRACKER_GET_INDEXES_NAME = "$$_hibernate_getDirtyAttributeIndexes";
+
+	/**
+	 * Name of the static field holding the names of the attributes tracked by index
+	 */
+	public static final String TRACKER_ATTRIBUTE_NAMES_FIELD_NAME = "$$_hibernate_trackedAttributeNames";
+
+	/**
+	 * Name of method to fetch the names of the attributes tracked by index
+	 */
+	public static final String TRACKER_ATTRIBUTE_NAMES_GET_NAME = "$$_hibernate_getTrackedAttributeNames";
+
 	/**
 	 * Name of method to clear stored dirty attributes
 	 */
@@ -68,6 +68,22 @@ public abstract class AbstractInterceptor implements SessionAssociableIntercepto
 	 */
 	protected abstract Object handleWrite(Object target, String attributeName, Object oldValue, Object newValue);
 
+	/**
+	 * Handle the case of reading an attribute of an entity enhanced to track its attributes by index.  By default,
+	 * the index is ignored.
+	 */
+	protected Object handleRead(Object target, int attributeIndex, String attributeName, Object value) {
+		return handleRead( target, attributeName, value );
+	}
+
+	/**
+	 * Handle the case of writing an attribute of an entity enhanced to track its attributes by index.  By default,
+	 * the index is ignored.
+	 */
+	protected Object handleWrite(Object target, int attributeIndex, String attributeName, Object oldValue, Object newValue) {
+		return handleWrite( target, attributeName, oldValue, newValue );
+	}
+
 	@Override
 	public boolean readBoolean(Object obj, String name, boolean oldValue) {
 		return (Boolean) handleRead( obj, name, oldValue );
@@ -157,4 +173,94 @@ public abstract class AbstractInterceptor implements SessionAssociableIntercepto
 	public Object writeObject(Object obj, String name, Object oldValue, Object newValue) {
 		return handleWrite( obj, name, oldValue, newValue );
 	}
+
+	@Override
+	public boolean readBoolean(Object obj, int attributeIndex, String name, boolean oldValue) {
+		return (Boolean) handleRead( obj, attributeIndex, name, oldValue );
+	}
+
+	@Override
+	public boolean writeBoolean(Object obj, int attributeIndex, String name, boolean oldValue, boolean newValue) {
+		return (Boolean) handleWrite( obj, attributeIndex, name, oldValue, newValue );
+	}
+
+	@Override
+	public byte readByte(Object obj, int attributeIndex, String name, byte oldValue) {
+		return (Byte) handleRead( obj, attributeIndex, name, oldValue );
+	}
+
+	@Override
+	public byte writeByte(Object obj, int attributeIndex, String name, byte oldValue, byte newValue) {
+		return (Byte) handleWrite( obj, attributeIndex, name, oldValue, newValue );
+	}
+
+	@Override
+	public char readChar(Object obj, int attributeIndex, String name, char oldValue) {
+		return (char) handleRead( obj, attributeIndex, name, oldValue );
+	}
+
+	@Override
+	public char writeChar(Object obj, int attributeIndex, String name, char oldValue, char newValue) {
+		return (char) handleWrite( obj, attributeIndex, name, oldValue, newValue );
+	}
+
+	@Override
+	public short readShort(Object obj, int attributeIndex, String name, short oldValue) {
+		return (Short) handleRead( obj, attributeIndex, name, oldValue );
+	}
+
+	@Override
+	public short writeShort(Object obj, int attributeIndex, String name, short oldValue, short newValue) {
+		return (Short) handleWrite( obj, attributeIndex, name, oldValue, newValue );
+	}
+
+	@Override
+	public int readInt(Object obj, int attributeIndex, String name, int oldValue) {
+		return (Integer) handleRead( obj, attributeIndex, name, oldValue );
+	}
+
+	@Override
+	public int writeInt(Object obj, int attributeIndex, String name, int oldValue, int newValue) {
+		return (Integer) handleWrite( obj, attributeIndex, name, oldValue, newValue );
+	}
+
+	@Override
+	public float readFloat(Object obj, int attributeIndex, String name, float oldValue) {
+		return (Float) handleRead( obj, attributeIndex, name, oldValue );
+	}
+
+	@Override
+	public float writeFloat(Object obj, int attributeIndex, String name, float oldValue, float newValue) {
+		return (Float) handleWrite( obj, attributeIndex, name, oldValue, newValue );
+	}
+
+	@Override
+	public double readDouble(Object obj, int attributeIndex, String name, double oldValue) {
+		return (Double) handleRead( obj, attributeIndex, name, oldValue );
+	}
+
+	@Override
+	public double writeDouble(Object obj, int attributeIndex, String name, double oldValue, double newValue) {
+		return (Double) handleWrite( obj, attributeIndex, name, oldValue, newValue );
+	}
+
+	@Override
+	public long readLong(Object obj, int attributeIndex, String name, long oldValue) {
+		return (Long) handleRead( obj, attributeIndex, name, oldValue );
+	}
+
+	@Override
+	public long writeLong(Object obj, int attributeIndex, String name, long oldValue, long newValue) {
+		return (Long) handleWrite( obj, attributeIndex, name, oldValue, newValue );
+	}
+
+	@Override
+	public Object readObject(Object obj, int attributeIndex, String name, Object oldValue) {
+		return handleRead( obj, attributeIndex, name, oldValue );
+	}
+
+	@Override
+	public Object writeObject(Object obj, int attributeIndex, String name, Object oldValue, Object newValue) {
+		return handleWrite( obj, attributeIndex, name, oldValue, newValue );
+	}
 }
@@ -15,7 +15,9 @@ import org.hibernate.bytecode.BytecodeLogger;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.SessionFactoryRegistry;
+import org.hibernate.mapping.ManyToOne;
 import org.hibernate.mapping.OneToOne;
+import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.Property;
 import org.hibernate.mapping.ToOne;
 import org.hibernate.mapping.Value;
@@ -31,6 +33,22 @@ public class EnhancementHelper {
 			Property bootMapping,
 			boolean isEnhanced,
 			boolean allowEnhancementAsProxy) {
+		return includeInBaseFetchGroup( bootMapping, isEnhanced, allowEnhancementAsProxy, false );
+	}
+
+	/**
+	 * Should the given property be included in the owner's base fetch group?
+	 *
+	 * @param allowEnhancedLazyReferences Should the lazy to-one associations which cannot be represented by
+	 * an "enhancement proxy" be lazy attributes?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ENHANCED_LAZY_REFERENCES
+	 */
+	public static boolean includeInBaseFetchGroup(
+			Property bootMapping,
+			boolean isEnhanced,
+			boolean allowEnhancementAsProxy,
+			boolean allowEnhancedLazyReferences) {
 		final Value value = bootMapping.getValue();
 
 		if ( ! isEnhanced ) {
@@ -49,6 +67,10 @@ public class EnhancementHelper {
 		if ( value instanceof ToOne ) {
 			final ToOne toOne = (ToOne) value;
 			if ( toOne.isLazy() ) {
+				if ( allowEnhancedLazyReferences && toOne instanceof ManyToOne && !isEnhancementProxyable( (ManyToOne) toOne ) ) {
+					// neither a proxy nor an immediate select, the association is loaded on access
+					return false;
+				}
 				if ( toOne.isUnwrapProxy() ) {
 					if ( toOne instanceof OneToOne ) {
 						return false;
@@ -66,6 +88,19 @@ public class EnhancementHelper {
 		return ! bootMapping.isLazy();
 	}
 
+	/**
+	 * Can the referenced entity be represented by an "enhancement proxy" built from the foreign key?  Not if
+	 * the concrete class of the entity is not known, nor if the referenced row may not exist.
+	 */
+	private static boolean isEnhancementProxyable(ManyToOne manyToOne) {
+		if ( manyToOne.isIgnoreNotFound() ) {
+			return false;
+		}
+		final PersistentClass referencedEntity = manyToOne.getMetadata()
+				.getEntityBinding( manyToOne.getReferencedEntityName() );
+		return referencedEntity == null || !referencedEntity.hasSubclasses();
+	}
+
 	public static <T> T performWork(
 			BytecodeLazyAttributeInterceptor interceptor,
 			BiFunction<SharedSessionContractImplementor, Boolean, T> work,
@@ -8,14 +8,20 @@
 package org.hibernate.bytecode.enhance.spi.interceptor;
 
 import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.hibernate.LockMode;
 import org.hibernate.bytecode.enhance.spi.CollectionTracker;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.IndexedSelfDirtinessTracker;
 import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
@@ -23,15 +29,49 @@ import org.hibernate.persister.entity.EntityPersister;
 
 /**
  * Interceptor that loads attributes lazily
+ * <p/>
+ * The lazy attributes are identified by their {@link LazyAttributeDescriptor#getLazyIndex() lazy index}, and whether
+ * they have been initialized is kept as a bitmask.  Entities enhanced to track their attributes by index (see
+ * {@link IndexedSelfDirtinessTracker}) pass the index of the attribute being accessed along with its name, which is
+ * mapped to the lazy index through an array instead of looking the name up.
  *
  * @author Luis Barreiro
  * @author Steve Ebersole
  */
 public class LazyAttributeLoadingInterceptor extends AbstractLazyLoadInterceptor {
+	private static final int[] NO_LAZY_INDEXES = new int[0];
+
 	private final Object identifier;
-	private final Set<String> lazyFields;
-	private Set<String> initializedLazyFields;
+	private final LazyAttributesMetadata lazyAttributesMetadata;
+	private final boolean allAttributesLazy;
+	private String[] lazyFields;
+	private final Map<String, Integer> lazyIndexes;
+	private long[] initializedLazyFields;
+	private int[] lazyIndexesByAttributeIndex;
+	private Set<String> initializedLazyAttributeNames;
 
+	public LazyAttributeLoadingInterceptor(
+			String entityName,
+			Object identifier,
+			LazyAttributesMetadata lazyAttributesMetadata,
+			SharedSessionContractImplementor session) {
+		super( entityName, session );
+		this.identifier = identifier;
+		this.lazyAttributesMetadata = lazyAttributesMetadata;
+		this.allAttributesLazy = false;
+		this.lazyFields = new String[lazyAttributesMetadata.lazyAttributeCount()];
+		for ( int i = 0; i < lazyFields.length; i++ ) {
+			lazyFields[i] = lazyAttributesMetadata.getLazyAttributeDescriptor( i ).getName();
+		}
+		this.lazyIndexes = null;
+	}
+
+	/**
+	 * @deprecated Use {@link #LazyAttributeLoadingInterceptor(String, Object, LazyAttributesMetadata, SharedSessionContractImplementor)}
+	 * instead; the lazy attributes are indexed in the iteration order of the given set.  A {@code null} set means
+	 * that all the attributes are lazy, in which case they are indexed as they get initialized.
+	 */
+	@Deprecated
 	public LazyAttributeLoadingInterceptor(
 			String entityName,
 			Object identifier,
@@ -39,7 +79,13 @@ public class LazyAttributeLoadingInterceptor extends AbstractLazyLoadInterceptor
 			SharedSessionContractImplementor session) {
 		super( entityName, session );
 		this.identifier = identifier;
-		this.lazyFields = lazyFields;
+		this.lazyAttributesMetadata = null;
+		this.allAttributesLazy = lazyFields == null;
+		this.lazyFields = lazyFields == null ? new String[0] : lazyFields.toArray( new String[0] );
+		this.lazyIndexes = new HashMap<>();
+		for ( int i = 0; i < this.lazyFields.length; i++ ) {
+			this.lazyIndexes.put( this.lazyFields[i], i );
+		}
 	}
 
 	@Override
@@ -59,12 +105,67 @@ public class LazyAttributeLoadingInterceptor extends AbstractLazyLoadInterceptor
 
 	@Override
 	protected Object handleWrite(Object target, String attributeName, Object oldValue, Object newValue) {
-		if ( !isAttributeLoaded( attributeName ) ) {
-			attributeInitialized( attributeName );
+		attributeInitialized( attributeName );
+		return newValue;
+	}
+
+	@Override
+	protected Object handleRead(Object target, int attributeIndex, String attributeName, Object value) {
+		if ( allAttributesLazy ) {
+			return handleRead( target, attributeName, value );
+		}
+		final int lazyIndex = lazyIndex( target, attributeIndex, attributeName );
+		if ( lazyIndex >= 0 && !isLazyAttributeLoaded( lazyIndex ) ) {
+			Object loadedValue = fetchAttribute( target, attributeName );
+			lazyAttributeInitialized( lazyIndex );
+			return loadedValue;
+		}
+		return value;
+	}
+
+	@Override
+	protected Object handleWrite(Object target, int attributeIndex, String attributeName, Object oldValue, Object newValue) {
+		if ( allAttributesLazy ) {
+			return handleWrite( target, attributeName, oldValue, newValue );
+		}
+		final int lazyIndex = lazyIndex( target, attributeIndex, attributeName );
+		if ( lazyIndex >= 0 ) {
+			lazyAttributeInitialized( lazyIndex );
 		}
 		return newValue;
 	}
 
+	private int lazyIndex(Object target, int attributeIndex, String attributeName) {
+		int[] lazyIndexes = lazyIndexesByAttributeIndex;
+		if ( lazyIndexes == null ) {
+			if ( target instanceof IndexedSelfDirtinessTracker ) {
+				final String[] attributeNames = ( (IndexedSelfDirtinessTracker) target ).$$_hibernate_getTrackedAttributeNames();
+				if ( lazyAttributesMetadata != null ) {
+					lazyIndexes = lazyAttributesMetadata.getLazyIndexes( attributeNames );
+				}
+				else {
+					lazyIndexes = new int[attributeNames.length];
+					for ( int i = 0; i < attributeNames.length; i++ ) {
+						lazyIndexes[i] = lazyIndex( attributeNames[i] );
+					}
+				}
+			}
+			else {
+				lazyIndexes = NO_LAZY_INDEXES;
+			}
+			lazyIndexesByAttributeIndex = lazyIndexes;
+		}
+		return attributeIndex < lazyIndexes.length ? lazyIndexes[attributeIndex] : lazyIndex( attributeName );
+	}
+
+	private int lazyIndex(String attributeName) {
+		if ( lazyAttributesMetadata != null ) {
+			return lazyAttributesMetadata.getLazyIndex( attributeName );
+		}
+		final Integer lazyIndex = lazyIndexes.get( attributeName );
+		return lazyIndex == null ? -1 : lazyIndex;
+	}
+
 	/**
 	 * Fetches the lazy attribute. The attribute does not get associated with the entity. (To be used by hibernate methods)
 	 */
@@ -116,19 +217,20 @@ public class LazyAttributeLoadingInterceptor extends AbstractLazyLoadInterceptor
 	}
 
 	public boolean isAttributeLoaded(String fieldName) {
-		return !isLazyAttribute( fieldName ) || isInitializedLazyField( fieldName );
-	}
-
-	private boolean isLazyAttribute(String fieldName) {
-		return lazyFields == null || lazyFields.contains( fieldName );
+		final int lazyIndex = lazyIndex( fieldName );
+		return lazyIndex < 0 ? !allAttributesLazy : isLazyAttributeLoaded( lazyIndex );
 	}
 
-	private boolean isInitializedLazyField(String fieldName) {
-		return initializedLazyFields != null && initializedLazyFields.contains( fieldName );
+	/**
+	 * @param lazyIndex The {@link LazyAttributeDescriptor#getLazyIndex() lazy index} of the attribute
+	 */
+	public boolean isLazyAttributeLoaded(int lazyIndex) {
+		return initializedLazyFields != null
+				&& ( initializedLazyFields[lazyIndex / Long.SIZE] & ( 1L << lazyIndex ) ) != 0;
 	}
 
 	public boolean hasAnyUninitializedAttributes() {
-		if ( lazyFields == null ) {
+		if ( lazyFields.length == 0 ) {
 			return false;
 		}
 
@@ -136,8 +238,10 @@ public class LazyAttributeLoadingInterceptor extends AbstractLazyLoadInterceptor
 			return true;
 		}
 
-		for ( String fieldName : lazyFields ) {
-			if ( !initializedLazyFields.contains( fieldName ) ) {
+		for ( int i = 0; i < initializedLazyFields.length; i++ ) {
+			final int count = Math.min( Long.SIZE, lazyFields.length - i * Long.SIZE );
+			final long all = count == Long.SIZE ? -1L : ( 1L << count ) - 1;
+			if ( initializedLazyFields[i] != all ) {
 				return true;
 			}
 		}
@@ -147,7 +251,7 @@ public class LazyAttributeLoadingInterceptor extends AbstractLazyLoadInterceptor
 
 	@Override
 	public String toString() {
-		return getClass().getSimpleName() + "(entityName=" + getEntityName() + " ,lazyFields=" + lazyFields + ')';
+		return getClass().getSimpleName() + "(entityName=" + getEntityName() + " ,lazyFields=" + Arrays.toString( lazyFields ) + ')';
 	}
 
 	private void takeCollectionSizeSnapshot(Object target, String fieldName, Object value) {
@@ -163,18 +267,93 @@ public class LazyAttributeLoadingInterceptor extends AbstractLazyLoadInterceptor
 
 	@Override
 	public void attributeInitialized(String name) {
-		if ( !isLazyAttribute( name ) ) {
-			return;
+		int lazyIndex = lazyIndex( name );
+		if ( lazyIndex < 0 && allAttributesLazy ) {
+			lazyIndex = lazyFields.length;
+			lazyFields = Arrays.copyOf( lazyFields, lazyIndex + 1 );
+			lazyFields[lazyIndex] = name;
+			lazyIndexes.put( name, lazyIndex );
 		}
+		if ( lazyIndex >= 0 ) {
+			lazyAttributeInitialized( lazyIndex );
+		}
+	}
+
+	/**
+	 * @param lazyIndex The {@link LazyAttributeDescriptor#getLazyIndex() lazy index} of the attribute
+	 */
+	public void lazyAttributeInitialized(int lazyIndex) {
 		if ( initializedLazyFields == null ) {
-			initializedLazyFields = new HashSet<>();
+			initializedLazyFields = new long[( lazyFields.length - 1 ) / Long.SIZE + 1];
+		}
+		else if ( lazyIndex / Long.SIZE >= initializedLazyFields.length ) {
+			initializedLazyFields = Arrays.copyOf( initializedLazyFields, lazyIndex / Long.SIZE + 1 );
 		}
-		initializedLazyFields.add( name );
+		initializedLazyFields[lazyIndex / Long.SIZE] |= 1L << lazyIndex;
 	}
 
 	@Override
 	public Set<String> getInitializedLazyAttributeNames() {
-		return initializedLazyFields == null ? Collections.emptySet() : initializedLazyFields;
+		if ( initializedLazyFields == null ) {
+			return Collections.emptySet();
+		}
+		if ( initializedLazyAttributeNames == null ) {
+			initializedLazyAttributeNames = new InitializedLazyAttributeNames();
+		}
+		return initializedLazyAttributeNames;
+	}
+
+	/**
+	 * Read-only view of the names of the initialized lazy attributes, backed by the bitmask.
+	 */
+	private class InitializedLazyAttributeNames extends AbstractSet<String> {
+		@Override
+		public boolean contains(Object name) {
+			if ( !( name instanceof String ) ) {
+				return false;
+			}
+			final int lazyIndex = lazyIndex( (String) name );
+			return lazyIndex >= 0 && isLazyAttributeLoaded( lazyIndex );
+		}
+
+		@Override
+		public int size() {
+			int size = 0;
+			for ( long initialized : initializedLazyFields ) {
+				size += Long.bitCount( initialized );
+			}
+			return size;
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+			return new Iterator<String>() {
+				private int next = nextInitialized( 0 );
+
+				@Override
+				public boolean hasNext() {
+					return next < lazyFields.length;
+				}
+
+				@Override
+				public String next() {
+					if ( !hasNext() ) {
+						throw new NoSuchElementException();
+					}
+					final String name = lazyFields[next];
+					next = nextInitialized( next + 1 );
+					return name;
+				}
+			};
+		}
+
+		private int nextInitialized(int from) {
+			int lazyIndex = from;
+			while ( lazyIndex < lazyFields.length && !isLazyAttributeLoaded( lazyIndex ) ) {
+				lazyIndex++;
+			}
+			return lazyIndex;
+		}
 	}
 
 }
@@ -16,6 +16,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.Property;
@@ -35,6 +36,20 @@ public class LazyAttributesMetadata implements Serializable {
 			PersistentClass mappedEntity,
 			boolean isEnhanced,
 			boolean allowEnhancementAsProxy) {
+		return from( mappedEntity, isEnhanced, allowEnhancementAsProxy, false );
+	}
+
+	/**
+	 * Build a LazyFetchGroupMetadata based on the attributes defined for the
+	 * PersistentClass
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ENHANCED_LAZY_REFERENCES
+	 */
+	public static LazyAttributesMetadata from(
+			PersistentClass mappedEntity,
+			boolean isEnhanced,
+			boolean allowEnhancementAsProxy,
+			boolean allowEnhancedLazyReferences) {
 		final Map<String, LazyAttributeDescriptor> lazyAttributeDescriptorMap = new LinkedHashMap<>();
 		final Map<String, Set<String>> fetchGroupToAttributesMap = new HashMap<>();
 
@@ -47,7 +62,8 @@ public class LazyAttributesMetadata implements Serializable {
 			final boolean lazy = ! EnhancementHelper.includeInBaseFetchGroup(
 					property,
 					isEnhanced,
-					allowEnhancementAsProxy
+					allowEnhancementAsProxy,
+					allowEnhancedLazyReferences
 			);
 			if ( lazy ) {
 				final LazyAttributeDescriptor lazyAttributeDescriptor = LazyAttributeDescriptor.from( property, i, x++ );
@@ -87,6 +103,10 @@ public class LazyAttributesMetadata implements Serializable {
 	private final Set<String> fetchGroupNames;
 	private final Set<String> lazyAttributeNames;
 
+	private final LazyAttributeDescriptor[] lazyAttributeDescriptors;
+	private final Map<String, List<LazyAttributeDescriptor>> fetchGroupToAttributeDescriptorsMap;
+	private transient volatile Map<String[], int[]> lazyIndexesByAttributeNames;
+
 	public LazyAttributesMetadata(String entityName) {
 		this( entityName, Collections.emptyMap(), Collections.emptyMap() );
 	}
@@ -100,6 +120,21 @@ public class LazyAttributesMetadata implements Serializable {
 		this.fetchGroupToAttributeMap = fetchGroupToAttributeMap;
 		this.fetchGroupNames = Collections.unmodifiableSet( fetchGroupToAttributeMap.keySet() );
 		this.lazyAttributeNames = Collections.unmodifiableSet( lazyAttributeDescriptorMap.keySet() );
+
+		this.lazyAttributeDescriptors = new LazyAttributeDescriptor[lazyAttributeDescriptorMap.size()];
+		for ( LazyAttributeDescriptor descriptor : lazyAttributeDescriptorMap.values() ) {
+			lazyAttributeDescriptors[descriptor.getLazyIndex()] = descriptor;
+		}
+
+		final Map<String, List<LazyAttributeDescriptor>> fetchGroupToAttributeDescriptorsMap = new HashMap<>();
+		for ( Map.Entry<String, Set<String>> entry : fetchGroupToAttributeMap.entrySet() ) {
+			final List<LazyAttributeDescriptor> list = new ArrayList<>( entry.getValue().size() );
+			for ( String attributeName : entry.getValue() ) {
+				list.add( lazyAttributeDescriptorMap.get( attributeName ) );
+			}
+			fetchGroupToAttributeDescriptorsMap.put( entry.getKey(), Collections.unmodifiableList( list ) );
+		}
+		this.fetchGroupToAttributeDescriptorsMap = fetchGroupToAttributeDescriptorsMap;
 	}
 
 	public String getEntityName() {
@@ -129,6 +164,48 @@ public class LazyAttributesMetadata implements Serializable {
 		return lazyAttributeDescriptorMap.containsKey( attributeName );
 	}
 
+	/**
+	 * @return The {@link LazyAttributeDescriptor#getLazyIndex() lazy index} of the given attribute, or -1 if it is not
+	 * lazy
+	 */
+	public int getLazyIndex(String attributeName) {
+		final LazyAttributeDescriptor descriptor = lazyAttributeDescriptorMap.get( attributeName );
+		return descriptor == null ? -1 : descriptor.getLazyIndex();
+	}
+
+	/**
+	 * @return The descriptor of the lazy attribute with the given {@link LazyAttributeDescriptor#getLazyIndex() lazy index}
+	 */
+	public LazyAttributeDescriptor getLazyAttributeDescriptor(int lazyIndex) {
+		return lazyAttributeDescriptors[lazyIndex];
+	}
+
+	/**
+	 * Resolves the lazy indexes of the attributes named by the given array, such as the
+	 * {@link org.hibernate.engine.spi.IndexedSelfDirtinessTracker#$$_hibernate_getTrackedAttributeNames() names} an
+	 * entity class was enhanced with.  The result is cached by array identity.
+	 *
+	 * @return The lazy index of each of the given attributes, -1 for the ones which are not lazy
+	 */
+	public int[] getLazyIndexes(String[] attributeNames) {
+		Map<String[], int[]> lazyIndexesByAttributeNames = this.lazyIndexesByAttributeNames;
+		if ( lazyIndexesByAttributeNames == null ) {
+			// arrays hash and compare by identity
+			lazyIndexesByAttributeNames = new ConcurrentHashMap<>();
+			this.lazyIndexesByAttributeNames = lazyIndexesByAttributeNames;
+		}
+		return lazyIndexesByAttributeNames.computeIfAbsent(
+				attributeNames,
+				names -> {
+					final int[] lazyIndexes = new int[names.length];
+					for ( int i = 0; i < names.length; i++ ) {
+						lazyIndexes[i] = getLazyIndex( names[i] );
+					}
+					return lazyIndexes;
+				}
+		);
+	}
+
 	public String getFetchGroupName(String attributeName) {
 		return lazyAttributeDescriptorMap.get( attributeName ).getFetchGroupName();
 	}
@@ -137,12 +214,11 @@ public class LazyAttributesMetadata implements Serializable {
 		return fetchGroupToAttributeMap.get( fetchGroupName );
 	}
 
+	/**
+	 * @return an immutable list
+	 */
 	public List<LazyAttributeDescriptor> getFetchGroupAttributeDescriptors(String groupName) {
-		final List<LazyAttributeDescriptor> list = new ArrayList<LazyAttributeDescriptor>();
-		for ( String attributeName : fetchGroupToAttributeMap.get( groupName ) ) {
-			list.add( lazyAttributeDescriptorMap.get( attributeName ) );
-		}
-		return list;
+		return fetchGroupToAttributeDescriptorsMap.get( groupName );
 	}
 
 	/**
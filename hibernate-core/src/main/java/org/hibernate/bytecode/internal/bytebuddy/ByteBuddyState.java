@@ -69,12 +69,14 @@ public final class ByteBuddyState {
 	 */
 	private final TypeCache<TypeCache.SimpleKey> proxyCache;
 	private final TypeCache<TypeCache.SimpleKey> basicProxyCache;
+	private final TypeCache<TypeCache.SimpleKey> tupleInstantiatorCache;
 
 	ByteBuddyState() {
 		this.byteBuddy = new ByteBuddy().with( TypeValidation.DISABLED );
 
 		this.proxyCache = new TypeCache.WithInlineExpunction<TypeCache.SimpleKey>( TypeCache.Sort.WEAK );
 		this.basicProxyCache = new TypeCache.WithInlineExpunction<TypeCache.SimpleKey>( TypeCache.Sort.WEAK );
+		this.tupleInstantiatorCache = new TypeCache.WithInlineExpunction<TypeCache.SimpleKey>( TypeCache.Sort.WEAK );
 
 		if ( System.getSecurityManager() != null ) {
 			this.classRewriter = new SecurityManagerClassRewriter();
@@ -112,6 +114,20 @@ public final class ByteBuddyState {
 		return load( referenceClass, basicProxyCache, cacheKey, makeProxyFunction );
 	}
 
+	/**
+	 * Load a constructor invoker as generated by
+	 * {@link BytecodeProviderImpl#getTupleInstantiationOptimizer(java.lang.reflect.Constructor)}.
+	 *
+	 * @param referenceClass The class declaring the constructor.
+	 * @param cacheKey The cache key.
+	 * @param makeClassFunction A function building the invoker.
+	 * @return The loaded invoker class.
+	 */
+	Class<?> loadTupleInstantiator(Class<?> referenceClass, TypeCache.SimpleKey cacheKey,
+			Function<ByteBuddy, DynamicType.Builder<?>> makeClassFunction) {
+		return load( referenceClass, tupleInstantiatorCache, cacheKey, makeClassFunction );
+	}
+
 	/**
 	 * Load a class generated by ByteBuddy.
 	 *
@@ -168,6 +184,7 @@ public final class ByteBuddyState {
 	void clearState() {
 		proxyCache.clear();
 		basicProxyCache.clear();
+		tupleInstantiatorCache.clear();
 	}
 
 	private Class<?> load(Class<?> referenceClass, TypeCache<TypeCache.SimpleKey> cache,
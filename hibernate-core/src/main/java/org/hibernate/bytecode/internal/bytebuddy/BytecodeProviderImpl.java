@@ -6,21 +6,41 @@
  */
 package org.hibernate.bytecode.internal.bytebuddy;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.Callable;
 
 import org.hibernate.HibernateException;
+import org.hibernate.PropertyAccessException;
 import org.hibernate.bytecode.enhance.internal.bytebuddy.EnhancerImpl;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.bytecode.spi.TupleInstantiationOptimizer;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterFieldImpl;
+import org.hibernate.property.access.spi.GetterMethodImpl;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterFieldImpl;
+import org.hibernate.property.access.spi.SetterMethodImpl;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
 import net.bytebuddy.NamingStrategy;
+import net.bytebuddy.TypeCache;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.implementation.Implementation;
@@ -40,6 +60,10 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 
 	private static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "HibernateInstantiator";
 	private static final String OPTIMIZER_PROXY_NAMING_SUFFIX = "HibernateAccessOptimizer";
+	private static final String TUPLE_INSTANTIATOR_PROXY_NAMING_SUFFIX = "HibernateTupleInstantiator";
+	private static final String ACCESSOR_HANDLES_FIELD_NAME = "$$_hibernate_accessor_handles";
+	private static final MethodType GETTER_HANDLE_TYPE = MethodType.methodType( Object.class, Object.class );
+	private static final MethodType SETTER_HANDLE_TYPE = MethodType.methodType( void.class, Object.class, Object.class );
 	private static final ElementMatcher.Junction newInstanceMethodName = ElementMatchers.named( "newInstance" );
 	private static final ElementMatcher.Junction getPropertyValuesMethodName = ElementMatchers.named( "getPropertyValues" );
 	private static final ElementMatcher.Junction setPropertyValuesMethodName = ElementMatchers.named( "setPropertyValues" );
@@ -109,6 +133,283 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	@Override
+	public ReflectionOptimizer getReflectionOptimizer(
+			final Class clazz,
+			final String[] propertyNames,
+			final Getter[] getters,
+			final Setter[] setters) {
+		if ( Modifier.isPrivate( clazz.getModifiers() ) || !isAccessOptimizerVisible( clazz ) ) {
+			return null;
+		}
+
+		final Member[] getterMembers = new Member[getters.length];
+		final Member[] setterMembers = new Member[setters.length];
+		for ( int i = 0; i < getters.length; i++ ) {
+			getterMembers[i] = getterMember( getters[i] );
+			setterMembers[i] = setterMember( setters[i] );
+			if ( getterMembers[i] == null || setterMembers[i] == null ) {
+				// custom access strategy, nothing we can generate code for
+				return null;
+			}
+		}
+
+		// members the generated class is not allowed to access (e.g. private fields) are
+		// reached through method handles stored in a static field of the generated class
+		final List<MethodHandle> handles = new ArrayList<>();
+		final int[] getterHandleIndexes = new int[getters.length];
+		final int[] setterHandleIndexes = new int[setters.length];
+		for ( int i = 0; i < getters.length; i++ ) {
+			getterHandleIndexes[i] = -1;
+			if ( !isDirectlyAccessible( clazz, getterMembers[i], false ) ) {
+				getterHandleIndexes[i] = handles.size();
+				handles.add( getterHandle( getterMembers[i] ) );
+			}
+			setterHandleIndexes[i] = -1;
+			if ( !isDirectlyAccessible( clazz, setterMembers[i], true ) ) {
+				setterHandleIndexes[i] = handles.size();
+				handles.add( setterHandle( setterMembers[i] ) );
+			}
+		}
+
+		final Class bulkAccessor = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom( OPTIMIZER_PROXY_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
+				.subclass( ReflectionOptimizer.AccessOptimizer.class )
+				.defineField( ACCESSOR_HANDLES_FIELD_NAME, MethodHandle[].class, Visibility.PUBLIC, Ownership.STATIC )
+				.method( getPropertyValuesMethodName )
+						.intercept( new Implementation.Simple( new GetMemberValues( getterMembers, getterHandleIndexes ) ) )
+				.method( setPropertyValuesMethodName )
+						.intercept( new Implementation.Simple( new SetMemberValues( setterMembers, setterHandleIndexes ) ) )
+				.method( getPropertyNamesMethodName )
+						.intercept( MethodCall.call( new CloningPropertyCall( propertyNames ) ) )
+		);
+
+		try {
+			bulkAccessor.getField( ACCESSOR_HANDLES_FIELD_NAME )
+					.set( null, handles.toArray( new MethodHandle[0] ) );
+			return new ReflectionOptimizerImpl(
+					buildInstantiationOptimizer( clazz ),
+					nullCheckingPrimitives(
+							(ReflectionOptimizer.AccessOptimizer) bulkAccessor.newInstance(),
+							clazz,
+							propertyNames,
+							setterMembers
+					)
+			);
+		}
+		catch (Exception exception) {
+			throw new HibernateException( exception );
+		}
+	}
+
+	private ReflectionOptimizer.InstantiationOptimizer buildInstantiationOptimizer(Class<?> clazz) throws Exception {
+		if ( clazz.isInterface() || Modifier.isAbstract( clazz.getModifiers() ) ) {
+			return null;
+		}
+		final Constructor<?> constructor;
+		try {
+			constructor = clazz.getDeclaredConstructor();
+		}
+		catch (NoSuchMethodException e) {
+			return null;
+		}
+		if ( Modifier.isPrivate( constructor.getModifiers() ) ) {
+			return null;
+		}
+		final Class fastClass = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom( INSTANTIATOR_PROXY_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
+				.subclass( ReflectionOptimizer.InstantiationOptimizer.class )
+				.method( newInstanceMethodName )
+						.intercept( MethodCall.construct( constructor ) )
+		);
+		return (ReflectionOptimizer.InstantiationOptimizer) fastClass.newInstance();
+	}
+
+	/**
+	 * The generated code would throw a bare {@link NullPointerException} when unboxing a {@code null} value
+	 * assigned to a primitive property: check for it beforehand, to report it as the reflective setters do.
+	 */
+	private static ReflectionOptimizer.AccessOptimizer nullCheckingPrimitives(
+			ReflectionOptimizer.AccessOptimizer accessOptimizer,
+			Class<?> clazz,
+			String[] propertyNames,
+			Member[] setters) {
+		final List<Integer> primitiveIndexes = new ArrayList<>();
+		for ( int i = 0; i < setters.length; i++ ) {
+			final Class<?> type = setters[i] instanceof Field
+					? ( (Field) setters[i] ).getType()
+					: ( (Method) setters[i] ).getParameterTypes()[0];
+			if ( type.isPrimitive() ) {
+				primitiveIndexes.add( i );
+			}
+		}
+		if ( primitiveIndexes.isEmpty() ) {
+			return accessOptimizer;
+		}
+		final int[] indexes = new int[primitiveIndexes.size()];
+		for ( int i = 0; i < indexes.length; i++ ) {
+			indexes[i] = primitiveIndexes.get( i );
+		}
+		return new NullCheckingAccessOptimizer( accessOptimizer, clazz, propertyNames, indexes );
+	}
+
+	/**
+	 * The generated accessor is defined in the class loader of {@code clazz}, which must therefore
+	 * be able to see the Hibernate contracts it implements.
+	 */
+	private static boolean isAccessOptimizerVisible(Class<?> clazz) {
+		if ( clazz.getClassLoader() == null ) {
+			return false;
+		}
+		try {
+			return Class.forName( ReflectionOptimizer.AccessOptimizer.class.getName(), false, clazz.getClassLoader() )
+					== ReflectionOptimizer.AccessOptimizer.class;
+		}
+		catch (ClassNotFoundException e) {
+			return false;
+		}
+	}
+
+	private static Member getterMember(Getter getter) {
+		if ( getter.getClass() == GetterMethodImpl.class ) {
+			return getter.getMethod();
+		}
+		else if ( getter.getClass() == GetterFieldImpl.class ) {
+			return getter.getMember();
+		}
+		return null;
+	}
+
+	private static Member setterMember(Setter setter) {
+		if ( setter.getClass() == SetterMethodImpl.class ) {
+			return setter.getMethod();
+		}
+		else if ( setter.getClass() == SetterFieldImpl.class ) {
+			return ( (SetterFieldImpl) setter ).getField();
+		}
+		return null;
+	}
+
+	/**
+	 * The generated accessor is defined in the package of {@code clazz}: it can only reference
+	 * members (and their types) which are visible from that package.
+	 */
+	private static boolean isDirectlyAccessible(Class<?> clazz, Member member, boolean write) {
+		final int modifiers = member.getModifiers();
+		if ( Modifier.isPrivate( modifiers ) || Modifier.isStatic( modifiers ) ) {
+			return false;
+		}
+		if ( write && member instanceof Field && Modifier.isFinal( modifiers ) ) {
+			return false;
+		}
+		final Class<?> declaringClass = member.getDeclaringClass();
+		if ( !isVisible( clazz, declaringClass ) ) {
+			return false;
+		}
+		if ( !Modifier.isPublic( modifiers ) && !isSamePackage( clazz, declaringClass ) ) {
+			return false;
+		}
+		if ( member instanceof Field ) {
+			return isVisible( clazz, ( (Field) member ).getType() );
+		}
+		final Method method = (Method) member;
+		return write
+				? isVisible( clazz, method.getParameterTypes()[0] )
+				: isVisible( clazz, method.getReturnType() );
+	}
+
+	private static boolean isVisible(Class<?> clazz, Class<?> type) {
+		while ( type.isArray() ) {
+			type = type.getComponentType();
+		}
+		return type.isPrimitive()
+				|| ( Modifier.isPublic( type.getModifiers() ) && ( type.getEnclosingClass() == null
+						|| isVisible( clazz, type.getEnclosingClass() ) ) )
+				|| ( !Modifier.isPrivate( type.getModifiers() ) && isSamePackage( clazz, type ) );
+	}
+
+	private static boolean isSamePackage(Class<?> clazz, Class<?> other) {
+		return clazz.getClassLoader() == other.getClassLoader()
+				&& packageName( clazz ).equals( packageName( other ) );
+	}
+
+	private static String packageName(Class<?> clazz) {
+		final String name = clazz.getName();
+		final int lastDot = name.lastIndexOf( '.' );
+		return lastDot < 0 ? "" : name.substring( 0, lastDot );
+	}
+
+	private static MethodHandle getterHandle(Member member) {
+		try {
+			final MethodHandle handle;
+			if ( member instanceof Field ) {
+				( (Field) member ).setAccessible( true );
+				handle = MethodHandles.lookup().unreflectGetter( (Field) member );
+			}
+			else {
+				( (Method) member ).setAccessible( true );
+				handle = MethodHandles.lookup().unreflect( (Method) member );
+			}
+			return handle.asType( GETTER_HANDLE_TYPE );
+		}
+		catch (IllegalAccessException e) {
+			throw new HibernateException( "Unable to access " + member, e );
+		}
+	}
+
+	private static MethodHandle setterHandle(Member member) {
+		try {
+			final MethodHandle handle;
+			if ( member instanceof Field ) {
+				( (Field) member ).setAccessible( true );
+				handle = MethodHandles.lookup().unreflectSetter( (Field) member );
+			}
+			else {
+				( (Method) member ).setAccessible( true );
+				handle = MethodHandles.lookup().unreflect( (Method) member );
+			}
+			return handle.asType( SETTER_HANDLE_TYPE );
+		}
+		catch (IllegalAccessException e) {
+			throw new HibernateException( "Unable to access " + member, e );
+		}
+	}
+
+	@Override
+	public TupleInstantiationOptimizer getTupleInstantiationOptimizer(Constructor<?> constructor) {
+		final Class<?> clazz = constructor.getDeclaringClass();
+		if ( clazz.getClassLoader() == null
+				|| Modifier.isPrivate( constructor.getModifiers() )
+				|| Modifier.isAbstract( clazz.getModifiers() ) ) {
+			// the generated class is defined next to the target class: this is not possible for
+			// bootstrap classes, and it would not be able to call a private constructor anyway
+			return null;
+		}
+
+		// one invoker per constructor, however many query plans instantiate it
+		final List<Class<?>> key = new ArrayList<>( constructor.getParameterCount() + 1 );
+		key.add( clazz );
+		key.addAll( Arrays.asList( constructor.getParameterTypes() ) );
+		final Class fastClass = byteBuddyState.loadTupleInstantiator( clazz, new TypeCache.SimpleKey( key ), byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom( TUPLE_INSTANTIATOR_PROXY_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
+				.subclass( TupleInstantiationOptimizer.class )
+				.method( newInstanceMethodName )
+						.intercept( MethodCall.construct( constructor )
+								.withArgumentArrayElements( 0, constructor.getParameterCount() )
+								.withAssigner( Assigner.DEFAULT, Assigner.Typing.DYNAMIC ) )
+		);
+
+		try {
+			return (TupleInstantiationOptimizer) fastClass.newInstance();
+		}
+		catch (Exception exception) {
+			throw new HibernateException( exception );
+		}
+	}
+
 	public ByteBuddyProxyHelper getByteBuddyProxyHelper() {
 		return byteBuddyProxyHelper;
 	}
@@ -208,6 +509,187 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	private static class GetMemberValues implements ByteCodeAppender {
+
+		private final Member[] getters;
+
+		private final int[] handleIndexes;
+
+		public GetMemberValues(Member[] getters, int[] handleIndexes) {
+			this.getters = getters;
+			this.handleIndexes = handleIndexes;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			methodVisitor.visitLdcInsn( getters.length );
+			methodVisitor.visitTypeInsn( Opcodes.ANEWARRAY, Type.getInternalName( Object.class ) );
+			for ( int index = 0; index < getters.length; index++ ) {
+				final Member getter = getters[index];
+				methodVisitor.visitInsn( Opcodes.DUP );
+				methodVisitor.visitLdcInsn( index );
+				final Class<?> valueType;
+				if ( handleIndexes[index] >= 0 ) {
+					loadHandle( methodVisitor, implementationContext, handleIndexes[index] );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEVIRTUAL,
+							Type.getInternalName( MethodHandle.class ),
+							"invokeExact",
+							Type.getMethodDescriptor( Type.getType( Object.class ), Type.getType( Object.class ) ),
+							false
+					);
+					valueType = Object.class;
+				}
+				else if ( getter instanceof Field ) {
+					final Field field = (Field) getter;
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+					methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( field.getDeclaringClass() ) );
+					methodVisitor.visitFieldInsn(
+							Opcodes.GETFIELD,
+							Type.getInternalName( field.getDeclaringClass() ),
+							field.getName(),
+							Type.getDescriptor( field.getType() )
+					);
+					valueType = field.getType();
+				}
+				else {
+					final Method method = (Method) getter;
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+					methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( method.getDeclaringClass() ) );
+					invokeMethod( methodVisitor, method );
+					valueType = method.getReturnType();
+				}
+				if ( valueType.isPrimitive() ) {
+					PrimitiveBoxingDelegate.forPrimitive( new TypeDescription.ForLoadedType( valueType ) )
+							.assignBoxedTo(
+									TypeDescription.Generic.OBJECT,
+									ReferenceTypeAwareAssigner.INSTANCE,
+									Assigner.Typing.STATIC
+							)
+							.apply( methodVisitor, implementationContext );
+				}
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+			}
+			methodVisitor.visitInsn( Opcodes.ARETURN );
+			return new Size( 6, instrumentedMethod.getStackSize() );
+		}
+	}
+
+	private static class SetMemberValues implements ByteCodeAppender {
+
+		private final Member[] setters;
+
+		private final int[] handleIndexes;
+
+		public SetMemberValues(Member[] setters, int[] handleIndexes) {
+			this.setters = setters;
+			this.handleIndexes = handleIndexes;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			for ( int index = 0; index < setters.length; index++ ) {
+				final Member setter = setters[index];
+				if ( handleIndexes[index] >= 0 ) {
+					loadHandle( methodVisitor, implementationContext, handleIndexes[index] );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+					loadValue( methodVisitor, index );
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEVIRTUAL,
+							Type.getInternalName( MethodHandle.class ),
+							"invokeExact",
+							Type.getMethodDescriptor( Type.VOID_TYPE, Type.getType( Object.class ), Type.getType( Object.class ) ),
+							false
+					);
+					continue;
+				}
+
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( setter.getDeclaringClass() ) );
+				loadValue( methodVisitor, index );
+				if ( setter instanceof Field ) {
+					final Field field = (Field) setter;
+					castValue( methodVisitor, implementationContext, field.getType() );
+					methodVisitor.visitFieldInsn(
+							Opcodes.PUTFIELD,
+							Type.getInternalName( field.getDeclaringClass() ),
+							field.getName(),
+							Type.getDescriptor( field.getType() )
+					);
+				}
+				else {
+					final Method method = (Method) setter;
+					castValue( methodVisitor, implementationContext, method.getParameterTypes()[0] );
+					invokeMethod( methodVisitor, method );
+					if ( method.getReturnType() == long.class || method.getReturnType() == double.class ) {
+						methodVisitor.visitInsn( Opcodes.POP2 );
+					}
+					else if ( method.getReturnType() != void.class ) {
+						methodVisitor.visitInsn( Opcodes.POP );
+					}
+				}
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 4, instrumentedMethod.getStackSize() );
+		}
+
+		private static void loadValue(MethodVisitor methodVisitor, int index) {
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+			methodVisitor.visitLdcInsn( index );
+			methodVisitor.visitInsn( Opcodes.AALOAD );
+		}
+
+		private static void castValue(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				Class<?> type) {
+			if ( type.isPrimitive() ) {
+				PrimitiveUnboxingDelegate.forReferenceType( TypeDescription.Generic.OBJECT )
+						.assignUnboxedTo(
+								new TypeDescription.Generic.OfNonGenericType.ForLoadedType( type ),
+								ReferenceTypeAwareAssigner.INSTANCE,
+								Assigner.Typing.DYNAMIC
+						)
+						.apply( methodVisitor, implementationContext );
+			}
+			else {
+				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( type ) );
+			}
+		}
+	}
+
+	private static void loadHandle(
+			MethodVisitor methodVisitor,
+			Implementation.Context implementationContext,
+			int handleIndex) {
+		methodVisitor.visitFieldInsn(
+				Opcodes.GETSTATIC,
+				implementationContext.getInstrumentedType().getInternalName(),
+				ACCESSOR_HANDLES_FIELD_NAME,
+				Type.getDescriptor( MethodHandle[].class )
+		);
+		methodVisitor.visitLdcInsn( handleIndex );
+		methodVisitor.visitInsn( Opcodes.AALOAD );
+	}
+
+	private static void invokeMethod(MethodVisitor methodVisitor, Method method) {
+		final boolean isInterface = method.getDeclaringClass().isInterface();
+		methodVisitor.visitMethodInsn(
+				isInterface ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL,
+				Type.getInternalName( method.getDeclaringClass() ),
+				method.getName(),
+				Type.getMethodDescriptor( method ),
+				isInterface
+		);
+	}
+
 	private static void findAccessors(
 			Class clazz,
 			String[] getterNames,
@@ -264,6 +746,59 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	private static class NullCheckingAccessOptimizer implements ReflectionOptimizer.AccessOptimizer {
+
+		private final ReflectionOptimizer.AccessOptimizer delegate;
+
+		private final Class<?> clazz;
+
+		private final String[] propertyNames;
+
+		private final int[] primitiveIndexes;
+
+		private NullCheckingAccessOptimizer(
+				ReflectionOptimizer.AccessOptimizer delegate,
+				Class<?> clazz,
+				String[] propertyNames,
+				int[] primitiveIndexes) {
+			this.delegate = delegate;
+			this.clazz = clazz;
+			this.propertyNames = propertyNames;
+			this.primitiveIndexes = primitiveIndexes;
+		}
+
+		@Override
+		public String[] getPropertyNames() {
+			return delegate.getPropertyNames();
+		}
+
+		@Override
+		public Object[] getPropertyValues(Object object) {
+			return delegate.getPropertyValues( object );
+		}
+
+		@Override
+		public void setPropertyValues(Object object, Object[] values) {
+			for ( int index : primitiveIndexes ) {
+				if ( values[index] == null ) {
+					throw new PropertyAccessException(
+							null,
+							String.format(
+									Locale.ROOT,
+									"Null value was assigned to a property [%s.%s] of primitive type",
+									clazz,
+									propertyNames[index]
+							),
+							true,
+							clazz,
+							propertyNames[index]
+					);
+				}
+			}
+			delegate.setPropertyValues( object, values );
+		}
+	}
+
 	public static class CloningPropertyCall implements Callable<String[]> {
 
 		private final String[] propertyNames;
@@ -24,6 +24,15 @@ public class ProxyFactoryFactoryImpl implements ProxyFactoryFactory {
 		this.byteBuddyProxyHelper = byteBuddyProxyHelper;
 	}
 
+	/**
+	 * @return The helper building the proxy classes, which also builds the ones to be generated at build time (see
+	 * {@link ByteBuddyProxyHelper#buildUnloadedPrebuiltProxy}); when found at runtime, those are used instead of
+	 * generating new ones.
+	 */
+	public ByteBuddyProxyHelper getByteBuddyProxyHelper() {
+		return byteBuddyProxyHelper;
+	}
+
 	@Override
 	public ProxyFactory buildProxyFactory(SessionFactoryImplementor sessionFactory) {
 		return new ByteBuddyProxyFactory( byteBuddyProxyHelper );
@@ -6,8 +6,12 @@
  */
 package org.hibernate.bytecode.spi;
 
+import java.lang.reflect.Constructor;
+
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.Setter;
 import org.hibernate.service.Service;
 
 /**
@@ -41,6 +45,37 @@ public interface BytecodeProvider extends Service {
 	 */
 	ReflectionOptimizer getReflectionOptimizer(Class clazz, String[] getterNames, String[] setterNames, Class[] types);
 
+	/**
+	 * Retrieve the ReflectionOptimizer delegate for this provider, built from the resolved
+	 * property accessors rather than from getter and setter names.  Unlike
+	 * {@link #getReflectionOptimizer(Class, String[], String[], Class[])} this supports field access,
+	 * including private fields.
+	 *
+	 * @param clazz The class to be reflected upon.
+	 * @param propertyNames The names of the properties, in the order of the accessors.
+	 * @param getters The getters of all properties.
+	 * @param setters The setters of all properties.
+	 * @return The reflection optimization delegate, or {@code null} if one of the accessors cannot be optimized.
+	 */
+	default ReflectionOptimizer getReflectionOptimizer(
+			Class clazz,
+			String[] propertyNames,
+			Getter[] getters,
+			Setter[] setters) {
+		return null;
+	}
+
+	/**
+	 * Retrieve an optimizer invoking the given constructor from the values of a query result tuple
+	 * without going through reflection.
+	 *
+	 * @param constructor The constructor to invoke.
+	 * @return The optimizer, or {@code null} if this provider is not able to build one.
+	 */
+	default TupleInstantiationOptimizer getTupleInstantiationOptimizer(Constructor<?> constructor) {
+		return null;
+	}
+
 	/**
 	 * Returns a byte code enhancer that implements the enhancements described in the supplied enhancement context.
 	 *
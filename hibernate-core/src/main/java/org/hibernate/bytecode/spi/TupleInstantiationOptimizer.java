@@ -0,0 +1,24 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.spi;
+
+/**
+ * Represents optimized invocation of a constructor from the values of a query result tuple,
+ * as used by dynamic instantiation ({@code select new ...}) queries.
+ *
+ * @see BytecodeProvider#getTupleInstantiationOptimizer(java.lang.reflect.Constructor)
+ */
+public interface TupleInstantiationOptimizer {
+	/**
+	 * Create a new instance, passing the tuple values as constructor arguments.
+	 *
+	 * @param tuple The constructor arguments, in declaration order.
+	 *
+	 * @return The new instance.
+	 */
+	Object newInstance(Object[] tuple);
+}
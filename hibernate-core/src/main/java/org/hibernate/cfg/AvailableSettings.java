@@ -2075,4 +2075,144 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String OMIT_JOIN_OF_SUPERCLASS_TABLES = "hibernate.query.omit_join_of_superclass_tables";
 
+	/**
+	 * Specifies the minimum number of rows a query must return before the hydration of the rows of
+	 * a purely scalar HQL query (one returning no entities and fetching no collections) is spread
+	 * across the common {@link java.util.concurrent.ForkJoinPool}, by chunks of that many rows.
+	 * The raw column values are read from the JDBC {@link java.sql.ResultSet} on the calling thread,
+	 * and converted by the {@link org.hibernate.type.Type}s of the scalars in parallel, provided
+	 * they are all standard basic types without an {@link javax.persistence.AttributeConverter}.
+	 * The dynamic instantiations of {@code select new} queries are performed in parallel as well.
+	 * </p>
+	 * The results are returned in their original order.  Custom
+	 * {@link org.hibernate.transform.ResultTransformer}s are always applied on the calling thread.
+	 * </p>
+	 * The default value is {@code 0}, meaning that results are always processed on the calling thread.
+	 *
+	 * @since 5.5
+	 */
+	String QUERY_PARALLEL_RESULT_PROCESSING_THRESHOLD = "hibernate.query.parallel_result_processing_threshold";
+
+	/**
+	 * Should the {@code field} and {@code property} access strategies (including the implicit
+	 * default for POJO entities) read and write attribute values through
+	 * {@link java.lang.invoke.MethodHandle}s and {@link java.lang.invoke.LambdaMetafactory}
+	 * generated accessors rather than through reflection?  Primarily meant for environments where
+	 * bytecode generation is not available, rather than as a performance optimization.  Bytecode
+	 * enhanced entities are not affected.
+	 * </p>
+	 * The default value is {@code false}.
+	 *
+	 * @see org.hibernate.property.access.internal.PropertyAccessStrategyMethodHandleImpl
+	 * @since 5.5
+	 */
+	String PROPERTY_ACCESS_USE_METHOD_HANDLES = "hibernate.property_access.use_method_handles";
+
+	/**
+	 * Enables statement level JDBC instrumentation: prepare, execution and fetch time histograms,
+	 * rows read and batch sizes per SQL statement, plus connection acquisition waits.  The
+	 * statistics are available through {@link org.hibernate.stat.spi.JdbcInstrumentation}.
+	 * </p>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String JDBC_INSTRUMENTATION_ENABLED = "hibernate.jdbc.instrumentation.enabled";
+
+	/**
+	 * Comma separated list of {@link org.hibernate.stat.spi.JdbcStatisticsExporter}s publishing the
+	 * statistics collected when {@link #JDBC_INSTRUMENTATION_ENABLED} is set.  Accepts {@code log}
+	 * (dumps the statistics when the SessionFactory is closed), {@code jmx} (requires
+	 * {@link #JMX_ENABLED}) and exporter class names.
+	 * </p>
+	 * The default value is {@code log}.
+	 *
+	 * @since 5.5
+	 */
+	String JDBC_INSTRUMENTATION_EXPORTERS = "hibernate.jdbc.instrumentation.exporters";
+
+	/**
+	 * The maximum number of distinct SQL statements tracked when {@link #JDBC_INSTRUMENTATION_ENABLED}
+	 * is set.  Further statements are accumulated into a single entry.
+	 * </p>
+	 * The default value is {@code 1000}.
+	 *
+	 * @since 5.5
+	 */
+	String JDBC_INSTRUMENTATION_MAX_STATEMENTS = "hibernate.jdbc.instrumentation.max_statements";
+
+	/**
+	 * Should loaded sets and one-to-many bags of immutable elements (entities or immutable basic
+	 * values) record the elements added and removed through their {@link java.util.Collection}
+	 * methods, rather than keep a snapshot copy of all their elements?  A flush then only compares,
+	 * deletes and inserts the recorded elements instead of diffing the whole collection against its
+	 * snapshot.  Modifications which cannot be recorded (e.g. through a sub-list or a sorted sub-set
+	 * view) make the collection fall back to a snapshot, rebuilt at that point.
+	 * </p>
+	 * The default value is {@code false}.
+	 *
+	 * @see org.hibernate.collection.internal.CollectionOperationLog
+	 * @since 5.5
+	 */
+	String COLLECTION_OPERATION_LOG = "hibernate.collection.operation_log";
+
+	/**
+	 * The number of elements fetched at a time when iterating an uninitialized extra-lazy list,
+	 * rather than initializing it.  The iteration then reads consecutive ranges of the index
+	 * column, keeping only the current range in memory, so that large one-to-many associations
+	 * can be traversed without loading all their rows.  Modifying the list while iterating it
+	 * initializes the list.
+	 * </p>
+	 * The default value is {@code 0}, which disables windowed iteration.
+	 *
+	 * @see org.hibernate.annotations.LazyCollectionOption#EXTRA
+	 * @since 5.5
+	 */
+	String EXTRA_LAZY_WINDOW_SIZE = "hibernate.collection.extra_lazy_window_size";
+
+	/**
+	 * The maximum number of rows of an element collection or many-to-many association written by a
+	 * single SQL statement: a multi-row {@code insert ... values} when the collection is recreated
+	 * or rows are added (provided the {@link org.hibernate.dialect.Dialect} supports multi-row inserts),
+	 * a {@code delete ... where ... in (...)} when rows are removed.  Also enables moving the rows
+	 * after a change of an {@code @OrderColumn} list which shifts them by updating their index with
+	 * a couple of statements, rather than updating each row.  Collections with custom SQL are always
+	 * written row by row.
+	 * </p>
+	 * The default value is {@code 0}, which disables multi-row statements.
+	 *
+	 * @since 5.5
+	 */
+	String COLLECTION_MULTI_ROW_DML_SIZE = "hibernate.collection.multi_row_dml_size";
+
+	/**
+	 * Should the lazy to-one associations of bytecode-enhanced entities which cannot be represented by an
+	 * enhanced "proxy" - those referencing an entity with subclasses, whose concrete class is not known from
+	 * the foreign key, and those mapped with {@code @NotFound(IGNORE)}, which cannot be resolved without
+	 * checking the referenced row exists - be loaded as lazy attributes of their owner, rather than by a
+	 * {@link org.hibernate.proxy.HibernateProxy} or an immediate select?  The attribute is loaded when it
+	 * is first accessed, along with the same attribute of the other owners queued for batch fetching, and
+	 * the referenced entities are then fetched by batches as well.
+	 * </p>
+	 * Only applies when {@link #ALLOW_ENHANCEMENT_AS_PROXY} is enabled.  The default value is {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String ENHANCED_LAZY_REFERENCES = "hibernate.bytecode.enhanced_lazy_references";
+
+	/**
+	 * Should the proxies and collections of a detached read-only entity graph be initialized thread-safely
+	 * when {@link #ENABLE_LAZY_LOAD_NO_TRANS} is enabled, so that the graph can be shared across threads?
+	 * The concurrent initializations of a proxy or collection of the same entity or collection key then
+	 * result in a single fetch, performed by the first of the threads in a temporary session, the others
+	 * waiting for it.  Extra lazy collections are initialized at once, rather than read by extra queries.
+	 * </p>
+	 * Applies to the proxies of immutable entities and of entities loaded read-only, and to the collections
+	 * of immutable entities and the collections loaded by a session in read-only mode.  The default value is
+	 * {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String CONCURRENT_LAZY_LOAD_NO_TRANS = "hibernate.concurrent_lazy_load_no_trans";
+
 }
@@ -22,8 +22,10 @@ import org.hibernate.HibernateException;
 import org.hibernate.LazyInitializationException;
 import org.hibernate.Session;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.internal.ConcurrentLazyInitialization;
 import org.hibernate.engine.internal.ForeignKeys;
 import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -59,7 +61,7 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 
 	private transient SharedSessionContractImplementor session;
 	private boolean isTempSession = false;
-	private boolean initialized;
+	private volatile boolean initialized;
 	private transient List<DelayedOperation> operationQueue;
 	private transient boolean directlyAccessible;
 	private transient boolean initializing;
@@ -73,9 +75,11 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 	private boolean dirty;
 	protected boolean elementRemoved;
 	private Serializable storedSnapshot;
+	private CollectionOperationLog operationLog;
 
 	private String sessionFactoryUuid;
 	private boolean allowLoadOutsideTransaction;
+	private boolean concurrentInitialization;
 
 	/**
 	 * Not called by Hibernate, but used by non-JDK serialization,
@@ -154,6 +158,7 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 	 */
 	@SuppressWarnings({"JavaDoc"})
 	protected boolean readSize() {
+		initializeIfConcurrent();
 		if ( !initialized ) {
 			if ( cachedSize != -1 && !hasQueuedOperations() ) {
 				return true;
@@ -296,6 +301,7 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 	}
 
 	protected Boolean readIndexExistence(final Object index) {
+		initializeIfConcurrent();
 		if ( !initialized ) {
 			final Boolean extraLazyExistenceCheck = withTemporarySessionIfNeeded(
 					new LazyInitializationWork<Boolean>() {
@@ -324,6 +330,7 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 	}
 
 	protected Boolean readElementExistence(final Object element) {
+		initializeIfConcurrent();
 		if ( !initialized ) {
 			final Boolean extraLazyExistenceCheck = withTemporarySessionIfNeeded(
 					new LazyInitializationWork<Boolean>() {
@@ -354,6 +361,7 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 	protected static final Object UNKNOWN = new MarkerObject( "UNKNOWN" );
 
 	protected Object readElementByIndex(final Object index) {
+		initializeIfConcurrent();
 		if ( !initialized ) {
 			class ExtraLazyElementByIndexReader implements LazyInitializationWork {
 				private boolean isExtraLazy;
@@ -388,6 +396,55 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 
 	}
 
+	/**
+	 * @return The number of elements to read at a time when iterating this uninitialized extra-lazy collection,
+	 * {@code 0} if it is to be initialized instead
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#EXTRA_LAZY_WINDOW_SIZE
+	 */
+	protected int readWindowSize() {
+		if ( initialized || concurrentInitialization || !isConnectedToSession() ) {
+			return 0;
+		}
+		final CollectionEntry entry = session.getPersistenceContextInternal().getCollectionEntry( this );
+		final CollectionPersister persister = entry.getLoadedPersister();
+		// changes to mutable elements would not be detected without initializing the collection
+		if ( persister == null
+				|| !persister.isExtraLazy()
+				|| !persister.isIndexRangeReadable()
+				|| persister.getElementType().isMutable() ) {
+			return 0;
+		}
+		return persister.getFactory().getSessionFactoryOptions().getExtraLazyWindowSize();
+	}
+
+	/**
+	 * Read the elements of this uninitialized extra-lazy collection whose index is at least {@code fromIndex} and less
+	 * than {@code toIndex}.
+	 *
+	 * @see CollectionPersister#getElementsByIndexRange
+	 */
+	protected Object[] readElementsByIndexRange(final int fromIndex, final int toIndex) {
+		return withTemporarySessionIfNeeded(
+				new LazyInitializationWork<Object[]>() {
+					@Override
+					public Object[] doWork() {
+						final CollectionEntry entry = session.getPersistenceContextInternal().getCollectionEntry( AbstractPersistentCollection.this );
+						if ( hasQueuedOperations() ) {
+							session.flush();
+						}
+						return entry.getLoadedPersister().getElementsByIndexRange(
+								entry.getLoadedKey(),
+								fromIndex,
+								toIndex,
+								session,
+								owner
+						);
+					}
+				}
+		);
+	}
+
 	protected int getCachedSize() {
 		return cachedSize;
 	}
@@ -403,11 +460,64 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 	}
 
 	/**
-	 * Called by any writer method of the collection interface
+	 * Called by any writer method of the collection interface, which does not record its additions and removals into
+	 * the operation log, if any: the log is then superseded by a snapshot, so must be called before the write
 	 */
 	protected final void write() {
 		initialize( true );
 		dirty();
+		if ( operationLog != null && !operationLog.isSuperseded() ) {
+			operationLog.supersede( rebuildSnapshot( operationLog ) );
+		}
+	}
+
+	/**
+	 * Should the additions and removals be recorded in place of a snapshot?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#COLLECTION_OPERATION_LOG
+	 */
+	protected boolean isOperationLogEnabled(CollectionPersister persister) {
+		return supportsOperationLog( persister )
+				&& !isDirectlyAccessible()
+				&& persister.isMutable()
+				&& !persister.getElementType().isMutable()
+				&& persister.getFactory().getSessionFactoryOptions().isCollectionOperationLogEnabled();
+	}
+
+	/**
+	 * Can this collection record its additions and removals in place of a snapshot of the collection described by
+	 * the given persister?  Collections answering {@code true} must record every write into the
+	 * {@link #getOperationLog() log}, or {@link #write() supersede} it, and implement {@link #rebuildSnapshot}.
+	 * <p/>
+	 * Collections which do not support it keep taking snapshots, whether the operation log is enabled or not.
+	 */
+	protected boolean supportsOperationLog(CollectionPersister persister) {
+		return false;
+	}
+
+	/**
+	 * Start recording the additions and removals, to be returned as the new snapshot.
+	 */
+	protected final CollectionOperationLog startOperationLog(int size) {
+		operationLog = new CollectionOperationLog( size );
+		return operationLog;
+	}
+
+	/**
+	 * @return The log recording the additions and removals in place of a snapshot, {@code null} if none or if
+	 * superseded by a snapshot.
+	 */
+	protected final CollectionOperationLog getOperationLog() {
+		return operationLog == null || operationLog.isSuperseded() ? null : operationLog;
+	}
+
+	/**
+	 * Build the snapshot of the state of the collection when the given log was started, from its current state.
+	 * Must be implemented by the collections which {@link #supportsOperationLog support} operation logs, it is
+	 * never called otherwise.
+	 */
+	protected Serializable rebuildSnapshot(CollectionOperationLog operationLog) {
+		throw new UnsupportedOperationException( "Operation log not supported by " + getClass().getName() );
 	}
 
 	/**
@@ -525,6 +635,7 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 		this.key = key;
 		this.role = role;
 		this.storedSnapshot = snapshot;
+		this.operationLog = snapshot instanceof CollectionOperationLog ? (CollectionOperationLog) snapshot : null;
 	}
 
 	@Override
@@ -578,19 +689,68 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 	 * @throws LazyInitializationException if we cannot initialize
 	 */
 	protected final void initialize(final boolean writing) {
-		if ( initialized ) {
-			return;
+		if ( !initialized && concurrentInitialization ) {
+			initializeConcurrently( writing );
+		}
+		else if ( !initialized ) {
+			withTemporarySessionIfNeeded(
+					new LazyInitializationWork<Object>() {
+						@Override
+						public Object doWork() {
+							session.initializeCollection( AbstractPersistentCollection.this, writing );
+							return null;
+						}
+					}
+			);
 		}
+		if ( writing ) {
+			beforeWrite();
+		}
+	}
 
-		withTemporarySessionIfNeeded(
-				new LazyInitializationWork<Object>() {
-					@Override
-					public Object doWork() {
-						session.initializeCollection( AbstractPersistentCollection.this, writing );
+	/**
+	 * Initialize this read-only detached collection, which may be shared by concurrent threads, in a temporary
+	 * session, unless another thread is already initializing a collection of the same key, in which case wait
+	 * for it, and retry if the collection it initialized was another one.
+	 */
+	private void initializeConcurrently(final boolean writing) {
+		final SessionFactoryImplementor sf = (SessionFactoryImplementor)
+				SessionFactoryRegistry.INSTANCE.getSessionFactory( sessionFactoryUuid );
+		final CollectionKey collectionKey = new CollectionKey( sf.getMetamodel().collectionPersister( role ), key );
+		do {
+			ConcurrentLazyInitialization.initialize(
+					sessionFactoryUuid,
+					collectionKey,
+					() -> {
+						if ( !initialized ) {
+							withTemporarySessionIfNeeded(
+									() -> {
+										session.initializeCollection( AbstractPersistentCollection.this, writing );
+										return null;
+									}
+							);
+						}
 						return null;
 					}
-				}
-		);
+			);
+		} while ( !initialized );
+	}
+
+	/**
+	 * Initialize this collection at once, rather than read it by extra lazy queries in temporary sessions, if it
+	 * may be shared by concurrent threads.
+	 */
+	private void initializeIfConcurrent() {
+		if ( !initialized && concurrentInitialization ) {
+			read();
+		}
+	}
+
+	/**
+	 * Called when the initialized collection is about to be written, so that a read-only representation of its
+	 * elements can be replaced by a modifiable one.  Does nothing by default.
+	 */
+	protected void beforeWrite() {
 	}
 
 	private void throwLazyInitializationExceptionIfNotConnected() {
@@ -675,9 +835,23 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 			if ( allowLoadOutsideTransaction && sessionFactoryUuid == null ) {
 				sessionFactoryUuid = session.getFactory().getUuid();
 			}
+
+			concurrentInitialization = allowLoadOutsideTransaction
+					&& session.getFactory().getSessionFactoryOptions().isConcurrentLazyLoadNoTransEnabled()
+					&& isLoadedReadOnly();
 		}
 	}
 
+	private boolean isLoadedReadOnly() {
+		if ( session.getPersistenceContextInternal().isDefaultReadOnly() ) {
+			return true;
+		}
+		final CollectionPersister persister = role == null
+				? null
+				: session.getFactory().getMetamodel().collectionPersister( role );
+		return persister != null && !persister.getOwnerEntityPersister().isMutable();
+	}
+
 	@Override
 	public final boolean setCurrentSession(SharedSessionContractImplementor session) throws HibernateException {
 		if ( session == this.session ) {
@@ -698,6 +872,7 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 			LOG.queuedOperationWhenAttachToSession( MessageHelper.collectionInfoString( getRole(), getKey() ) );
 		}
 		this.session = session;
+		concurrentInitialization = false;
 		return true;
 	}
 
@@ -780,11 +955,14 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 
 
 	/**
-	 * Get the current snapshot from the session
+	 * Get the current snapshot from the session; in place of an operation log, the snapshot superseding it, if any
 	 */
 	@SuppressWarnings({"JavaDoc"})
 	protected final Serializable getSnapshot() {
-		return session.getPersistenceContext().getSnapshot( this );
+		final Serializable snapshot = session.getPersistenceContext().getSnapshot( this );
+		return snapshot instanceof CollectionOperationLog
+				? ( (CollectionOperationLog) snapshot ).getSnapshot()
+				: snapshot;
 	}
 
 	@Override
@@ -868,6 +1046,7 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 
 	protected final class IteratorProxy implements Iterator {
 		protected final Iterator itr;
+		private Object last;
 
 		public IteratorProxy(Iterator itr) {
 			this.itr = itr;
@@ -880,13 +1059,22 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 
 		@Override
 		public Object next() {
-			return itr.next();
+			last = itr.next();
+			return last;
 		}
 
 		@Override
 		public void remove() {
-			write();
-			itr.remove();
+			final CollectionOperationLog operationLog = getOperationLog();
+			if ( operationLog == null ) {
+				write();
+				itr.remove();
+			}
+			else {
+				itr.remove();
+				dirty();
+				operationLog.removed( last );
+			}
 		}
 	}
 
@@ -0,0 +1,199 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.collection.internal;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The elements added to and removed from a persistent collection since it was loaded or last flushed, recorded as
+ * they happen, which stands for the snapshot of the collection when
+ * {@link org.hibernate.cfg.AvailableSettings#COLLECTION_OPERATION_LOG} is enabled.
+ * <p/>
+ * For each element added or removed, the log keeps its number of occurrences when the log was started (if known)
+ * and the number of occurrences added since, so that only the net changes get flushed.  The initial number of
+ * occurrences of the elements added to a bag is not known until {@link #resolve resolved}.
+ * <p/>
+ * Should the collection be modified in a way that cannot be recorded, the log is superseded by a regular snapshot,
+ * rebuilt from the state of the collection right before that modification.
+ */
+public final class CollectionOperationLog implements Serializable {
+
+	private static final int UNKNOWN = -1;
+
+	private final int initialSize;
+	private final Map<Object, Change> changes = new LinkedHashMap<>();
+	private int unresolvedCount;
+	private Serializable snapshot;
+
+	CollectionOperationLog(int initialSize) {
+		this.initialSize = initialSize;
+	}
+
+	/**
+	 * @return The size of the collection when the log was started
+	 */
+	public int getInitialSize() {
+		return initialSize;
+	}
+
+	/**
+	 * Record the addition of an element which was not an element of the collection
+	 */
+	void added(Object element) {
+		changes.computeIfAbsent( element, e -> new Change( 0 ) ).delta++;
+	}
+
+	/**
+	 * Record the addition of an occurrence of an element, which may or may not already be an element of the collection
+	 */
+	void addedOccurrence(Object element) {
+		Change change = changes.get( element );
+		if ( change == null ) {
+			change = new Change( UNKNOWN );
+			changes.put( element, change );
+			unresolvedCount++;
+		}
+		change.delta++;
+	}
+
+	/**
+	 * Record the removal of an occurrence of an element
+	 */
+	void removed(Object element) {
+		changes.computeIfAbsent( element, e -> new Change( 1 ) ).delta--;
+	}
+
+	/**
+	 * Are the initial numbers of occurrences of all the recorded elements known?
+	 */
+	boolean isResolved() {
+		return unresolvedCount == 0;
+	}
+
+	/**
+	 * Determine the initial numbers of occurrences which are not known, from the current elements of the collection.
+	 */
+	void resolve(Iterable<?> elements) {
+		if ( unresolvedCount == 0 ) {
+			return;
+		}
+		// the changes are not looked up again by element: the hash code of an entity element may depend on an
+		// identifier generated since it was recorded
+		final Map<Object, Change> unresolved = new LinkedHashMap<>();
+		for ( Map.Entry<Object, Change> entry : changes.entrySet() ) {
+			if ( entry.getValue().initialCount == UNKNOWN ) {
+				entry.getValue().initialCount = 0;
+				unresolved.put( entry.getKey(), entry.getValue() );
+			}
+		}
+		for ( Object element : elements ) {
+			final Change change = unresolved.get( element );
+			if ( change != null ) {
+				change.initialCount++;
+			}
+		}
+		for ( Change change : unresolved.values() ) {
+			change.initialCount = Math.max( change.initialCount - change.delta, 0 );
+		}
+		unresolvedCount = 0;
+	}
+
+	/**
+	 * @return The elements which were elements of the collection, but are no longer
+	 */
+	List<Object> getRemovedElements() {
+		assert isResolved();
+		final List<Object> removed = new ArrayList<>();
+		for ( Map.Entry<Object, Change> entry : changes.entrySet() ) {
+			if ( entry.getValue().isRemoved() ) {
+				removed.add( entry.getKey() );
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * @return The elements which were not elements of the collection, but are now
+	 */
+	List<Object> getAddedElements() {
+		assert isResolved();
+		final List<Object> added = new ArrayList<>();
+		for ( Map.Entry<Object, Change> entry : changes.entrySet() ) {
+			if ( entry.getValue().isAdded() ) {
+				added.add( entry.getKey() );
+			}
+		}
+		return added;
+	}
+
+	/**
+	 * Do the recorded additions and removals change the elements of the collection?
+	 */
+	boolean hasChanges() {
+		assert isResolved();
+		for ( Change change : changes.values() ) {
+			if ( change.isAdded() || change.isRemoved() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return The number of occurrences added since the log was started, by element, negative for the removed ones
+	 */
+	Map<Object, Integer> getDeltas() {
+		final Map<Object, Integer> deltas = new LinkedHashMap<>();
+		for ( Map.Entry<Object, Change> entry : changes.entrySet() ) {
+			if ( entry.getValue().delta != 0 ) {
+				deltas.put( entry.getKey(), entry.getValue().delta );
+			}
+		}
+		return deltas;
+	}
+
+	/**
+	 * Has the log been superseded by a snapshot?
+	 */
+	public boolean isSuperseded() {
+		return snapshot != null;
+	}
+
+	/**
+	 * @return The snapshot superseding the log, if any
+	 */
+	public Serializable getSnapshot() {
+		return snapshot;
+	}
+
+	void supersede(Serializable snapshot) {
+		this.snapshot = snapshot;
+		changes.clear();
+		unresolvedCount = 0;
+	}
+
+	private static final class Change implements Serializable {
+		private int initialCount;
+		private int delta;
+
+		private Change(int initialCount) {
+			this.initialCount = initialCount;
+		}
+
+		private boolean isAdded() {
+			return initialCount == 0 && delta > 0;
+		}
+
+		private boolean isRemoved() {
+			return initialCount > 0 && initialCount + delta <= 0;
+		}
+	}
+}
@@ -143,6 +143,10 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@Override
 	@SuppressWarnings("unchecked")
 	public boolean equalsSnapshot(CollectionPersister persister) throws HibernateException {
+		final CollectionOperationLog operationLog = getResolvedOperationLog();
+		if ( operationLog != null ) {
+			return !operationLog.hasChanges();
+		}
 		final Type elementType = persister.getElementType();
 		final List<Object> sn = (List<Object>) getSnapshot();
 		if ( sn.size() != bag.size() ) {
@@ -222,6 +226,13 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 
 	@Override
 	public boolean isSnapshotEmpty(Serializable snapshot) {
+		if ( snapshot instanceof CollectionOperationLog ) {
+			final CollectionOperationLog operationLog = (CollectionOperationLog) snapshot;
+			if ( !operationLog.isSuperseded() ) {
+				return operationLog.getInitialSize() == 0;
+			}
+			snapshot = operationLog.getSnapshot();
+		}
 		return ( (Collection) snapshot ).isEmpty();
 	}
 
@@ -251,6 +262,10 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public Serializable getSnapshot(CollectionPersister persister)
 			throws HibernateException {
+		// only a one-to-many bag has the semantics of a set, see below
+		if ( isOperationLogEnabled( persister ) ) {
+			return startOperationLog( bag.size() );
+		}
 		final ArrayList clonedList = new ArrayList( bag.size() );
 		for ( Object item : bag ) {
 			clonedList.add( persister.getElementType().deepCopy( item, persister.getFactory() ) );
@@ -260,10 +275,68 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 
 	@Override
 	public Collection getOrphans(Serializable snapshot, String entityName) throws HibernateException {
+		if ( snapshot instanceof CollectionOperationLog ) {
+			final CollectionOperationLog operationLog = (CollectionOperationLog) snapshot;
+			if ( !operationLog.isSuperseded() ) {
+				operationLog.resolve( bag );
+				return getOrphans(
+						operationLog.getRemovedElements(),
+						operationLog.getAddedElements(),
+						entityName,
+						getSession()
+				);
+			}
+			snapshot = operationLog.getSnapshot();
+		}
 		final List sn = (List) snapshot;
 		return getOrphans( sn, bag, entityName, getSession() );
 	}
 
+	/**
+	 * Only the rows of one-to-many bags are keyed by their elements, so can be maintained from the additions and
+	 * removals alone.
+	 */
+	@Override
+	protected boolean supportsOperationLog(CollectionPersister persister) {
+		return persister.isOneToMany();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Serializable rebuildSnapshot(CollectionOperationLog operationLog) {
+		final Map<Object, Integer> deltas = operationLog.getDeltas();
+		final ArrayList snapshot = new ArrayList( bag.size() );
+		// the elements are immutable, no need for copies
+		for ( Object element : bag ) {
+			final Integer delta = deltas.get( element );
+			if ( delta != null && delta > 0 ) {
+				// added since
+				deltas.put( element, delta - 1 );
+			}
+			else {
+				snapshot.add( element );
+			}
+		}
+		for ( Map.Entry<Object, Integer> delta : deltas.entrySet() ) {
+			for ( int i = delta.getValue(); i < 0; i++ ) {
+				// removed since
+				snapshot.add( delta.getKey() );
+			}
+		}
+		return snapshot;
+	}
+
+	/**
+	 * @return The operation log, if any, with all the initial numbers of occurrences known
+	 */
+	private CollectionOperationLog getResolvedOperationLog() {
+		final CollectionOperationLog operationLog = getOperationLog();
+		if ( operationLog != null ) {
+			operationLog.resolve( bag );
+		}
+		return operationLog;
+	}
+
 	@Override
 	public Serializable disassemble(CollectionPersister persister)
 			throws HibernateException {
@@ -307,6 +380,10 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@Override
 	@SuppressWarnings("unchecked")
 	public Iterator getDeletes(CollectionPersister persister, boolean indexIsFormula) throws HibernateException {
+		final CollectionOperationLog operationLog = getResolvedOperationLog();
+		if ( operationLog != null ) {
+			return operationLog.getRemovedElements().iterator();
+		}
 		final Type elementType = persister.getElementType();
 		final ArrayList deletes = new ArrayList();
 		final List sn = (List) getSnapshot();
@@ -337,8 +414,18 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 		return deletes.iterator();
 	}
 
+	@Override
+	public Iterator getInsertCandidates(CollectionPersister persister) {
+		final CollectionOperationLog operationLog = getResolvedOperationLog();
+		return operationLog == null ? entries( persister ) : operationLog.getAddedElements().iterator();
+	}
+
 	@Override
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
+		if ( getOperationLog() != null ) {
+			// the insert candidates are only the added elements
+			return true;
+		}
 		final List sn = (List) getSnapshot();
 		if ( sn.size() > i && elemType.isSame( sn.get( i ), entry ) ) {
 			//a shortcut if its location didn't change!
@@ -404,8 +491,14 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public boolean add(Object object) {
 		if ( !isOperationQueueEnabled() ) {
-			write();
-			return bag.add( object );
+			initialize( true );
+			dirty();
+			final boolean added = bag.add( object );
+			final CollectionOperationLog operationLog = getOperationLog();
+			if ( operationLog != null ) {
+				operationLog.addedOccurrence( object );
+			}
+			return added;
 		}
 		else {
 			queueOperation( new SimpleAdd( object ) );
@@ -419,6 +512,10 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 		if ( bag.remove( o ) ) {
 			elementRemoved = true;
 			dirty();
+			final CollectionOperationLog operationLog = getOperationLog();
+			if ( operationLog != null ) {
+				operationLog.removed( o );
+			}
 			return true;
 		}
 		else {
@@ -440,7 +537,14 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 			return false;
 		}
 		if ( !isOperationQueueEnabled() ) {
-			write();
+			initialize( true );
+			dirty();
+			final CollectionOperationLog operationLog = getOperationLog();
+			if ( operationLog != null ) {
+				for ( Object value : values ) {
+					operationLog.addedOccurrence( value );
+				}
+			}
 			return bag.addAll( values );
 		}
 		else {
@@ -456,7 +560,8 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	public boolean removeAll(Collection c) {
 		if ( c.size() > 0 ) {
 			initialize( true );
-			if ( bag.removeAll( c ) ) {
+			final CollectionOperationLog operationLog = getOperationLog();
+			if ( operationLog == null ? bag.removeAll( c ) : removeIf( c, false, operationLog ) ) {
 				elementRemoved = true;
 				dirty();
 				return true;
@@ -474,7 +579,8 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public boolean retainAll(Collection c) {
 		initialize( true );
-		if ( bag.retainAll( c ) ) {
+		final CollectionOperationLog operationLog = getOperationLog();
+		if ( operationLog == null ? bag.retainAll( c ) : removeIf( c, true, operationLog ) ) {
 			dirty();
 			return true;
 		}
@@ -492,12 +598,35 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 		else {
 			initialize( true );
 			if ( !bag.isEmpty() ) {
+				final CollectionOperationLog operationLog = getOperationLog();
+				if ( operationLog != null ) {
+					for ( Object element : bag ) {
+						operationLog.removed( element );
+					}
+				}
 				bag.clear();
 				dirty();
 			}
 		}
 	}
 
+	/**
+	 * Remove the elements contained in the given collection, or not contained if {@code retain}, recording them
+	 */
+	private boolean removeIf(Collection c, boolean retain, CollectionOperationLog operationLog) {
+		boolean changed = false;
+		final Iterator itr = bag.iterator();
+		while ( itr.hasNext() ) {
+			final Object element = itr.next();
+			if ( c.contains( element ) != retain ) {
+				itr.remove();
+				operationLog.removed( element );
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
 	@Override
 	public Object getIndex(Object entry, int i, CollectionPersister persister) {
 		throw new UnsupportedOperationException( "Bags don't have indexes" );
@@ -539,15 +668,27 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@Override
 	@SuppressWarnings("unchecked")
 	public void add(int i, Object o) {
-		write();
+		initialize( true );
+		dirty();
 		bag.add( i, o );
+		final CollectionOperationLog operationLog = getOperationLog();
+		if ( operationLog != null ) {
+			operationLog.addedOccurrence( o );
+		}
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
 	public boolean addAll(int i, Collection c) {
 		if ( c.size() > 0 ) {
-			write();
+			initialize( true );
+			dirty();
+			final CollectionOperationLog operationLog = getOperationLog();
+			if ( operationLog != null ) {
+				for ( Object element : c ) {
+					operationLog.addedOccurrence( element );
+				}
+			}
 			return bag.addAll( i, c );
 		}
 		else {
@@ -593,15 +734,28 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@Override
 	@SuppressWarnings("unchecked")
 	public Object remove(int i) {
-		write();
-		return bag.remove( i );
+		initialize( true );
+		dirty();
+		final Object removed = bag.remove( i );
+		final CollectionOperationLog operationLog = getOperationLog();
+		if ( operationLog != null ) {
+			operationLog.removed( removed );
+		}
+		return removed;
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
 	public Object set(int i, Object o) {
-		write();
-		return bag.set( i, o );
+		initialize( true );
+		dirty();
+		final Object replaced = bag.set( i, o );
+		final CollectionOperationLog operationLog = getOperationLog();
+		if ( operationLog != null ) {
+			operationLog.removed( replaced );
+			operationLog.addedOccurrence( o );
+		}
+		return replaced;
 	}
 
 	@Override
@@ -11,9 +11,11 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.NoSuchElementException;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -31,6 +33,7 @@ import org.hibernate.type.Type;
  */
 public class PersistentList extends AbstractPersistentCollection implements List {
 	protected List list;
+	private transient int[] indexShift;
 
 	/**
 	 * Constructs a PersistentList.  This form needed for SOAP libraries, etc
@@ -152,6 +155,10 @@ public class PersistentList extends AbstractPersistentCollection implements List
 
 	@Override
 	public Iterator iterator() {
+		final int windowSize = readWindowSize();
+		if ( windowSize > 0 && readSize() ) {
+			return new WindowedIterator( windowSize, getCachedSize() );
+		}
 		read();
 		return new IteratorProxy( list.iterator() );
 	}
@@ -438,9 +445,47 @@ public class PersistentList extends AbstractPersistentCollection implements List
 		return result;
 	}
 
+	@Override
+	public int[] planIndexShift(CollectionPersister persister) {
+		indexShift = null;
+		final List sn = (List) getSnapshot();
+		final Type elementType = persister.getElementType();
+		final int size = list.size();
+		final int snapshotSize = sn.size();
+		if ( size == snapshotSize ) {
+			return null;
+		}
+		int prefix = 0;
+		while ( prefix < size && prefix < snapshotSize
+				&& isSame( list.get( prefix ), sn.get( prefix ), elementType ) ) {
+			prefix++;
+		}
+		int suffix = 0;
+		while ( suffix < size - prefix && suffix < snapshotSize - prefix
+				&& isSame( list.get( size - suffix - 1 ), sn.get( snapshotSize - suffix - 1 ), elementType ) ) {
+			suffix++;
+		}
+		// two updates shift the rows, against one update per row
+		if ( suffix <= 2 ) {
+			return null;
+		}
+		indexShift = new int[] { prefix, snapshotSize - suffix, size - snapshotSize };
+		return indexShift;
+	}
+
+	private boolean isSame(Object element, Object snapshotElement, Type elementType) {
+		return element == null
+				? snapshotElement == null
+				: snapshotElement != null && !elementType.isDirty( element, snapshotElement, getSession() );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public Iterator getDeletes(CollectionPersister persister, boolean indexIsFormula) throws HibernateException {
+		if ( indexShift != null ) {
+			// the range of deleted rows is deleted by the persister
+			return Collections.emptyIterator();
+		}
 		final List deletes = new ArrayList();
 		final List sn = (List) getSnapshot();
 		int end;
@@ -465,12 +510,18 @@ public class PersistentList extends AbstractPersistentCollection implements List
 
 	@Override
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
+		if ( indexShift != null ) {
+			return list.get( i ) != null && i >= indexShift[0] && i < indexShift[1] + indexShift[2];
+		}
 		final List sn = (List) getSnapshot();
 		return list.get( i ) != null && ( i >= sn.size() || sn.get( i ) == null );
 	}
 
 	@Override
 	public boolean needsUpdating(Object entry, int i, Type elemType) throws HibernateException {
+		if ( indexShift != null ) {
+			return false;
+		}
 		final List sn = (List) getSnapshot();
 		return i < sn.size()
 				&& sn.get( i ) != null
@@ -507,11 +558,73 @@ public class PersistentList extends AbstractPersistentCollection implements List
 		return list.hashCode();
 	}
 
+	@Override
+	public void postAction() {
+		indexShift = null;
+		super.postAction();
+	}
+
 	@Override
 	public boolean entryExists(Object entry, int i) {
 		return entry!=null;
 	}
 
+	/**
+	 * Iterates an uninitialized extra-lazy list by windows of consecutive elements, only the current one being kept.
+	 * Should the list get initialized meanwhile, e.g. by removing an element through the iterator, the remaining
+	 * elements are iterated from the initialized list.
+	 */
+	private final class WindowedIterator implements Iterator {
+		private final int windowSize;
+		private final int size;
+		private Object[] window;
+		private int windowStart;
+		private int nextIndex;
+		private boolean canRemove;
+
+		private WindowedIterator(int windowSize, int size) {
+			this.windowSize = windowSize;
+			this.size = size;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextIndex < ( isInitialized() ? list.size() : size );
+		}
+
+		@Override
+		public Object next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			final Object element;
+			if ( isInitialized() ) {
+				window = null;
+				element = list.get( nextIndex );
+			}
+			else {
+				if ( window == null || nextIndex >= windowStart + window.length ) {
+					windowStart = nextIndex;
+					window = readElementsByIndexRange( nextIndex, Math.min( nextIndex + windowSize, size ) );
+				}
+				element = window[nextIndex - windowStart];
+			}
+			nextIndex++;
+			canRemove = true;
+			return element;
+		}
+
+		@Override
+		public void remove() {
+			if ( !canRemove ) {
+				throw new IllegalStateException();
+			}
+			write();
+			list.remove( --nextIndex );
+			canRemove = false;
+		}
+	}
+
 	final class Clear implements DelayedOperation {
 		@Override
 		public void operate() {
@@ -278,7 +278,7 @@ public class PersistentMap extends AbstractPersistentCollection implements Map {
 		return map.toString();
 	}
 
-	private transient List<Object[]> loadingEntries;
+	protected transient List<Object[]> loadingEntries;
 
 	@Override
 	@SuppressWarnings("unchecked")
@@ -100,6 +100,9 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@Override
 	@SuppressWarnings( {"unchecked"})
 	public Serializable getSnapshot(CollectionPersister persister) throws HibernateException {
+		if ( isOperationLogEnabled( persister ) ) {
+			return startOperationLog( set.size() );
+		}
 		final HashMap clonedSet = new HashMap( set.size() );
 		for ( Object aSet : set ) {
 			final Object copied = persister.getElementType().deepCopy( aSet, persister.getFactory() );
@@ -108,14 +111,54 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 		return clonedSet;
 	}
 
+	@Override
+	protected boolean supportsOperationLog(CollectionPersister persister) {
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Serializable rebuildSnapshot(CollectionOperationLog operationLog) {
+		final HashMap snapshot = new HashMap( set.size() );
+		for ( Object element : set ) {
+			snapshot.put( element, element );
+		}
+		// the elements are immutable, no need for copies
+		for ( java.util.Map.Entry<Object, Integer> delta : operationLog.getDeltas().entrySet() ) {
+			if ( delta.getValue() > 0 ) {
+				snapshot.remove( delta.getKey() );
+			}
+			else {
+				snapshot.put( delta.getKey(), delta.getKey() );
+			}
+		}
+		return snapshot;
+	}
+
 	@Override
 	public Collection getOrphans(Serializable snapshot, String entityName) throws HibernateException {
+		if ( snapshot instanceof CollectionOperationLog ) {
+			final CollectionOperationLog operationLog = (CollectionOperationLog) snapshot;
+			if ( !operationLog.isSuperseded() ) {
+				return getOrphans(
+						operationLog.getRemovedElements(),
+						operationLog.getAddedElements(),
+						entityName,
+						getSession()
+				);
+			}
+			snapshot = operationLog.getSnapshot();
+		}
 		final java.util.Map sn = (java.util.Map) snapshot;
 		return getOrphans( sn.keySet(), set, entityName, getSession() );
 	}
 
 	@Override
 	public boolean equalsSnapshot(CollectionPersister persister) throws HibernateException {
+		final CollectionOperationLog operationLog = getOperationLog();
+		if ( operationLog != null ) {
+			return !operationLog.hasChanges();
+		}
 		final Type elementType = persister.getElementType();
 		final java.util.Map sn = (java.util.Map) getSnapshot();
 		if ( sn.size()!=set.size() ) {
@@ -134,6 +177,13 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 
 	@Override
 	public boolean isSnapshotEmpty(Serializable snapshot) {
+		if ( snapshot instanceof CollectionOperationLog ) {
+			final CollectionOperationLog operationLog = (CollectionOperationLog) snapshot;
+			if ( !operationLog.isSuperseded() ) {
+				return operationLog.getInitialSize() == 0;
+			}
+			snapshot = operationLog.getSnapshot();
+		}
 		return ( (java.util.Map) snapshot ).isEmpty();
 	}
 
@@ -210,6 +260,10 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 			initialize( true );
 			if ( set.add( value ) ) {
 				dirty();
+				final CollectionOperationLog operationLog = getOperationLog();
+				if ( operationLog != null ) {
+					operationLog.added( value );
+				}
 				return true;
 			}
 			else {
@@ -233,6 +287,10 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 			if ( set.remove( value ) ) {
 				elementRemoved = true;
 				dirty();
+				final CollectionOperationLog operationLog = getOperationLog();
+				if ( operationLog != null ) {
+					operationLog.removed( value );
+				}
 				return true;
 			}
 			else {
@@ -261,7 +319,8 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	public boolean addAll(Collection coll) {
 		if ( coll.size() > 0 ) {
 			initialize( true );
-			if ( set.addAll( coll ) ) {
+			final CollectionOperationLog operationLog = getOperationLog();
+			if ( operationLog == null ? set.addAll( coll ) : addAll( coll, operationLog ) ) {
 				dirty();
 				return true;
 			}
@@ -278,7 +337,8 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@SuppressWarnings("unchecked")
 	public boolean retainAll(Collection coll) {
 		initialize( true );
-		if ( set.retainAll( coll ) ) {
+		final CollectionOperationLog operationLog = getOperationLog();
+		if ( operationLog == null ? set.retainAll( coll ) : retainAll( coll, operationLog ) ) {
 			dirty();
 			return true;
 		}
@@ -292,7 +352,8 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	public boolean removeAll(Collection coll) {
 		if ( coll.size() > 0 ) {
 			initialize( true );
-			if ( set.removeAll( coll ) ) {
+			final CollectionOperationLog operationLog = getOperationLog();
+			if ( operationLog == null ? set.removeAll( coll ) : removeAll( coll, operationLog ) ) {
 				elementRemoved = true;
 				dirty();
 				return true;
@@ -315,12 +376,55 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 		else {
 			initialize( true );
 			if ( !set.isEmpty() ) {
+				final CollectionOperationLog operationLog = getOperationLog();
+				if ( operationLog != null ) {
+					for ( Object element : set ) {
+						operationLog.removed( element );
+					}
+				}
 				set.clear();
 				dirty();
 			}
 		}
 	}
 
+	@SuppressWarnings("unchecked")
+	private boolean addAll(Collection coll, CollectionOperationLog operationLog) {
+		boolean changed = false;
+		for ( Object element : coll ) {
+			if ( set.add( element ) ) {
+				operationLog.added( element );
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	private boolean removeAll(Collection coll, CollectionOperationLog operationLog) {
+		boolean changed = false;
+		for ( Object element : coll ) {
+			if ( set.remove( element ) ) {
+				operationLog.removed( element );
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	private boolean retainAll(Collection coll, CollectionOperationLog operationLog) {
+		boolean changed = false;
+		final Iterator itr = set.iterator();
+		while ( itr.hasNext() ) {
+			final Object element = itr.next();
+			if ( !coll.contains( element ) ) {
+				itr.remove();
+				operationLog.removed( element );
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public String toString() {
@@ -379,6 +483,10 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@Override
 	@SuppressWarnings("unchecked")
 	public Iterator getDeletes(CollectionPersister persister, boolean indexIsFormula) throws HibernateException {
+		final CollectionOperationLog operationLog = getOperationLog();
+		if ( operationLog != null ) {
+			return operationLog.getRemovedElements().iterator();
+		}
 		final Type elementType = persister.getElementType();
 		final java.util.Map sn = (java.util.Map) getSnapshot();
 		final ArrayList deletes = new ArrayList( sn.size() );
@@ -405,9 +513,21 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 		return deletes.iterator();
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public Iterator getInsertCandidates(CollectionPersister persister) {
+		final CollectionOperationLog operationLog = getOperationLog();
+		return operationLog == null ? entries( persister ) : operationLog.getAddedElements().iterator();
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
+		if ( getOperationLog() != null ) {
+			// the insert candidates are the added elements, which are not looked up again by hash code, as it may
+			// have changed since they were added, when generated identifiers were assigned to them
+			return true;
+		}
 		final Object oldValue = ( (java.util.Map) getSnapshot() ).get( entry );
 		// note that it might be better to iterate the snapshot but this is safe,
 		// assuming the user implements equals() properly, as required by the Set
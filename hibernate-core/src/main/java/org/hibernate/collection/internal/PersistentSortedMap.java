@@ -7,18 +7,26 @@
 package org.hibernate.collection.internal;
 
 import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.function.Function;
 
 import org.hibernate.EntityMode;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.SortedArrayMap;
 import org.hibernate.persister.collection.BasicCollectionPersister;
+import org.hibernate.persister.collection.CollectionPersister;
 
 /**
  * A persistent wrapper for a <tt>java.util.SortedMap</tt>. Underlying
@@ -29,6 +37,7 @@ import org.hibernate.persister.collection.BasicCollectionPersister;
  */
 public class PersistentSortedMap extends PersistentMap implements SortedMap {
 	protected Comparator comparator;
+	private boolean compact;
 
 	/**
 	 * Constructs a PersistentSortedMap.  This form needed for SOAP libraries, etc
@@ -94,16 +103,106 @@ public class PersistentSortedMap extends PersistentMap implements SortedMap {
 		this.comparator = comparator;
 	}
 
+	/**
+	 * Should the map be loaded into a read-only {@link SortedArrayMap} rather than a <tt>TreeMap</tt>?  The
+	 * sorted arrays are copied into a <tt>TreeMap</tt> when the map is first written, whether directly or through
+	 * one of its views, their iterators or entries.
+	 *
+	 * @param compact True for sorted arrays
+	 */
+	public void setCompact(boolean compact) {
+		this.compact = compact;
+	}
+
 	@Override
 	public Comparator comparator() {
 		return comparator;
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void beforeWrite() {
+		if ( map instanceof SortedArrayMap ) {
+			// the snapshot keeps sharing the arrays
+			map = new TreeMap( (SortedMap) map );
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean endRead() {
+		if ( compact && !hasQueuedOperations() ) {
+			map = SortedArrayMap.of( loadingEntries == null ? new ArrayList<>() : loadingEntries, comparator );
+			loadingEntries = null;
+		}
+		return super.endRead();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void initializeFromCache(CollectionPersister persister, Serializable disassembled, Object owner)
+			throws HibernateException {
+		if ( !compact ) {
+			super.initializeFromCache( persister, disassembled, owner );
+			return;
+		}
+		final Serializable[] array = (Serializable[]) disassembled;
+		final List<Object[]> entries = new ArrayList<>( array.length / 2 );
+		for ( int i = 0; i < array.length; i += 2 ) {
+			entries.add(
+					new Object[] {
+							persister.getIndexType().assemble( array[i], getSession(), owner ),
+							persister.getElementType().assemble( array[i + 1], getSession(), owner )
+					}
+			);
+		}
+		map = SortedArrayMap.of( entries, comparator );
+	}
+
+	@Override
+	public Serializable getSnapshot(CollectionPersister persister) throws HibernateException {
+		if ( map instanceof SortedArrayMap ) {
+			// the sorted arrays are copied before any write, so the map is its own snapshot
+			return (SortedArrayMap) map;
+		}
+		return super.getSnapshot( persister );
+	}
+
+	@Override
+	public Set keySet() {
+		read();
+		if ( map instanceof SortedArrayMap ) {
+			return new CompactMapView( sortedMap -> sortedMap, sortedMap -> new SetProxy( sortedMap.keySet() ), Entry::getKey );
+		}
+		return super.keySet();
+	}
+
+	@Override
+	public Collection values() {
+		read();
+		if ( map instanceof SortedArrayMap ) {
+			return new CompactMapView( sortedMap -> sortedMap, sortedMap -> new SetProxy( sortedMap.values() ), Entry::getValue );
+		}
+		return super.values();
+	}
+
+	@Override
+	public Set entrySet() {
+		read();
+		if ( map instanceof SortedArrayMap ) {
+			return new CompactMapView( sortedMap -> sortedMap, sortedMap -> new EntrySetProxy( sortedMap.entrySet() ), CompactEntry::new );
+		}
+		return super.entrySet();
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public SortedMap subMap(Object fromKey, Object toKey) {
 		read();
 		final SortedMap subMap = ( (SortedMap) map ).subMap( fromKey, toKey );
+		if ( map instanceof SortedArrayMap ) {
+			return new CompactSubMap( sortedMap -> sortedMap.subMap( fromKey, toKey ) );
+		}
 		return new SortedSubMap( subMap );
 	}
 
@@ -112,6 +211,9 @@ public class PersistentSortedMap extends PersistentMap implements SortedMap {
 	public SortedMap headMap(Object toKey) {
 		read();
 		final SortedMap headMap = ( (SortedMap) map ).headMap( toKey );
+		if ( map instanceof SortedArrayMap ) {
+			return new CompactSubMap( sortedMap -> sortedMap.headMap( toKey ) );
+		}
 		return new SortedSubMap( headMap );
 	}
 
@@ -120,6 +222,9 @@ public class PersistentSortedMap extends PersistentMap implements SortedMap {
 	public SortedMap tailMap(Object fromKey) {
 		read();
 		final SortedMap tailMap = ( (SortedMap) map ).tailMap( fromKey );
+		if ( map instanceof SortedArrayMap ) {
+			return new CompactSubMap( sortedMap -> sortedMap.tailMap( fromKey ) );
+		}
 		return new SortedSubMap( tailMap );
 	}
 
@@ -137,6 +242,186 @@ public class PersistentSortedMap extends PersistentMap implements SortedMap {
 		return ( (SortedMap) map ).lastKey();
 	}
 
+	/**
+	 * Key, value or entry view of a range of a map loaded into read-only sorted arrays, resolved against the
+	 * underlying map on each access, so that it keeps reflecting the map, and propagates writes to it, once the
+	 * arrays are replaced by a <tt>TreeMap</tt>.  While the arrays are iterated, removals and entry updates are
+	 * applied to the <tt>TreeMap</tt> by key.
+	 */
+	final class CompactMapView extends AbstractSet {
+		private final Function<SortedMap, SortedMap> range;
+		private final Function<SortedMap, Set> proxy;
+		private final Function<Entry, Object> element;
+
+		CompactMapView(Function<SortedMap, SortedMap> range, Function<SortedMap, Set> proxy, Function<Entry, Object> element) {
+			this.range = range;
+			this.proxy = proxy;
+			this.element = element;
+		}
+
+		@Override
+		public int size() {
+			return range.apply( (SortedMap) map ).size();
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return proxy.apply( range.apply( (SortedMap) map ) ).contains( o );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Iterator iterator() {
+			final SortedMap current = range.apply( (SortedMap) map );
+			if ( !( current instanceof SortedArrayMap ) ) {
+				return proxy.apply( current ).iterator();
+			}
+			final Iterator<Entry> entries = current.entrySet().iterator();
+			return new Iterator() {
+				private Entry last;
+
+				@Override
+				public boolean hasNext() {
+					return entries.hasNext();
+				}
+
+				@Override
+				public Object next() {
+					last = entries.next();
+					return element.apply( last );
+				}
+
+				@Override
+				public void remove() {
+					if ( last == null ) {
+						throw new IllegalStateException();
+					}
+					write();
+					map.remove( last.getKey() );
+					last = null;
+				}
+			};
+		}
+	}
+
+	/**
+	 * Entry of a map loaded into read-only sorted arrays, updating the <tt>TreeMap</tt> replacing them.
+	 */
+	final class CompactEntry extends AbstractMap.SimpleEntry {
+		CompactEntry(Entry entry) {
+			super( entry );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object setValue(Object value) {
+			write();
+			map.put( getKey(), value );
+			return super.setValue( value );
+		}
+	}
+
+	/**
+	 * Sub-map view of a map loaded into read-only sorted arrays, resolved against the underlying map on each
+	 * access, see {@link CompactMapView}.
+	 */
+	final class CompactSubMap extends AbstractMap implements SortedMap {
+		private final Function<SortedMap, SortedMap> range;
+
+		CompactSubMap(Function<SortedMap, SortedMap> range) {
+			this.range = range;
+		}
+
+		private SortedMap current() {
+			return range.apply( (SortedMap) map );
+		}
+
+		@Override
+		public int size() {
+			return current().size();
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return current().containsKey( key );
+		}
+
+		@Override
+		public Object get(Object key) {
+			return current().get( key );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object put(Object key, Object value) {
+			write();
+			return current().put( key, value );
+		}
+
+		@Override
+		public Object remove(Object key) {
+			write();
+			return current().remove( key );
+		}
+
+		@Override
+		public void clear() {
+			write();
+			current().clear();
+		}
+
+		@Override
+		public Set keySet() {
+			return new CompactMapView( range, sortedMap -> new SetProxy( sortedMap.keySet() ), Entry::getKey );
+		}
+
+		@Override
+		public Collection values() {
+			return new CompactMapView( range, sortedMap -> new SetProxy( sortedMap.values() ), Entry::getValue );
+		}
+
+		@Override
+		public Set entrySet() {
+			return new CompactMapView( range, sortedMap -> new EntrySetProxy( sortedMap.entrySet() ), CompactEntry::new );
+		}
+
+		@Override
+		public Comparator comparator() {
+			return current().comparator();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public SortedMap subMap(Object fromKey, Object toKey) {
+			current().subMap( fromKey, toKey );
+			return new CompactSubMap( range.andThen( sortedMap -> sortedMap.subMap( fromKey, toKey ) ) );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public SortedMap headMap(Object toKey) {
+			current().headMap( toKey );
+			return new CompactSubMap( range.andThen( sortedMap -> sortedMap.headMap( toKey ) ) );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public SortedMap tailMap(Object fromKey) {
+			current().tailMap( fromKey );
+			return new CompactSubMap( range.andThen( sortedMap -> sortedMap.tailMap( fromKey ) ) );
+		}
+
+		@Override
+		public Object firstKey() {
+			return current().firstKey();
+		}
+
+		@Override
+		public Object lastKey() {
+			return current().lastKey();
+		}
+	}
+
 	class SortedSubMap implements SortedMap {
 		SortedMap subMap;
 
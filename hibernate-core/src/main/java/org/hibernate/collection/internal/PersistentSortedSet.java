@@ -7,15 +7,24 @@
 package org.hibernate.collection.internal;
 
 import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
 
 import org.hibernate.EntityMode;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.SortedArrayMap;
+import org.hibernate.internal.util.collections.SortedArraySet;
 import org.hibernate.persister.collection.BasicCollectionPersister;
+import org.hibernate.persister.collection.CollectionPersister;
 
 /**
  * A persistent wrapper for a <tt>java.util.SortedSet</tt>. Underlying
@@ -26,6 +35,7 @@ import org.hibernate.persister.collection.BasicCollectionPersister;
  */
 public class PersistentSortedSet extends PersistentSet implements SortedSet {
 	protected Comparator comparator;
+	private boolean compact;
 
 	/**
 	 * Constructs a PersistentSortedSet.  This form needed for SOAP libraries, etc
@@ -92,16 +102,87 @@ public class PersistentSortedSet extends PersistentSet implements SortedSet {
 		this.comparator = comparator;
 	}
 
+	/**
+	 * Should the set be loaded into a read-only {@link SortedArraySet} rather than a <tt>TreeSet</tt>?  The
+	 * sorted array is copied into a <tt>TreeSet</tt> when the set is first written, whether directly or through
+	 * one of its iterators or sub-set views.
+	 *
+	 * @param compact True for a sorted array
+	 */
+	public void setCompact(boolean compact) {
+		this.compact = compact;
+	}
+
 	@Override
 	public Comparator comparator() {
 		return comparator;
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void beforeWrite() {
+		if ( set instanceof SortedArraySet ) {
+			// the snapshot keeps sharing the arrays
+			set = new TreeSet( (SortedSet) set );
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean endRead() {
+		if ( compact && !hasQueuedOperations() ) {
+			set = SortedArraySet.of( tempList, comparator );
+			tempList.clear();
+		}
+		return super.endRead();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void initializeFromCache(CollectionPersister persister, Serializable disassembled, Object owner)
+			throws HibernateException {
+		if ( !compact ) {
+			super.initializeFromCache( persister, disassembled, owner );
+			return;
+		}
+		final Serializable[] array = (Serializable[]) disassembled;
+		final List elements = new ArrayList( array.length );
+		for ( Serializable arrayElement : array ) {
+			final Object assembledArrayElement = persister.getElementType().assemble( arrayElement, getSession(), owner );
+			if ( assembledArrayElement != null ) {
+				elements.add( assembledArrayElement );
+			}
+		}
+		set = SortedArraySet.of( elements, comparator );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Serializable getSnapshot(CollectionPersister persister) throws HibernateException {
+		if ( set instanceof SortedArraySet ) {
+			// the sorted array is copied before any write, so it can be shared by the snapshot
+			return SortedArrayMap.identity( (SortedArraySet) set );
+		}
+		return super.getSnapshot( persister );
+	}
+
+	@Override
+	public Iterator iterator() {
+		read();
+		if ( set instanceof SortedArraySet ) {
+			return new CompactIterator( set.iterator() );
+		}
+		return super.iterator();
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public SortedSet subSet(Object fromElement, Object toElement) {
 		read();
 		final SortedSet subSet = ( (SortedSet) set ).subSet( fromElement, toElement );
+		if ( set instanceof SortedArraySet ) {
+			return new CompactSubSet( sortedSet -> sortedSet.subSet( fromElement, toElement ) );
+		}
 		return new SubSetProxy( subSet );
 	}
 
@@ -110,6 +191,9 @@ public class PersistentSortedSet extends PersistentSet implements SortedSet {
 	public SortedSet headSet(Object toElement) {
 		read();
 		final SortedSet headSet = ( (SortedSet) set ).headSet( toElement );
+		if ( set instanceof SortedArraySet ) {
+			return new CompactSubSet( sortedSet -> sortedSet.headSet( toElement ) );
+		}
 		return new SubSetProxy( headSet );
 	}
 
@@ -118,6 +202,9 @@ public class PersistentSortedSet extends PersistentSet implements SortedSet {
 	public SortedSet tailSet(Object fromElement) {
 		read();
 		final SortedSet tailSet = ( (SortedSet) set ).tailSet( fromElement );
+		if ( set instanceof SortedArraySet ) {
+			return new CompactSubSet( sortedSet -> sortedSet.tailSet( fromElement ) );
+		}
 		return new SubSetProxy( tailSet );
 	}
 
@@ -135,6 +222,126 @@ public class PersistentSortedSet extends PersistentSet implements SortedSet {
 		return ( (SortedSet) set ).last();
 	}
 
+	/**
+	 * Iterator over a read-only sorted array, removing the elements from the <tt>TreeSet</tt> replacing the array
+	 * on the first write.  The iteration goes on over the array, which still holds the remaining elements.
+	 */
+	final class CompactIterator implements Iterator {
+		private final Iterator itr;
+		private boolean removable;
+		private Object last;
+
+		CompactIterator(Iterator itr) {
+			this.itr = itr;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return itr.hasNext();
+		}
+
+		@Override
+		public Object next() {
+			last = itr.next();
+			removable = true;
+			return last;
+		}
+
+		@Override
+		public void remove() {
+			if ( !removable ) {
+				throw new IllegalStateException();
+			}
+			write();
+			set.remove( last );
+			removable = false;
+		}
+	}
+
+	/**
+	 * Sub-set view of a set loaded into a read-only sorted array, resolved against the underlying set on each
+	 * access, so that it keeps reflecting the set, and propagates writes to it, once the array is replaced by a
+	 * <tt>TreeSet</tt>.
+	 */
+	final class CompactSubSet extends AbstractSet implements SortedSet {
+		private final Function<SortedSet, SortedSet> range;
+
+		CompactSubSet(Function<SortedSet, SortedSet> range) {
+			this.range = range;
+		}
+
+		private SortedSet current() {
+			return range.apply( (SortedSet) set );
+		}
+
+		@Override
+		public int size() {
+			return current().size();
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return current().contains( o );
+		}
+
+		@Override
+		public Iterator iterator() {
+			final SortedSet current = current();
+			return current instanceof SortedArraySet
+					? new CompactIterator( current.iterator() )
+					: new IteratorProxy( current.iterator() );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean add(Object o) {
+			write();
+			return current().add( o );
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			write();
+			return current().remove( o );
+		}
+
+		@Override
+		public Comparator comparator() {
+			return current().comparator();
+		}
+
+		@Override
+		public Object first() {
+			return current().first();
+		}
+
+		@Override
+		public Object last() {
+			return current().last();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public SortedSet subSet(Object fromElement, Object toElement) {
+			current().subSet( fromElement, toElement );
+			return new CompactSubSet( range.andThen( sortedSet -> sortedSet.subSet( fromElement, toElement ) ) );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public SortedSet headSet(Object toElement) {
+			current().headSet( toElement );
+			return new CompactSubSet( range.andThen( sortedSet -> sortedSet.headSet( toElement ) ) );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public SortedSet tailSet(Object fromElement) {
+			current().tailSet( fromElement );
+			return new CompactSubSet( range.andThen( sortedSet -> sortedSet.tailSet( fromElement ) ) );
+		}
+	}
+
 	/**
 	 * wrapper for subSets to propagate write to its backing set
 	 */
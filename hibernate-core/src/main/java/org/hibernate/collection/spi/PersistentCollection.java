@@ -157,6 +157,33 @@ public interface PersistentCollection {
 	 */
 	Iterator entries(CollectionPersister persister);
 
+	/**
+	 * Iterate the collection entries which may need inserting (see {@link #needsInserting}), during update of the
+	 * database; by default all of them.
+	 *
+	 * @param persister The collection persister.
+	 *
+	 * @return The iterator
+	 */
+	default Iterator getInsertCandidates(CollectionPersister persister) {
+		return entries( persister );
+	}
+
+	/**
+	 * Plan the update of an indexed collection as the deletion of a range of rows, followed by the move of all the
+	 * rows after it by a single shift of their index, rather than an update of each of them.  Until
+	 * {@link #postAction()}, {@link #getDeletes}, {@link #needsUpdating} and {@link #needsInserting} then only
+	 * account for the rows to insert in place of the deleted range.  By default, no shift is planned.
+	 *
+	 * @param persister The collection persister
+	 *
+	 * @return The first index of the range of snapshot rows to delete, the index following it, which is the first
+	 * index of the rows to move, and the shift of their index, {@code null} if not worth it
+	 */
+	default int[] planIndexShift(CollectionPersister persister) {
+		return null;
+	}
+
 	/**
 	 * Read a row from the JDBC result set
 	 *
@@ -2956,6 +2956,16 @@ public abstract class Dialect implements ConversionContext {
 		return false;
 	}
 
+	/**
+	 * Does this dialect/database support inserting several rows by a single INSERT statement with a VALUES list
+	 * (e.g. INSERT INTO t (c) VALUES (1), (2), (3) )?
+	 *
+	 * @return {@code true} if multi-row inserts are supported
+	 */
+	public boolean supportsMultiRowInsert() {
+		return supportsValuesList();
+	}
+
 	/**
 	 * Does this dialect/database support SKIP_LOCKED timeout.
 	 *
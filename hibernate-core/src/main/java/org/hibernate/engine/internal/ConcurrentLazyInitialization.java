@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.hibernate.HibernateException;
+
+/**
+ * Coalesces the concurrent lazy initializations of the proxies and collections of detached entity graphs shared
+ * across threads: the first thread initializing a given entity or collection key performs the initialization,
+ * while the others wait for its result, through a future registered while the initialization is in flight.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CONCURRENT_LAZY_LOAD_NO_TRANS
+ */
+public final class ConcurrentLazyInitialization {
+	private static final ConcurrentMap<Object, InFlightInitialization> IN_FLIGHT = new ConcurrentHashMap<>();
+
+	private ConcurrentLazyInitialization() {
+	}
+
+	/**
+	 * Perform the given initialization of the given key, unless another thread is already initializing the same
+	 * key, in which case wait for that initialization to complete and return its result, or throw its exception.
+	 * <p/>
+	 * Reentrant: an initialization nested in the initialization of the same key by the same thread is performed
+	 * directly.
+	 *
+	 * @param sessionFactoryUuid The UUID of the session factory the key belongs to
+	 * @param key The key of the entity or collection to initialize
+	 * @param initialization The initialization
+	 *
+	 * @return The result of the initialization
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T initialize(String sessionFactoryUuid, Object key, Supplier<T> initialization) {
+		final Object inFlightKey = Arrays.asList( sessionFactoryUuid, key );
+		final InFlightInitialization inFlight = new InFlightInitialization();
+		final InFlightInitialization existing = IN_FLIGHT.putIfAbsent( inFlightKey, inFlight );
+		if ( existing != null ) {
+			return existing.thread == Thread.currentThread()
+					? initialization.get()
+					: (T) existing.join();
+		}
+
+		try {
+			final T result = initialization.get();
+			inFlight.result.complete( result );
+			return result;
+		}
+		catch (RuntimeException | Error e) {
+			inFlight.result.completeExceptionally( e );
+			throw e;
+		}
+		finally {
+			IN_FLIGHT.remove( inFlightKey, inFlight );
+		}
+	}
+
+	private static class InFlightInitialization {
+		private final Thread thread = Thread.currentThread();
+		private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+		private Object join() {
+			try {
+				return result.join();
+			}
+			catch (CompletionException e) {
+				final Throwable cause = e.getCause();
+				if ( cause instanceof RuntimeException ) {
+					throw (RuntimeException) cause;
+				}
+				if ( cause instanceof Error ) {
+					throw (Error) cause;
+				}
+				throw new HibernateException( cause );
+			}
+		}
+	}
+}
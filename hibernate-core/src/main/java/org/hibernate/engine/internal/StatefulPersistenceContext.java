@@ -440,6 +440,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		final BatchFetchQueue fetchQueue = this.batchFetchQueue;
 		if ( fetchQueue != null ) {
 			fetchQueue.removeBatchLoadableEntityKey( key );
+			fetchQueue.removeBatchLoadableLazyEntityKey( key );
 			fetchQueue.removeSubselect( key );
 		}
 		return entity;
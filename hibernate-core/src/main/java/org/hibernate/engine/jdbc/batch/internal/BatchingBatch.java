@@ -16,6 +16,9 @@ import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.internal.CoreMessageLogger;
 
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.stat.internal.StatsHelper;
+import org.hibernate.stat.spi.JdbcInstrumentation;
+
 import org.jboss.logging.Logger;
 
 /**
@@ -37,6 +40,7 @@ public class BatchingBatch extends AbstractBatchImpl {
 	private int batchPosition;
 	private boolean batchExecuted;
 	private int statementPosition;
+	private final JdbcInstrumentation jdbcInstrumentation;
 
 	/**
 	 * Constructs a BatchingBatch
@@ -55,6 +59,9 @@ public class BatchingBatch extends AbstractBatchImpl {
 		}
 		this.batchSize = batchSize;
 		this.configuredBatchSize = batchSize;
+		this.jdbcInstrumentation = StatsHelper.INSTANCE.getJdbcInstrumentation(
+				jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getServiceRegistry()
+		);
 	}
 
 	private String currentStatementSql;
@@ -116,12 +123,17 @@ public class BatchingBatch extends AbstractBatchImpl {
 				try {
 					final PreparedStatement statement = entry.getValue();
 					final int[] rowCounts;
+					final boolean instrumented = jdbcInstrumentation.isEnabled();
+					final long executeStartNanos = instrumented ? System.nanoTime() : 0L;
 					try {
 						observer.jdbcExecuteBatchStart();
 						rowCounts = statement.executeBatch();
 					}
 					finally {
 						observer.jdbcExecuteBatchEnd();
+						if ( instrumented ) {
+							jdbcInstrumentation.recordBatchExecution( sql, batchPosition, System.nanoTime() - executeStartNanos );
+						}
 					}
 					checkRowCounts( rowCounts, statement, sql );
 				}
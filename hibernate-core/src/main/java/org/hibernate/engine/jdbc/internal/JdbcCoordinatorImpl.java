@@ -45,6 +45,7 @@ import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.resource.transaction.backend.jdbc.spi.JdbcResourceTransaction;
+import org.hibernate.stat.internal.StatsHelper;
 
 /**
  * Standard Hibernate implementation of {@link JdbcCoordinator}
@@ -208,6 +209,17 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		}
 	}
 
+	private transient JdbcStatementRecorder statementRecorder;
+
+	JdbcStatementRecorder statementRecorder() {
+		if ( statementRecorder == null ) {
+			statementRecorder = new JdbcStatementRecorder(
+					StatsHelper.INSTANCE.getJdbcInstrumentation( owner.getJdbcSessionContext().getServiceRegistry() )
+			);
+		}
+		return statementRecorder;
+	}
+
 	private transient StatementPreparer statementPreparer;
 
 	@Override
@@ -223,11 +235,16 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	@Override
 	public ResultSetReturn getResultSetReturn() {
 		if ( resultSetExtractor == null ) {
-			resultSetExtractor = new ResultSetReturnImpl( this, jdbcServices );
+			resultSetExtractor = new ResultSetReturnImpl( this, jdbcServices, statementRecorder() );
 		}
 		return resultSetExtractor;
 	}
 
+	@Override
+	public void afterResultSetProcessed(Statement statement, int rowCount) {
+		statementRecorder().resultSetProcessed( statement, rowCount );
+	}
+
 	@Override
 	public void setTransactionTimeOut(int seconds) {
 		transactionTimeOutInstant = System.currentTimeMillis() + ( seconds * 1000 );
@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.sql.Statement;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.hibernate.stat.spi.JdbcInstrumentation;
+
+/**
+ * Per JdbcCoordinator bridge to {@link JdbcInstrumentation}: remembers which SQL a
+ * {@link Statement} was prepared for and when it finished executing, so that execution and
+ * fetch timings can be attributed to the SQL.
+ * <p/>
+ * Like the coordinator, not thread-safe.
+ */
+final class JdbcStatementRecorder {
+	private final JdbcInstrumentation instrumentation;
+	private final boolean enabled;
+
+	private Map<Statement, TrackedStatement> trackedStatements;
+
+	JdbcStatementRecorder(JdbcInstrumentation instrumentation) {
+		this.instrumentation = instrumentation;
+		this.enabled = instrumentation.isEnabled();
+	}
+
+	boolean isEnabled() {
+		return enabled;
+	}
+
+	long start() {
+		return enabled ? System.nanoTime() : 0L;
+	}
+
+	void prepared(Statement statement, String sql, long startNanos) {
+		if ( enabled ) {
+			instrumentation.recordPrepare( sql, System.nanoTime() - startNanos );
+			track( statement, sql );
+		}
+	}
+
+	void executed(Statement statement, long startNanos) {
+		if ( enabled ) {
+			final TrackedStatement tracked = trackedStatements == null ? null : trackedStatements.get( statement );
+			if ( tracked != null ) {
+				tracked.executedNanos = System.nanoTime();
+				instrumentation.recordExecution( tracked.sql, tracked.executedNanos - startNanos );
+			}
+		}
+	}
+
+	void executed(Statement statement, String sql, long startNanos) {
+		if ( enabled ) {
+			track( statement, sql );
+			executed( statement, startNanos );
+		}
+	}
+
+	void resultSetProcessed(Statement statement, int rowCount) {
+		if ( enabled ) {
+			final TrackedStatement tracked = trackedStatements == null ? null : trackedStatements.get( statement );
+			if ( tracked != null && tracked.executedNanos != 0L ) {
+				instrumentation.recordFetch( tracked.sql, rowCount, System.nanoTime() - tracked.executedNanos );
+				tracked.executedNanos = 0L;
+			}
+		}
+	}
+
+	private void track(Statement statement, String sql) {
+		if ( trackedStatements == null ) {
+			// weak keys: statements are released through the ResourceRegistry, which we do not hook into
+			trackedStatements = new WeakHashMap<>();
+		}
+		final TrackedStatement tracked = trackedStatements.get( statement );
+		if ( tracked == null || !tracked.sql.equals( sql ) ) {
+			trackedStatements.put( statement, new TrackedStatement( sql ) );
+		}
+	}
+
+	private static final class TrackedStatement {
+		private final String sql;
+		private long executedNanos;
+
+		private TrackedStatement(String sql) {
+			this.sql = sql;
+		}
+	}
+}
@@ -18,6 +18,7 @@ import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.ResultSetReturn;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.stat.internal.DisabledJdbcInstrumentationImpl;
 
 /**
  * Standard implementation of the ResultSetReturn contract
@@ -30,6 +31,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	private final Dialect dialect;
 	private final SqlStatementLogger sqlStatementLogger;
 	private final SqlExceptionHelper sqlExceptionHelper;
+	private final JdbcStatementRecorder statementRecorder;
 
 	/**
 	 * Constructs a ResultSetReturnImpl
@@ -37,10 +39,18 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	 * @param jdbcCoordinator The JdbcCoordinator
 	 */
 	public ResultSetReturnImpl(JdbcCoordinator jdbcCoordinator, JdbcServices jdbcServices) {
+		this( jdbcCoordinator, jdbcServices, new JdbcStatementRecorder( DisabledJdbcInstrumentationImpl.INSTANCE ) );
+	}
+
+	ResultSetReturnImpl(
+			JdbcCoordinator jdbcCoordinator,
+			JdbcServices jdbcServices,
+			JdbcStatementRecorder statementRecorder) {
 		this.jdbcCoordinator = jdbcCoordinator;
 		this.dialect = jdbcServices.getDialect();
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+		this.statementRecorder = statementRecorder;
 	}
 
 	@Override
@@ -50,6 +60,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final long recorderStartNanos = statementRecorder.start();
 		try {
 			final ResultSet rs;
 			try {
@@ -58,6 +69,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			}
 			finally {
 				jdbcExecuteStatementEnd();
+				statementRecorder.executed( statement, recorderStartNanos );
 				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
 			}
 			postExtract( rs, statement );
@@ -83,6 +95,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final long recorderStartNanos = statementRecorder.start();
 		try {
 			final ResultSet rs;
 			try {
@@ -91,6 +104,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			}
 			finally {
 				jdbcExecuteStatementEnd();
+				statementRecorder.executed( callableStatement, recorderStartNanos );
 				sqlStatementLogger.logSlowQuery( callableStatement, executeStartNanos );
 			}
 			postExtract( rs, callableStatement );
@@ -108,6 +122,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final long recorderStartNanos = statementRecorder.start();
 		try {
 			final ResultSet rs;
 			try {
@@ -116,6 +131,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			}
 			finally {
 				jdbcExecuteStatementEnd();
+				statementRecorder.executed( statement, sql, recorderStartNanos );
 				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
 			}
 			postExtract( rs, statement );
@@ -133,6 +149,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final long recorderStartNanos = statementRecorder.start();
 		try {
 			final ResultSet rs;
 			try {
@@ -146,6 +163,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			}
 			finally {
 				jdbcExecuteStatementEnd();
+				statementRecorder.executed( statement, recorderStartNanos );
 				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
 			}
 			postExtract( rs, statement );
@@ -163,6 +181,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final long recorderStartNanos = statementRecorder.start();
 		try {
 			final ResultSet rs;
 			try {
@@ -176,6 +195,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			}
 			finally {
 				jdbcExecuteStatementEnd();
+				statementRecorder.executed( statement, sql, recorderStartNanos );
 				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
 			}
 			postExtract( rs, statement );
@@ -192,6 +212,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final long recorderStartNanos = statementRecorder.start();
 		try {
 			jdbcExecuteStatementStart();
 			return statement.executeUpdate();
@@ -201,6 +222,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 		finally {
 			jdbcExecuteStatementEnd();
+			statementRecorder.executed( statement, recorderStartNanos );
 			sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
 		}
 	}
@@ -212,6 +234,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final long recorderStartNanos = statementRecorder.start();
 		try {
 			jdbcExecuteStatementStart();
 			return statement.executeUpdate( sql );
@@ -221,6 +244,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 		finally {
 			jdbcExecuteStatementEnd();
+			statementRecorder.executed( statement, sql, recorderStartNanos );
 			sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
 		}
 	}
@@ -171,6 +171,8 @@ class StatementPreparerImpl implements StatementPreparer {
 
 				final PreparedStatement preparedStatement;
 				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+				final JdbcStatementRecorder recorder = jdbcCoordinator.statementRecorder();
+				final long prepareStartNanos = recorder.start();
 				try {
 					observer.jdbcPrepareStatementStart();
 					preparedStatement = doPrepare();
@@ -179,6 +181,7 @@ class StatementPreparerImpl implements StatementPreparer {
 				finally {
 					observer.jdbcPrepareStatementEnd();
 				}
+				recorder.prepared( preparedStatement, sql, prepareStartNanos );
 				postProcess( preparedStatement );
 				return preparedStatement;
 			}
@@ -113,6 +113,16 @@ public interface JdbcCoordinator extends Serializable, TransactionCoordinatorOwn
 	 */
 	void afterStatementExecution();
 
+	/**
+	 * Used to signify that the {@link java.sql.ResultSet} of the given statement has been read.  Only used to
+	 * collect {@link org.hibernate.stat.spi.JdbcInstrumentation} fetch statistics.
+	 *
+	 * @param statement The statement whose results were read
+	 * @param rowCount The number of rows read
+	 */
+	default void afterResultSetProcessed(Statement statement, int rowCount) {
+	}
+
 	/**
 	 * Perform the requested work handling exceptions, coordinating and handling return processing.
 	 *
@@ -7,13 +7,18 @@
 package org.hibernate.engine.spi;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import org.hibernate.EntityMode;
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeDescriptor;
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -59,6 +64,15 @@ public class BatchFetchQueue {
 	 */
 	private Map<String, LinkedHashMap<CollectionEntry, PersistentCollection>> batchLoadableCollections;
 
+	/**
+	 * Used to hold information about the bytecode enhanced entities that currently have uninitialized lazy
+	 * attributes, segmented by entity type.  Ultimately used by {@link #getLazyFetchGroupBatch} to build lazy
+	 * fetch group load batches.
+	 * <p/>
+	 * Like the other queues, it is reset by {@link #clear()} after flushing or clearing the session.
+	 */
+	private Map<String, LinkedHashSet<EntityKey>> batchLoadableLazyEntityKeys;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -76,6 +90,7 @@ public class BatchFetchQueue {
 	public void clear() {
 		batchLoadableEntityKeys = null;
 		batchLoadableCollections = null;
+		batchLoadableLazyEntityKeys = null;
 		subselectsByEntityKey = null;
 	}
 
@@ -357,6 +372,108 @@ public class BatchFetchQueue {
 		return keys; //we ran out of keys to try
 	}
 
+	// lazy fetch group batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * If an EntityKey represents a batch loadable entity, add it to
+	 * the queue of entities whose lazy attributes may be loaded together.
+	 * <p/>
+	 * Called after initializing an entity which still has uninitialized
+	 * lazy attributes.
+	 */
+	public void addBatchLoadableLazyEntityKey(EntityKey key) {
+		if ( key.isBatchLoadable() ) {
+			if ( batchLoadableLazyEntityKeys == null ) {
+				batchLoadableLazyEntityKeys = new HashMap<>( 12 );
+			}
+			batchLoadableLazyEntityKeys.computeIfAbsent( key.getEntityName(), k -> new LinkedHashSet<>( 8 ) )
+					.add( key );
+		}
+	}
+
+	/**
+	 * After evicting or deleting an entity, we don't need to batch fetch
+	 * its lazy attributes anymore, remove it from the queue if necessary.
+	 * <p/>
+	 * Entities whose lazy attributes all got initialized are pruned while
+	 * building the next batch instead, see {@link #getLazyFetchGroupBatch}.
+	 */
+	public void removeBatchLoadableLazyEntityKey(EntityKey key) {
+		if ( batchLoadableLazyEntityKeys != null && key.isBatchLoadable() ) {
+			final LinkedHashSet<EntityKey> set = batchLoadableLazyEntityKeys.get( key.getEntityName() );
+			if ( set != null ) {
+				set.remove( key );
+			}
+		}
+	}
+
+	/**
+	 * Get a batch of managed entities having some uninitialized lazy
+	 * attributes of the given fetch group, starting with the entity
+	 * currently demanding load.
+	 * <p/>
+	 * Entities which are no longer managed, or whose lazy attributes have
+	 * all been initialized meanwhile, are removed from the queue.
+	 *
+	 * @param persister The persister for the entities being loaded.
+	 * @param entity The entity currently demanding load.
+	 * @param fetchGroupAttributeDescriptors The lazy attributes of the fetch group being loaded.
+	 * @param batchSize The maximum number of entities to return
+	 * @return the entities, the given one first
+	 */
+	public List<Object> getLazyFetchGroupBatch(
+			final EntityPersister persister,
+			final Object entity,
+			final List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors,
+			final int batchSize) {
+
+		final List<Object> entities = new ArrayList<>( batchSize );
+		entities.add( entity );
+
+		if ( batchLoadableLazyEntityKeys == null ) {
+			return entities;
+		}
+
+		final LinkedHashSet<EntityKey> set = batchLoadableLazyEntityKeys.get( persister.getEntityName() );
+		if ( set != null ) {
+			final Iterator<EntityKey> keys = set.iterator();
+			while ( keys.hasNext() && entities.size() < batchSize ) {
+				final Object candidate = context.getEntity( keys.next() );
+				final EntityEntry entry = candidate == null ? null : context.getEntry( candidate );
+				if ( entry == null
+						|| ( entry.getStatus() != Status.MANAGED && entry.getStatus() != Status.READ_ONLY )
+						|| !( candidate instanceof PersistentAttributeInterceptable ) ) {
+					keys.remove();
+					continue;
+				}
+
+				final PersistentAttributeInterceptor interceptor = ( (PersistentAttributeInterceptable) candidate ).$$_hibernate_getInterceptor();
+				if ( !( interceptor instanceof LazyAttributeLoadingInterceptor )
+						|| !( (LazyAttributeLoadingInterceptor) interceptor ).hasAnyUninitializedAttributes() ) {
+					keys.remove();
+					continue;
+				}
+
+				if ( candidate != entity
+						&& hasUninitializedAttribute( (LazyAttributeLoadingInterceptor) interceptor, fetchGroupAttributeDescriptors ) ) {
+					entities.add( candidate );
+				}
+			}
+		}
+		return entities;
+	}
+
+	private static boolean hasUninitializedAttribute(
+			LazyAttributeLoadingInterceptor interceptor,
+			List<LazyAttributeDescriptor> attributeDescriptors) {
+		for ( LazyAttributeDescriptor attributeDescriptor : attributeDescriptors ) {
+			if ( !interceptor.isLazyAttributeLoaded( attributeDescriptor.getLazyIndex() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private boolean isCached(Serializable collectionKey, CollectionPersister persister) {
 		SharedSessionContractImplementor session = context.getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
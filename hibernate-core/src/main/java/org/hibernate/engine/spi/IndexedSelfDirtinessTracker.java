@@ -0,0 +1,39 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+/**
+ * A self dirtiness tracker that also reports its dirty attributes as indexes, assigned to the attributes at
+ * enhancement time, so that they can be resolved without looking up their names.
+ *
+ * @see org.hibernate.bytecode.enhance.spi.EnhancementContext#doDirtyCheckingByAttributeIndex
+ */
+public interface IndexedSelfDirtinessTracker extends SelfDirtinessTracker {
+
+	/**
+	 * Retrieve the names of the tracked attributes, by index.  The same array is returned for all instances of
+	 * the entity class.
+	 *
+	 * @return The names of the tracked attributes
+	 */
+	String[] $$_hibernate_getTrackedAttributeNames();
+
+	/**
+	 * Retrieve the indexes, in {@link #$$_hibernate_getTrackedAttributeNames()}, of all the persistent attributes
+	 * whose values have changed.
+	 *
+	 * @return An array of changed persistent attribute indexes, in ascending order; {@code null} if some of the
+	 * changed attributes are not tracked by index, in which case {@link #$$_hibernate_getDirtyAttributes()} has
+	 * to be used instead
+	 */
+	int[] $$_hibernate_getDirtyAttributeIndexes();
+
+	/**
+	 * Adds the persistent attribute with the given index to the set of values that have changed
+	 */
+	void $$_hibernate_trackChange(int attributeIndex);
+}
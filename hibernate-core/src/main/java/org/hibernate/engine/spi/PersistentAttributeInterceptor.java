@@ -60,6 +60,84 @@ public interface PersistentAttributeInterceptor extends InterceptorImplementor {
 
 	Object writeObject(Object obj, String name, Object oldValue, Object newValue);
 
+	/**
+	 * Variant of {@link #readBoolean(Object, String, boolean)} called by entities enhanced to track their attributes
+	 * by index, passing the index of the attribute among their
+	 * {@link IndexedSelfDirtinessTracker#$$_hibernate_getTrackedAttributeNames() tracked attribute names}.  The same
+	 * goes for the other {@code read} and {@code write} variants below.  By default, the index is ignored.
+	 */
+	default boolean readBoolean(Object obj, int attributeIndex, String name, boolean oldValue) {
+		return readBoolean( obj, name, oldValue );
+	}
+
+	default boolean writeBoolean(Object obj, int attributeIndex, String name, boolean oldValue, boolean newValue) {
+		return writeBoolean( obj, name, oldValue, newValue );
+	}
+
+	default byte readByte(Object obj, int attributeIndex, String name, byte oldValue) {
+		return readByte( obj, name, oldValue );
+	}
+
+	default byte writeByte(Object obj, int attributeIndex, String name, byte oldValue, byte newValue) {
+		return writeByte( obj, name, oldValue, newValue );
+	}
+
+	default char readChar(Object obj, int attributeIndex, String name, char oldValue) {
+		return readChar( obj, name, oldValue );
+	}
+
+	default char writeChar(Object obj, int attributeIndex, String name, char oldValue, char newValue) {
+		return writeChar( obj, name, oldValue, newValue );
+	}
+
+	default short readShort(Object obj, int attributeIndex, String name, short oldValue) {
+		return readShort( obj, name, oldValue );
+	}
+
+	default short writeShort(Object obj, int attributeIndex, String name, short oldValue, short newValue) {
+		return writeShort( obj, name, oldValue, newValue );
+	}
+
+	default int readInt(Object obj, int attributeIndex, String name, int oldValue) {
+		return readInt( obj, name, oldValue );
+	}
+
+	default int writeInt(Object obj, int attributeIndex, String name, int oldValue, int newValue) {
+		return writeInt( obj, name, oldValue, newValue );
+	}
+
+	default float readFloat(Object obj, int attributeIndex, String name, float oldValue) {
+		return readFloat( obj, name, oldValue );
+	}
+
+	default float writeFloat(Object obj, int attributeIndex, String name, float oldValue, float newValue) {
+		return writeFloat( obj, name, oldValue, newValue );
+	}
+
+	default double readDouble(Object obj, int attributeIndex, String name, double oldValue) {
+		return readDouble( obj, name, oldValue );
+	}
+
+	default double writeDouble(Object obj, int attributeIndex, String name, double oldValue, double newValue) {
+		return writeDouble( obj, name, oldValue, newValue );
+	}
+
+	default long readLong(Object obj, int attributeIndex, String name, long oldValue) {
+		return readLong( obj, name, oldValue );
+	}
+
+	default long writeLong(Object obj, int attributeIndex, String name, long oldValue, long newValue) {
+		return writeLong( obj, name, oldValue, newValue );
+	}
+
+	default Object readObject(Object obj, int attributeIndex, String name, Object oldValue) {
+		return readObject( obj, name, oldValue );
+	}
+
+	default Object writeObject(Object obj, int attributeIndex, String name, Object oldValue, Object newValue) {
+		return writeObject( obj, name, oldValue, newValue );
+	}
+
 	/**
 	 * @deprecated Just as the method it overrides.  Interceptors that deal with
 	 * lazy state should implement {@link BytecodeLazyAttributeInterceptor}
@@ -22,6 +22,7 @@ import org.hibernate.engine.internal.Nullability;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.IndexedSelfDirtinessTracker;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
@@ -526,7 +527,18 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		if ( dirtyProperties == null ) {
 			if ( entity instanceof SelfDirtinessTracker ) {
 				if ( ( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes() ) {
-					int[] dirty = persister.resolveAttributeIndexes( ( (SelfDirtinessTracker) entity ).$$_hibernate_getDirtyAttributes() );
+					int[] dirty = null;
+					if ( entity instanceof IndexedSelfDirtinessTracker ) {
+						final IndexedSelfDirtinessTracker tracker = (IndexedSelfDirtinessTracker) entity;
+						// null when some dirty attributes are only known by name
+						final int[] trackedIndexes = tracker.$$_hibernate_getDirtyAttributeIndexes();
+						if ( trackedIndexes != null ) {
+							dirty = persister.resolveAttributeIndexes( tracker.$$_hibernate_getTrackedAttributeNames(), trackedIndexes );
+						}
+					}
+					if ( dirty == null ) {
+						dirty = persister.resolveAttributeIndexes( ( (SelfDirtinessTracker) entity ).$$_hibernate_getDirtyAttributes() );
+					}
 
 					// HHH-12051 - filter non-updatable attributes
 					// TODO: add Updateability to EnhancementContext and skip dirty tracking of those attributes
@@ -16,6 +16,9 @@ import org.hibernate.PropertyNotFoundException;
 import org.hibernate.QueryException;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.TupleInstantiationOptimizer;
+import org.hibernate.cfg.Environment;
 import org.hibernate.hql.internal.ast.DetailedSemanticException;
 import org.hibernate.internal.util.ReflectHelper;
 import org.hibernate.internal.util.StringHelper;
@@ -25,6 +28,8 @@ import org.hibernate.transform.Transformers;
 import org.hibernate.type.PrimitiveType;
 import org.hibernate.type.Type;
 
+import org.jboss.logging.Logger;
+
 import antlr.SemanticException;
 import antlr.collections.AST;
 
@@ -34,8 +39,11 @@ import antlr.collections.AST;
  * @author josh
  */
 public class ConstructorNode extends SelectExpressionList implements AggregatedSelectExpression {
+	private static final Logger log = Logger.getLogger( ConstructorNode.class );
+
 	private Class resultType;
 	private Constructor constructor;
+	private TupleInstantiationOptimizer constructorOptimizer;
 	private Type[] constructorArgumentTypes;
 	private boolean isMap;
 	private boolean isList;
@@ -43,7 +51,7 @@ public class ConstructorNode extends SelectExpressionList implements AggregatedS
 	@Override
 	public ResultTransformer getResultTransformer() {
 		if ( constructor != null ) {
-			return new AliasToBeanConstructorResultTransformer( constructor );
+			return new AliasToBeanConstructorResultTransformer( constructor, constructorOptimizer );
 		}
 		else if ( isMap ) {
 			return Transformers.ALIAS_TO_ENTITY_MAP;
@@ -143,6 +151,7 @@ public class ConstructorNode extends SelectExpressionList implements AggregatedS
 		else {
 			constructor = resolveConstructor( path );
 			resultType = constructor.getDeclaringClass();
+			constructorOptimizer = resolveConstructorOptimizer( constructor );
 		}
 	}
 
@@ -183,6 +192,23 @@ public class ConstructorNode extends SelectExpressionList implements AggregatedS
 		}
 	}
 
+	private TupleInstantiationOptimizer resolveConstructorOptimizer(Constructor constructor) {
+		if ( !Environment.useReflectionOptimizer() ) {
+			return null;
+		}
+		// built once per query plan, so each execution avoids the reflective Constructor#newInstance
+		try {
+			return getSessionFactoryHelper().getFactory()
+					.getServiceRegistry()
+					.getService( BytecodeProvider.class )
+					.getTupleInstantiationOptimizer( constructor );
+		}
+		catch (RuntimeException e) {
+			log.debugf( e, "Unable to optimize dynamic instantiation of [%s], falling back to reflection", constructor );
+			return null;
+		}
+	}
+
 	// HHH-8068 -- provide a more helpful message
 	private String formatMissingContructorExceptionMessage(String className) {
 		String[] params = new String[constructorArgumentTypes.length];
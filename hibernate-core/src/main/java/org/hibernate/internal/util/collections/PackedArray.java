@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * An immutable array of values, stored as an array of primitives when all of them are {@link Long}s or
+ * {@link Integer}s, and boxed on access.
+ */
+final class PackedArray implements Serializable {
+	private final long[] longs;
+	private final int[] ints;
+	private final Object[] objects;
+
+	private PackedArray(long[] longs, int[] ints, Object[] objects) {
+		this.longs = longs;
+		this.ints = ints;
+		this.objects = objects;
+	}
+
+	/**
+	 * @param values The values, not copied if they cannot be stored as primitives
+	 * @param primitive Can the values be stored as primitives?
+	 */
+	static PackedArray of(Object[] values, boolean primitive) {
+		if ( primitive && values.length > 0 ) {
+			if ( isAll( values, Long.class ) ) {
+				final long[] longs = new long[values.length];
+				for ( int i = 0; i < values.length; i++ ) {
+					longs[i] = (Long) values[i];
+				}
+				return new PackedArray( longs, null, null );
+			}
+			if ( isAll( values, Integer.class ) ) {
+				final int[] ints = new int[values.length];
+				for ( int i = 0; i < values.length; i++ ) {
+					ints[i] = (Integer) values[i];
+				}
+				return new PackedArray( null, ints, null );
+			}
+		}
+		return new PackedArray( null, null, values );
+	}
+
+	private static boolean isAll(Object[] values, Class<?> type) {
+		for ( Object value : values ) {
+			if ( value == null || value.getClass() != type ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	int length() {
+		if ( longs != null ) {
+			return longs.length;
+		}
+		if ( ints != null ) {
+			return ints.length;
+		}
+		return objects.length;
+	}
+
+	Object get(int index) {
+		if ( longs != null ) {
+			return longs[index];
+		}
+		if ( ints != null ) {
+			return ints[index];
+		}
+		return objects[index];
+	}
+
+	/**
+	 * Search the given range of the values, sorted by the given comparator, or by their natural ordering.
+	 *
+	 * @return The index of the key, as {@link Arrays#binarySearch(Object[], int, int, Object, Comparator)}
+	 *
+	 * @throws ClassCastException If the key cannot be compared to the values
+	 */
+	@SuppressWarnings("unchecked")
+	int binarySearch(int fromIndex, int toIndex, Object key, Comparator comparator) {
+		if ( longs != null ) {
+			return Arrays.binarySearch( longs, fromIndex, toIndex, (Long) key );
+		}
+		if ( ints != null ) {
+			return Arrays.binarySearch( ints, fromIndex, toIndex, (Integer) key );
+		}
+		return Arrays.binarySearch( objects, fromIndex, toIndex, key, comparator );
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+/**
+ * A read-only {@link SortedMap} backed by a {@link SortedArraySet} of keys and an array of values at the same
+ * positions, rather than by a tree of nodes.  {@link Long} and {@link Integer} values are stored as primitives.
+ * <p/>
+ * The sub-map views share the arrays of the map.
+ */
+public final class SortedArrayMap<K, V> extends AbstractMap<K, V> implements SortedMap<K, V>, Serializable {
+	private final SortedArraySet<K> keys;
+	/**
+	 * The values, or {@code null} if each key is mapped to itself
+	 */
+	private final PackedArray values;
+	private final int offset;
+
+	private SortedArrayMap(SortedArraySet<K> keys, PackedArray values, int offset) {
+		this.keys = keys;
+		this.values = values;
+		this.offset = offset;
+	}
+
+	/**
+	 * Build a map of the given key and value pairs, sorted by the given comparator, or by the natural ordering of
+	 * the keys if none.  The last value of a duplicated key wins.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> SortedArrayMap<K, V> of(List<Object[]> entries, Comparator<? super K> comparator) {
+		final Object[][] sorted = entries.toArray( new Object[entries.size()][] );
+		// stable, so that the last of the duplicated keys remains last
+		Arrays.sort( sorted, (entry1, entry2) -> comparator == null
+				? ( (Comparable) entry1[0] ).compareTo( entry2[0] )
+				: comparator.compare( (K) entry1[0], (K) entry2[0] ) );
+		final Object[] keys = new Object[sorted.length];
+		final Object[] values = new Object[sorted.length];
+		int length = 0;
+		for ( int i = 0; i < sorted.length; i++ ) {
+			if ( i + 1 < sorted.length && compare( sorted[i][0], sorted[i + 1][0], comparator ) == 0 ) {
+				continue;
+			}
+			keys[length] = sorted[i][0];
+			values[length++] = sorted[i][1];
+		}
+		return new SortedArrayMap<>(
+				SortedArraySet.ofSorted( Arrays.copyOf( keys, length ), comparator ),
+				PackedArray.of( Arrays.copyOf( values, length ), true ),
+				0
+		);
+	}
+
+	/**
+	 * @return A map of each element of the given set to itself, sharing the array of the set
+	 */
+	public static <E> SortedArrayMap<E, E> identity(SortedArraySet<E> elements) {
+		return new SortedArrayMap<>( elements, null, 0 );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static int compare(Object key1, Object key2, Comparator comparator) {
+		return comparator == null
+				? ( (Comparable) key1 ).compareTo( key2 )
+				: comparator.compare( key1, key2 );
+	}
+
+	@SuppressWarnings("unchecked")
+	private V valueAt(int index) {
+		return values == null ? (V) keys.get( index ) : (V) values.get( offset + index );
+	}
+
+	private SortedMap<K, V> subMap(SortedSet<K> subKeys) {
+		final SortedArraySet<K> subKeySet = (SortedArraySet<K>) subKeys;
+		final int subOffset = subKeySet.isEmpty() ? offset : offset + keys.indexOf( subKeySet.first() );
+		return new SortedArrayMap<>( subKeySet, values, subOffset );
+	}
+
+	@Override
+	public int size() {
+		return keys.size();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return keys.contains( key );
+	}
+
+	@Override
+	public V get(Object key) {
+		if ( key == null ) {
+			return null;
+		}
+		final int index = keys.indexOf( key );
+		return index >= 0 ? valueAt( index ) : null;
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new AbstractSet<Entry<K, V>>() {
+			@Override
+			public int size() {
+				return keys.size();
+			}
+
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				return new Iterator<Entry<K, V>>() {
+					private int index;
+
+					@Override
+					public boolean hasNext() {
+						return index < keys.size();
+					}
+
+					@Override
+					public Entry<K, V> next() {
+						if ( !hasNext() ) {
+							throw new NoSuchElementException();
+						}
+						final Entry<K, V> entry = new SimpleImmutableEntry<>( keys.get( index ), valueAt( index ) );
+						index++;
+						return entry;
+					}
+				};
+			}
+		};
+	}
+
+	@Override
+	public SortedSet<K> keySet() {
+		return keys;
+	}
+
+	@Override
+	public Comparator<? super K> comparator() {
+		return keys.comparator();
+	}
+
+	@Override
+	public SortedMap<K, V> subMap(K fromKey, K toKey) {
+		return subMap( keys.subSet( fromKey, toKey ) );
+	}
+
+	@Override
+	public SortedMap<K, V> headMap(K toKey) {
+		return subMap( keys.headSet( toKey ) );
+	}
+
+	@Override
+	public SortedMap<K, V> tailMap(K fromKey) {
+		return subMap( keys.tailSet( fromKey ) );
+	}
+
+	@Override
+	public K firstKey() {
+		return keys.first();
+	}
+
+	@Override
+	public K lastKey() {
+		return keys.last();
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+
+/**
+ * A read-only {@link SortedSet} backed by a sorted array, searched by binary search, rather than by a tree of
+ * nodes.  {@link Long} and {@link Integer} elements in their natural ordering are stored as primitives.
+ * <p/>
+ * The sub-set views share the array of the set.
+ */
+public final class SortedArraySet<E> extends AbstractSet<E> implements SortedSet<E>, Serializable {
+	private final PackedArray elements;
+	private final int fromIndex;
+	private final int toIndex;
+	private final Comparator<? super E> comparator;
+
+	private SortedArraySet(PackedArray elements, int fromIndex, int toIndex, Comparator<? super E> comparator) {
+		this.elements = elements;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+		this.comparator = comparator;
+	}
+
+	/**
+	 * Build a set of the given elements, sorted by the given comparator, or by their natural ordering if none.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> SortedArraySet<E> of(Collection<? extends E> elements, Comparator<? super E> comparator) {
+		Object[] array = elements.toArray();
+		if ( !( elements instanceof SortedSet && ( (SortedSet) elements ).comparator() == comparator ) ) {
+			Arrays.sort( array, (Comparator) comparator );
+			array = distinct( array, comparator );
+		}
+		return ofSorted( array, comparator );
+	}
+
+	/**
+	 * @param sorted The distinct elements, already sorted
+	 */
+	static <E> SortedArraySet<E> ofSorted(Object[] sorted, Comparator<? super E> comparator) {
+		final PackedArray packed = PackedArray.of( sorted, comparator == null );
+		return new SortedArraySet<>( packed, 0, packed.length(), comparator );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Object[] distinct(Object[] sorted, Comparator comparator) {
+		int length = 0;
+		for ( Object element : sorted ) {
+			if ( length == 0 || compare( sorted[length - 1], element, comparator ) != 0 ) {
+				sorted[length++] = element;
+			}
+		}
+		return length == sorted.length ? sorted : Arrays.copyOf( sorted, length );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static int compare(Object element1, Object element2, Comparator comparator) {
+		return comparator == null
+				? ( (Comparable) element1 ).compareTo( element2 )
+				: comparator.compare( element1, element2 );
+	}
+
+	/**
+	 * @return The position of the given element in the set, as {@link Arrays#binarySearch(Object[], Object)}
+	 */
+	int indexOf(Object element) {
+		final int index = elements.binarySearch( fromIndex, toIndex, element, comparator );
+		return index >= 0 ? index - fromIndex : index + fromIndex;
+	}
+
+	/**
+	 * @return The element at the given position in the set
+	 */
+	@SuppressWarnings("unchecked")
+	E get(int index) {
+		return (E) elements.get( fromIndex + index );
+	}
+
+	/**
+	 * @return The position of the first element not lower than the given one, in the whole array
+	 */
+	private int lowerBound(Object element) {
+		final int index = elements.binarySearch( fromIndex, toIndex, element, comparator );
+		return index >= 0 ? index : -index - 1;
+	}
+
+	@Override
+	public int size() {
+		return toIndex - fromIndex;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return o != null && indexOf( o ) >= 0;
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				return index < size();
+			}
+
+			@Override
+			public E next() {
+				if ( !hasNext() ) {
+					throw new NoSuchElementException();
+				}
+				return get( index++ );
+			}
+		};
+	}
+
+	@Override
+	public Comparator<? super E> comparator() {
+		return comparator;
+	}
+
+	@Override
+	public SortedSet<E> subSet(E fromElement, E toElement) {
+		if ( compare( fromElement, toElement, comparator ) > 0 ) {
+			throw new IllegalArgumentException( "fromElement > toElement" );
+		}
+		return new SortedArraySet<>( elements, lowerBound( fromElement ), lowerBound( toElement ), comparator );
+	}
+
+	@Override
+	public SortedSet<E> headSet(E toElement) {
+		return new SortedArraySet<>( elements, fromIndex, lowerBound( toElement ), comparator );
+	}
+
+	@Override
+	public SortedSet<E> tailSet(E fromElement) {
+		return new SortedArraySet<>( elements, lowerBound( fromElement ), toIndex, comparator );
+	}
+
+	@Override
+	public E first() {
+		if ( isEmpty() ) {
+			throw new NoSuchElementException();
+		}
+		return get( 0 );
+	}
+
+	@Override
+	public E last() {
+		if ( isEmpty() ) {
+			throw new NoSuchElementException();
+		}
+		return get( size() - 1 );
+	}
+}
@@ -0,0 +1,33 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.jmx.internal;
+
+/**
+ * The JMX management interface of the JDBC statistics collected by
+ * {@link org.hibernate.stat.spi.JdbcInstrumentation}.  All times are in microseconds.
+ */
+public interface JdbcStatisticsMXBean {
+	String[] getStatements();
+
+	long getConnectionAcquisitionCount();
+
+	long getConnectionAcquisitionTimePercentile(double percentile);
+
+	long getExecutionCount(String sql);
+
+	long getPrepareTimePercentile(String sql, double percentile);
+
+	long getExecutionTimePercentile(String sql, double percentile);
+
+	long getFetchTimePercentile(String sql, double percentile);
+
+	long getRowsRead(String sql);
+
+	long getBatchSizePercentile(String sql, double percentile);
+
+	void clear();
+}
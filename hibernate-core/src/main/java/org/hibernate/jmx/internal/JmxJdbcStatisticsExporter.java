@@ -0,0 +1,124 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.jmx.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.hibernate.service.spi.Manageable;
+import org.hibernate.stat.HistogramStatistics;
+import org.hibernate.stat.JdbcStatementStatistics;
+import org.hibernate.stat.spi.JdbcInstrumentation;
+import org.hibernate.stat.spi.JdbcStatisticsExporter;
+
+/**
+ * Exposes the JDBC statistics as an MXBean.  Registration happens through the
+ * {@link org.hibernate.jmx.spi.JmxService}, so {@link org.hibernate.cfg.AvailableSettings#JMX_ENABLED}
+ * must be set as well.
+ */
+public class JmxJdbcStatisticsExporter implements JdbcStatisticsExporter, Manageable, JdbcStatisticsMXBean {
+	/**
+	 * Short name used in {@link org.hibernate.cfg.AvailableSettings#JDBC_INSTRUMENTATION_EXPORTERS}
+	 */
+	public static final String SHORT_NAME = "jmx";
+
+	private volatile JdbcInstrumentation instrumentation;
+
+	@Override
+	public void start(JdbcInstrumentation instrumentation) {
+		this.instrumentation = instrumentation;
+	}
+
+	@Override
+	public void export(JdbcInstrumentation instrumentation) {
+		// statistics are pulled through the MXBean
+		this.instrumentation = instrumentation;
+	}
+
+	@Override
+	public String getManagementServiceType() {
+		return "JdbcStatistics";
+	}
+
+	@Override
+	public String[] getStatements() {
+		if ( instrumentation == null ) {
+			return new String[0];
+		}
+		return instrumentation.getStatementStatistics()
+				.stream()
+				.map( JdbcStatementStatistics::getSql )
+				.toArray( String[]::new );
+	}
+
+	@Override
+	public long getConnectionAcquisitionCount() {
+		return instrumentation == null ? 0 : instrumentation.getConnectionAcquisitionTime().getCount();
+	}
+
+	@Override
+	public long getConnectionAcquisitionTimePercentile(double percentile) {
+		return instrumentation == null
+				? 0
+				: toMicros( instrumentation.getConnectionAcquisitionTime().getValueAtPercentile( percentile ) );
+	}
+
+	@Override
+	public long getExecutionCount(String sql) {
+		final JdbcStatementStatistics statistics = statistics( sql );
+		return statistics == null ? 0 : statistics.getExecutionTime().getCount();
+	}
+
+	@Override
+	public long getPrepareTimePercentile(String sql, double percentile) {
+		return toMicros( percentile( sql, JdbcStatementStatistics::getPrepareTime, percentile ) );
+	}
+
+	@Override
+	public long getExecutionTimePercentile(String sql, double percentile) {
+		return toMicros( percentile( sql, JdbcStatementStatistics::getExecutionTime, percentile ) );
+	}
+
+	@Override
+	public long getFetchTimePercentile(String sql, double percentile) {
+		return toMicros( percentile( sql, JdbcStatementStatistics::getFetchTime, percentile ) );
+	}
+
+	@Override
+	public long getRowsRead(String sql) {
+		final JdbcStatementStatistics statistics = statistics( sql );
+		return statistics == null ? 0 : statistics.getRowsRead();
+	}
+
+	@Override
+	public long getBatchSizePercentile(String sql, double percentile) {
+		return percentile( sql, JdbcStatementStatistics::getBatchSize, percentile );
+	}
+
+	@Override
+	public void clear() {
+		if ( instrumentation != null ) {
+			instrumentation.clear();
+		}
+	}
+
+	private JdbcStatementStatistics statistics(String sql) {
+		return instrumentation == null ? null : instrumentation.getStatementStatistics( sql );
+	}
+
+	private long percentile(
+			String sql,
+			Function<JdbcStatementStatistics, HistogramStatistics> histogram,
+			double percentile) {
+		final JdbcStatementStatistics statistics = statistics( sql );
+		return statistics == null ? 0 : histogram.apply( statistics ).getValueAtPercentile( percentile );
+	}
+
+	private static long toMicros(long nanos) {
+		return TimeUnit.NANOSECONDS.toMicros( nanos );
+	}
+}
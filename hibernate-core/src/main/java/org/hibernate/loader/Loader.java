@@ -961,7 +961,7 @@ public abstract class Loader {
 // that I could do the control breaking at the means to know when to stop
 
 		try {
-			return processResultSet(
+			final List results = processResultSet(
 					rs,
 					queryParameters,
 					session,
@@ -970,6 +970,8 @@ public abstract class Loader {
 					maxRows,
 					afterLoadActions
 			);
+			session.getJdbcCoordinator().afterResultSetProcessed( st, results.size() );
+			return results;
 		}
 		finally {
 			final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
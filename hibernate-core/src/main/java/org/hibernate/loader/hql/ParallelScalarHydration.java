@@ -0,0 +1,434 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.hql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import org.hibernate.AssertionFailure;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.MarkerObject;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.converter.AttributeConverterTypeAdapter;
+
+/**
+ * Hydrates the rows of a purely scalar query result in parallel: the raw values of the columns are read from the
+ * {@link ResultSet} on the calling thread, and chunks of rows are handed to the common {@link ForkJoinPool} to be
+ * converted by the {@link Type}s of the scalars, against a {@link ResultSet} replaying the raw values.
+ * <p/>
+ * The JDBC getters called by the types are recorded while the first row is read, on the calling thread.  Only
+ * Hibernate's own standard basic types, which read a column by a single getter whatever its value, are converted
+ * in parallel.  The rows are read and converted one by one on the calling thread if a type turns out to read a
+ * column some other way, such as by a stream or a LOB locator, only valid until the next row is read.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PARALLEL_RESULT_PROCESSING_THRESHOLD
+ */
+final class ParallelScalarHydration {
+	/**
+	 * The number of rows below which a conversion is not split further
+	 */
+	private static final int SEQUENTIAL_ROWS = 256;
+
+	/**
+	 * The raw value of a SQL {@code null}
+	 */
+	private static final Object NULL = new MarkerObject( "NULL" );
+
+	private static final Set<String> REPLAYABLE_GETTERS = new HashSet<>( Arrays.asList(
+			"getString",
+			"getNString",
+			"getBoolean",
+			"getByte",
+			"getShort",
+			"getInt",
+			"getLong",
+			"getFloat",
+			"getDouble",
+			"getBigDecimal",
+			"getBytes",
+			"getDate",
+			"getTime",
+			"getTimestamp",
+			"getObject"
+	) );
+
+	private final Type[] types;
+	private final String[][] columnNames;
+	private final SharedSessionContractImplementor session;
+	private final boolean unwrapSingleColumn;
+	private final int chunkSize;
+
+	private final List<ColumnRead> columnReads = new ArrayList<>();
+	private volatile Throwable failure;
+
+	/**
+	 * @param types The types of the scalars
+	 * @param columnNames The column names of each scalar
+	 * @param session The session
+	 * @param unwrapSingleColumn Should a row of a single scalar be returned as the scalar itself?
+	 * @param chunkSize The number of rows handed to the pool at a time
+	 */
+	ParallelScalarHydration(
+			Type[] types,
+			String[][] columnNames,
+			SharedSessionContractImplementor session,
+			boolean unwrapSingleColumn,
+			int chunkSize) {
+		this.types = types;
+		this.columnNames = columnNames;
+		this.session = session;
+		this.unwrapSingleColumn = unwrapSingleColumn;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Can the given scalar types be converted in parallel?  Attribute converters are user code, not known to be
+	 * thread-safe.
+	 */
+	static boolean isApplicable(Type[] types) {
+		for ( Type type : types ) {
+			if ( !( type instanceof AbstractStandardBasicType ) || type instanceof AttributeConverterTypeAdapter ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Read the rows of the given result set, from its current position, and hydrate them.
+	 *
+	 * @return The hydrated rows, in their order in the result set
+	 */
+	List<Object> hydrate(ResultSet resultSet, int maxRows) throws SQLException {
+		final List<Object> results = new ArrayList<>();
+		if ( maxRows <= 0 || !resultSet.next() ) {
+			return results;
+		}
+
+		final Recorder recorder = new Recorder( resultSet );
+		results.add( hydrateRow( recorder.newProxy() ) );
+		if ( !recorder.replayable ) {
+			for ( int count = 1; count < maxRows && resultSet.next(); count++ ) {
+				results.add( hydrateRow( resultSet ) );
+			}
+			return results;
+		}
+
+		final List<ForkJoinTask<?>> conversions = new ArrayList<>();
+		final List<Object[]> convertedChunks = new ArrayList<>();
+		List<Object[]> chunk = new ArrayList<>( chunkSize );
+		for ( int count = 1; count < maxRows && resultSet.next(); count++ ) {
+			chunk.add( readRawValues( resultSet ) );
+			if ( chunk.size() == chunkSize ) {
+				final Object[] converted = new Object[chunkSize];
+				conversions.add( ForkJoinPool.commonPool().submit( new Conversion( chunk, converted, 0, chunkSize ) ) );
+				convertedChunks.add( converted );
+				chunk = new ArrayList<>( chunkSize );
+			}
+		}
+
+		final Object[] converted = new Object[chunk.size()];
+		if ( conversions.isEmpty() ) {
+			// too few rows to be worth converting in parallel
+			new Conversion( chunk, converted, 0, chunk.size() ).convert();
+		}
+		else {
+			new Conversion( chunk, converted, 0, chunk.size() ).invoke();
+		}
+		convertedChunks.add( converted );
+		for ( ForkJoinTask<?> conversion : conversions ) {
+			conversion.join();
+		}
+		rethrowFailure();
+
+		for ( Object[] convertedChunk : convertedChunks ) {
+			results.addAll( Arrays.asList( convertedChunk ) );
+		}
+		return results;
+	}
+
+	private Object hydrateRow(ResultSet resultSet) throws SQLException {
+		final Object[] row = new Object[types.length];
+		for ( int i = 0; i < types.length; i++ ) {
+			row[i] = types[i].nullSafeGet( resultSet, columnNames[i], session, null );
+		}
+		return unwrapSingleColumn && row.length == 1 ? row[0] : row;
+	}
+
+	private Object[] readRawValues(ResultSet resultSet) throws SQLException {
+		final Object[] values = new Object[columnReads.size()];
+		for ( int i = 0; i < values.length; i++ ) {
+			values[i] = columnReads.get( i ).read( resultSet );
+		}
+		return values;
+	}
+
+	private void rethrowFailure() throws SQLException {
+		final Throwable failure = this.failure;
+		if ( failure instanceof SQLException ) {
+			throw (SQLException) failure;
+		}
+		if ( failure instanceof RuntimeException ) {
+			throw (RuntimeException) failure;
+		}
+		if ( failure instanceof Error ) {
+			throw (Error) failure;
+		}
+		if ( failure != null ) {
+			throw new HibernateException( failure );
+		}
+	}
+
+	private ResultSet newProxy(InvocationHandler handler) {
+		return (ResultSet) Proxy.newProxyInstance(
+				ParallelScalarHydration.class.getClassLoader(),
+				new Class[] { ResultSet.class },
+				handler
+		);
+	}
+
+	/**
+	 * A call of a JDBC getter reading a column by its label, possibly passing a {@link Calendar} or a {@link Class}
+	 */
+	private static final class ColumnRead {
+		private final String getter;
+		private final String label;
+		private final Object argument;
+
+		private ColumnRead(String getter, String label, Object argument) {
+			this.getter = getter;
+			this.label = label;
+			this.argument = argument;
+		}
+
+		/**
+		 * @return The read of a column by the given call, or {@code null} if it cannot be replayed
+		 */
+		private static ColumnRead of(Method method, Object[] args) {
+			if ( !REPLAYABLE_GETTERS.contains( method.getName() ) || args == null || !( args[0] instanceof String ) ) {
+				return null;
+			}
+			if ( args.length == 1 ) {
+				return new ColumnRead( method.getName(), (String) args[0], null );
+			}
+			if ( args.length == 2 && ( args[1] instanceof Calendar || args[1] instanceof Class ) ) {
+				return new ColumnRead( method.getName(), (String) args[0], args[1] );
+			}
+			return null;
+		}
+
+		private Object read(ResultSet resultSet) throws SQLException {
+			final Object value;
+			switch ( getter ) {
+				case "getString":
+					value = resultSet.getString( label );
+					break;
+				case "getNString":
+					value = resultSet.getNString( label );
+					break;
+				case "getBoolean":
+					value = resultSet.getBoolean( label );
+					break;
+				case "getByte":
+					value = resultSet.getByte( label );
+					break;
+				case "getShort":
+					value = resultSet.getShort( label );
+					break;
+				case "getInt":
+					value = resultSet.getInt( label );
+					break;
+				case "getLong":
+					value = resultSet.getLong( label );
+					break;
+				case "getFloat":
+					value = resultSet.getFloat( label );
+					break;
+				case "getDouble":
+					value = resultSet.getDouble( label );
+					break;
+				case "getBigDecimal":
+					value = resultSet.getBigDecimal( label );
+					break;
+				case "getBytes":
+					value = resultSet.getBytes( label );
+					break;
+				case "getDate":
+					value = argument == null
+							? resultSet.getDate( label )
+							: resultSet.getDate( label, (Calendar) argument );
+					break;
+				case "getTime":
+					value = argument == null
+							? resultSet.getTime( label )
+							: resultSet.getTime( label, (Calendar) argument );
+					break;
+				case "getTimestamp":
+					value = argument == null
+							? resultSet.getTimestamp( label )
+							: resultSet.getTimestamp( label, (Calendar) argument );
+					break;
+				case "getObject":
+					value = argument == null
+							? resultSet.getObject( label )
+							: resultSet.getObject( label, (Class<?>) argument );
+					break;
+				default:
+					throw new AssertionFailure( "Unexpected getter: " + getter );
+			}
+			return resultSet.wasNull() ? NULL : value;
+		}
+	}
+
+	/**
+	 * Records the column reads of the types while the first row is hydrated from the actual result set.
+	 */
+	private final class Recorder implements InvocationHandler {
+		private final ResultSet resultSet;
+		private boolean replayable = true;
+
+		private Recorder(ResultSet resultSet) {
+			this.resultSet = resultSet;
+		}
+
+		private ResultSet newProxy() {
+			return ParallelScalarHydration.this.newProxy( this );
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			final Object value;
+			try {
+				value = method.invoke( resultSet, args );
+			}
+			catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+			if ( method.getDeclaringClass() != Object.class && !"wasNull".equals( method.getName() ) ) {
+				final ColumnRead columnRead = ColumnRead.of( method, args );
+				if ( columnRead == null ) {
+					replayable = false;
+				}
+				else {
+					columnReads.add( columnRead );
+				}
+			}
+			return value;
+		}
+	}
+
+	/**
+	 * Replays the raw values of a row to the types, in the order in which they read them.
+	 */
+	private final class Replay implements InvocationHandler {
+		private Object[] values;
+		private int position;
+		private boolean wasNull;
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			if ( method.getDeclaringClass() == Object.class ) {
+				return method.invoke( this, args );
+			}
+			if ( "wasNull".equals( method.getName() ) ) {
+				return wasNull;
+			}
+			if ( position == values.length || !columnReads.get( position ).getter.equals( method.getName() ) ) {
+				throw new AssertionFailure( "Unexpected column read replaying a result set row: " + method.getName() );
+			}
+			final Object value = values[position++];
+			wasNull = value == NULL;
+			return wasNull ? defaultValue( method.getReturnType() ) : value;
+		}
+
+		private Object defaultValue(Class<?> type) {
+			if ( !type.isPrimitive() ) {
+				return null;
+			}
+			if ( type == boolean.class ) {
+				return false;
+			}
+			if ( type == byte.class ) {
+				return (byte) 0;
+			}
+			if ( type == short.class ) {
+				return (short) 0;
+			}
+			if ( type == int.class ) {
+				return 0;
+			}
+			if ( type == long.class ) {
+				return 0L;
+			}
+			if ( type == float.class ) {
+				return 0F;
+			}
+			return 0D;
+		}
+	}
+
+	/**
+	 * Converts a range of rows of a chunk, splitting it in halves until it is small enough.
+	 */
+	private final class Conversion extends RecursiveAction {
+		private final List<Object[]> rawRows;
+		private final Object[] converted;
+		private final int from;
+		private final int to;
+
+		private Conversion(List<Object[]> rawRows, Object[] converted, int from, int to) {
+			this.rawRows = rawRows;
+			this.converted = converted;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if ( to - from > SEQUENTIAL_ROWS ) {
+				final int middle = ( from + to ) >>> 1;
+				invokeAll(
+						new Conversion( rawRows, converted, from, middle ),
+						new Conversion( rawRows, converted, middle, to )
+				);
+			}
+			else {
+				convert();
+			}
+		}
+
+		private void convert() {
+			final Replay replay = new Replay();
+			final ResultSet replaying = newProxy( replay );
+			try {
+				for ( int i = from; i < to && failure == null; i++ ) {
+					replay.values = rawRows.get( i );
+					replay.position = 0;
+					converted[i] = hydrateRow( replaying );
+				}
+			}
+			catch (Throwable t) {
+				failure = t;
+			}
+		}
+	}
+}
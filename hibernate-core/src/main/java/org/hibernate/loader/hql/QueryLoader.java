@@ -15,13 +15,16 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.QueryException;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -463,16 +466,55 @@ public class QueryLoader extends BasicLoader {
 		return resultRow;
 	}
 
+	@Override
+	protected List<Object> getRowsFromResultSet(
+			ResultSet rs,
+			QueryParameters queryParameters,
+			SharedSessionContractImplementor session,
+			boolean returnProxies,
+			ResultTransformer forcedResultTransformer,
+			int maxRows,
+			List<Object> nullSeparatedHydratedObjects,
+			List<EntityKey[]> subselectResultKeys) throws SQLException {
+		final int threshold = getFactory().getSessionFactoryOptions().getParallelResultProcessingThreshold();
+		if ( threshold > 0
+				&& forcedResultTransformer == null
+				&& isScalarResult()
+				&& ParallelScalarHydration.isApplicable( queryReturnTypes ) ) {
+			final boolean hasTransform = hasSelectNew() || queryParameters.getResultTransformer() != null;
+			return new ParallelScalarHydration( queryReturnTypes, scalarColumnNames, session, !hasTransform, threshold )
+					.hydrate( rs, maxRows );
+		}
+		return super.getRowsFromResultSet(
+				rs,
+				queryParameters,
+				session,
+				returnProxies,
+				forcedResultTransformer,
+				maxRows,
+				nullSeparatedHydratedObjects,
+				subselectResultKeys
+		);
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	protected List getResultList(List results, ResultTransformer resultTransformer) throws QueryException {
 		// meant to handle dynamic instantiation queries...
 		HolderInstantiator holderInstantiator = buildHolderInstantiator( resultTransformer );
 		if ( holderInstantiator.isRequired() ) {
-			for ( int i = 0; i < results.size(); i++ ) {
-				Object[] row = (Object[]) results.get( i );
-				Object result = holderInstantiator.instantiate( row );
-				results.set( i, result );
+			if ( isParallelInstantiationEnabled( results ) ) {
+				// the transformers of dynamic instantiations are stateless, unlike custom ones
+				IntStream.range( 0, results.size() ).parallel().forEach(
+						i -> results.set( i, holderInstantiator.instantiate( (Object[]) results.get( i ) ) )
+				);
+			}
+			else {
+				for ( int i = 0; i < results.size(); i++ ) {
+					Object[] row = (Object[]) results.get( i );
+					Object result = holderInstantiator.instantiate( row );
+					results.set( i, result );
+				}
 			}
 
 			if ( !hasSelectNew() && resultTransformer != null ) {
@@ -487,6 +529,25 @@ public class QueryLoader extends BasicLoader {
 		}
 	}
 
+	/**
+	 * Rows can only be processed in parallel when they are made of scalar values: entities (and
+	 * any fetched collections) are bound to the persistence context, which is not thread-safe.
+	 */
+	private boolean isScalarResult() {
+		return hasScalars
+				&& entityPersisters.length == 0
+				&& collectionPersisters == null;
+	}
+
+	private boolean isParallelInstantiationEnabled(List results) {
+		final int threshold = getFactory().getSessionFactoryOptions().getParallelResultProcessingThreshold();
+		return threshold > 0
+				&& results.size() >= threshold
+				&& results instanceof RandomAccess
+				&& hasSelectNew()
+				&& isScalarResult();
+	}
+
 	protected HolderInstantiator buildHolderInstantiator(ResultTransformer queryLocalResultTransformer) {
 		final ResultTransformer implicitResultTransformer = aggregatedSelectExpression == null
 				? null
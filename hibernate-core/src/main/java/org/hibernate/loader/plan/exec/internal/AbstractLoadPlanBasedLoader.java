@@ -117,6 +117,7 @@ public abstract class AbstractLoadPlanBasedLoader {
 						forcedResultTransformer,
 						Collections.EMPTY_LIST
 				);
+				session.getJdbcCoordinator().afterResultSetProcessed( wrapper.getStatement(), results.size() );
 			}
 			finally {
 				if ( wrapper != null ) {
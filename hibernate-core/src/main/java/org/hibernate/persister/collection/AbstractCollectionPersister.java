@@ -10,6 +10,7 @@ import java.io.Serializable;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -41,6 +42,7 @@ import org.hibernate.engine.spi.ExecuteUpdateResultCheckStyle;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.exception.spi.SQLExceptionConverter;
@@ -126,6 +128,14 @@ public abstract class AbstractCollectionPersister
 	private final String sqlDeleteRowString;
 	private final String sqlSelectSizeString;
 	private final String sqlSelectRowByIndexString;
+	private final String sqlSelectRowsByIndexRangeString;
+	private final String sqlMultiRowInsertString;
+	private final String sqlMultiRowDeleteString;
+	private final String sqlDeleteRowsByIndexRangeString;
+	private final String sqlShiftIndexString;
+	private final String sqlRestoreShiftedIndexString;
+	private final int multiRowInsertSize;
+	private final int multiRowDeleteSize;
 	private final String sqlDetectRowByIndexString;
 	private final String sqlDetectRowByElementString;
 
@@ -525,6 +535,40 @@ public abstract class AbstractCollectionPersister
 		sqlDetectRowByIndexString = generateDetectRowByIndexString();
 		sqlDetectRowByElementString = generateDetectRowByElementString();
 		sqlSelectRowByIndexString = generateSelectRowByIndexString();
+		sqlSelectRowsByIndexRangeString = generateSelectRowsByIndexRangeString( collectionBinding.isIndexed() && !collectionBinding.isMap() );
+
+		final int multiRowDmlSize = factory.getSessionFactoryOptions().getCollectionMultiRowDmlSize();
+		if ( multiRowDmlSize > 1 && collectionBinding.getCustomSQLInsert() == null && dialect.supportsMultiRowInsert() ) {
+			multiRowInsertSize = multiRowDmlSize;
+			sqlMultiRowInsertString = generateMultiRowInsertString( multiRowInsertSize );
+		}
+		else {
+			multiRowInsertSize = 0;
+			sqlMultiRowInsertString = null;
+		}
+		if ( multiRowDmlSize > 1 && collectionBinding.getCustomSQLDelete() == null ) {
+			final int inExpressionCountLimit = dialect.getInExpressionCountLimit();
+			multiRowDeleteSize = inExpressionCountLimit > 0
+					? Math.min( multiRowDmlSize, inExpressionCountLimit )
+					: multiRowDmlSize;
+			sqlMultiRowDeleteString = generateMultiRowDeleteString( multiRowDeleteSize );
+		}
+		else {
+			multiRowDeleteSize = 0;
+			sqlMultiRowDeleteString = null;
+		}
+		if ( multiRowDmlSize > 1
+				&& collectionBinding.getCustomSQLDelete() == null
+				&& collectionBinding.getCustomSQLUpdate() == null ) {
+			sqlDeleteRowsByIndexRangeString = generateDeleteRowsByIndexRangeString();
+			sqlShiftIndexString = generateShiftIndexString();
+			sqlRestoreShiftedIndexString = generateRestoreShiftedIndexString();
+		}
+		else {
+			sqlDeleteRowsByIndexRangeString = null;
+			sqlShiftIndexString = null;
+			sqlRestoreShiftedIndexString = null;
+		}
 
 		logStaticSQL();
 
@@ -1088,6 +1132,60 @@ public abstract class AbstractCollectionPersister
 				.toStatementString();
 	}
 
+	protected String generateSelectRowsByIndexRangeString(boolean isIntegerIndexed) {
+		if ( !isIntegerIndexed || indexContainsFormula ) {
+			return null;
+		}
+		final String indexColumnName = getIndexColumnNames()[0];
+		return new SimpleSelect( dialect )
+				.setTableName( getTableName() )
+				.addCondition( getKeyColumnNames(), "=?" )
+				.addCondition( indexColumnName, ">=?" )
+				.addCondition( indexColumnName, "<?" )
+				.addWhereToken( sqlWhereString )
+				.addColumns( getElementColumnNames(), elementColumnAliases )
+				.addColumns( getIndexColumnNames(), indexColumnAliases )
+				.setOrderBy( " order by " + indexColumnName )
+				.toStatementString();
+	}
+
+	/**
+	 * Generate the SQL INSERT that creates the given number of rows at once, {@code null} if not supported
+	 */
+	protected String generateMultiRowInsertString(int rowCount) {
+		return null;
+	}
+
+	/**
+	 * Generate the SQL DELETE that deletes the given number of rows at once, {@code null} if not supported
+	 */
+	protected String generateMultiRowDeleteString(int rowCount) {
+		return null;
+	}
+
+	/**
+	 * Generate the SQL DELETE that deletes the rows of a range of indexes, {@code null} if not supported
+	 */
+	protected String generateDeleteRowsByIndexRangeString() {
+		return null;
+	}
+
+	/**
+	 * Generate the SQL UPDATE that moves the rows from a given index on to distinct negative indexes, as the first
+	 * step of {@link #shiftIndexes shifting} their index, {@code null} if not supported
+	 */
+	protected String generateShiftIndexString() {
+		return null;
+	}
+
+	/**
+	 * Generate the SQL UPDATE that moves the rows with a negative index to their final index, as the second
+	 * step of {@link #shiftIndexes shifting} their index, {@code null} if not supported
+	 */
+	protected String generateRestoreShiftedIndexString() {
+		return null;
+	}
+
 	protected String generateDetectRowByElementString() {
 		return new SimpleSelect( dialect )
 				.setTableName( getTableName() )
@@ -1303,6 +1401,30 @@ public abstract class AbstractCollectionPersister
 		}
 
 		try {
+			if ( sqlMultiRowInsertString != null ) {
+				final java.util.List<Object> insertedEntries = new ArrayList<>();
+				final java.util.List<Integer> positions = new ArrayList<>();
+				final Iterator entries = collection.entries( this );
+				int i = 0;
+				while ( entries.hasNext() ) {
+					final Object entry = entries.next();
+					if ( collection.entryExists( entry, i ) ) {
+						insertedEntries.add( entry );
+						positions.add( i );
+					}
+					i++;
+				}
+				if ( insertedEntries.isEmpty() ) {
+					LOG.debug( "Collection was empty" );
+				}
+				else {
+					collection.preInsert( this );
+					final int count = insertRowsByChunks( collection, id, insertedEntries, positions, session );
+					LOG.debugf( "Done inserting collection: %s rows inserted", count );
+				}
+				return;
+			}
+
 			// create all the new entries
 			Iterator entries = collection.entries( this );
 			final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
@@ -1426,9 +1548,20 @@ public abstract class AbstractCollectionPersister
 		boolean deleteByIndex = !isOneToMany() && hasIndex && !indexContainsFormula;
 		final Expectation expectation = Expectations.appropriateExpectation( getDeleteCheckStyle() );
 		try {
+			if ( sqlShiftIndexString != null ) {
+				final int[] indexShift = collection.planIndexShift( this );
+				if ( indexShift != null ) {
+					shiftIndexes( id, indexShift[0], indexShift[1], indexShift[2], session );
+				}
+			}
+
 			// delete all the deleted entries
 			Iterator deletes = collection.getDeletes( this, !deleteByIndex );
-			if ( deletes.hasNext() ) {
+			if ( deletes.hasNext() && sqlMultiRowDeleteString != null ) {
+				final int count = deleteRowsByChunks( id, deletes, deleteByIndex, session );
+				LOG.debugf( "Done deleting collection rows: %s deleted", count );
+			}
+			else if ( deletes.hasNext() ) {
 				int offset = 1;
 				int count = 0;
 				while ( deletes.hasNext() ) {
@@ -1543,7 +1676,23 @@ public abstract class AbstractCollectionPersister
 		try {
 			// insert all the new entries
 			collection.preInsert( this );
-			Iterator entries = collection.entries( this );
+			Iterator entries = collection.getInsertCandidates( this );
+			if ( sqlMultiRowInsertString != null ) {
+				final java.util.List<Object> insertedEntries = new ArrayList<>();
+				final java.util.List<Integer> positions = new ArrayList<>();
+				int i = 0;
+				while ( entries.hasNext() ) {
+					final Object entry = entries.next();
+					if ( collection.needsInserting( entry, i, elementType ) ) {
+						insertedEntries.add( entry );
+						positions.add( i );
+					}
+					i++;
+				}
+				final int count = insertRowsByChunks( collection, id, insertedEntries, positions, session );
+				LOG.debugf( "Done inserting rows: %s inserted", count );
+				return;
+			}
 			Expectation expectation = Expectations.appropriateExpectation( getInsertCheckStyle() );
 			boolean callable = isInsertCallable();
 			boolean useBatch = expectation.canBeBatched();
@@ -1625,6 +1774,171 @@ public abstract class AbstractCollectionPersister
 		}
 	}
 
+	/**
+	 * Insert the given entries by multi-row statements, of {@link #multiRowInsertSize} rows at most.
+	 *
+	 * @param entries The entries to insert
+	 * @param positions The position of each of the entries in the collection
+	 *
+	 * @return The number of rows inserted
+	 */
+	private int insertRowsByChunks(
+			PersistentCollection collection,
+			Serializable id,
+			java.util.List<Object> entries,
+			java.util.List<Integer> positions,
+			SharedSessionContractImplementor session) throws SQLException {
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final Expectation expectation = Expectations.appropriateExpectation( getInsertCheckStyle() );
+		for ( int start = 0; start < entries.size(); start += multiRowInsertSize ) {
+			final int end = Math.min( start + multiRowInsertSize, entries.size() );
+			final String sql = end - start == multiRowInsertSize
+					? sqlMultiRowInsertString
+					: generateMultiRowInsertString( end - start );
+			final PreparedStatement st = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+			try {
+				int offset = 1;
+				for ( int j = start; j < end; j++ ) {
+					final Object entry = entries.get( j );
+					final int i = positions.get( j );
+					offset = writeKey( st, id, offset, session );
+					if ( hasIdentifier ) {
+						offset = writeIdentifier( st, collection.getIdentifier( entry, i ), offset, session );
+					}
+					if ( hasIndex /* && !indexIsFormula */) {
+						offset = writeIndex( st, collection.getIndex( entry, i, this ), offset, session );
+					}
+					offset = writeElement( st, collection.getElement( entry ), offset, session );
+				}
+				final int rowCount = jdbcCoordinator.getResultSetReturn().executeUpdate( st );
+				if ( expectation != Expectations.NONE ) {
+					new Expectations.BasicExpectation( end - start ) {
+					}.verifyOutcome( rowCount, st, -1, sql );
+				}
+			}
+			finally {
+				jdbcCoordinator.getResourceRegistry().release( st );
+				jdbcCoordinator.afterStatementExecution();
+			}
+			for ( int j = start; j < end; j++ ) {
+				collection.afterRowInsert( this, entries.get( j ), positions.get( j ) );
+			}
+		}
+		return entries.size();
+	}
+
+	/**
+	 * Delete the rows of the given identifiers, indexes or elements by multi-row statements, of
+	 * {@link #multiRowDeleteSize} rows at most.
+	 *
+	 * @return The number of rows deleted
+	 */
+	private int deleteRowsByChunks(
+			Serializable id,
+			Iterator deletes,
+			boolean deleteByIndex,
+			SharedSessionContractImplementor session) throws SQLException {
+		final java.util.List<Object> deleted = new ArrayList<>();
+		deletes.forEachRemaining( deleted::add );
+
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		int count = 0;
+		for ( int start = 0; start < deleted.size(); start += multiRowDeleteSize ) {
+			final int end = Math.min( start + multiRowDeleteSize, deleted.size() );
+			final String sql = end - start == multiRowDeleteSize
+					? sqlMultiRowDeleteString
+					: generateMultiRowDeleteString( end - start );
+			final PreparedStatement st = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+			try {
+				int offset = 1;
+				if ( !hasIdentifier ) {
+					offset = writeKey( st, id, offset, session );
+				}
+				for ( int j = start; j < end; j++ ) {
+					if ( hasIdentifier ) {
+						offset = writeIdentifier( st, deleted.get( j ), offset, session );
+					}
+					else if ( deleteByIndex ) {
+						offset = writeIndexToWhere( st, deleted.get( j ), offset, session );
+					}
+					else {
+						offset = writeElementToWhere( st, deleted.get( j ), offset, session );
+					}
+				}
+				count += jdbcCoordinator.getResultSetReturn().executeUpdate( st );
+			}
+			finally {
+				jdbcCoordinator.getResourceRegistry().release( st );
+				jdbcCoordinator.afterStatementExecution();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Move the rows from the given index on by the given shift of their index, after deleting the rows of the
+	 * given range of indexes, rather than updating each row after a change shifting them.  The rows are moved
+	 * to distinct negative indexes first, so that no unique constraint is violated midway.
+	 *
+	 * @param fromIndex The first index of the deleted range
+	 * @param toIndex The index following the deleted range, which is the first index of the moved rows
+	 * @param shift The shift of the index of the moved rows
+	 *
+	 * @see PersistentCollection#planIndexShift
+	 */
+	protected void shiftIndexes(
+			Serializable id,
+			int fromIndex,
+			int toIndex,
+			int shift,
+			SharedSessionContractImplementor session) throws SQLException {
+		if ( LOG.isDebugEnabled() ) {
+			LOG.debugf(
+					"Shifting the indexes of collection rows: %s from index %s by %s",
+					navigableRole.getFullPath(),
+					toIndex,
+					shift
+			);
+		}
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		if ( fromIndex < toIndex ) {
+			PreparedStatement st = jdbcCoordinator.getStatementPreparer().prepareStatement( sqlDeleteRowsByIndexRangeString );
+			try {
+				final int offset = writeKey( st, id, 1, session );
+				getIndexType().nullSafeSet( st, incrementIndexByBase( fromIndex ), offset, session );
+				getIndexType().nullSafeSet( st, incrementIndexByBase( toIndex ), offset + 1, session );
+				jdbcCoordinator.getResultSetReturn().executeUpdate( st );
+			}
+			finally {
+				jdbcCoordinator.getResourceRegistry().release( st );
+				jdbcCoordinator.afterStatementExecution();
+			}
+		}
+
+		PreparedStatement st = jdbcCoordinator.getStatementPreparer().prepareStatement( sqlShiftIndexString );
+		try {
+			// index = -1 - ( index + shift )
+			getIndexType().nullSafeSet( st, -1 - shift, 1, session );
+			final int offset = writeKey( st, id, 2, session );
+			getIndexType().nullSafeSet( st, incrementIndexByBase( toIndex ), offset, session );
+			jdbcCoordinator.getResultSetReturn().executeUpdate( st );
+		}
+		finally {
+			jdbcCoordinator.getResourceRegistry().release( st );
+			jdbcCoordinator.afterStatementExecution();
+		}
+
+		st = jdbcCoordinator.getStatementPreparer().prepareStatement( sqlRestoreShiftedIndexString );
+		try {
+			writeKey( st, id, 1, session );
+			jdbcCoordinator.getResultSetReturn().executeUpdate( st );
+		}
+		finally {
+			jdbcCoordinator.getResourceRegistry().release( st );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
 	@Override
 	public String getRole() {
 		return navigableRole.getFullPath();
@@ -2072,6 +2386,92 @@ public abstract class AbstractCollectionPersister
 		}
 	}
 
+	@Override
+	public boolean isIndexRangeReadable() {
+		return sqlSelectRowsByIndexRangeString != null;
+	}
+
+	@Override
+	public Object[] getElementsByIndexRange(
+			Serializable key,
+			int fromIndex,
+			int toIndex,
+			SharedSessionContractImplementor session,
+			Object owner) {
+		if ( sqlSelectRowsByIndexRangeString == null ) {
+			throw new UnsupportedOperationException( "Collection not indexed by an integer column: " + navigableRole.getFullPath() );
+		}
+		// hydrate all the rows before resolving any element, which may need to be loaded
+		final Object[] hydratedElements = new Object[toIndex - fromIndex];
+		final boolean[] exists = new boolean[toIndex - fromIndex];
+		try {
+			final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+			PreparedStatement st = jdbcCoordinator
+					.getStatementPreparer()
+					.prepareStatement( sqlSelectRowsByIndexRangeString );
+			try {
+				getKeyType().nullSafeSet( st, key, 1, session );
+				getIndexType().nullSafeSet( st, incrementIndexByBase( fromIndex ), keyColumnNames.length + 1, session );
+				getIndexType().nullSafeSet( st, incrementIndexByBase( toIndex ), keyColumnNames.length + 2, session );
+				ResultSet rs = jdbcCoordinator.getResultSetReturn().extract( st );
+				try {
+					while ( rs.next() ) {
+						final int index = (Integer) readIndex( rs, indexColumnAliases, session ) - fromIndex;
+						hydratedElements[index] = getElementType().hydrate( rs, elementColumnAliases, session, owner );
+						exists[index] = true;
+					}
+				}
+				finally {
+					jdbcCoordinator.getResourceRegistry().release( rs, st );
+				}
+			}
+			finally {
+				jdbcCoordinator.getResourceRegistry().release( st );
+				jdbcCoordinator.afterStatementExecution();
+			}
+		}
+		catch ( SQLException sqle ) {
+			throw getSQLExceptionHelper().convert(
+					sqle,
+					"could not read rows: " +
+							MessageHelper.collectionInfoString( this, key, getFactory() ),
+					sqlSelectRowsByIndexRangeString
+			);
+		}
+		if ( getElementType().isEntityType() && session instanceof SessionImplementor ) {
+			loadElementEntities( hydratedElements, (SessionImplementor) session );
+		}
+		final Object[] elements = new Object[hydratedElements.length];
+		for ( int i = 0; i < elements.length; i++ ) {
+			if ( exists[i] ) {
+				elements[i] = getElementType().resolve( hydratedElements[i], session, owner );
+			}
+		}
+		return elements;
+	}
+
+	/**
+	 * Load the entities referenced by the given hydrated elements in a single query, rather than one query per
+	 * element as they get resolved.
+	 */
+	private void loadElementEntities(Object[] hydratedElements, SessionImplementor session) {
+		final EntityType elementType = (EntityType) getElementType();
+		if ( !elementType.isReferenceToPrimaryKey() ) {
+			return;
+		}
+		final java.util.List<Serializable> ids = new ArrayList<>( hydratedElements.length );
+		for ( Object hydratedElement : hydratedElements ) {
+			if ( hydratedElement != null ) {
+				ids.add( (Serializable) hydratedElement );
+			}
+		}
+		if ( ids.size() > 1 ) {
+			session.byMultipleIds( elementType.getAssociatedEntityName() )
+					.withBatchSize( ids.size() )
+					.multiLoad( ids );
+		}
+	}
+
 	@Override
 	public boolean isExtraLazy() {
 		return isExtraLazy;
@@ -83,6 +83,15 @@ public class BasicCollectionPersister extends AbstractCollectionPersister {
 	 */
 	@Override
 	protected String generateInsertRowString() {
+		return createInsertRow().toStatementString();
+	}
+
+	@Override
+	protected String generateMultiRowInsertString(int rowCount) {
+		return createInsertRow().toStatementString( rowCount );
+	}
+
+	private Insert createInsertRow() {
 		final Insert insert = createInsert().setTableName( qualifiedTableName )
 				.addColumns( keyColumnNames );
 
@@ -102,7 +111,7 @@ public class BasicCollectionPersister extends AbstractCollectionPersister {
 		insert.addColumns( elementColumnNames, elementColumnIsSettable, elementColumnWriters );
 		//}
 
-		return insert.toStatementString();
+		return insert;
 	}
 
 	/**
@@ -164,6 +173,115 @@ public class BasicCollectionPersister extends AbstractCollectionPersister {
 		return delete.toStatementString();
 	}
 
+	/**
+	 * Generate the SQL DELETE that deletes the given number of rows, by their identifier, index or element
+	 */
+	@Override
+	protected String generateMultiRowDeleteString(int rowCount) {
+		final Delete delete = createDelete().setTableName( qualifiedTableName );
+		final String columnName;
+		final String valueExpression;
+		if ( hasIdentifier ) {
+			columnName = identifierColumnName;
+			valueExpression = "?";
+		}
+		else if ( hasIndex && !indexContainsFormula ) {
+			if ( indexColumnNames.length != 1 ) {
+				return null;
+			}
+			delete.addPrimaryKeyColumns( keyColumnNames );
+			columnName = indexColumnNames[0];
+			valueExpression = "?";
+		}
+		else {
+			if ( elementColumnNames.length != 1 || elementIsPureFormula || !elementColumnIsInPrimaryKey[0] ) {
+				return null;
+			}
+			delete.addPrimaryKeyColumns( keyColumnNames );
+			columnName = elementColumnNames[0];
+			valueExpression = elementColumnWriters[0];
+		}
+
+		final StringBuilder inList = new StringBuilder( columnName ).append( " in (" );
+		for ( int i = 0; i < rowCount; i++ ) {
+			if ( i > 0 ) {
+				inList.append( ", " );
+			}
+			inList.append( valueExpression );
+		}
+		delete.addWhereFragment( inList.append( ')' ).toString() );
+
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			delete.setComment( "delete collection rows " + getRole() );
+		}
+
+		return delete.toStatementString();
+	}
+
+	private boolean isIndexShiftable() {
+		return hasIndex && !indexContainsFormula && !hasWhere && isIndexRangeReadable();
+	}
+
+	/**
+	 * Generate the SQL DELETE that deletes the rows of a range of indexes
+	 */
+	@Override
+	protected String generateDeleteRowsByIndexRangeString() {
+		if ( !isIndexShiftable() ) {
+			return null;
+		}
+		final Delete delete = createDelete().setTableName( qualifiedTableName )
+				.addPrimaryKeyColumns( keyColumnNames )
+				.addWhereFragment( indexColumnNames[0] + ">=?" )
+				.addWhereFragment( indexColumnNames[0] + "<?" );
+
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			delete.setComment( "delete collection rows by index range " + getRole() );
+		}
+
+		return delete.toStatementString();
+	}
+
+	/**
+	 * Generate the SQL UPDATE that moves the rows from a given index on to distinct negative indexes
+	 */
+	@Override
+	protected String generateShiftIndexString() {
+		if ( !isIndexShiftable() ) {
+			return null;
+		}
+		final Update update = createUpdate().setTableName( qualifiedTableName )
+				.addColumn( indexColumnNames[0], "(?-" + indexColumnNames[0] + ")" )
+				.addPrimaryKeyColumns( keyColumnNames )
+				.addWhereColumn( indexColumnNames[0], ">=?" );
+
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			update.setComment( "shift collection row indexes " + getRole() );
+		}
+
+		return update.toStatementString();
+	}
+
+	/**
+	 * Generate the SQL UPDATE that moves the rows with a negative index to their final index
+	 */
+	@Override
+	protected String generateRestoreShiftedIndexString() {
+		if ( !isIndexShiftable() ) {
+			return null;
+		}
+		final Update update = createUpdate().setTableName( qualifiedTableName )
+				.addColumn( indexColumnNames[0], "(-1-" + indexColumnNames[0] + ")" )
+				.addPrimaryKeyColumns( keyColumnNames )
+				.addWhereColumn( indexColumnNames[0], "<0" );
+
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			update.setComment( "restore shifted collection row indexes " + getRole() );
+		}
+
+		return update.toStatementString();
+	}
+
 	public boolean consumesEntityAlias() {
 		return false;
 	}
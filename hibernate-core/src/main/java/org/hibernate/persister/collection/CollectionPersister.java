@@ -314,6 +314,30 @@ public interface CollectionPersister extends CollectionDefinition {
 	boolean indexExists(Serializable key, Object index, SharedSessionContractImplementor session);
 	boolean elementExists(Serializable key, Object element, SharedSessionContractImplementor session);
 	Object getElementByIndex(Serializable key, Object index, SharedSessionContractImplementor session, Object owner);
+
+	/**
+	 * Can the elements be read by ranges of their index, as for lists?
+	 */
+	default boolean isIndexRangeReadable() {
+		return false;
+	}
+
+	/**
+	 * Read the elements whose index is at least {@code fromIndex} and less than {@code toIndex}, by
+	 * means of a range condition on the index column.
+	 *
+	 * @return The elements, the one at {@code fromIndex} first, {@code null} for the indexes without row
+	 *
+	 * @see #isIndexRangeReadable()
+	 */
+	default Object[] getElementsByIndexRange(
+			Serializable key,
+			int fromIndex,
+			int toIndex,
+			SharedSessionContractImplementor session,
+			Object owner) {
+		throw new UnsupportedOperationException( "Collection elements not readable by index range: " + getRole() );
+	}
 	int getBatchSize();
 
 	/**
@@ -145,6 +145,7 @@ import org.hibernate.type.CollectionType;
 import org.hibernate.type.ComponentType;
 import org.hibernate.type.CompositeType;
 import org.hibernate.type.EntityType;
+import org.hibernate.type.ManyToOneType;
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 import org.hibernate.type.VersionType;
@@ -254,10 +255,15 @@ public abstract class AbstractEntityPersister
 	private UniqueEntityLoader readLockLoader;
 	private final Map<Object, UniqueEntityLoader> loaders = new ConcurrentHashMap<>();
 
+	// metamodel indexes of the attributes tracked by index, keyed by the (identity of the) tracked attribute names
+	// of the enhanced entity class
+	private final Map<String[], int[]> trackedAttributeIndexMappings = new ConcurrentHashMap<>();
+
 	// SQL strings
 	private String sqlVersionSelectString;
 	private String sqlSnapshotSelectString;
 	private Map<String,String> sqlLazySelectStringsByFetchGroup;
+	private Map<String,String> sqlLazyBatchSelectStringsByFetchGroup;
 
 	private String sqlIdentityInsertString;
 	private String sqlUpdateByRowIdString;
@@ -444,6 +450,14 @@ public abstract class AbstractEntityPersister
 		return sqlLazySelectStringsByFetchGroup.get( fetchGroup );
 	}
 
+	/**
+	 * @return The SQL selecting the lazy attributes of the given fetch group for a batch of entity instances (see
+	 * {@link #isBatchLoadable()}); {@code null} if there is none
+	 */
+	public String getSQLLazyBatchSelectString(String fetchGroup) {
+		return sqlLazyBatchSelectStringsByFetchGroup.get( fetchGroup );
+	}
+
 	public String[] getSQLDeleteStrings() {
 		return sqlDeleteStrings;
 	}
@@ -737,7 +751,8 @@ public abstract class AbstractEntityPersister
 			final boolean lazy = ! EnhancementHelper.includeInBaseFetchGroup(
 					prop,
 					entityMetamodel.isInstrumented(),
-					creationContext.getSessionFactory().getSessionFactoryOptions().isEnhancementAsProxyEnabled()
+					creationContext.getSessionFactory().getSessionFactoryOptions().isEnhancementAsProxyEnabled(),
+					creationContext.getSessionFactory().getSessionFactoryOptions().isEnhancedLazyReferencesEnabled()
 			);
 
 			if ( lazy ) {
@@ -813,7 +828,8 @@ public abstract class AbstractEntityPersister
 			final boolean lazy = ! EnhancementHelper.includeInBaseFetchGroup(
 					prop,
 					entityMetamodel.isInstrumented(),
-					creationContext.getSessionFactory().getSessionFactoryOptions().isEnhancementAsProxyEnabled()
+					creationContext.getSessionFactory().getSessionFactoryOptions().isEnhancementAsProxyEnabled(),
+					creationContext.getSessionFactory().getSessionFactoryOptions().isEnhancedLazyReferencesEnabled()
 			);
 			while ( colIter.hasNext() ) {
 				Selectable thing = (Selectable) colIter.next();
@@ -1026,6 +1042,13 @@ public abstract class AbstractEntityPersister
 	}
 
 	protected Map<String,String> generateLazySelectStringsByFetchGroup() {
+		return generateLazySelectStringsByFetchGroup( 1 );
+	}
+
+	/**
+	 * @param batchSize The number of entity instances to select the lazy attributes of
+	 */
+	protected Map<String,String> generateLazySelectStringsByFetchGroup(int batchSize) {
 		final BytecodeEnhancementMetadata enhancementMetadata = entityMetamodel.getBytecodeEnhancementMetadata();
 		if ( !enhancementMetadata.isEnhancedForLazyLoading()
 				|| !enhancementMetadata.getLazyAttributesMetadata().hasLazyAttributes() ) {
@@ -1075,7 +1098,8 @@ public abstract class AbstractEntityPersister
 					renderSelect(
 							ArrayHelper.toIntArray( tableNumbers ),
 							ArrayHelper.toIntArray( columnNumbers ),
-							ArrayHelper.toIntArray( formulaNumbers )
+							ArrayHelper.toIntArray( formulaNumbers ),
+							batchSize
 					)
 			);
 		}
@@ -1223,6 +1247,15 @@ public abstract class AbstractEntityPersister
 
 		final String lazySelect = getSQLLazySelectString( fetchGroup );
 
+		if ( lazySelect != null && isBatchLoadable() ) {
+			final List<Object> entities = session.getPersistenceContextInternal()
+					.getBatchFetchQueue()
+					.getLazyFetchGroupBatch( this, entity, fetchGroupAttributeDescriptors, batchSize );
+			if ( entities.size() > 1 ) {
+				return initializeLazyPropertiesFromDatastore( fieldName, entity, session, id, entities, fetchGroup, fetchGroupAttributeDescriptors );
+			}
+		}
+
 		try {
 			Object result = null;
 			PreparedStatement ps = null;
@@ -1259,12 +1292,29 @@ public abstract class AbstractEntityPersister
 						}
 
 
-						final Object selectedValue = fetchGroupAttributeDescriptor.getType().nullSafeGet(
-								rs,
-								lazyPropertyColumnAliases[fetchGroupAttributeDescriptor.getLazyIndex()],
-								session,
-								entity
-						);
+						final Object selectedValue;
+						if ( isEnhancedLazyReference( fetchGroupAttributeDescriptor.getType() ) ) {
+							// the attribute is being accessed, so the entity itself rather than a proxy
+							selectedValue = fetchGroupAttributeDescriptor.getType().resolve(
+									fetchGroupAttributeDescriptor.getType().hydrate(
+											rs,
+											lazyPropertyColumnAliases[fetchGroupAttributeDescriptor.getLazyIndex()],
+											session,
+											entity
+									),
+									session,
+									entity,
+									Boolean.TRUE
+							);
+						}
+						else {
+							selectedValue = fetchGroupAttributeDescriptor.getType().nullSafeGet(
+									rs,
+									lazyPropertyColumnAliases[fetchGroupAttributeDescriptor.getLazyIndex()],
+									session,
+									entity
+							);
+						}
 
 						final boolean set = initializeLazyProperty(
 								fieldName,
@@ -1308,6 +1358,159 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	/**
+	 * Initializes the lazy attributes of the given fetch group for a batch of entities, by means of a single select
+	 * by their identifiers (see {@link #getSQLLazyBatchSelectString}).
+	 */
+	private Object initializeLazyPropertiesFromDatastore(
+			final String fieldName,
+			final Object entity,
+			final SharedSessionContractImplementor session,
+			final Serializable id,
+			final List<Object> entities,
+			final String fetchGroup,
+			final List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors) {
+
+		if ( LOG.isDebugEnabled() ) {
+			LOG.debugf( "Batch loading lazy fetch group `%s` of %s entities: %s", fetchGroup, entities.size(), getEntityName() );
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final String lazySelect = getSQLLazyBatchSelectString( fetchGroup );
+		// the foreign keys of the enhanced lazy references, resolved once all of them are queued for batch fetching
+		final List<Object[]> hydratedReferences = new ArrayList<>();
+
+		try {
+			Object result = null;
+			PreparedStatement ps = null;
+			try {
+				ResultSet rs = null;
+				try {
+					ps = session.getJdbcCoordinator()
+							.getStatementPreparer()
+							.prepareStatement( lazySelect );
+					final int span = getIdentifierType().getColumnSpan( getFactory() );
+					for ( int i = 0; i < batchSize; i++ ) {
+						// pad the batch with the last identifier
+						final Object batchEntity = entities.get( Math.min( i, entities.size() - 1 ) );
+						getIdentifierType().nullSafeSet( ps, persistenceContext.getEntry( batchEntity ).getId(), 1 + i * span, session );
+					}
+					rs = session.getJdbcCoordinator().getResultSetReturn().extract( ps );
+					while ( rs.next() ) {
+						final Serializable rowId = (Serializable) getIdentifierType().nullSafeGet( rs, getIdentifierAliases(), session, null );
+						final Object rowEntity = persistenceContext.getEntity( session.generateEntityKey( rowId, this ) );
+						if ( rowEntity == null ) {
+							continue;
+						}
+						final EntityEntry rowEntry = persistenceContext.getEntry( rowEntity );
+						// the batch only holds entities intercepted for lazy attribute loading
+						final LazyAttributeLoadingInterceptor interceptor = (LazyAttributeLoadingInterceptor) ( (PersistentAttributeInterceptable) rowEntity ).$$_hibernate_getInterceptor();
+
+						for ( LazyAttributeDescriptor fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
+							if ( interceptor.isLazyAttributeLoaded( fetchGroupAttributeDescriptor.getLazyIndex() ) ) {
+								// its already been initialized (e.g. by a write) so we don't want to overwrite
+								continue;
+							}
+
+							if ( isEnhancedLazyReference( fetchGroupAttributeDescriptor.getType() ) ) {
+								final Object hydratedValue = fetchGroupAttributeDescriptor.getType().hydrate(
+										rs,
+										lazyPropertyColumnAliases[fetchGroupAttributeDescriptor.getLazyIndex()],
+										session,
+										rowEntity
+								);
+								hydratedReferences.add( new Object[] { rowEntity, fetchGroupAttributeDescriptor, hydratedValue } );
+								continue;
+							}
+
+							final Object selectedValue = fetchGroupAttributeDescriptor.getType().nullSafeGet(
+									rs,
+									lazyPropertyColumnAliases[fetchGroupAttributeDescriptor.getLazyIndex()],
+									session,
+									rowEntity
+							);
+
+							final boolean set = initializeLazyProperty(
+									fieldName,
+									rowEntity,
+									session,
+									rowEntry,
+									fetchGroupAttributeDescriptor.getLazyIndex(),
+									selectedValue
+							);
+							interceptor.lazyAttributeInitialized( fetchGroupAttributeDescriptor.getLazyIndex() );
+							if ( set && rowEntity == entity ) {
+								result = selectedValue;
+							}
+						}
+					}
+				}
+				finally {
+					if ( rs != null ) {
+						session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( rs, ps );
+					}
+				}
+			}
+			finally {
+				if ( ps != null ) {
+					session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( ps );
+					session.getJdbcCoordinator().afterStatementExecution();
+				}
+			}
+
+			for ( Object[] hydratedReference : hydratedReferences ) {
+				final Object rowEntity = hydratedReference[0];
+				final LazyAttributeDescriptor fetchGroupAttributeDescriptor = (LazyAttributeDescriptor) hydratedReference[1];
+				// the entity itself rather than a proxy, fetched along with the other queued ones
+				final ManyToOneType type = (ManyToOneType) fetchGroupAttributeDescriptor.getType();
+				final Object selectedValue = type.resolve( hydratedReference[2], session, rowEntity, Boolean.TRUE );
+				if ( selectedValue == null && hydratedReference[2] != null && type.isReferenceToPrimaryKey() ) {
+					// a "not found" reference, which should not be part of the next batches
+					persistenceContext.getBatchFetchQueue().removeBatchLoadableEntityKey(
+							session.generateEntityKey(
+									(Serializable) hydratedReference[2],
+									factory.getMetamodel().entityPersister( type.getAssociatedEntityName() )
+							)
+					);
+				}
+				final boolean set = initializeLazyProperty(
+						fieldName,
+						rowEntity,
+						session,
+						persistenceContext.getEntry( rowEntity ),
+						fetchGroupAttributeDescriptor.getLazyIndex(),
+						selectedValue
+				);
+				( (LazyAttributeLoadingInterceptor) ( (PersistentAttributeInterceptable) rowEntity ).$$_hibernate_getInterceptor() )
+						.lazyAttributeInitialized( fetchGroupAttributeDescriptor.getLazyIndex() );
+				if ( set && rowEntity == entity ) {
+					result = selectedValue;
+				}
+			}
+
+			LOG.trace( "Done initializing lazy properties" );
+
+			return result;
+
+		}
+		catch (SQLException sqle) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					sqle,
+					"could not initialize lazy properties: " + MessageHelper.infoString( this, id, getFactory() ),
+					lazySelect
+			);
+		}
+	}
+
+	/**
+	 * Is the given lazy attribute a to-one association loaded on access in place of an enhanced "proxy"?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ENHANCED_LAZY_REFERENCES
+	 */
+	private boolean isEnhancedLazyReference(Type type) {
+		return type instanceof ManyToOneType && factory.getSessionFactoryOptions().isEnhancedLazyReferencesEnabled();
+	}
+
 	protected Object initializeLazyPropertiesFromCache(
 			final String fieldName,
 			final Object entity,
@@ -2265,6 +2468,37 @@ public abstract class AbstractEntityPersister
 		return Arrays.copyOf( fields, counter );
 	}
 
+	@Override
+	public int[] resolveAttributeIndexes(String[] trackedAttributeNames, int[] trackedAttributeIndexes) {
+		if ( trackedAttributeIndexes.length == 0 ) {
+			return new int[0];
+		}
+		final int[] mapping = trackedAttributeIndexMappings.computeIfAbsent(
+				trackedAttributeNames,
+				this::resolveTrackedAttributeIndexMapping
+		);
+
+		// distinct tracked attributes have distinct names, so there are no duplicates
+		final int[] fields = new int[trackedAttributeIndexes.length];
+		int counter = 0;
+		for ( int trackedAttributeIndex : trackedAttributeIndexes ) {
+			final int index = mapping[trackedAttributeIndex];
+			if ( index >= 0 ) {
+				fields[counter++] = index;
+			}
+		}
+		return counter == fields.length ? fields : Arrays.copyOf( fields, counter );
+	}
+
+	private int[] resolveTrackedAttributeIndexMapping(String[] trackedAttributeNames) {
+		final int[] mapping = new int[trackedAttributeNames.length];
+		for ( int i = 0; i < trackedAttributeNames.length; i++ ) {
+			final Integer index = entityMetamodel.getPropertyIndexOrNull( trackedAttributeNames[i] );
+			mapping[i] = index == null ? -1 : index;
+		}
+		return mapping;
+	}
+
 	protected String[] getSubclassPropertySubclassNameClosure() {
 		return subclassPropertySubclassNameClosure;
 	}
@@ -3878,6 +4112,9 @@ public abstract class AbstractEntityPersister
 			for ( Map.Entry<String, String> entry : sqlLazySelectStringsByFetchGroup.entrySet() ) {
 				LOG.debugf( " Lazy select (%s) : %s", entry.getKey(), entry.getValue() );
 			}
+			for ( Map.Entry<String, String> entry : sqlLazyBatchSelectStringsByFetchGroup.entrySet() ) {
+				LOG.debugf( " Lazy batch select (%s) : %s", entry.getKey(), entry.getValue() );
+			}
 			if ( sqlVersionSelectString != null ) {
 				LOG.debugf( " Version select: %s", sqlVersionSelectString );
 			}
@@ -4168,10 +4405,30 @@ public abstract class AbstractEntityPersister
 		) + "=?";
 	}
 
+	protected String createWhereByKeyBatch(int tableNumber, String alias, int batchSize) {
+		final String[] keyColumns = StringHelper.qualify( alias, getSubclassTableKeyColumns( tableNumber ) );
+		if ( keyColumns.length == 1 ) {
+			return keyColumns[0] + " in (" + StringHelper.repeat( "?", batchSize, ", " ) + ")";
+		}
+		return "(" + StringHelper.repeat( "(" + createWhereByKey( tableNumber, alias ) + ")", batchSize, " or " ) + ")";
+	}
+
 	protected String renderSelect(
 			final int[] tableNumbers,
 			final int[] columnNumbers,
 			final int[] formulaNumbers) {
+		return renderSelect( tableNumbers, columnNumbers, formulaNumbers, 1 );
+	}
+
+	/**
+	 * @param batchSize The number of entity instances to select the columns of, by identifier; when greater than 1,
+	 * the identifier is selected as well, using the {@link #getIdentifierAliases() identifier aliases}
+	 */
+	protected String renderSelect(
+			final int[] tableNumbers,
+			final int[] columnNumbers,
+			final int[] formulaNumbers,
+			final int batchSize) {
 
 		Arrays.sort( tableNumbers ); //get 'em in the right order (not that it really matters)
 
@@ -4181,7 +4438,9 @@ public abstract class AbstractEntityPersister
 				getRootAlias(),
 				drivingTable
 		); //we *could* regerate this inside each called method!
-		final String where = createWhereByKey( drivingTable, drivingAlias );
+		final String where = batchSize > 1
+				? createWhereByKeyBatch( drivingTable, drivingAlias, batchSize )
+				: createWhereByKey( drivingTable, drivingAlias );
 		final String from = createFrom( drivingTable, drivingAlias );
 
 		//now render the joins
@@ -4189,6 +4448,9 @@ public abstract class AbstractEntityPersister
 
 		//now render the select clause
 		SelectFragment selectFragment = createSelect( columnNumbers, formulaNumbers );
+		if ( batchSize > 1 ) {
+			selectFragment.addColumns( drivingAlias, getSubclassTableKeyColumns( drivingTable ), getIdentifierAliases() );
+		}
 
 		//now tie it all together
 		Select select = new Select( getFactory().getDialect() );
@@ -4260,6 +4522,9 @@ public abstract class AbstractEntityPersister
 		//select SQL
 		sqlSnapshotSelectString = generateSnapshotSelectString();
 		sqlLazySelectStringsByFetchGroup = generateLazySelectStringsByFetchGroup();
+		sqlLazyBatchSelectStringsByFetchGroup = isBatchLoadable()
+				? generateLazySelectStringsByFetchGroup( batchSize )
+				: Collections.emptyMap();
 		sqlVersionSelectString = generateSelectVersionString();
 		if ( hasInsertGeneratedProperties() ) {
 			sqlInsertGeneratedValuesSelectString = generateInsertGeneratedValuesSelectString();
@@ -5048,6 +5313,19 @@ public abstract class AbstractEntityPersister
 	@Override
 	public void afterInitialize(Object entity, SharedSessionContractImplementor session) {
 		getEntityTuplizer().afterInitialize( entity, session );
+
+		if ( isBatchLoadable() && hasLazyProperties() && entity instanceof PersistentAttributeInterceptable ) {
+			// queue the entity so that its lazy attributes may be loaded along with the ones of its siblings
+			final PersistentAttributeInterceptor interceptor = ( (PersistentAttributeInterceptable) entity ).$$_hibernate_getInterceptor();
+			if ( interceptor instanceof LazyAttributeLoadingInterceptor
+					&& ( (LazyAttributeLoadingInterceptor) interceptor ).hasAnyUninitializedAttributes() ) {
+				final EntityEntry entry = session.getPersistenceContextInternal().getEntry( entity );
+				if ( entry != null ) {
+					session.getPersistenceContextInternal().getBatchFetchQueue()
+							.addBatchLoadableLazyEntityKey( entry.getEntityKey() );
+				}
+			}
+		}
 	}
 
 	public String[] getPropertyNames() {
@@ -840,6 +840,25 @@ public interface EntityPersister extends EntityDefinition {
 	 */
 	int[] resolveAttributeIndexes(String[] attributeNames);
 
+	/**
+	 * Converts an array of attribute indexes, as tracked by an entity enhanced to track its dirty attributes by
+	 * index, to a set of indexes according to the entity metamodel
+	 *
+	 * @param trackedAttributeNames The names of the attributes tracked by the entity class, by index
+	 * @param trackedAttributeIndexes Array of tracked indexes to be resolved
+	 *
+	 * @return A set of unique indexes of the attributes found in the metamodel
+	 *
+	 * @see org.hibernate.engine.spi.IndexedSelfDirtinessTracker
+	 */
+	default int[] resolveAttributeIndexes(String[] trackedAttributeNames, int[] trackedAttributeIndexes) {
+		final String[] attributeNames = new String[trackedAttributeIndexes.length];
+		for ( int i = 0; i < trackedAttributeIndexes.length; i++ ) {
+			attributeNames[i] = trackedAttributeNames[trackedAttributeIndexes[i]];
+		}
+		return resolveAttributeIndexes( attributeNames );
+	}
+
 	boolean canUseReferenceCacheEntries();
 
 	/**
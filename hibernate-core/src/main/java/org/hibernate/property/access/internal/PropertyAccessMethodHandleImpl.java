@@ -0,0 +1,64 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.property.access.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterMethodHandleImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.PropertyAccessStrategy;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterMethodHandleImpl;
+
+/**
+ * PropertyAccess accessing the wrapped field or get/set pair through method handles.
+ *
+ * @see PropertyAccessStrategyMethodHandleImpl
+ */
+public class PropertyAccessMethodHandleImpl implements PropertyAccess {
+	private final PropertyAccessStrategyMethodHandleImpl strategy;
+	private final Getter getter;
+	private final Setter setter;
+
+	public PropertyAccessMethodHandleImpl(
+			PropertyAccessStrategyMethodHandleImpl strategy,
+			Class containerJavaType,
+			final String propertyName) {
+		this.strategy = strategy;
+
+		if ( strategy.isFieldAccess() ) {
+			final Field field = ReflectHelper.findField( containerJavaType, propertyName );
+			this.getter = new GetterMethodHandleImpl( containerJavaType, propertyName, field );
+			this.setter = new SetterMethodHandleImpl( containerJavaType, propertyName, field );
+		}
+		else {
+			final Method getterMethod = ReflectHelper.findGetterMethod( containerJavaType, propertyName );
+			this.getter = new GetterMethodHandleImpl( containerJavaType, propertyName, getterMethod );
+
+			final Method setterMethod = ReflectHelper.findSetterMethod( containerJavaType, propertyName, getterMethod.getReturnType() );
+			this.setter = new SetterMethodHandleImpl( containerJavaType, propertyName, setterMethod );
+		}
+	}
+
+	@Override
+	public PropertyAccessStrategy getPropertyAccessStrategy() {
+		return strategy;
+	}
+
+	@Override
+	public Getter getGetter() {
+		return getter;
+	}
+
+	@Override
+	public Setter getSetter() {
+		return setter;
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.property.access.internal;
+
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.PropertyAccessStrategy;
+
+/**
+ * Defines a strategy for accessing property values via a field or a get/set pair using
+ * {@code java.lang.invoke} (method handles and {@link java.lang.invoke.LambdaMetafactory})
+ * instead of reflection.  Useful where bytecode generation is not available, e.g. under a
+ * restrictive class loader, or in a native image, where the accessors fall back to plain method
+ * handles as no lambda can be spun at runtime.
+ *
+ * @see PropertyAccessStrategyFieldImpl
+ * @see PropertyAccessStrategyBasicImpl
+ */
+public class PropertyAccessStrategyMethodHandleImpl implements PropertyAccessStrategy {
+	/**
+	 * Singleton access for field based access
+	 */
+	public static final PropertyAccessStrategyMethodHandleImpl FIELD = new PropertyAccessStrategyMethodHandleImpl( true );
+
+	/**
+	 * Singleton access for get/set pair based access
+	 */
+	public static final PropertyAccessStrategyMethodHandleImpl PROPERTY = new PropertyAccessStrategyMethodHandleImpl( false );
+
+	private final boolean fieldAccess;
+
+	private PropertyAccessStrategyMethodHandleImpl(boolean fieldAccess) {
+		this.fieldAccess = fieldAccess;
+	}
+
+	public boolean isFieldAccess() {
+		return fieldAccess;
+	}
+
+	@Override
+	public PropertyAccess buildPropertyAccess(Class containerJavaType, String propertyName) {
+		return new PropertyAccessMethodHandleImpl( this, containerJavaType, propertyName );
+	}
+}
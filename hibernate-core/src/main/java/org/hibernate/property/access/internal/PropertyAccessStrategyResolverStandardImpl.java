@@ -23,9 +23,19 @@ import org.hibernate.service.ServiceRegistry;
  */
 public class PropertyAccessStrategyResolverStandardImpl implements PropertyAccessStrategyResolver {
 	private final ServiceRegistry serviceRegistry;
+	private final boolean useMethodHandles;
 
 	public PropertyAccessStrategyResolverStandardImpl(ServiceRegistry serviceRegistry) {
+		this( serviceRegistry, false );
+	}
+
+	/**
+	 * @param useMethodHandles Should the {@code field} and {@code property} strategies be replaced
+	 * by their {@link PropertyAccessStrategyMethodHandleImpl} counterparts?
+	 */
+	public PropertyAccessStrategyResolverStandardImpl(ServiceRegistry serviceRegistry, boolean useMethodHandles) {
 		this.serviceRegistry = serviceRegistry;
+		this.useMethodHandles = useMethodHandles;
 	}
 
 	@Override
@@ -36,13 +46,24 @@ public class PropertyAccessStrategyResolverStandardImpl implements PropertyAcces
 
 		if ( BuiltInPropertyAccessStrategies.BASIC.getExternalName().equals( explicitAccessStrategyName )
 				|| BuiltInPropertyAccessStrategies.FIELD.getExternalName().equals( explicitAccessStrategyName )
-				|| BuiltInPropertyAccessStrategies.MIXED.getExternalName().equals( explicitAccessStrategyName ) ) {
+				|| BuiltInPropertyAccessStrategies.MIXED.getExternalName().equals( explicitAccessStrategyName )
+				|| BuiltInPropertyAccessStrategies.BASIC_METHOD_HANDLE.getExternalName().equals( explicitAccessStrategyName )
+				|| BuiltInPropertyAccessStrategies.FIELD_METHOD_HANDLE.getExternalName().equals( explicitAccessStrategyName ) ) {
 			if ( Managed.class.isAssignableFrom( containerClass ) ) {
 				// PROPERTY (BASIC) and MIXED are not valid for bytecode enhanced entities...
 				return PropertyAccessStrategyEnhancedImpl.INSTANCE;
 			}
 		}
 
+		if ( useMethodHandles ) {
+			if ( BuiltInPropertyAccessStrategies.FIELD.getExternalName().equals( explicitAccessStrategyName ) ) {
+				return BuiltInPropertyAccessStrategies.FIELD_METHOD_HANDLE.getStrategy();
+			}
+			else if ( BuiltInPropertyAccessStrategies.BASIC.getExternalName().equals( explicitAccessStrategyName ) ) {
+				return BuiltInPropertyAccessStrategies.BASIC_METHOD_HANDLE.getStrategy();
+			}
+		}
+
 		if ( StringHelper.isNotEmpty( explicitAccessStrategyName ) ) {
 			return resolveExplicitlyNamedPropertyAccessStrategy( explicitAccessStrategyName );
 		}
@@ -50,6 +71,9 @@ public class PropertyAccessStrategyResolverStandardImpl implements PropertyAcces
 		if ( entityMode == EntityMode.MAP ) {
 			return BuiltInPropertyAccessStrategies.MAP.getStrategy();
 		}
+		else if ( useMethodHandles ) {
+			return BuiltInPropertyAccessStrategies.BASIC_METHOD_HANDLE.getStrategy();
+		}
 		else {
 			return BuiltInPropertyAccessStrategies.BASIC.getStrategy();
 		}
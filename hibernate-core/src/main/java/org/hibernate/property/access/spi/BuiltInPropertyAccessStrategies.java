@@ -10,6 +10,7 @@ import org.hibernate.property.access.internal.PropertyAccessStrategyBasicImpl;
 import org.hibernate.property.access.internal.PropertyAccessStrategyEmbeddedImpl;
 import org.hibernate.property.access.internal.PropertyAccessStrategyFieldImpl;
 import org.hibernate.property.access.internal.PropertyAccessStrategyMapImpl;
+import org.hibernate.property.access.internal.PropertyAccessStrategyMethodHandleImpl;
 import org.hibernate.property.access.internal.PropertyAccessStrategyMixedImpl;
 import org.hibernate.property.access.internal.PropertyAccessStrategyNoopImpl;
 
@@ -24,7 +25,9 @@ public enum BuiltInPropertyAccessStrategies {
 	MIXED( "mixed", PropertyAccessStrategyMixedImpl.INSTANCE ),
 	MAP( "map", PropertyAccessStrategyMapImpl.INSTANCE ),
 	EMBEDDED( "embedded", PropertyAccessStrategyEmbeddedImpl.INSTANCE ),
-	NOOP( "noop", PropertyAccessStrategyNoopImpl.INSTANCE )
+	NOOP( "noop", PropertyAccessStrategyNoopImpl.INSTANCE ),
+	FIELD_METHOD_HANDLE( "field-method-handle", PropertyAccessStrategyMethodHandleImpl.FIELD ),
+	BASIC_METHOD_HANDLE( "property-method-handle", PropertyAccessStrategyMethodHandleImpl.PROPERTY )
 	;
 
 	private final String externalName;
@@ -59,6 +62,12 @@ public enum BuiltInPropertyAccessStrategies {
 		else if ( NOOP.externalName.equals( name ) ) {
 			return NOOP;
 		}
+		else if ( FIELD_METHOD_HANDLE.externalName.equals( name ) ) {
+			return FIELD_METHOD_HANDLE;
+		}
+		else if ( BASIC_METHOD_HANDLE.externalName.equals( name ) ) {
+			return BASIC_METHOD_HANDLE;
+		}
 
 		return null;
 	}
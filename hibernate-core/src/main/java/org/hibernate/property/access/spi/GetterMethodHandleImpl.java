@@ -0,0 +1,142 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.property.access.spi;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.hibernate.PropertyAccessException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.ReflectHelper;
+
+import static org.hibernate.internal.CoreLogging.messageLogger;
+
+/**
+ * Getter implementation reading a field or calling a getter method through {@code java.lang.invoke}
+ * rather than through reflection.
+ *
+ * @see MethodHandleAccessSupport
+ */
+public class GetterMethodHandleImpl implements Getter {
+	private static final CoreMessageLogger LOG = messageLogger( GetterMethodHandleImpl.class );
+
+	private final Class containerClass;
+	private final String propertyName;
+	private final Member member;
+	private final Method getterMethod;
+
+	private final transient Function<Object, Object> accessor;
+
+	public GetterMethodHandleImpl(Class containerClass, String propertyName, Field field) {
+		this( containerClass, propertyName, field, ReflectHelper.findGetterMethodForFieldAccess( field, propertyName ) );
+	}
+
+	public GetterMethodHandleImpl(Class containerClass, String propertyName, Method getterMethod) {
+		this( containerClass, propertyName, getterMethod, getterMethod );
+	}
+
+	private GetterMethodHandleImpl(Class containerClass, String propertyName, Member member, Method getterMethod) {
+		this.containerClass = containerClass;
+		this.propertyName = propertyName;
+		this.member = member;
+		this.getterMethod = getterMethod;
+
+		this.accessor = MethodHandleAccessSupport.buildGetter( member );
+	}
+
+	@Override
+	public Object get(Object owner) {
+		try {
+			return accessor.apply( owner );
+		}
+		catch (ClassCastException cce) {
+			LOG.illegalPropertyGetterArgument( containerClass.getName(), propertyName );
+			throw new PropertyAccessException(
+					cce,
+					"IllegalArgumentException occurred calling",
+					false,
+					containerClass,
+					propertyName
+			);
+		}
+		catch (Exception e) {
+			throw new PropertyAccessException(
+					e,
+					"Exception occurred inside",
+					false,
+					containerClass,
+					propertyName
+			);
+		}
+	}
+
+	@Override
+	public Object getForInsert(Object owner, Map mergeMap, SharedSessionContractImplementor session) {
+		return get( owner );
+	}
+
+	@Override
+	public Class getReturnType() {
+		return member instanceof Field ? ( (Field) member ).getType() : ( (Method) member ).getReturnType();
+	}
+
+	@Override
+	public Member getMember() {
+		return member;
+	}
+
+	@Override
+	public String getMethodName() {
+		return getterMethod != null ? getterMethod.getName() : null;
+	}
+
+	@Override
+	public Method getMethod() {
+		return getterMethod;
+	}
+
+	private Object writeReplace() throws ObjectStreamException {
+		return new SerialForm( containerClass, propertyName, member );
+	}
+
+	private static class SerialForm implements Serializable {
+		private final Class containerClass;
+		private final String propertyName;
+
+		private final Class declaringClass;
+		private final String memberName;
+		private final boolean field;
+
+		private SerialForm(Class containerClass, String propertyName, Member member) {
+			this.containerClass = containerClass;
+			this.propertyName = propertyName;
+			this.declaringClass = member.getDeclaringClass();
+			this.memberName = member.getName();
+			this.field = member instanceof Field;
+		}
+
+		private Object readResolve() {
+			try {
+				if ( field ) {
+					return new GetterMethodHandleImpl( containerClass, propertyName, declaringClass.getDeclaredField( memberName ) );
+				}
+				return new GetterMethodHandleImpl( containerClass, propertyName, declaringClass.getDeclaredMethod( memberName ) );
+			}
+			catch (NoSuchFieldException | NoSuchMethodException e) {
+				throw new PropertyAccessSerializationException(
+						"Unable to resolve getter member on deserialization : " + declaringClass.getName() + "#" + memberName
+				);
+			}
+		}
+	}
+}
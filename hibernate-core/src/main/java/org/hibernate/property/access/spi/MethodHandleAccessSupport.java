@@ -0,0 +1,191 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.property.access.spi;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.util.ReflectHelper;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Builds the {@code java.lang.invoke} based accessors used by {@link GetterMethodHandleImpl}
+ * and {@link SetterMethodHandleImpl}.
+ * <p/>
+ * Public methods of public classes which are visible to Hibernate are bound through
+ * {@link LambdaMetafactory}, which yields a plain {@link Function} / {@link BiConsumer} invoking
+ * the method directly.  Everything else (fields, non-public members, classes Hibernate cannot see)
+ * is accessed through a {@link MethodHandle} adapted to an {@code Object} based signature, as are
+ * the methods for which no lambda can be spun at runtime, e.g. in a native image.
+ * <p/>
+ * The accessors are held by the getter and setter instances, not by constants, so they are not
+ * meant as a performance optimization over the reflective strategies.
+ *
+ * @see org.hibernate.property.access.internal.PropertyAccessStrategyMethodHandleImpl
+ */
+final class MethodHandleAccessSupport {
+	private static final Logger LOG = CoreLogging.logger( MethodHandleAccessSupport.class );
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType( Object.class, Object.class );
+	private static final MethodType SETTER_TYPE = MethodType.methodType( void.class, Object.class, Object.class );
+
+	private MethodHandleAccessSupport() {
+	}
+
+	static Function<Object, Object> buildGetter(Member member) {
+		if ( member instanceof Method && isLambdaCandidate( (Method) member, ( (Method) member ).getReturnType() ) ) {
+			final Function<Object, Object> getter = spinGetter( (Method) member );
+			if ( getter != null ) {
+				return getter;
+			}
+		}
+
+		try {
+			ReflectHelper.ensureAccessibility( (AccessibleObject) member );
+			final MethodHandle handle = member instanceof Method
+					? LOOKUP.unreflect( (Method) member )
+					: LOOKUP.unreflectGetter( (Field) member );
+			final MethodHandle adapted = handle.asType( GETTER_TYPE );
+			return owner -> {
+				try {
+					return (Object) adapted.invokeExact( owner );
+				}
+				catch (RuntimeException | Error e) {
+					throw e;
+				}
+				catch (Throwable t) {
+					throw new UndeclaredThrowableException( t );
+				}
+			};
+		}
+		catch (Throwable t) {
+			throw new PropertyAccessBuildingException( "Unable to build MethodHandle based getter for " + describe( member ), t );
+		}
+	}
+
+	static BiConsumer<Object, Object> buildSetter(Member member) {
+		if ( member instanceof Method && isLambdaCandidate( (Method) member, ( (Method) member ).getParameterTypes()[0] ) ) {
+			final BiConsumer<Object, Object> setter = spinSetter( (Method) member );
+			if ( setter != null ) {
+				return setter;
+			}
+		}
+
+		try {
+			ReflectHelper.ensureAccessibility( (AccessibleObject) member );
+			final MethodHandle handle = member instanceof Method
+					? LOOKUP.unreflect( (Method) member )
+					: LOOKUP.unreflectSetter( (Field) member );
+			final MethodHandle adapted = handle.asType( SETTER_TYPE );
+			return (target, value) -> {
+				try {
+					adapted.invokeExact( target, value );
+				}
+				catch (RuntimeException | Error e) {
+					throw e;
+				}
+				catch (Throwable t) {
+					throw new UndeclaredThrowableException( t );
+				}
+			};
+		}
+		catch (Throwable t) {
+			throw new PropertyAccessBuildingException( "Unable to build MethodHandle based setter for " + describe( member ), t );
+		}
+	}
+
+	/**
+	 * @return The getter invoking the given method, or {@code null} if no lambda can be spun for it
+	 */
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> spinGetter(Method method) {
+		try {
+			final CallSite callSite = LambdaMetafactory.metafactory(
+					LOOKUP,
+					"apply",
+					MethodType.methodType( Function.class ),
+					GETTER_TYPE,
+					LOOKUP.unreflect( method ),
+					MethodType.methodType( method.getReturnType(), method.getDeclaringClass() ).wrap()
+			);
+			return (Function<Object, Object>) callSite.getTarget().invoke();
+		}
+		catch (Throwable t) {
+			LOG.debugf( t, "Unable to spin a lambda getter for %s, using a MethodHandle", describe( method ) );
+			return null;
+		}
+	}
+
+	/**
+	 * @return The setter invoking the given method, or {@code null} if no lambda can be spun for it
+	 */
+	@SuppressWarnings("unchecked")
+	private static BiConsumer<Object, Object> spinSetter(Method method) {
+		try {
+			final CallSite callSite = LambdaMetafactory.metafactory(
+					LOOKUP,
+					"accept",
+					MethodType.methodType( BiConsumer.class ),
+					SETTER_TYPE,
+					LOOKUP.unreflect( method ),
+					MethodType.methodType(
+							void.class,
+							method.getDeclaringClass(),
+							MethodType.methodType( method.getParameterTypes()[0] ).wrap().returnType()
+					)
+			);
+			return (BiConsumer<Object, Object>) callSite.getTarget().invoke();
+		}
+		catch (Throwable t) {
+			LOG.debugf( t, "Unable to spin a lambda setter for %s, using a MethodHandle", describe( method ) );
+			return null;
+		}
+	}
+
+	/**
+	 * The class spun by {@link LambdaMetafactory} is defined next to this class, so the method
+	 * must be public and every type it has to cast to must be public and resolvable from
+	 * Hibernate's own class loader.
+	 */
+	private static boolean isLambdaCandidate(Method method, Class<?> valueType) {
+		return Modifier.isPublic( method.getModifiers() )
+				&& !Modifier.isStatic( method.getModifiers() )
+				&& isVisible( method.getDeclaringClass() )
+				&& ( valueType.isPrimitive() || isVisible( valueType ) );
+	}
+
+	private static boolean isVisible(Class<?> type) {
+		if ( !Modifier.isPublic( type.getModifiers() ) ) {
+			return false;
+		}
+		try {
+			return Class.forName( type.getName(), false, MethodHandleAccessSupport.class.getClassLoader() ) == type;
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	private static String describe(Member member) {
+		return member.getDeclaringClass().getName() + "#" + member.getName();
+	}
+}
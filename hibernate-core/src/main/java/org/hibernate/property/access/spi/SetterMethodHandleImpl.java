@@ -0,0 +1,150 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.property.access.spi;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+
+import org.hibernate.PropertyAccessException;
+import org.hibernate.PropertySetterAccessException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.CoreMessageLogger;
+
+import static org.hibernate.internal.CoreLogging.messageLogger;
+
+/**
+ * Setter implementation writing a field or calling a setter method through {@code java.lang.invoke}
+ * rather than through reflection.
+ *
+ * @see MethodHandleAccessSupport
+ */
+public class SetterMethodHandleImpl implements Setter {
+	private static final CoreMessageLogger LOG = messageLogger( SetterMethodHandleImpl.class );
+
+	private final Class containerClass;
+	private final String propertyName;
+	private final Member member;
+	private final Class valueType;
+
+	private final transient BiConsumer<Object, Object> accessor;
+
+	public SetterMethodHandleImpl(Class containerClass, String propertyName, Field field) {
+		this( containerClass, propertyName, field, field.getType() );
+	}
+
+	public SetterMethodHandleImpl(Class containerClass, String propertyName, Method setterMethod) {
+		this( containerClass, propertyName, setterMethod, setterMethod.getParameterTypes()[0] );
+	}
+
+	private SetterMethodHandleImpl(Class containerClass, String propertyName, Member member, Class valueType) {
+		this.containerClass = containerClass;
+		this.propertyName = propertyName;
+		this.member = member;
+		this.valueType = valueType;
+
+		this.accessor = MethodHandleAccessSupport.buildSetter( member );
+	}
+
+	@Override
+	public void set(Object target, Object value, SessionFactoryImplementor factory) {
+		try {
+			accessor.accept( target, value );
+		}
+		catch (NullPointerException npe) {
+			if ( value == null && valueType.isPrimitive() ) {
+				throw new PropertyAccessException(
+						npe,
+						"Null value was assigned to a property of primitive type",
+						true,
+						containerClass,
+						propertyName
+				);
+			}
+			else {
+				throw new PropertyAccessException(
+						npe,
+						"NullPointerException occurred while calling",
+						true,
+						containerClass,
+						propertyName
+				);
+			}
+		}
+		catch (ClassCastException cce) {
+			LOG.illegalPropertySetterArgument( containerClass.getName(), propertyName );
+			LOG.expectedType( valueType.getName(), value == null ? null : value.getClass().getName() );
+			throw new PropertySetterAccessException(
+					cce,
+					containerClass,
+					propertyName,
+					valueType,
+					target,
+					value
+			);
+		}
+		catch (Exception e) {
+			throw new PropertyAccessException(
+					e,
+					"Exception occurred inside",
+					true,
+					containerClass,
+					propertyName
+			);
+		}
+	}
+
+	@Override
+	public String getMethodName() {
+		return member instanceof Method ? member.getName() : null;
+	}
+
+	@Override
+	public Method getMethod() {
+		return member instanceof Method ? (Method) member : null;
+	}
+
+	private Object writeReplace() throws ObjectStreamException {
+		return new SerialForm( containerClass, propertyName, member, valueType );
+	}
+
+	private static class SerialForm implements Serializable {
+		private final Class containerClass;
+		private final String propertyName;
+
+		private final Class declaringClass;
+		private final String memberName;
+		private final Class valueType;
+		private final boolean field;
+
+		private SerialForm(Class containerClass, String propertyName, Member member, Class valueType) {
+			this.containerClass = containerClass;
+			this.propertyName = propertyName;
+			this.declaringClass = member.getDeclaringClass();
+			this.memberName = member.getName();
+			this.valueType = valueType;
+			this.field = member instanceof Field;
+		}
+
+		private Object readResolve() {
+			try {
+				if ( field ) {
+					return new SetterMethodHandleImpl( containerClass, propertyName, declaringClass.getDeclaredField( memberName ) );
+				}
+				return new SetterMethodHandleImpl( containerClass, propertyName, declaringClass.getDeclaredMethod( memberName, valueType ) );
+			}
+			catch (NoSuchFieldException | NoSuchMethodException e) {
+				throw new PropertyAccessSerializationException(
+						"Unable to resolve setter member on deserialization : " + declaringClass.getName() + "#" + memberName
+				);
+			}
+		}
+	}
+}
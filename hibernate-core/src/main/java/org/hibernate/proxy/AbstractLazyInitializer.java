@@ -14,6 +14,7 @@ import org.hibernate.LazyInitializationException;
 import org.hibernate.SessionException;
 import org.hibernate.TransientObjectException;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.internal.ConcurrentLazyInitialization;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -36,7 +37,7 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 	private String entityName;
 	private Serializable id;
 	private Object target;
-	private boolean initialized;
+	private volatile boolean initialized;
 	private boolean readOnly;
 	private boolean unwrap;
 	private transient SharedSessionContractImplementor session;
@@ -44,6 +45,7 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 
 	private String sessionFactoryUuid;
 	private boolean allowLoadOutsideTransaction;
+	private boolean concurrentInitialization;
 
 	/**
 	 * @deprecated This constructor was initially intended for serialization only, and is not useful anymore.
@@ -192,45 +194,11 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 			if ( sessionFactoryUuid == null ) {
 				throw new LazyInitializationException( "could not initialize proxy [" + entityName + "#" + id + "] - no Session" );
 			}
-			try {
-				SessionFactoryImplementor sf = (SessionFactoryImplementor)
-						SessionFactoryRegistry.INSTANCE.getSessionFactory( sessionFactoryUuid );
-				SharedSessionContractImplementor session = (SharedSessionContractImplementor) sf.openSession();
-				session.getPersistenceContext().setDefaultReadOnly( true );
-				session.setFlushMode( FlushMode.MANUAL );
-
-				boolean isJTA = session.getTransactionCoordinator().getTransactionCoordinatorBuilder().isJta();
-
-				if ( !isJTA ) {
-					// Explicitly handle the transactions only if we're not in
-					// a JTA environment.  A lazy loading temporary session can
-					// be created even if a current session and transaction are
-					// open (ex: session.clear() was used).  We must prevent
-					// multiple transactions.
-					session.beginTransaction();
-				}
-
-				try {
-					target = session.immediateLoad( entityName, id );
-					initialized = true;
-					checkTargetState(session);
-				}
-				finally {
-					// make sure the just opened temp session gets closed!
-					try {
-						if ( !isJTA ) {
-							session.getTransaction().commit();
-						}
-						session.close();
-					}
-					catch (Exception e) {
-						LOG.warn( "Unable to close temporary session used to load lazy proxy associated to no session" );
-					}
-				}
+			if ( concurrentInitialization ) {
+				initializeConcurrently();
 			}
-			catch (Exception e) {
-				LOG.error( "Initialization failure [" + entityName + "#" + id + "]", e );
-				throw new LazyInitializationException( e.getMessage() );
+			else {
+				initializeWithTemporarySession();
 			}
 		}
 		else if ( session.isOpenOrWaitingForAutoClose() && session.isConnected() ) {
@@ -243,6 +211,74 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 		}
 	}
 
+	private void initializeWithTemporarySession() {
+		try {
+			SessionFactoryImplementor sf = (SessionFactoryImplementor)
+					SessionFactoryRegistry.INSTANCE.getSessionFactory( sessionFactoryUuid );
+			SharedSessionContractImplementor session = (SharedSessionContractImplementor) sf.openSession();
+			session.getPersistenceContext().setDefaultReadOnly( true );
+			session.setFlushMode( FlushMode.MANUAL );
+
+			boolean isJTA = session.getTransactionCoordinator().getTransactionCoordinatorBuilder().isJta();
+
+			if ( !isJTA ) {
+				// Explicitly handle the transactions only if we're not in
+				// a JTA environment.  A lazy loading temporary session can
+				// be created even if a current session and transaction are
+				// open (ex: session.clear() was used).  We must prevent
+				// multiple transactions.
+				session.beginTransaction();
+			}
+
+			try {
+				target = session.immediateLoad( entityName, id );
+				initialized = true;
+				checkTargetState(session);
+			}
+			finally {
+				// make sure the just opened temp session gets closed!
+				try {
+					if ( !isJTA ) {
+						session.getTransaction().commit();
+					}
+					session.close();
+				}
+				catch (Exception e) {
+					LOG.warn( "Unable to close temporary session used to load lazy proxy associated to no session" );
+				}
+			}
+		}
+		catch (Exception e) {
+			LOG.error( "Initialization failure [" + entityName + "#" + id + "]", e );
+			throw new LazyInitializationException( e.getMessage() );
+		}
+	}
+
+	/**
+	 * Initialize this read-only detached proxy, which may be shared by concurrent threads, in a temporary session,
+	 * unless another thread is already initializing a proxy of the same entity.
+	 */
+	private void initializeConcurrently() {
+		final SessionFactoryImplementor sf = (SessionFactoryImplementor)
+				SessionFactoryRegistry.INSTANCE.getSessionFactory( sessionFactoryUuid );
+		final EntityKey entityKey = new EntityKey( id, sf.getMetamodel().entityPersister( entityName ) );
+		final Object loaded = ConcurrentLazyInitialization.initialize(
+				sessionFactoryUuid,
+				entityKey,
+				() -> {
+					if ( !initialized ) {
+						initializeWithTemporarySession();
+					}
+					return target;
+				}
+		);
+		if ( !initialized ) {
+			// the entity was loaded for another proxy
+			target = loaded;
+			initialized = true;
+		}
+	}
+
 	/**
 	 * Attempt to initialize the proxy without loading anything from the database.
 	 *
@@ -277,6 +313,10 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 			if ( allowLoadOutsideTransaction && sessionFactoryUuid == null ) {
 				sessionFactoryUuid = session.getFactory().getUuid();
 			}
+
+			concurrentInitialization = allowLoadOutsideTransaction
+					&& readOnly
+					&& session.getFactory().getSessionFactoryOptions().isConcurrentLazyLoadNoTransEnabled();
 		}
 	}
 
@@ -7,15 +7,25 @@
 package org.hibernate.proxy.pojo.bytebuddy;
 
 import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.function.Function;
 
 import org.hibernate.HibernateException;
+import org.hibernate.Version;
 import org.hibernate.bytecode.internal.bytebuddy.ByteBuddyState;
 import org.hibernate.cfg.Environment;
 import org.hibernate.internal.CoreMessageLogger;
@@ -26,6 +36,8 @@ import org.hibernate.proxy.ProxyConfiguration;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.TypeCache;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Ownership;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
@@ -38,6 +50,17 @@ public class ByteBuddyProxyHelper implements Serializable {
 	private static final CoreMessageLogger LOG = messageLogger( ByteBuddyProxyHelper.class );
 	private static final String PROXY_NAMING_SUFFIX = Environment.useLegacyProxyClassnames() ? "HibernateProxy$" : "HibernateProxy";
 
+	/**
+	 * The suffix of the name of the proxy classes generated at build time, see {@link #buildUnloadedPrebuiltProxy}
+	 */
+	public static final String PREBUILT_PROXY_NAME_SUFFIX = "$HibernateProxy$Prebuilt";
+
+	/**
+	 * The name of the static field holding the {@link #prebuiltProxyFingerprint fingerprint} of the entity class a
+	 * prebuilt proxy class was generated from
+	 */
+	public static final String PREBUILT_PROXY_FINGERPRINT_FIELD_NAME = "$$_hibernate_fingerprint";
+
 	private final ByteBuddyState byteBuddyState;
 
 	public ByteBuddyProxyHelper(ByteBuddyState byteBuddyState) {
@@ -46,6 +69,13 @@ public class ByteBuddyProxyHelper implements Serializable {
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public Class buildProxy(final Class persistentClass, final Class[] interfaces) {
+		if ( interfaces.length == 1 ) {
+			final Class prebuiltProxy = loadPrebuiltProxy( persistentClass );
+			if ( prebuiltProxy != null ) {
+				return prebuiltProxy;
+			}
+		}
+
 		Set<Class<?>> key = new HashSet<Class<?>>();
 		if ( interfaces.length == 1 ) {
 			key.add( persistentClass );
@@ -63,6 +93,120 @@ public class ByteBuddyProxyHelper implements Serializable {
 		return byteBuddyState.make( proxyBuilder( persistentClass, interfaces ) );
 	}
 
+	/**
+	 * Build the proxy class of the given entity class, to be generated at build time next to it: as for entities
+	 * without a proxy interface, it extends the entity class and implements {@link HibernateProxy}.  At runtime,
+	 * {@link #buildProxy} uses it instead of generating one, unless the entity class has changed since.
+	 *
+	 * @return The proxy class, {@code null} if the entity class cannot be proxied
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public DynamicType.Unloaded<?> buildUnloadedPrebuiltProxy(final Class persistentClass) {
+		if ( Modifier.isFinal( persistentClass.getModifiers() ) || !hasVisibleDefaultConstructor( persistentClass ) ) {
+			return null;
+		}
+		final String fingerprint = prebuiltProxyFingerprint( persistentClass );
+		return byteBuddyState.make(
+				proxyBuilder( persistentClass, new Class[] { HibernateProxy.class } )
+						.andThen( builder -> builder
+								.name( persistentClass.getName() + PREBUILT_PROXY_NAME_SUFFIX )
+								.defineField(
+										PREBUILT_PROXY_FINGERPRINT_FIELD_NAME,
+										String.class,
+										Visibility.PUBLIC,
+										Ownership.STATIC,
+										FieldManifestation.FINAL
+								)
+								.value( fingerprint ) )
+		);
+	}
+
+	private Class loadPrebuiltProxy(Class persistentClass) {
+		final Class prebuiltProxy;
+		try {
+			prebuiltProxy = Class.forName(
+					persistentClass.getName() + PREBUILT_PROXY_NAME_SUFFIX,
+					false,
+					persistentClass.getClassLoader()
+			);
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return null;
+		}
+
+		try {
+			final Field fingerprint = prebuiltProxy.getField( PREBUILT_PROXY_FINGERPRINT_FIELD_NAME );
+			if ( prebuiltProxy.getSuperclass() == persistentClass
+					&& HibernateProxy.class.isAssignableFrom( prebuiltProxy )
+					&& prebuiltProxyFingerprint( persistentClass ).equals( fingerprint.get( null ) ) ) {
+				LOG.tracef( "Using prebuilt proxy class [%s]", prebuiltProxy.getName() );
+				return prebuiltProxy;
+			}
+		}
+		catch (NoSuchFieldException | IllegalAccessException e) {
+			// not one of ours
+		}
+		LOG.debugf( "Ignoring stale prebuilt proxy class [%s], generating a new one", prebuiltProxy.getName() );
+		return null;
+	}
+
+	/**
+	 * A digest of the methods which the proxy class of the given entity class overrides, along with the Hibernate
+	 * version, so that a prebuilt proxy class can be told apart from a stale one.
+	 */
+	private static String prebuiltProxyFingerprint(Class<?> persistentClass) {
+		final List<String> signatures = new ArrayList<>();
+		signatures.add( Version.getVersionString() );
+		final Set<Class<?>> interfaces = new HashSet<>();
+		for ( Class<?> type = persistentClass; type != null; type = type.getSuperclass() ) {
+			addSignatures( type, signatures );
+			Collections.addAll( interfaces, type.getInterfaces() );
+		}
+		while ( !interfaces.isEmpty() ) {
+			final Class<?> type = interfaces.iterator().next();
+			interfaces.remove( type );
+			addSignatures( type, signatures );
+			Collections.addAll( interfaces, type.getInterfaces() );
+		}
+
+		try {
+			final MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+			for ( String signature : signatures ) {
+				digest.update( signature.getBytes( StandardCharsets.UTF_8 ) );
+			}
+			final StringBuilder fingerprint = new StringBuilder();
+			for ( byte b : digest.digest() ) {
+				fingerprint.append( String.format( "%02x", b ) );
+			}
+			return fingerprint.toString();
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( e );
+		}
+	}
+
+	private static void addSignatures(Class<?> type, List<String> signatures) {
+		final List<String> typeSignatures = new ArrayList<>();
+		for ( Method method : type.getDeclaredMethods() ) {
+			typeSignatures.add( method.toGenericString() );
+		}
+		for ( Constructor<?> constructor : type.getDeclaredConstructors() ) {
+			typeSignatures.add( constructor.toGenericString() );
+		}
+		Collections.sort( typeSignatures );
+		signatures.add( type.getName() );
+		signatures.addAll( typeSignatures );
+	}
+
+	private static boolean hasVisibleDefaultConstructor(Class<?> persistentClass) {
+		try {
+			return !Modifier.isPrivate( persistentClass.getDeclaredConstructor().getModifiers() );
+		}
+		catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
 	private Function<ByteBuddy, DynamicType.Builder<?>> proxyBuilder(Class persistentClass, Class[] interfaces) {
 		return byteBuddy -> byteBuddy
 				.ignore( byteBuddyState.getProxyDefinitionHelpers().getGroovyGetMetaClassFilter() )
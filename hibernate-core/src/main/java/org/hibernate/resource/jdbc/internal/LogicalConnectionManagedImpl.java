@@ -24,6 +24,8 @@ import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.hibernate.stat.internal.StatsHelper;
+import org.hibernate.stat.spi.JdbcInstrumentation;
 
 import org.jboss.logging.Logger;
 
@@ -41,6 +43,7 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 	private final transient JdbcConnectionAccess jdbcConnectionAccess;
 	private final transient JdbcObserver observer;
 	private final transient SqlExceptionHelper sqlExceptionHelper;
+	private final transient JdbcInstrumentation jdbcInstrumentation;
 
 	private final transient PhysicalConnectionHandlingMode connectionHandlingMode;
 
@@ -63,6 +66,7 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 				jdbcConnectionAccess );
 
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+		this.jdbcInstrumentation = StatsHelper.INSTANCE.getJdbcInstrumentation( jdbcSessionContext.getServiceRegistry() );
 
 		if ( connectionHandlingMode.getAcquisitionMode() == ConnectionAcquisitionMode.IMMEDIATELY ) {
 			acquireConnectionIfNeeded();
@@ -104,6 +108,7 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 	private Connection acquireConnectionIfNeeded() {
 		if ( physicalConnection == null ) {
 			// todo : is this the right place for these observer calls?
+			final long acquisitionStartNanos = jdbcInstrumentation.isEnabled() ? System.nanoTime() : 0L;
 			try {
 				physicalConnection = jdbcConnectionAccess.obtainConnection();
 			}
@@ -112,6 +117,9 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 			}
 			finally {
 				observer.jdbcConnectionAcquisitionEnd( physicalConnection );
+				if ( acquisitionStartNanos != 0L ) {
+					jdbcInstrumentation.recordConnectionAcquisition( System.nanoTime() - acquisitionStartNanos );
+				}
 			}
 		}
 		return physicalConnection;
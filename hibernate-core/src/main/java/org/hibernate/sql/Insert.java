@@ -92,7 +92,15 @@ public class Insert {
 	}
 
 	public String toStatementString() {
-		StringBuilder buf = new StringBuilder( columns.size()*15 + tableName.length() + 10 );
+		return toStatementString( 1 );
+	}
+
+	/**
+	 * @param rowCount The number of rows inserted by the statement, by a multi-row {@code values} list, which the
+	 * dialect must {@link Dialect#supportsMultiRowInsert() support} if more than one
+	 */
+	public String toStatementString(int rowCount) {
+		StringBuilder buf = new StringBuilder( columns.size()*15*rowCount + tableName.length() + 10 );
 		if ( comment != null ) {
 			buf.append( "/* " ).append( comment ).append( " */ " );
 		}
@@ -121,15 +129,21 @@ public class Insert {
 					buf.append( ", " );
 				}
 			}
-			buf.append(") values (");
-			iter = columns.values().iterator();
-			while ( iter.hasNext() ) {
-				buf.append( iter.next() );
-				if ( iter.hasNext() ) {
+			buf.append(") values ");
+			for ( int i = 0; i < rowCount; i++ ) {
+				if ( i > 0 ) {
 					buf.append( ", " );
 				}
+				buf.append( '(' );
+				iter = columns.values().iterator();
+				while ( iter.hasNext() ) {
+					buf.append( iter.next() );
+					if ( iter.hasNext() ) {
+						buf.append( ", " );
+					}
+				}
+				buf.append( ')' );
 			}
-			buf.append(')');
 		}
 		return buf.toString();
 	}
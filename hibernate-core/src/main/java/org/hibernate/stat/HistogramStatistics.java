@@ -0,0 +1,46 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * Distribution of recorded values (durations in nanoseconds, batch sizes, ...).
+ * <p/>
+ * Values are kept in logarithmic buckets, so percentiles are approximations with a
+ * relative error of at most 12.5%.
+ */
+public interface HistogramStatistics extends Serializable {
+	/**
+	 * How many values have been recorded?
+	 */
+	long getCount();
+
+	/**
+	 * The sum of all recorded values
+	 */
+	long getTotal();
+
+	/**
+	 * The largest recorded value
+	 */
+	long getMax();
+
+	/**
+	 * The arithmetic mean of the recorded values
+	 */
+	double getMean();
+
+	/**
+	 * The (approximated) value below which the given percentage of recorded values fall.
+	 *
+	 * @param percentile The percentile, between {@code 0} and {@code 100}
+	 *
+	 * @return The value at the percentile, or {@code 0} if nothing has been recorded
+	 */
+	long getValueAtPercentile(double percentile);
+}
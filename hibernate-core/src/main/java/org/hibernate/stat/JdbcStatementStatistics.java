@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * Timing and row count statistics of a single SQL statement, as collected by
+ * {@link org.hibernate.stat.spi.JdbcInstrumentation}.  All durations are in nanoseconds.
+ */
+public interface JdbcStatementStatistics extends Serializable {
+	/**
+	 * The SQL, as sent to the JDBC driver
+	 */
+	String getSql();
+
+	/**
+	 * Time spent preparing the statement
+	 */
+	HistogramStatistics getPrepareTime();
+
+	/**
+	 * Time spent executing the statement, until the driver returned the {@link java.sql.ResultSet}
+	 * or the update count
+	 */
+	HistogramStatistics getExecutionTime();
+
+	/**
+	 * Time spent reading and processing the rows of the {@link java.sql.ResultSet}
+	 */
+	HistogramStatistics getFetchTime();
+
+	/**
+	 * Time spent executing JDBC batches of this statement
+	 */
+	HistogramStatistics getBatchExecutionTime();
+
+	/**
+	 * Number of statements grouped into each executed JDBC batch
+	 */
+	HistogramStatistics getBatchSize();
+
+	/**
+	 * How many {@link java.sql.ResultSet} rows have been read for this statement?
+	 */
+	long getRowsRead();
+}
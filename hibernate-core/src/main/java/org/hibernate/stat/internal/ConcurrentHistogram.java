@@ -0,0 +1,121 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.HistogramStatistics;
+
+/**
+ * Lock-free, fixed size histogram of non-negative {@code long} values.
+ * <p/>
+ * Each power of two is split into {@value #SUB_BUCKETS} linear sub-buckets, so the whole
+ * {@code long} range fits into a few hundred counters and a bucket is never wider than 1/8 of
+ * its lower bound.  Recording is a handful of atomic increments; reading is a weakly consistent
+ * snapshot.
+ */
+public class ConcurrentHistogram implements HistogramStatistics {
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = ( Long.SIZE - SUB_BUCKET_BITS ) * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray( BUCKETS );
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator( Math::max, 0L );
+
+	public void record(long value) {
+		final long sanitized = Math.max( value, 0L );
+		buckets.incrementAndGet( bucketIndex( sanitized ) );
+		count.increment();
+		total.add( sanitized );
+		max.accumulate( sanitized );
+	}
+
+	@Override
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public long getTotal() {
+		return total.sum();
+	}
+
+	@Override
+	public long getMax() {
+		return max.get();
+	}
+
+	@Override
+	public double getMean() {
+		final long recorded = count.sum();
+		return recorded == 0 ? 0 : (double) total.sum() / recorded;
+	}
+
+	@Override
+	public long getValueAtPercentile(double percentile) {
+		final long[] snapshot = new long[BUCKETS];
+		long recorded = 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			snapshot[i] = buckets.get( i );
+			recorded += snapshot[i];
+		}
+		if ( recorded == 0 ) {
+			return 0;
+		}
+
+		final double bounded = Math.min( Math.max( percentile, 0d ), 100d );
+		final long rank = Math.max( 1L, (long) Math.ceil( bounded / 100d * recorded ) );
+		long seen = 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			seen += snapshot[i];
+			if ( seen >= rank ) {
+				return Math.min( bucketUpperBound( i ), getMax() );
+			}
+		}
+		return getMax();
+	}
+
+	public void reset() {
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			buckets.set( i, 0L );
+		}
+		count.reset();
+		total.reset();
+		max.reset();
+	}
+
+	static int bucketIndex(long value) {
+		if ( value < SUB_BUCKETS ) {
+			return (int) value;
+		}
+		final int exponent = 63 - Long.numberOfLeadingZeros( value );
+		final int subBucket = (int) ( value >>> ( exponent - SUB_BUCKET_BITS ) ) & ( SUB_BUCKETS - 1 );
+		return ( exponent - SUB_BUCKET_BITS + 1 ) * SUB_BUCKETS + subBucket;
+	}
+
+	static long bucketUpperBound(int index) {
+		if ( index < SUB_BUCKETS ) {
+			return index;
+		}
+		final int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		final long width = 1L << ( exponent - SUB_BUCKET_BITS );
+		final long lowerBound = ( SUB_BUCKETS + ( index % SUB_BUCKETS ) ) * width;
+		return lowerBound + width - 1;
+	}
+
+	@Override
+	public String toString() {
+		return "ConcurrentHistogram[count=" + getCount()
+				+ ",p50=" + getValueAtPercentile( 50 )
+				+ ",p99=" + getValueAtPercentile( 99 )
+				+ ",max=" + getMax() + ']';
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.hibernate.stat.HistogramStatistics;
+import org.hibernate.stat.JdbcStatementStatistics;
+import org.hibernate.stat.spi.JdbcInstrumentation;
+
+/**
+ * A no-op {@link JdbcInstrumentation}, used when instrumentation is not enabled
+ */
+public class DisabledJdbcInstrumentationImpl implements JdbcInstrumentation {
+	/**
+	 * Singleton access
+	 */
+	public static final DisabledJdbcInstrumentationImpl INSTANCE = new DisabledJdbcInstrumentationImpl();
+
+	private final ConcurrentHistogram empty = new ConcurrentHistogram();
+
+	@Override
+	public boolean isEnabled() {
+		return false;
+	}
+
+	@Override
+	public void recordPrepare(String sql, long nanos) {
+	}
+
+	@Override
+	public void recordExecution(String sql, long nanos) {
+	}
+
+	@Override
+	public void recordFetch(String sql, int rowCount, long nanos) {
+	}
+
+	@Override
+	public void recordBatchExecution(String sql, int batchSize, long nanos) {
+	}
+
+	@Override
+	public void recordConnectionAcquisition(long nanos) {
+	}
+
+	@Override
+	public Collection<JdbcStatementStatistics> getStatementStatistics() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public JdbcStatementStatistics getStatementStatistics(String sql) {
+		return null;
+	}
+
+	@Override
+	public HistogramStatistics getConnectionAcquisitionTime() {
+		return empty;
+	}
+
+	@Override
+	public void export() {
+	}
+
+	@Override
+	public void clear() {
+	}
+}
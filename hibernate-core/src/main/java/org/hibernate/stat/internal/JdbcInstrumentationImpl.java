@@ -0,0 +1,137 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.service.spi.Manageable;
+import org.hibernate.service.spi.OptionallyManageable;
+import org.hibernate.service.spi.Startable;
+import org.hibernate.service.spi.Stoppable;
+import org.hibernate.stat.JdbcStatementStatistics;
+import org.hibernate.stat.spi.JdbcInstrumentation;
+import org.hibernate.stat.spi.JdbcStatisticsExporter;
+
+/**
+ * Standard {@link JdbcInstrumentation}, keeping a {@link ConcurrentHistogram} per SQL statement
+ * and measurement.
+ * <p/>
+ * The number of distinct statements tracked is bounded; once the limit is reached, statistics of
+ * further statements are accumulated under {@link #OTHER_STATEMENTS}.
+ */
+public class JdbcInstrumentationImpl implements JdbcInstrumentation, OptionallyManageable, Startable, Stoppable {
+	/**
+	 * Key under which statements beyond the configured maximum are accumulated
+	 */
+	public static final String OTHER_STATEMENTS = "<other statements>";
+
+	private final int maxStatements;
+	private final List<JdbcStatisticsExporter> exporters;
+
+	private final ConcurrentMap<String, JdbcStatementStatisticsImpl> statementStatistics = new ConcurrentHashMap<>();
+	private final ConcurrentHistogram connectionAcquisitionTime = new ConcurrentHistogram();
+
+	public JdbcInstrumentationImpl(int maxStatements, List<JdbcStatisticsExporter> exporters) {
+		this.maxStatements = maxStatements;
+		this.exporters = exporters;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+	@Override
+	public void recordPrepare(String sql, long nanos) {
+		statisticsFor( sql ).prepared( nanos );
+	}
+
+	@Override
+	public void recordExecution(String sql, long nanos) {
+		statisticsFor( sql ).executed( nanos );
+	}
+
+	@Override
+	public void recordFetch(String sql, int rowCount, long nanos) {
+		statisticsFor( sql ).fetched( rowCount, nanos );
+	}
+
+	@Override
+	public void recordBatchExecution(String sql, int batchSize, long nanos) {
+		statisticsFor( sql ).batchExecuted( batchSize, nanos );
+	}
+
+	@Override
+	public void recordConnectionAcquisition(long nanos) {
+		connectionAcquisitionTime.record( nanos );
+	}
+
+	private JdbcStatementStatisticsImpl statisticsFor(String sql) {
+		final JdbcStatementStatisticsImpl existing = statementStatistics.get( sql );
+		if ( existing != null ) {
+			return existing;
+		}
+		final String key = statementStatistics.size() < maxStatements ? sql : OTHER_STATEMENTS;
+		return statementStatistics.computeIfAbsent( key, JdbcStatementStatisticsImpl::new );
+	}
+
+	@Override
+	public Collection<JdbcStatementStatistics> getStatementStatistics() {
+		return Collections.unmodifiableCollection( statementStatistics.values() );
+	}
+
+	@Override
+	public JdbcStatementStatistics getStatementStatistics(String sql) {
+		return statementStatistics.get( sql );
+	}
+
+	@Override
+	public ConcurrentHistogram getConnectionAcquisitionTime() {
+		return connectionAcquisitionTime;
+	}
+
+	@Override
+	public void export() {
+		for ( JdbcStatisticsExporter exporter : exporters ) {
+			exporter.export( this );
+		}
+	}
+
+	@Override
+	public void clear() {
+		statementStatistics.clear();
+		connectionAcquisitionTime.reset();
+	}
+
+	@Override
+	public void start() {
+		for ( JdbcStatisticsExporter exporter : exporters ) {
+			exporter.start( this );
+		}
+	}
+
+	@Override
+	public void stop() {
+		export();
+	}
+
+	@Override
+	public List<Manageable> getRealManageables() {
+		final List<Manageable> manageables = new ArrayList<>();
+		for ( JdbcStatisticsExporter exporter : exporters ) {
+			if ( exporter instanceof Manageable ) {
+				manageables.add( (Manageable) exporter );
+			}
+		}
+		return manageables;
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.jmx.internal.JmxJdbcStatisticsExporter;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+import org.hibernate.stat.spi.JdbcInstrumentation;
+import org.hibernate.stat.spi.JdbcStatisticsExporter;
+
+/**
+ * Initiator for the {@link JdbcInstrumentation} service
+ */
+public class JdbcInstrumentationInitiator implements SessionFactoryServiceInitiator<JdbcInstrumentation> {
+	/**
+	 * Singleton access
+	 */
+	public static final JdbcInstrumentationInitiator INSTANCE = new JdbcInstrumentationInitiator();
+
+	/**
+	 * Default for {@link AvailableSettings#JDBC_INSTRUMENTATION_MAX_STATEMENTS}
+	 */
+	public static final int DEFAULT_MAX_STATEMENTS = 1000;
+
+	@Override
+	public Class<JdbcInstrumentation> getServiceInitiated() {
+		return JdbcInstrumentation.class;
+	}
+
+	@Override
+	public JdbcInstrumentation initiateService(
+			SessionFactoryImplementor sessionFactory,
+			SessionFactoryOptions sessionFactoryOptions,
+			ServiceRegistryImplementor registry) {
+		final Map settings = registry.getService( ConfigurationService.class ).getSettings();
+		if ( !ConfigurationHelper.getBoolean( AvailableSettings.JDBC_INSTRUMENTATION_ENABLED, settings, false ) ) {
+			return DisabledJdbcInstrumentationImpl.INSTANCE;
+		}
+
+		return new JdbcInstrumentationImpl(
+				ConfigurationHelper.getInt(
+						AvailableSettings.JDBC_INSTRUMENTATION_MAX_STATEMENTS,
+						settings,
+						DEFAULT_MAX_STATEMENTS
+				),
+				buildExporters(
+						ConfigurationHelper.getString(
+								AvailableSettings.JDBC_INSTRUMENTATION_EXPORTERS,
+								settings,
+								LoggingJdbcStatisticsExporter.SHORT_NAME
+						),
+						registry
+				)
+		);
+	}
+
+	private List<JdbcStatisticsExporter> buildExporters(String names, ServiceRegistryImplementor registry) {
+		final List<JdbcStatisticsExporter> exporters = new ArrayList<>();
+		for ( String name : StringHelper.split( ", ", names ) ) {
+			if ( LoggingJdbcStatisticsExporter.SHORT_NAME.equals( name ) ) {
+				exporters.add( new LoggingJdbcStatisticsExporter() );
+			}
+			else if ( JmxJdbcStatisticsExporter.SHORT_NAME.equals( name ) ) {
+				exporters.add( new JmxJdbcStatisticsExporter() );
+			}
+			else {
+				try {
+					exporters.add(
+							(JdbcStatisticsExporter) registry.getService( ClassLoaderService.class )
+									.classForName( name )
+									.newInstance()
+					);
+				}
+				catch (HibernateException e) {
+					throw e;
+				}
+				catch (Exception e) {
+					throw new HibernateException( "Unable to instantiate JdbcStatisticsExporter [" + name + "]", e );
+				}
+			}
+		}
+		return exporters;
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.JdbcStatementStatistics;
+
+/**
+ * JDBC statistics of a single SQL statement
+ */
+public class JdbcStatementStatisticsImpl implements JdbcStatementStatistics {
+	private final String sql;
+
+	private final ConcurrentHistogram prepareTime = new ConcurrentHistogram();
+	private final ConcurrentHistogram executionTime = new ConcurrentHistogram();
+	private final ConcurrentHistogram fetchTime = new ConcurrentHistogram();
+	private final ConcurrentHistogram batchExecutionTime = new ConcurrentHistogram();
+	private final ConcurrentHistogram batchSize = new ConcurrentHistogram();
+	private final LongAdder rowsRead = new LongAdder();
+
+	public JdbcStatementStatisticsImpl(String sql) {
+		this.sql = sql;
+	}
+
+	void prepared(long nanos) {
+		prepareTime.record( nanos );
+	}
+
+	void executed(long nanos) {
+		executionTime.record( nanos );
+	}
+
+	void fetched(int rowCount, long nanos) {
+		fetchTime.record( nanos );
+		rowsRead.add( rowCount );
+	}
+
+	void batchExecuted(int size, long nanos) {
+		batchExecutionTime.record( nanos );
+		batchSize.record( size );
+	}
+
+	@Override
+	public String getSql() {
+		return sql;
+	}
+
+	@Override
+	public ConcurrentHistogram getPrepareTime() {
+		return prepareTime;
+	}
+
+	@Override
+	public ConcurrentHistogram getExecutionTime() {
+		return executionTime;
+	}
+
+	@Override
+	public ConcurrentHistogram getFetchTime() {
+		return fetchTime;
+	}
+
+	@Override
+	public ConcurrentHistogram getBatchExecutionTime() {
+		return batchExecutionTime;
+	}
+
+	@Override
+	public ConcurrentHistogram getBatchSize() {
+		return batchSize;
+	}
+
+	@Override
+	public long getRowsRead() {
+		return rowsRead.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "JdbcStatementStatistics[sql=" + sql
+				+ ",prepareTime=" + prepareTime
+				+ ",executionTime=" + executionTime
+				+ ",fetchTime=" + fetchTime
+				+ ",batchSize=" + batchSize
+				+ ",rowsRead=" + getRowsRead() + ']';
+	}
+}
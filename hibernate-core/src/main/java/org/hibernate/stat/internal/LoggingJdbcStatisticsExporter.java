@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.stat.HistogramStatistics;
+import org.hibernate.stat.JdbcStatementStatistics;
+import org.hibernate.stat.spi.JdbcInstrumentation;
+import org.hibernate.stat.spi.JdbcStatisticsExporter;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Dumps the collected JDBC statistics to the log (category {@code org.hibernate.stat.internal.LoggingJdbcStatisticsExporter}),
+ * statements ordered by their total execution time.
+ */
+public class LoggingJdbcStatisticsExporter implements JdbcStatisticsExporter {
+	private static final Logger log = Logger.getLogger( LoggingJdbcStatisticsExporter.class );
+
+	/**
+	 * Short name used in {@link org.hibernate.cfg.AvailableSettings#JDBC_INSTRUMENTATION_EXPORTERS}
+	 */
+	public static final String SHORT_NAME = "log";
+
+	@Override
+	public void export(JdbcInstrumentation instrumentation) {
+		if ( !log.isInfoEnabled() ) {
+			return;
+		}
+
+		final List<JdbcStatementStatistics> statements = new ArrayList<>( instrumentation.getStatementStatistics() );
+		statements.sort( Comparator.comparingLong( (JdbcStatementStatistics s) -> s.getExecutionTime().getTotal() ).reversed() );
+
+		final StringBuilder report = new StringBuilder( "JDBC statement statistics (times in microseconds):" );
+		report.append( "\n    connection acquisition: " );
+		appendHistogram( report, instrumentation.getConnectionAcquisitionTime() );
+		for ( JdbcStatementStatistics statement : statements ) {
+			report.append( "\n  " ).append( statement.getSql() );
+			report.append( "\n    prepare: " );
+			appendHistogram( report, statement.getPrepareTime() );
+			report.append( "\n    execute: " );
+			appendHistogram( report, statement.getExecutionTime() );
+			report.append( "\n    fetch: " );
+			appendHistogram( report, statement.getFetchTime() );
+			report.append( ", rows=" ).append( statement.getRowsRead() );
+			if ( statement.getBatchSize().getCount() > 0 ) {
+				report.append( "\n    batch: " );
+				appendHistogram( report, statement.getBatchExecutionTime() );
+				report.append( ", size p50=" ).append( statement.getBatchSize().getValueAtPercentile( 50 ) )
+						.append( " max=" ).append( statement.getBatchSize().getMax() );
+			}
+		}
+		log.info( report );
+	}
+
+	private static void appendHistogram(StringBuilder report, HistogramStatistics histogram) {
+		report.append( "count=" ).append( histogram.getCount() )
+				.append( " mean=" ).append( toMicros( (long) histogram.getMean() ) )
+				.append( " p50=" ).append( toMicros( histogram.getValueAtPercentile( 50 ) ) )
+				.append( " p99=" ).append( toMicros( histogram.getValueAtPercentile( 99 ) ) )
+				.append( " max=" ).append( toMicros( histogram.getMax() ) );
+	}
+
+	private static long toMicros(long nanos) {
+		return TimeUnit.NANOSECONDS.toMicros( nanos );
+	}
+}
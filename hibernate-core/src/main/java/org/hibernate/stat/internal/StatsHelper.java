@@ -8,6 +8,9 @@ package org.hibernate.stat.internal;
 
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.service.UnknownServiceException;
+import org.hibernate.stat.spi.JdbcInstrumentation;
 
 /**
  * Utilities useful when dealing with stats.
@@ -33,6 +36,23 @@ public class StatsHelper {
 		}
 	}
 
+	/**
+	 * Locate the {@link JdbcInstrumentation}, falling back to the disabled one for registries
+	 * which are not SessionFactory scoped.
+	 */
+	public JdbcInstrumentation getJdbcInstrumentation(ServiceRegistry serviceRegistry) {
+		if ( serviceRegistry == null ) {
+			return DisabledJdbcInstrumentationImpl.INSTANCE;
+		}
+		try {
+			final JdbcInstrumentation instrumentation = serviceRegistry.getService( JdbcInstrumentation.class );
+			return instrumentation == null ? DisabledJdbcInstrumentationImpl.INSTANCE : instrumentation;
+		}
+		catch (UnknownServiceException e) {
+			return DisabledJdbcInstrumentationImpl.INSTANCE;
+		}
+	}
+
 	private StatsHelper() {
 	}
 }
@@ -0,0 +1,79 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.spi;
+
+import java.util.Collection;
+
+import org.hibernate.service.Service;
+import org.hibernate.stat.HistogramStatistics;
+import org.hibernate.stat.JdbcStatementStatistics;
+
+/**
+ * Records statement level JDBC timings (prepare, execute, fetch), row counts, batch sizes and
+ * connection acquisition waits per SQL statement.
+ * <p/>
+ * The recording methods are called from the JDBC hot paths and so must be cheap and safe to call
+ * concurrently.  Callers are expected to check {@link #isEnabled()} before taking any timings.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#JDBC_INSTRUMENTATION_ENABLED
+ */
+public interface JdbcInstrumentation extends Service {
+	/**
+	 * Is instrumentation enabled?  When {@code false} all recording methods are no-ops.
+	 */
+	boolean isEnabled();
+
+	/**
+	 * Record the time spent preparing the given SQL
+	 */
+	void recordPrepare(String sql, long nanos);
+
+	/**
+	 * Record the time spent executing the given SQL
+	 */
+	void recordExecution(String sql, long nanos);
+
+	/**
+	 * Record the number of rows read from the results of the given SQL and the time spent doing so
+	 */
+	void recordFetch(String sql, int rowCount, long nanos);
+
+	/**
+	 * Record the execution of a JDBC batch of the given SQL
+	 */
+	void recordBatchExecution(String sql, int batchSize, long nanos);
+
+	/**
+	 * Record the time spent waiting for a JDBC connection
+	 */
+	void recordConnectionAcquisition(long nanos);
+
+	/**
+	 * The statistics collected so far, one entry per distinct SQL statement
+	 */
+	Collection<JdbcStatementStatistics> getStatementStatistics();
+
+	/**
+	 * The statistics of the given SQL, or {@code null} if it has not been recorded
+	 */
+	JdbcStatementStatistics getStatementStatistics(String sql);
+
+	/**
+	 * Time spent waiting for JDBC connections
+	 */
+	HistogramStatistics getConnectionAcquisitionTime();
+
+	/**
+	 * Publish the current statistics through the configured {@link JdbcStatisticsExporter}s
+	 */
+	void export();
+
+	/**
+	 * Discard all statistics collected so far
+	 */
+	void clear();
+}
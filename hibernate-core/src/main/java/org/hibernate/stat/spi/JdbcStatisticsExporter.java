@@ -0,0 +1,31 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.spi;
+
+/**
+ * Publishes the statistics collected by {@link JdbcInstrumentation}.
+ * <p/>
+ * Exporters which implement {@link org.hibernate.service.spi.Manageable} are registered with the
+ * {@link org.hibernate.jmx.spi.JmxService}.
+ */
+public interface JdbcStatisticsExporter {
+	/**
+	 * Called once the owning SessionFactory is ready to use.
+	 *
+	 * @param instrumentation The instrumentation whose statistics are exported
+	 */
+	default void start(JdbcInstrumentation instrumentation) {
+	}
+
+	/**
+	 * Publish the current statistics.  Called by {@link JdbcInstrumentation#export()} and when the
+	 * owning SessionFactory is closed.
+	 *
+	 * @param instrumentation The instrumentation whose statistics are exported
+	 */
+	void export(JdbcInstrumentation instrumentation);
+}
@@ -9,6 +9,7 @@ import java.lang.reflect.Constructor;
 import java.util.List;
 
 import org.hibernate.QueryException;
+import org.hibernate.bytecode.spi.TupleInstantiationOptimizer;
 
 /**
  * Wraps the tuples in a constructor call.
@@ -18,6 +19,7 @@ import org.hibernate.QueryException;
 public class AliasToBeanConstructorResultTransformer implements ResultTransformer {
 
 	private final Constructor constructor;
+	private final TupleInstantiationOptimizer optimizer;
 
 	/**
 	 * Instantiates a AliasToBeanConstructorResultTransformer.
@@ -25,7 +27,19 @@ public class AliasToBeanConstructorResultTransformer implements ResultTransforme
 	 * @param constructor The constructor in which to wrap the tuples.
 	 */
 	public AliasToBeanConstructorResultTransformer(Constructor constructor) {
+		this( constructor, null );
+	}
+
+	/**
+	 * Instantiates a AliasToBeanConstructorResultTransformer which invokes the constructor
+	 * through the given optimizer rather than through reflection.
+	 *
+	 * @param constructor The constructor in which to wrap the tuples.
+	 * @param optimizer The optimized constructor invocation, may be {@code null}.
+	 */
+	public AliasToBeanConstructorResultTransformer(Constructor constructor, TupleInstantiationOptimizer optimizer) {
 		this.constructor = constructor;
+		this.optimizer = optimizer;
 	}
 
 	/**
@@ -34,7 +48,9 @@ public class AliasToBeanConstructorResultTransformer implements ResultTransforme
 	@Override
 	public Object transformTuple(Object[] tuple, String[] aliases) {
 		try {
-			return constructor.newInstance( tuple );
+			return optimizer == null
+					? constructor.newInstance( tuple )
+					: optimizer.newInstance( tuple );
 		}
 		catch ( Exception e ) {
 			throw new QueryException(
@@ -172,7 +172,8 @@ public final class PropertyFactory {
 		final boolean lazy = ! EnhancementHelper.includeInBaseFetchGroup(
 				property,
 				lazyAvailable,
-				sessionFactory.getSessionFactoryOptions().isEnhancementAsProxyEnabled()
+				sessionFactory.getSessionFactoryOptions().isEnhancementAsProxyEnabled(),
+				sessionFactory.getSessionFactoryOptions().isEnhancedLazyReferencesEnabled()
 		);
 
 		switch ( nature ) {
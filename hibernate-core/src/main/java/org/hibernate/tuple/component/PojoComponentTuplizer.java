@@ -8,6 +8,7 @@ package org.hibernate.tuple.component;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.Iterator;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -66,15 +67,32 @@ public class PojoComponentTuplizer extends AbstractComponentTuplizer {
 			parentGetter = propertyAccess.getGetter();
 		}
 
-		if ( hasCustomAccessors || !Environment.useReflectionOptimizer() ) {
+		if ( !Environment.useReflectionOptimizer() ) {
 			optimizer = null;
 		}
 		else {
 			final BytecodeProvider bytecodeProvider = component.getServiceRegistry().getService( BytecodeProvider.class );
-			optimizer = bytecodeProvider.getReflectionOptimizer(
-					componentClass, getterNames, setterNames, propTypes
+			final ReflectionOptimizer accessorOptimizer = bytecodeProvider.getReflectionOptimizer(
+					componentClass, propertyNames( component ), getters, setters
 			);
+			if ( accessorOptimizer != null || hasCustomAccessors ) {
+				optimizer = accessorOptimizer;
+			}
+			else {
+				optimizer = bytecodeProvider.getReflectionOptimizer(
+						componentClass, getterNames, setterNames, propTypes
+				);
+			}
+		}
+	}
+
+	private String[] propertyNames(Component component) {
+		final String[] propertyNames = new String[propertySpan];
+		final Iterator itr = component.getPropertyIterator();
+		for ( int i = 0; itr.hasNext(); i++ ) {
+			propertyNames[i] = ( (Property) itr.next() ).getName();
 		}
+		return propertyNames;
 	}
 
 	public Class getMappedClass() {
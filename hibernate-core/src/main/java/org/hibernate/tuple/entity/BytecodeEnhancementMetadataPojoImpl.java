@@ -38,11 +38,12 @@ public final class BytecodeEnhancementMetadataPojoImpl implements BytecodeEnhanc
 			PersistentClass persistentClass,
 			Set<String> identifierAttributeNames,
 			CompositeType nonAggregatedCidMapper,
-			boolean allowEnhancementAsProxy) {
+			boolean allowEnhancementAsProxy,
+			boolean allowEnhancedLazyReferences) {
 		final Class mappedClass = persistentClass.getMappedClass();
 		final boolean enhancedForLazyLoading = PersistentAttributeInterceptable.class.isAssignableFrom( mappedClass );
 		final LazyAttributesMetadata lazyAttributesMetadata = enhancedForLazyLoading
-				? LazyAttributesMetadata.from( persistentClass, true, allowEnhancementAsProxy )
+				? LazyAttributesMetadata.from( persistentClass, true, allowEnhancementAsProxy, allowEnhancedLazyReferences )
 				: LazyAttributesMetadata.nonEnhanced( persistentClass.getEntityName() );
 
 		return new BytecodeEnhancementMetadataPojoImpl(
@@ -201,7 +202,7 @@ public final class BytecodeEnhancementMetadataPojoImpl implements BytecodeEnhanc
 		final LazyAttributeLoadingInterceptor interceptor = new LazyAttributeLoadingInterceptor(
 				getEntityName(),
 				identifier,
-				lazyAttributesMetadata.getLazyAttributeNames(),
+				lazyAttributesMetadata,
 				session
 		);
 
@@ -163,7 +163,8 @@ public class EntityMetamodel implements Serializable {
 					persistentClass,
 					idAttributeNames,
 					nonAggregatedCidMapper,
-					sessionFactory.getSessionFactoryOptions().isEnhancementAsProxyEnabled()
+					sessionFactory.getSessionFactoryOptions().isEnhancementAsProxyEnabled(),
+					sessionFactory.getSessionFactoryOptions().isEnhancedLazyReferencesEnabled()
 			);
 		}
 		else {
@@ -245,7 +246,8 @@ public class EntityMetamodel implements Serializable {
 			boolean lazy = ! EnhancementHelper.includeInBaseFetchGroup(
 					prop,
 					bytecodeEnhancementMetadata.isEnhancedForLazyLoading(),
-					sessionFactory.getSessionFactoryOptions().isEnhancementAsProxyEnabled()
+					sessionFactory.getSessionFactoryOptions().isEnhancementAsProxyEnabled(),
+					sessionFactory.getSessionFactoryOptions().isEnhancedLazyReferencesEnabled()
 			);
 
 			if ( lazy ) {
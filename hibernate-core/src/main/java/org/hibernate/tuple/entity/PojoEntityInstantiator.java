@@ -47,9 +47,7 @@ public class PojoEntityInstantiator extends PojoInstantiator {
 		PersistentAttributeInterceptor interceptor = new LazyAttributeLoadingInterceptor(
 				entityMetamodel.getName(),
 				null,
-				entityMetamodel.getBytecodeEnhancementMetadata()
-						.getLazyAttributesMetadata()
-						.getLazyAttributeNames(),
+				entityMetamodel.getBytecodeEnhancementMetadata().getLazyAttributesMetadata(),
 				null
 		);
 		( (PersistentAttributeInterceptable) entity ).$$_hibernate_setInterceptor( interceptor );
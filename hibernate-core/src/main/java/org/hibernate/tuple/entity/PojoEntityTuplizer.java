@@ -64,17 +64,28 @@ public class PojoEntityTuplizer extends AbstractEntityTuplizer {
 			propTypes[i] = getters[i].getReturnType();
 		}
 
-		if ( hasCustomAccessors || !Environment.useReflectionOptimizer() ) {
+		if ( !Environment.useReflectionOptimizer() ) {
 			optimizer = null;
 		}
 		else {
 			final BytecodeProvider bytecodeProvider = entityMetamodel.getSessionFactory().getServiceRegistry().getService( BytecodeProvider.class );
-			optimizer = bytecodeProvider.getReflectionOptimizer(
+			final ReflectionOptimizer accessorOptimizer = bytecodeProvider.getReflectionOptimizer(
 					mappedClass,
-					getterNames,
-					setterNames,
-					propTypes
+					entityMetamodel.getPropertyNames(),
+					getters,
+					setters
 			);
+			if ( accessorOptimizer != null || hasCustomAccessors ) {
+				optimizer = accessorOptimizer;
+			}
+			else {
+				optimizer = bytecodeProvider.getReflectionOptimizer(
+						mappedClass,
+						getterNames,
+						setterNames,
+						propTypes
+				);
+			}
 		}
 	}
 
@@ -705,6 +705,24 @@ public abstract class CollectionType extends AbstractType implements Association
 	 */
 	public abstract Object instantiate(int anticipatedSize);
 
+	/**
+	 * Can the collection be loaded into a compact representation?  That is the case when its owner is immutable,
+	 * so that the collection is rarely written, and its elements and index are of immutable basic types.  The
+	 * snapshot of a compact collection shares its element instances, so changes made to them in place would not
+	 * be detected.
+	 *
+	 * @param persister The collection persister, possibly {@code null}
+	 * @return True if the collection can be compacted
+	 */
+	protected boolean isCompactable(CollectionPersister persister) {
+		return persister != null
+				&& !persister.getOwnerEntityPersister().isMutable()
+				&& persister.getElementType() instanceof BasicType
+				&& !persister.getElementType().isMutable()
+				&& ( !persister.hasIndex()
+						|| persister.getIndexType() instanceof BasicType && !persister.getIndexType().isMutable() );
+	}
+
 	@Override
 	public Object replace(
 			final Object original,
@@ -37,6 +37,7 @@ public class SortedMapType extends MapType {
 	public PersistentCollection instantiate(SharedSessionContractImplementor session, CollectionPersister persister, Serializable key) {
 		PersistentSortedMap map = new PersistentSortedMap(session);
 		map.setComparator(comparator);
+		map.setCompact(isCompactable(persister));
 		return map;
 	}
 
@@ -36,6 +36,7 @@ public class SortedSetType extends SetType {
 	public PersistentCollection instantiate(SharedSessionContractImplementor session, CollectionPersister persister, Serializable key) {
 		PersistentSortedSet set = new PersistentSortedSet(session);
 		set.setComparator(comparator);
+		set.setCompact(isCompactable(persister));
 		return set;
 	}
 
@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.ProxyConfiguration;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+
+import org.junit.Test;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the use of the proxy classes generated at build time.
+ */
+public class PrebuiltProxyTest {
+
+	@Test
+	public void testPrebuiltProxyIsUsed() throws Exception {
+		ByteBuddyProxyHelper byteBuddyProxyHelper = new ByteBuddyProxyHelper( new ByteBuddyState() );
+		DynamicType.Unloaded<?> unloaded = byteBuddyProxyHelper.buildUnloadedPrebuiltProxy( Prebuilt.class );
+		assertNotNull( unloaded );
+		assertEquals( Prebuilt.class.getName() + ByteBuddyProxyHelper.PREBUILT_PROXY_NAME_SUFFIX, unloaded.getTypeDescription().getName() );
+
+		// as if it was found next to the entity class
+		Class<?> prebuiltProxy = unloaded.load( Prebuilt.class.getClassLoader(), ClassLoadingStrategy.Default.INJECTION )
+				.getLoaded();
+
+		Class<?> proxyClass = byteBuddyProxyHelper.buildProxy( Prebuilt.class, new Class<?>[]{ HibernateProxy.class } );
+		assertSame( prebuiltProxy, proxyClass );
+		Object proxy = proxyClass.getConstructor().newInstance();
+		assertTrue( proxy instanceof HibernateProxy );
+		assertTrue( proxy instanceof ProxyConfiguration );
+	}
+
+	@Test
+	public void testStalePrebuiltProxyIsIgnored() {
+		new ByteBuddy()
+				.subclass( Stale.class )
+				.name( Stale.class.getName() + ByteBuddyProxyHelper.PREBUILT_PROXY_NAME_SUFFIX )
+				.implement( HibernateProxy.class )
+				.defineField(
+						ByteBuddyProxyHelper.PREBUILT_PROXY_FINGERPRINT_FIELD_NAME,
+						String.class,
+						Visibility.PUBLIC,
+						Ownership.STATIC,
+						FieldManifestation.FINAL
+				)
+				.value( "stale" )
+				.make()
+				.load( Stale.class.getClassLoader(), ClassLoadingStrategy.Default.INJECTION );
+
+		ByteBuddyProxyHelper byteBuddyProxyHelper = new ByteBuddyProxyHelper( new ByteBuddyState() );
+		Class<?> proxyClass = byteBuddyProxyHelper.buildProxy( Stale.class, new Class<?>[]{ HibernateProxy.class } );
+		assertNotEquals( Stale.class.getName() + ByteBuddyProxyHelper.PREBUILT_PROXY_NAME_SUFFIX, proxyClass.getName() );
+		assertSame( Stale.class, proxyClass.getSuperclass() );
+	}
+
+	@Test
+	public void testFinalClassIsNotPrebuilt() {
+		ByteBuddyProxyHelper byteBuddyProxyHelper = new ByteBuddyProxyHelper( new ByteBuddyState() );
+		assertNull( byteBuddyProxyHelper.buildUnloadedPrebuiltProxy( Final.class ) );
+	}
+
+	public static class Prebuilt {
+
+		private Long id;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+	}
+
+	public static class Stale {
+
+		private Long id;
+
+		public Long getId() {
+			return id;
+		}
+	}
+
+	public static final class Final {
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.property;
+
+import java.util.Map;
+import javax.persistence.Access;
+import javax.persistence.AccessType;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.PropertyAccessException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyMethodHandleImpl;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterMethodHandleImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link PropertyAccessStrategyMethodHandleImpl} and
+ * {@link AvailableSettings#PROPERTY_ACCESS_USE_METHOD_HANDLES}.
+ */
+public class PropertyAccessStrategyMethodHandleTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { FieldEntity.class, PropertyEntity.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.PROPERTY_ACCESS_USE_METHOD_HANDLES, "true" );
+	}
+
+	@Test
+	public void testStrategyIsUsed() {
+		assertThat( getter( FieldEntity.class, "name" ), instanceOf( GetterMethodHandleImpl.class ) );
+		assertThat( getter( PropertyEntity.class, "name" ), instanceOf( GetterMethodHandleImpl.class ) );
+	}
+
+	@Test
+	public void testPersistAndLoad() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new FieldEntity( 1, "field", 10 ) );
+			PropertyEntity propertyEntity = new PropertyEntity();
+			propertyEntity.setId( 1 );
+			propertyEntity.setName( "property" );
+			propertyEntity.setCount( 20 );
+			session.persist( propertyEntity );
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			FieldEntity fieldEntity = session.get( FieldEntity.class, 1 );
+			assertEquals( "field", fieldEntity.name );
+			assertEquals( 10, fieldEntity.count );
+
+			PropertyEntity propertyEntity = session.get( PropertyEntity.class, 1 );
+			assertEquals( "property", propertyEntity.getName() );
+			assertEquals( 20, propertyEntity.getCount() );
+		} );
+	}
+
+	@Test
+	public void testNonPublicAccessors() {
+		PropertyAccess access = PropertyAccessStrategyMethodHandleImpl.PROPERTY.buildPropertyAccess(
+				HiddenBean.class,
+				"value"
+		);
+		HiddenBean bean = new HiddenBean();
+		access.getSetter().set( bean, 5L, null );
+		assertEquals( 5L, access.getGetter().get( bean ) );
+
+		PropertyAccess fieldAccess = PropertyAccessStrategyMethodHandleImpl.FIELD.buildPropertyAccess(
+				HiddenBean.class,
+				"value"
+		);
+		fieldAccess.getSetter().set( bean, 7L, null );
+		assertEquals( 7L, fieldAccess.getGetter().get( bean ) );
+	}
+
+	@Test
+	public void testNullIntoPrimitive() {
+		for ( PropertyAccessStrategyMethodHandleImpl strategy : new PropertyAccessStrategyMethodHandleImpl[] {
+				PropertyAccessStrategyMethodHandleImpl.FIELD,
+				PropertyAccessStrategyMethodHandleImpl.PROPERTY
+		} ) {
+			PropertyAccess access = strategy.buildPropertyAccess( PropertyEntity.class, "count" );
+			try {
+				access.getSetter().set( new PropertyEntity(), null, null );
+				fail( "Expecting PropertyAccessException" );
+			}
+			catch (PropertyAccessException expected) {
+			}
+		}
+	}
+
+	@Test
+	public void testSerialization() {
+		Getter getter = PropertyAccessStrategyMethodHandleImpl.PROPERTY.buildPropertyAccess(
+				PropertyEntity.class,
+				"name"
+		).getGetter();
+		Getter copy = (Getter) SerializationHelper.clone( getter );
+
+		PropertyEntity entity = new PropertyEntity();
+		entity.setName( "copy" );
+		assertEquals( "copy", copy.get( entity ) );
+	}
+
+	private Getter getter(Class<?> entityClass, String propertyName) {
+		EntityPersister persister = sessionFactory().getMetamodel().entityPersister( entityClass );
+		return persister.getEntityTuplizer().getGetter( persister.getEntityMetamodel().getPropertyIndex( propertyName ) );
+	}
+
+	@Entity(name = "FieldEntity")
+	public static class FieldEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private int count;
+
+		FieldEntity() {
+		}
+
+		FieldEntity(Integer id, String name, int count) {
+			this.id = id;
+			this.name = name;
+			this.count = count;
+		}
+	}
+
+	@Entity(name = "PropertyEntity")
+	@Access(AccessType.PROPERTY)
+	public static class PropertyEntity {
+		private Integer id;
+
+		private String name;
+
+		private int count;
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+	}
+
+	static class HiddenBean {
+		private long value;
+
+		private long getValue() {
+			return value;
+		}
+
+		private void setValue(long value) {
+			this.value = value;
+		}
+	}
+}
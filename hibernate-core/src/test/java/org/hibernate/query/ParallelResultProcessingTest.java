@@ -0,0 +1,196 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.transform.BasicTransformerAdapter;
+import org.hibernate.transform.Transformers;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Checks that the hydration, dynamic instantiation and result transformation of scalar queries
+ * keep the row order when {@link AvailableSettings#QUERY_PARALLEL_RESULT_PROCESSING_THRESHOLD}
+ * is exceeded.
+ */
+public class ParallelResultProcessingTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final int ROWS = 500;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Measurement.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.QUERY_PARALLEL_RESULT_PROCESSING_THRESHOLD, "10" );
+	}
+
+	@Override
+	protected void afterSessionFactoryBuilt(SessionFactoryImplementor sessionFactory) {
+		doInHibernate( () -> sessionFactory, session -> {
+			for ( int i = 0; i < ROWS; i++ ) {
+				final Measurement measurement = new Measurement( i, "m" + i );
+				measurement.amount = i % 3 == 0 ? null : i * 1.5;
+				measurement.day = LocalDate.of( 2020, 1, 1 ).plusDays( i );
+				session.persist( measurement );
+			}
+		} );
+	}
+
+	@Test
+	public void testSelectNew() {
+		doInHibernate( this::sessionFactory, session -> {
+			List<MeasurementDto> results = session.createQuery(
+					"select new org.hibernate.query.ParallelResultProcessingTest$MeasurementDto( m.id, m.label ) " +
+							"from Measurement m order by m.id",
+					MeasurementDto.class
+			).list();
+
+			assertEquals( ROWS, results.size() );
+			for ( int i = 0; i < ROWS; i++ ) {
+				assertEquals( Integer.valueOf( i ), results.get( i ).id );
+				assertEquals( "m" + i, results.get( i ).label );
+			}
+		} );
+	}
+
+	@Test
+	public void testSingleScalar() {
+		doInHibernate( this::sessionFactory, session -> {
+			List<String> results = session.createQuery(
+					"select m.label from Measurement m order by m.id",
+					String.class
+			).list();
+
+			assertEquals( ROWS, results.size() );
+			for ( int i = 0; i < ROWS; i++ ) {
+				assertEquals( "m" + i, results.get( i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testScalarRows() {
+		doInHibernate( this::sessionFactory, session -> {
+			List<Object[]> results = session.createQuery(
+					"select m.id, m.amount, m.day from Measurement m order by m.id",
+					Object[].class
+			).setMaxResults( ROWS - 1 ).list();
+
+			assertEquals( ROWS - 1, results.size() );
+			for ( int i = 0; i < ROWS - 1; i++ ) {
+				final Object[] row = results.get( i );
+				assertEquals( i, row[0] );
+				if ( i % 3 == 0 ) {
+					assertNull( row[1] );
+				}
+				else {
+					assertEquals( i * 1.5, (Double) row[1], 0.0001 );
+				}
+				assertEquals( LocalDate.of( 2020, 1, 1 ).plusDays( i ), row[2] );
+			}
+		} );
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testCustomTransformerOnCallingThread() {
+		final Thread thread = Thread.currentThread();
+		doInHibernate( this::sessionFactory, session -> {
+			List<Object> results = session.createQuery( "select m.id, m.label from Measurement m order by m.id" )
+					.setResultTransformer( new BasicTransformerAdapter() {
+						@Override
+						public Object transformTuple(Object[] tuple, String[] aliases) {
+							assertSame( thread, Thread.currentThread() );
+							return tuple[1];
+						}
+					} )
+					.list();
+
+			assertEquals( ROWS, results.size() );
+			for ( int i = 0; i < ROWS; i++ ) {
+				assertEquals( "m" + i, results.get( i ) );
+			}
+		} );
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testAliasToBean() {
+		doInHibernate( this::sessionFactory, session -> {
+			List<MeasurementDto> results = session.createQuery(
+					"select m.id as id, m.label as label from Measurement m order by m.id" )
+					.setResultTransformer( Transformers.aliasToBean( MeasurementDto.class ) )
+					.list();
+
+			assertEquals( ROWS, results.size() );
+			for ( int i = 0; i < ROWS; i++ ) {
+				assertEquals( Integer.valueOf( i ), results.get( i ).id );
+				assertEquals( "m" + i, results.get( i ).label );
+			}
+		} );
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+
+		@Id
+		private Integer id;
+
+		private String label;
+
+		private Double amount;
+
+		private LocalDate day;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, String label) {
+			this.id = id;
+			this.label = label;
+		}
+	}
+
+	public static class MeasurementDto {
+
+		private Integer id;
+
+		private String label;
+
+		public MeasurementDto() {
+		}
+
+		public MeasurementDto(Integer id, String label) {
+			this.id = id;
+			this.label = label;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public void setLabel(String label) {
+			this.label = label;
+		}
+	}
+}
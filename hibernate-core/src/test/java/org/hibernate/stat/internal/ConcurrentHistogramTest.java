@@ -0,0 +1,55 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ConcurrentHistogramTest extends BaseUnitTestCase {
+
+	@Test
+	public void testBucketBoundaries() {
+		for ( long value : new long[] { 0, 1, 7, 8, 9, 15, 16, 17, 1000, 123456789, Long.MAX_VALUE } ) {
+			final int index = ConcurrentHistogram.bucketIndex( value );
+			final long upperBound = ConcurrentHistogram.bucketUpperBound( index );
+			assertTrue( value + " <= " + upperBound, value <= upperBound );
+			assertTrue( upperBound - value <= value / 8 );
+			if ( index > 0 ) {
+				assertTrue( ConcurrentHistogram.bucketUpperBound( index - 1 ) < value );
+			}
+		}
+	}
+
+	@Test
+	public void testPercentiles() {
+		final ConcurrentHistogram histogram = new ConcurrentHistogram();
+		assertEquals( 0, histogram.getValueAtPercentile( 99 ) );
+
+		for ( int i = 1; i <= 1000; i++ ) {
+			histogram.record( i );
+		}
+
+		assertEquals( 1000, histogram.getCount() );
+		assertEquals( 500500, histogram.getTotal() );
+		assertEquals( 1000, histogram.getMax() );
+		assertEquals( 500.5, histogram.getMean(), 0.01 );
+		assertWithin( 500, histogram.getValueAtPercentile( 50 ) );
+		assertWithin( 990, histogram.getValueAtPercentile( 99 ) );
+		assertEquals( 1000, histogram.getValueAtPercentile( 100 ) );
+
+		histogram.reset();
+		assertEquals( 0, histogram.getCount() );
+		assertEquals( 0, histogram.getValueAtPercentile( 50 ) );
+	}
+
+	private static void assertWithin(long expected, long actual) {
+		assertTrue( "expected ~" + expected + " but was " + actual, actual >= expected && actual <= expected * 1.125 );
+	}
+}
@@ -8,11 +8,21 @@ package org.hibernate.test.bytecode;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 
+import org.hibernate.PropertyAccessException;
 import org.hibernate.bytecode.internal.javassist.BulkAccessor;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.bytecode.spi.TupleInstantiationOptimizer;
 import org.hibernate.cfg.Environment;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBasicImpl;
+import org.hibernate.property.access.internal.PropertyAccessStrategyFieldImpl;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.Setter;
 import org.hibernate.testing.TestForIssue;
 import org.hibernate.testing.junit4.BaseUnitTestCase;
 import org.junit.Test;
@@ -72,6 +82,92 @@ public class ReflectionOptimizerTest extends BaseUnitTestCase {
 		assertNotNull( reflectionOptimizer );
 	}
 
+	@Test
+	public void testFieldAccessOptimization() {
+		String[] propertyNames = new String[] { "name", "count", "note", "total" };
+		Getter[] getters = new Getter[propertyNames.length];
+		Setter[] setters = new Setter[propertyNames.length];
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			PropertyAccess propertyAccess = propertyNames[i].equals( "total" )
+					? PropertyAccessStrategyBasicImpl.INSTANCE.buildPropertyAccess( FieldBean.class, propertyNames[i] )
+					: PropertyAccessStrategyFieldImpl.INSTANCE.buildPropertyAccess( FieldBean.class, propertyNames[i] );
+			getters[i] = propertyAccess.getGetter();
+			setters[i] = propertyAccess.getSetter();
+		}
+
+		BytecodeProvider provider = Environment.getBytecodeProvider();
+		ReflectionOptimizer optimizer = provider.getReflectionOptimizer( FieldBean.class, propertyNames, getters, setters );
+		assertNotNull( optimizer );
+		assertNotNull( optimizer.getInstantiationOptimizer() );
+		assertNotNull( optimizer.getAccessOptimizer() );
+
+		FieldBean bean = (FieldBean) optimizer.getInstantiationOptimizer().newInstance();
+		Object[] values = new Object[] { "a name", 42, "a note", 7L };
+		optimizer.getAccessOptimizer().setPropertyValues( bean, values );
+		assertEquals( "a name", bean.name );
+		assertEquals( 42, bean.count );
+		assertEquals( "a note", bean.note );
+		assertEquals( Long.valueOf( 7L ), bean.total );
+		assertEquivalent( values, optimizer.getAccessOptimizer().getPropertyValues( bean ) );
+		assertEquivalent( propertyNames, optimizer.getAccessOptimizer().getPropertyNames() );
+	}
+
+	@Test
+	public void testFieldAccessOptimizationNullPrimitive() {
+		String[] propertyNames = new String[] { "name", "count" };
+		Getter[] getters = new Getter[propertyNames.length];
+		Setter[] setters = new Setter[propertyNames.length];
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			PropertyAccess propertyAccess = PropertyAccessStrategyFieldImpl.INSTANCE.buildPropertyAccess( FieldBean.class, propertyNames[i] );
+			getters[i] = propertyAccess.getGetter();
+			setters[i] = propertyAccess.getSetter();
+		}
+
+		BytecodeProvider provider = Environment.getBytecodeProvider();
+		ReflectionOptimizer optimizer = provider.getReflectionOptimizer( FieldBean.class, propertyNames, getters, setters );
+		FieldBean bean = (FieldBean) optimizer.getInstantiationOptimizer().newInstance();
+		try {
+			optimizer.getAccessOptimizer().setPropertyValues( bean, new Object[] { "a name", null } );
+			fail( "PropertyAccessException expected" );
+		}
+		catch (PropertyAccessException e) {
+			assertEquals( FieldBean.class, e.getPersistentClass() );
+			assertEquals( "count", e.getPropertyName() );
+		}
+	}
+
+	@Test
+	public void testTupleInstantiationOptimization() throws Exception {
+		BytecodeProvider provider = Environment.getBytecodeProvider();
+		TupleInstantiationOptimizer optimizer = provider.getTupleInstantiationOptimizer(
+				Holder.class.getConstructor( String.class, int.class, Long.class )
+		);
+		assertNotNull( optimizer );
+
+		Holder holder = (Holder) optimizer.newInstance( new Object[] { "name", 1, null } );
+		assertEquals( "name", holder.name );
+		assertEquals( 1, holder.count );
+		assertNull( holder.total );
+	}
+
+	@Test
+	public void testTupleInstantiationOptimizerClassReused() throws Exception {
+		BytecodeProvider provider = Environment.getBytecodeProvider();
+		TupleInstantiationOptimizer optimizer1 = provider.getTupleInstantiationOptimizer(
+				Holder.class.getConstructor( String.class, int.class, Long.class )
+		);
+		TupleInstantiationOptimizer optimizer2 = provider.getTupleInstantiationOptimizer(
+				Holder.class.getConstructor( String.class, int.class, Long.class )
+		);
+		assertSame( optimizer1.getClass(), optimizer2.getClass() );
+	}
+
+	@Test
+	public void testTupleInstantiationOptimizationOfBootstrapClass() throws Exception {
+		BytecodeProvider provider = Environment.getBytecodeProvider();
+		assertNull( provider.getTupleInstantiationOptimizer( String.class.getConstructor( String.class ) ) );
+	}
+
 	private void assertEquivalent(Object[] checkValues, Object[] values) {
 		assertEquals( "Different lengths", checkValues.length, values.length );
 		for ( int i = 0; i < checkValues.length; i++ ) {
@@ -92,6 +188,35 @@ public class ReflectionOptimizerTest extends BaseUnitTestCase {
 		}
 	}
 
+	public static class FieldBean {
+
+		private String name;
+		private int count;
+		protected String note;
+		private Long total;
+
+		private Long getTotal() {
+			return total;
+		}
+
+		private void setTotal(Long total) {
+			this.total = total;
+		}
+	}
+
+	public static class Holder {
+
+		private final String name;
+		private final int count;
+		private final Long total;
+
+		public Holder(String name, int count, Long total) {
+			this.name = name;
+			this.count = count;
+			this.total = total;
+		}
+	}
+
 	public interface Interface {
 
 		String getProperty();
@@ -0,0 +1,198 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode.enhancement.dirty;
+
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.Embeddable;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.bytecode.enhance.spi.UnloadedClass;
+import org.hibernate.engine.spi.IndexedSelfDirtinessTracker;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.bytecode.enhancement.CustomEnhancementContext;
+import org.hibernate.testing.bytecode.enhancement.EnhancerTestContext;
+import org.hibernate.testing.bytecode.enhancement.EnhancerTestUtils;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the dirty checking of entities enhanced to track their dirty attributes by index.
+ */
+@RunWith( BytecodeEnhancerRunner.class )
+@CustomEnhancementContext( DirtyTrackingByAttributeIndexTest.ByAttributeIndexContext.class )
+public class DirtyTrackingByAttributeIndexTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[]{ Item.class, BookItem.class };
+	}
+
+	@Test
+	public void testTrackedIndexes() {
+		BookItem item = new BookItem();
+		assertTrue( item instanceof IndexedSelfDirtinessTracker );
+		IndexedSelfDirtinessTracker tracker = (IndexedSelfDirtinessTracker) item;
+
+		// the attributes of the entity superclass come first, so that its enhanced setters apply to the subclass
+		List<String> trackedNames = Arrays.asList( tracker.$$_hibernate_getTrackedAttributeNames() );
+		List<String> superclassNames = Arrays.asList( ( (IndexedSelfDirtinessTracker) new Item() ).$$_hibernate_getTrackedAttributeNames() );
+		assertEquals( superclassNames, trackedNames.subList( 0, superclassNames.size() ) );
+		assertTrue( trackedNames.contains( "isbn" ) );
+		assertSame( tracker.$$_hibernate_getTrackedAttributeNames(), ( (IndexedSelfDirtinessTracker) new BookItem() ).$$_hibernate_getTrackedAttributeNames() );
+
+		EnhancerTestUtils.clearDirtyTracking( item );
+		assertArrayEquals( new int[0], tracker.$$_hibernate_getDirtyAttributeIndexes() );
+
+		item.setPrice( 10 );
+		item.setIsbn( "0-00-000000-0" );
+		item.setPrice( 10 );
+		EnhancerTestUtils.checkDirtyTracking( item, "price", "isbn" );
+		assertArrayEquals(
+				new int[]{ trackedNames.indexOf( "price" ), trackedNames.indexOf( "isbn" ) },
+				tracker.$$_hibernate_getDirtyAttributeIndexes()
+		);
+
+		EnhancerTestUtils.clearDirtyTracking( item );
+		item.setPrice( 10 );
+		EnhancerTestUtils.checkDirtyTracking( item );
+
+		// nested composite attributes are only tracked by name
+		item.setDimensions( new Dimensions() );
+		EnhancerTestUtils.clearDirtyTracking( item );
+		item.getDimensions().setWidth( 20 );
+		EnhancerTestUtils.checkDirtyTracking( item, "dimensions" );
+		assertArrayEquals( new int[]{ trackedNames.indexOf( "dimensions" ) }, tracker.$$_hibernate_getDirtyAttributeIndexes() );
+		tracker.$$_hibernate_trackChange( "dimensions.unit" );
+		assertNull( tracker.$$_hibernate_getDirtyAttributeIndexes() );
+	}
+
+	@Test
+	public void testUpdate() {
+		doInHibernate( this::sessionFactory, session -> {
+			BookItem item = new BookItem();
+			item.id = 1L;
+			item.setName( "Book" );
+			item.setPrice( 10 );
+			item.setIsbn( "0-00-000000-0" );
+			session.persist( item );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			BookItem item = session.get( BookItem.class, 1L );
+			item.setPrice( 12 );
+			item.setIsbn( "1-11-111111-1" );
+			Dimensions dimensions = new Dimensions();
+			dimensions.setWidth( 20 );
+			item.setDimensions( dimensions );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			BookItem item = session.get( BookItem.class, 1L );
+			assertEquals( "Book", item.getName() );
+			assertEquals( 12, item.getPrice() );
+			assertEquals( "1-11-111111-1", item.getIsbn() );
+			assertEquals( Integer.valueOf( 20 ), item.getDimensions().getWidth() );
+
+			item.getDimensions().setWidth( 30 );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			BookItem item = session.get( BookItem.class, 1L );
+			assertEquals( Integer.valueOf( 30 ), item.getDimensions().getWidth() );
+		} );
+	}
+
+	// --- //
+
+	public static class ByAttributeIndexContext extends EnhancerTestContext {
+
+		@Override
+		public boolean doDirtyCheckingByAttributeIndex(UnloadedClass classDescriptor) {
+			return true;
+		}
+	}
+
+	@Entity( name = "Item" )
+	private static class Item {
+
+		@Id
+		Long id;
+
+		String name;
+
+		int price;
+
+		@Embedded
+		Dimensions dimensions;
+
+		String getName() {
+			return name;
+		}
+
+		void setName(String name) {
+			this.name = name;
+		}
+
+		int getPrice() {
+			return price;
+		}
+
+		void setPrice(int price) {
+			this.price = price;
+		}
+
+		Dimensions getDimensions() {
+			return dimensions;
+		}
+
+		void setDimensions(Dimensions dimensions) {
+			this.dimensions = dimensions;
+		}
+	}
+
+	@Entity( name = "BookItem" )
+	private static class BookItem extends Item {
+
+		String isbn;
+
+		String getIsbn() {
+			return isbn;
+		}
+
+		void setIsbn(String isbn) {
+			this.isbn = isbn;
+		}
+	}
+
+	@Embeddable
+	private static class Dimensions {
+
+		Integer width;
+
+		Integer height;
+
+		Integer getWidth() {
+			return width;
+		}
+
+		void setWidth(Integer width) {
+			this.width = width;
+		}
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode.enhancement.lazy;
+
+import java.util.List;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.LazyGroup;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.bytecode.enhancement.EnhancementOptions;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the loading of the lazy basic attributes of batch loadable entities, by fetch group, for several entities at
+ * once.
+ */
+@RunWith( BytecodeEnhancerRunner.class )
+@EnhancementOptions( lazyLoading = true )
+public class LazyBasicFieldBatchFetchTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final int NUMBER_OF_ENTITIES = 20;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Document.class };
+	}
+
+	@Override
+	protected void configureStandardServiceRegistryBuilder(StandardServiceRegistryBuilder ssrb) {
+		super.configureStandardServiceRegistryBuilder( ssrb );
+		ssrb.applySetting( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Before
+	public void prepare() {
+		inTransaction(
+				session -> {
+					for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+						final Document document = new Document();
+						document.id = i + 1;
+						document.title = "Document #" + document.id;
+						document.text = "Text #" + document.id;
+						document.summary = "Summary #" + document.id;
+						session.persist( document );
+					}
+				}
+		);
+	}
+
+	@After
+	public void cleanup() {
+		inTransaction(
+				session -> session.createQuery( "delete from Document" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testBatchFetchGroup() {
+		inTransaction(
+				session -> {
+					final Statistics statistics = sessionFactory().getStatistics();
+					statistics.clear();
+					final List<Document> documents = session.createQuery( "from Document order by id", Document.class )
+							.getResultList();
+					assertEquals( 1, statistics.getPrepareStatementCount() );
+					assertEquals( NUMBER_OF_ENTITIES, documents.size() );
+
+					for ( Document document : documents ) {
+						assertEquals( "Text #" + document.id, document.getText() );
+					}
+					// the default fetch group of 10 documents at a time
+					assertEquals( 3, statistics.getPrepareStatementCount() );
+
+					for ( Document document : documents ) {
+						assertFalse( Hibernate.isPropertyInitialized( document, "summary" ) );
+					}
+					for ( Document document : documents ) {
+						assertEquals( "Summary #" + document.id, document.getSummary() );
+					}
+					assertEquals( 5, statistics.getPrepareStatementCount() );
+				}
+		);
+	}
+
+	@Test
+	public void testBatchFetchGroupKeepsWrittenAttributes() {
+		inTransaction(
+				session -> {
+					final List<Document> documents = session.createQuery( "from Document order by id", Document.class )
+							.getResultList();
+					documents.get( 1 ).setText( "Updated text" );
+
+					assertEquals( "Text #1", documents.get( 0 ).getText() );
+					assertTrue( Hibernate.isPropertyInitialized( documents.get( 2 ), "text" ) );
+					assertEquals( "Updated text", documents.get( 1 ).getText() );
+					assertEquals( "Text #3", documents.get( 2 ).getText() );
+				}
+		);
+
+		inTransaction(
+				session -> {
+					assertEquals( "Updated text", session.get( Document.class, 2 ).getText() );
+					assertEquals( "Text #3", session.get( Document.class, 3 ).getText() );
+				}
+		);
+	}
+
+	@Test
+	public void testBatchFetchGroupSkipsEvictedEntities() {
+		inTransaction(
+				session -> {
+					final Statistics statistics = sessionFactory().getStatistics();
+					final List<Document> documents = session.createQuery( "from Document order by id", Document.class )
+							.getResultList();
+					session.evict( documents.get( 1 ) );
+					statistics.clear();
+
+					assertEquals( "Text #1", documents.get( 0 ).getText() );
+					assertEquals( 1, statistics.getPrepareStatementCount() );
+					assertFalse( Hibernate.isPropertyInitialized( documents.get( 1 ), "text" ) );
+					assertTrue( Hibernate.isPropertyInitialized( documents.get( 10 ), "text" ) );
+				}
+		);
+	}
+
+	@Test
+	public void testFlushClearsBatchFetchGroupQueue() {
+		inTransaction(
+				session -> {
+					final Statistics statistics = sessionFactory().getStatistics();
+					final List<Document> documents = session.createQuery( "from Document order by id", Document.class )
+							.getResultList();
+					documents.get( NUMBER_OF_ENTITIES - 1 ).title = "Updated title";
+					session.flush();
+					statistics.clear();
+
+					assertEquals( "Text #1", documents.get( 0 ).getText() );
+					assertEquals( 1, statistics.getPrepareStatementCount() );
+					assertFalse( Hibernate.isPropertyInitialized( documents.get( 1 ), "text" ) );
+				}
+		);
+	}
+
+	// --- //
+
+	@Entity( name = "Document" )
+	@BatchSize( size = 10 )
+	private static class Document {
+
+		@Id
+		Integer id;
+
+		String title;
+
+		@Basic( fetch = FetchType.LAZY )
+		String text;
+
+		@Basic( fetch = FetchType.LAZY )
+		@LazyGroup( "summary" )
+		String summary;
+
+		String getText() {
+			return text;
+		}
+
+		void setText(String text) {
+			this.text = text;
+		}
+
+		String getSummary() {
+			return summary;
+		}
+	}
+}
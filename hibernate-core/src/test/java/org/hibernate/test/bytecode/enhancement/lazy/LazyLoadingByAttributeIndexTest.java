@@ -0,0 +1,191 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode.enhancement.lazy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+
+import org.hibernate.Hibernate;
+import org.hibernate.bytecode.enhance.spi.UnloadedClass;
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributesMetadata;
+import org.hibernate.engine.spi.IndexedSelfDirtinessTracker;
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.bytecode.enhancement.CustomEnhancementContext;
+import org.hibernate.testing.bytecode.enhancement.EnhancerTestContext;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the lazy loading of entities enhanced to track their attributes by index, for which the interceptor is passed
+ * the attribute indexes.
+ */
+@RunWith( BytecodeEnhancerRunner.class )
+@CustomEnhancementContext( LazyLoadingByAttributeIndexTest.ByAttributeIndexContext.class )
+public class LazyLoadingByAttributeIndexTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[]{ Document.class };
+	}
+
+	@Test
+	public void testInterceptorIsPassedAttributeIndexes() {
+		final LazyAttributesMetadata lazyAttributesMetadata = sessionFactory().getMetamodel()
+				.entityPersister( Document.class )
+				.getBytecodeEnhancementMetadata()
+				.getLazyAttributesMetadata();
+		final List<Integer> readIndexes = new ArrayList<>();
+		final LazyAttributeLoadingInterceptor interceptor = new LazyAttributeLoadingInterceptor(
+				"Document",
+				1L,
+				lazyAttributesMetadata,
+				null
+		) {
+			@Override
+			protected Object handleRead(Object target, int attributeIndex, String attributeName, Object value) {
+				readIndexes.add( attributeIndex );
+				return value;
+			}
+		};
+
+		Document document = new Document();
+		( (PersistentAttributeInterceptable) document ).$$_hibernate_setInterceptor( interceptor );
+		document.getText();
+		document.getSummary();
+
+		List<String> trackedNames = Arrays.asList( ( (IndexedSelfDirtinessTracker) document ).$$_hibernate_getTrackedAttributeNames() );
+		assertEquals( Arrays.asList( trackedNames.indexOf( "text" ), trackedNames.indexOf( "summary" ) ), readIndexes );
+
+		// writes mark the lazy attributes as initialized by index as well
+		assertFalse( interceptor.isAttributeLoaded( "summary" ) );
+		document.setSummary( "Summary" );
+		assertTrue( interceptor.isAttributeLoaded( "summary" ) );
+		assertTrue( interceptor.isLazyAttributeLoaded( lazyAttributesMetadata.getLazyIndex( "summary" ) ) );
+		assertEquals( 1, interceptor.getInitializedLazyAttributeNames().size() );
+		assertTrue( interceptor.hasAnyUninitializedAttributes() );
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void testAllAttributesLazyWithoutLazyFieldNames() {
+		final LazyAttributeLoadingInterceptor interceptor = new LazyAttributeLoadingInterceptor(
+				"Document",
+				1L,
+				(Set<String>) null,
+				null
+		);
+		assertFalse( interceptor.isAttributeLoaded( "text" ) );
+		assertFalse( interceptor.isAttributeLoaded( "title" ) );
+		assertFalse( interceptor.hasAnyUninitializedAttributes() );
+		assertTrue( interceptor.getInitializedLazyAttributeNames().isEmpty() );
+
+		interceptor.attributeInitialized( "text" );
+		assertTrue( interceptor.isAttributeLoaded( "text" ) );
+		assertFalse( interceptor.isAttributeLoaded( "title" ) );
+
+		final Set<String> initializedNames = interceptor.getInitializedLazyAttributeNames();
+		assertEquals( Collections.singleton( "text" ), initializedNames );
+		interceptor.attributeInitialized( "title" );
+		assertSame( initializedNames, interceptor.getInitializedLazyAttributeNames() );
+		assertEquals( new HashSet<>( Arrays.asList( "text", "title" ) ), initializedNames );
+	}
+
+	@Test
+	public void testLazyLoading() {
+		doInHibernate( this::sessionFactory, session -> {
+			Document document = new Document();
+			document.id = 1L;
+			document.title = "Document";
+			document.setText( "Text" );
+			document.setSummary( "Summary" );
+			session.persist( document );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			Document document = session.get( Document.class, 1L );
+			assertFalse( Hibernate.isPropertyInitialized( document, "text" ) );
+			assertEquals( "Text", document.getText() );
+			assertTrue( Hibernate.isPropertyInitialized( document, "text" ) );
+			assertTrue( Hibernate.isPropertyInitialized( document, "summary" ) );
+
+			document.setText( "Updated text" );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			Document document = session.get( Document.class, 1L );
+			document.setSummary( "Updated summary" );
+			assertTrue( Hibernate.isPropertyInitialized( document, "summary" ) );
+			assertFalse( Hibernate.isPropertyInitialized( document, "text" ) );
+			assertEquals( "Updated text", document.getText() );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			Document document = session.get( Document.class, 1L );
+			assertEquals( "Updated text", document.getText() );
+			assertEquals( "Updated summary", document.getSummary() );
+		} );
+	}
+
+	// --- //
+
+	public static class ByAttributeIndexContext extends EnhancerTestContext {
+
+		@Override
+		public boolean doDirtyCheckingByAttributeIndex(UnloadedClass classDescriptor) {
+			return true;
+		}
+	}
+
+	@Entity( name = "Document" )
+	private static class Document {
+
+		@Id
+		Long id;
+
+		String title;
+
+		@Basic( fetch = FetchType.LAZY )
+		String text;
+
+		@Basic( fetch = FetchType.LAZY )
+		String summary;
+
+		String getText() {
+			return text;
+		}
+
+		void setText(String text) {
+			this.text = text;
+		}
+
+		String getSummary() {
+			return summary;
+		}
+
+		void setSummary(String summary) {
+			this.summary = summary;
+		}
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode.enhancement.lazy.proxy;
+
+import java.util.List;
+import javax.persistence.ConstraintMode;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.ForeignKey;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.NotFound;
+import org.hibernate.annotations.NotFoundAction;
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.bytecode.enhancement.EnhancementOptions;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the loading of the polymorphic and "not found" lazy to-one associations of enhanced entities as lazy
+ * attributes, rather than by proxies or immediate selects.
+ */
+@RunWith(BytecodeEnhancerRunner.class)
+@EnhancementOptions(lazyLoading = true)
+public class EnhancedLazyReferencesTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final int NUMBER_OF_EMPLOYEES = 3;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] {
+				Employee.class,
+				Employer.class,
+				Vehicle.class,
+				Car.class,
+				Bike.class
+		};
+	}
+
+	@Override
+	protected void configureStandardServiceRegistryBuilder(StandardServiceRegistryBuilder ssrb) {
+		super.configureStandardServiceRegistryBuilder( ssrb );
+		ssrb.applySetting( AvailableSettings.ALLOW_ENHANCEMENT_AS_PROXY, "true" );
+		ssrb.applySetting( AvailableSettings.ENHANCED_LAZY_REFERENCES, "true" );
+		ssrb.applySetting( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected void configureSessionFactoryBuilder(SessionFactoryBuilder sfb) {
+		super.configureSessionFactoryBuilder( sfb );
+		sfb.applyStatisticsSupport( true );
+		sfb.applySecondLevelCacheSupport( false );
+		sfb.applyQueryCacheSupport( false );
+	}
+
+	@Before
+	public void setUpData() {
+		doInHibernate(
+				this::sessionFactory, session -> {
+					for ( int i = 1; i <= NUMBER_OF_EMPLOYEES; i++ ) {
+						final Vehicle vehicle = i % 2 == 0 ? new Bike() : new Car();
+						vehicle.id = i;
+						session.persist( vehicle );
+
+						final Employee employee = new Employee();
+						employee.id = i;
+						employee.vehicle = vehicle;
+						if ( i < NUMBER_OF_EMPLOYEES ) {
+							final Employer employer = new Employer();
+							employer.id = i;
+							employer.name = "Employer #" + i;
+							session.persist( employer );
+							employee.employer = employer;
+						}
+						session.persist( employee );
+					}
+				}
+		);
+
+		doInHibernate(
+				this::sessionFactory, session -> {
+					// Add a "not found" association
+					session.createQuery( "update Employee set employer_id = id" ).executeUpdate();
+				}
+		);
+	}
+
+	@After
+	public void cleanupData() {
+		doInHibernate(
+				this::sessionFactory, session -> {
+					session.createQuery( "delete from Employee" ).executeUpdate();
+					session.createQuery( "delete from Employer" ).executeUpdate();
+					session.createQuery( "delete from Vehicle" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testLazyReferences() {
+		final StatisticsImplementor statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate(
+				this::sessionFactory, session -> {
+					final List<Employee> employees = session.createQuery( "from Employee e order by e.id", Employee.class )
+							.getResultList();
+					assertEquals( 1, statistics.getPrepareStatementCount() );
+					for ( Employee employee : employees ) {
+						assertFalse( Hibernate.isPropertyInitialized( employee, "vehicle" ) );
+						assertFalse( Hibernate.isPropertyInitialized( employee, "employer" ) );
+					}
+
+					final Vehicle vehicle = employees.get( 0 ).vehicle;
+					assertTrue( vehicle instanceof Car );
+					// the foreign keys of all employees, then the vehicles and employers by batches,
+					// and the missing employer by itself
+					assertEquals( 5, statistics.getPrepareStatementCount() );
+
+					for ( Employee employee : employees ) {
+						assertTrue( Hibernate.isPropertyInitialized( employee, "vehicle" ) );
+						assertFalse( employee.vehicle instanceof HibernateProxy );
+						assertEquals( employee.id % 2 == 0 ? Bike.class : Car.class, employee.vehicle.getClass() );
+					}
+					assertEquals( "Employer #1", employees.get( 0 ).employer.name );
+					assertEquals( "Employer #2", employees.get( 1 ).employer.name );
+					assertNull( employees.get( 2 ).employer );
+					assertEquals( 5, statistics.getPrepareStatementCount() );
+				}
+		);
+	}
+
+	@Entity(name = "Employee")
+	@BatchSize(size = 10)
+	public static class Employee {
+		@Id
+		private int id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		@JoinColumn(foreignKey = @ForeignKey(value = ConstraintMode.NO_CONSTRAINT))
+		@NotFound(action = NotFoundAction.IGNORE)
+		private Employer employer;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Vehicle vehicle;
+	}
+
+	@Entity(name = "Employer")
+	@BatchSize(size = 10)
+	public static class Employer {
+		@Id
+		private int id;
+
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	@BatchSize(size = 10)
+	public static class Vehicle {
+		@Id
+		private int id;
+	}
+
+	@Entity(name = "Car")
+	public static class Car extends Vehicle {
+	}
+
+	@Entity(name = "Bike")
+	public static class Bike extends Vehicle {
+	}
+}
@@ -7,6 +7,7 @@
 package org.hibernate.test.bytecode.enhancement.tracker;
 
 import org.hibernate.bytecode.enhance.internal.tracker.DirtyTracker;
+import org.hibernate.bytecode.enhance.internal.tracker.IndexedFieldTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.SimpleFieldTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.SortedFieldTracker;
 import org.junit.Test;
@@ -14,6 +15,7 @@ import org.junit.Test;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -78,6 +80,51 @@ public class DirtyTrackerTest {
         assertEquals( 4, tracker.get().length );
     }
 
+    @Test
+    public void testIndexedTracker() {
+        String[] names = new String[100];
+        for ( int i = 0; i < names.length; i++ ) {
+            names[i] = "field" + i;
+        }
+        IndexedFieldTracker tracker = new IndexedFieldTracker( names );
+        assertTrue( tracker.isEmpty() );
+        assertEquals( 0, tracker.get().length );
+        assertEquals( 0, tracker.getIndexes().length );
+
+        tracker.add( 3 );
+        assertFalse( tracker.isEmpty() );
+        assertArrayEquals( tracker.get(), new String[]{"field3"} );
+
+        tracker.clear();
+        assertTrue( tracker.isEmpty() );
+        assertEquals( 0, tracker.get().length );
+
+        tracker.add( 70 );
+        tracker.add( "field3" );
+        tracker.add( 99 );
+        tracker.add( 3 );
+        tracker.add( 64 );
+        assertArrayEquals( tracker.getIndexes(), new int[]{3, 64, 70, 99} );
+        assertArrayEquals( tracker.get(), new String[]{"field3", "field64", "field70", "field99"} );
+        assertTrue( tracker.contains( "field64" ) );
+        assertFalse( tracker.contains( "field65" ) );
+
+        // names which are not tracked by index
+        tracker.add( "another.foo" );
+        tracker.add( "another.foo" );
+        assertNull( tracker.getIndexes() );
+        assertEquals( 5, tracker.get().length );
+
+        tracker.clear();
+        assertTrue( tracker.isEmpty() );
+        assertEquals( 0, tracker.getIndexes().length );
+
+        tracker.suspend( true );
+        tracker.add( 1 );
+        tracker.add( "one more" );
+        assertTrue( tracker.isEmpty() );
+    }
+
     private boolean isSorted(String[] arr) {
         for ( int i = 1; i < arr.length; i++ ) {
             if ( arr[i - 1].compareTo( arr[i] ) > 0 ) {
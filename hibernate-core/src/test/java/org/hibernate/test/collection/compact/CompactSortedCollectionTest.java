@@ -0,0 +1,295 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.collection.compact;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.persistence.Cacheable;
+import javax.persistence.CollectionTable;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.SortNatural;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.collection.internal.PersistentMap;
+import org.hibernate.collection.internal.PersistentSet;
+import org.hibernate.internal.util.collections.SortedArrayMap;
+import org.hibernate.internal.util.collections.SortedArraySet;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the loading of the sorted collections of immutable entities into sorted arrays.
+ */
+public class CompactSortedCollectionTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Country.class, Region.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.CACHE_REGION_FACTORY, CachingRegionFactory.class.getName() );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Before
+	public void prepare() {
+		inTransaction(
+				session -> {
+					final Country country = new Country();
+					country.id = 1;
+					country.postalCodes.addAll( Arrays.asList( 75001L, 13001L, 69001L, 33000L ) );
+					country.cities.addAll( Arrays.asList( "Paris", "Marseille", "Lyon", "Bordeaux" ) );
+					country.departments.put( 75, "Paris" );
+					country.departments.put( 13, "Bouches-du-Rhone" );
+					country.departments.put( 69, "Rhone" );
+					country.holidays.add( new Date( 0L ) );
+					country.holidaysByDate.put( new Date( 0L ), "New Year" );
+					session.persist( country );
+
+					final Region region = new Region();
+					region.id = 1;
+					region.cities.addAll( Arrays.asList( "Lyon", "Grenoble" ) );
+					session.persist( region );
+				}
+		);
+	}
+
+	@After
+	public void cleanup() {
+		inTransaction(
+				session -> {
+					session.delete( session.get( Country.class, 1 ) );
+					session.delete( session.get( Region.class, 1 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testCompactCollections() {
+		inTransaction(
+				session -> {
+					final Country country = session.get( Country.class, 1 );
+					assertTrue( underlying( country.postalCodes ) instanceof SortedArraySet );
+					assertTrue( underlying( country.cities ) instanceof SortedArraySet );
+					assertTrue( underlying( country.departments ) instanceof SortedArrayMap );
+
+					assertEquals( Arrays.asList( 13001L, 33000L, 69001L, 75001L ), Arrays.asList( country.postalCodes.toArray() ) );
+					assertTrue( country.postalCodes.contains( 69001L ) );
+					assertFalse( country.postalCodes.contains( 69002L ) );
+					assertEquals( new TreeSet<>( Arrays.asList( 33000L, 69001L ) ), country.postalCodes.subSet( 20000L, 70000L ) );
+					assertEquals( Long.valueOf( 75001L ), country.postalCodes.last() );
+
+					assertEquals( "Bordeaux", country.cities.first() );
+					assertEquals( new TreeSet<>( Arrays.asList( "Marseille", "Paris" ) ), country.cities.tailSet( "M" ) );
+
+					assertEquals( "Rhone", country.departments.get( 69 ) );
+					assertEquals( Integer.valueOf( 13 ), country.departments.firstKey() );
+					assertEquals( 1, country.departments.headMap( 69 ).size() );
+
+					// mutable elements and index
+					assertTrue( underlying( country.holidays ) instanceof TreeSet );
+					assertTrue( underlying( country.holidaysByDate ) instanceof TreeMap );
+
+					// not immutable
+					final Region region = session.get( Region.class, 1 );
+					assertTrue( underlying( region.cities ) instanceof TreeSet );
+				}
+		);
+	}
+
+	@Test
+	public void testCompactCollectionsFromCache() {
+		inTransaction(
+				session -> {
+					final Country country = session.get( Country.class, 1 );
+					Hibernate.initialize( country.cities );
+					Hibernate.initialize( country.departments );
+				}
+		);
+		sessionFactory().getStatistics().clear();
+
+		inTransaction(
+				session -> {
+					final Country country = session.get( Country.class, 1 );
+					assertTrue( underlying( country.postalCodes ) instanceof SortedArraySet );
+					assertTrue( underlying( country.cities ) instanceof SortedArraySet );
+					assertTrue( country.cities.contains( "Lyon" ) );
+					assertTrue( underlying( country.departments ) instanceof SortedArrayMap );
+					assertEquals( "Paris", country.departments.get( 75 ) );
+				}
+		);
+		assertEquals( 0, sessionFactory().getStatistics().getPrepareStatementCount() );
+	}
+
+	@Test
+	public void testWriteCopiesIntoTree() {
+		inTransaction(
+				session -> {
+					final Country country = session.get( Country.class, 1 );
+					country.cities.add( "Nice" );
+					assertTrue( underlying( country.cities ) instanceof TreeSet );
+					assertEquals( "Nice", country.cities.tailSet( "N" ).first() );
+
+					country.departments.remove( 13 );
+					assertTrue( underlying( country.departments ) instanceof TreeMap );
+					assertEquals( 2, country.departments.size() );
+
+					// merging a managed entity writes its collections
+					session.merge( country );
+					// the changes of an immutable entity are not flushed
+					session.clear();
+				}
+		);
+	}
+
+	@Test
+	public void testIteratorAndViewWritesCopyIntoTree() {
+		inTransaction(
+				session -> {
+					final Country country = session.get( Country.class, 1 );
+					final Iterator<String> cities = country.cities.iterator();
+					assertEquals( "Bordeaux", cities.next() );
+					cities.remove();
+					assertTrue( underlying( country.cities ) instanceof TreeSet );
+					assertEquals( "Lyon", cities.next() );
+					cities.remove();
+					assertEquals( new TreeSet<>( Arrays.asList( "Marseille", "Paris" ) ), country.cities );
+
+					final SortedSet<Long> lowPostalCodes = country.postalCodes.headSet( 70000L );
+					lowPostalCodes.add( 6000L );
+					assertTrue( underlying( country.postalCodes ) instanceof TreeSet );
+					lowPostalCodes.remove( 13001L );
+					assertEquals( Arrays.asList( 6000L, 33000L, 69001L ), Arrays.asList( lowPostalCodes.toArray() ) );
+					assertEquals( Arrays.asList( 6000L, 33000L, 69001L, 75001L ), Arrays.asList( country.postalCodes.toArray() ) );
+					try {
+						lowPostalCodes.add( 75002L );
+						fail( "out of range" );
+					}
+					catch (IllegalArgumentException expected) {
+					}
+
+					final SortedMap<Integer, String> departments = country.departments.tailMap( 50 );
+					final Iterator<Map.Entry<Integer, String>> entries = departments.entrySet().iterator();
+					entries.next().setValue( "Rhone-Alpes" );
+					assertTrue( underlying( country.departments ) instanceof TreeMap );
+					entries.next();
+					entries.remove();
+					assertEquals( Collections.singletonMap( 69, "Rhone-Alpes" ), departments );
+					country.departments.keySet().remove( 13 );
+					assertEquals( Collections.singletonMap( 69, "Rhone-Alpes" ), country.departments );
+					session.clear();
+				}
+		);
+	}
+
+	@Test
+	public void testMapValuesIteratorCopiesIntoTree() {
+		inTransaction(
+				session -> {
+					final Country country = session.get( Country.class, 1 );
+					final Iterator<String> departments = country.departments.values().iterator();
+					assertEquals( "Bouches-du-Rhone", departments.next() );
+					departments.remove();
+					assertTrue( underlying( country.departments ) instanceof TreeMap );
+					assertEquals( Arrays.asList( 69, 75 ), Arrays.asList( country.departments.keySet().toArray() ) );
+					session.clear();
+				}
+		);
+	}
+
+	private static Object underlying(Object collection) {
+		Hibernate.initialize( collection );
+		try {
+			final Field field = collection instanceof SortedMap
+					? PersistentMap.class.getDeclaredField( "map" )
+					: PersistentSet.class.getDeclaredField( "set" );
+			field.setAccessible( true );
+			return field.get( collection );
+		}
+		catch (ReflectiveOperationException e) {
+			throw new AssertionError( e );
+		}
+	}
+
+	@Entity( name = "Country" )
+	@Immutable
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_ONLY )
+	public static class Country {
+
+		@Id
+		Integer id;
+
+		@ElementCollection( fetch = FetchType.EAGER )
+		@CollectionTable( name = "country_postal_codes" )
+		@SortNatural
+		@Cache( usage = CacheConcurrencyStrategy.READ_ONLY )
+		SortedSet<Long> postalCodes = new TreeSet<>();
+
+		@ElementCollection
+		@CollectionTable( name = "country_cities" )
+		@SortNatural
+		@Cache( usage = CacheConcurrencyStrategy.READ_ONLY )
+		SortedSet<String> cities = new TreeSet<>();
+
+		@ElementCollection
+		@CollectionTable( name = "country_departments" )
+		@SortNatural
+		@Cache( usage = CacheConcurrencyStrategy.READ_ONLY )
+		SortedMap<Integer, String> departments = new TreeMap<>();
+
+		@ElementCollection
+		@CollectionTable( name = "country_holidays" )
+		@SortNatural
+		SortedSet<Date> holidays = new TreeSet<>();
+
+		@ElementCollection
+		@CollectionTable( name = "country_holidays_by_date" )
+		@SortNatural
+		SortedMap<Date, String> holidaysByDate = new TreeMap<>();
+	}
+
+	@Entity( name = "Region" )
+	public static class Region {
+
+		@Id
+		Integer id;
+
+		@ElementCollection
+		@CollectionTable( name = "region_cities" )
+		@SortNatural
+		SortedSet<String> cities = new TreeSet<>();
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.collection.multirow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.CollectionTable;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.OrderColumn;
+
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the writing of element collections by multi-row statements.
+ */
+@RequiresDialect( H2Dialect.class )
+public class CollectionMultiRowDmlTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Playlist.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.COLLECTION_MULTI_ROW_DML_SIZE, "4" );
+	}
+
+	@Override
+	protected void configureSessionFactoryBuilder(SessionFactoryBuilder sfb) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( sfb );
+	}
+
+	@After
+	public void cleanup() {
+		inTransaction(
+				session -> session.createQuery( "from Playlist", Playlist.class )
+						.getResultList()
+						.forEach( session::delete )
+		);
+	}
+
+	@Test
+	public void testSet() {
+		sqlStatementInterceptor.clear();
+		inTransaction(
+				session -> {
+					final Playlist playlist = new Playlist();
+					playlist.id = 1;
+					for ( int i = 0; i < 10; i++ ) {
+						playlist.tags.add( "tag #" + i );
+					}
+					session.persist( playlist );
+				}
+		);
+		// 4, 4 and 2 rows
+		assertEquals( 3, countStatements( "insert into playlist_tags" ) );
+
+		sqlStatementInterceptor.clear();
+		inTransaction(
+				session -> {
+					final Playlist playlist = session.get( Playlist.class, 1 );
+					for ( int i = 0; i < 5; i++ ) {
+						playlist.tags.remove( "tag #" + i );
+					}
+					playlist.tags.add( "new tag" );
+				}
+		);
+		// 4 and 1 rows
+		assertEquals( 2, countStatements( "delete from playlist_tags" ) );
+		assertEquals( 1, countStatements( "insert into playlist_tags" ) );
+
+		inTransaction(
+				session -> assertEquals(
+						new HashSet<>( Arrays.asList( "tag #5", "tag #6", "tag #7", "tag #8", "tag #9", "new tag" ) ),
+						session.get( Playlist.class, 1 ).tags
+				)
+		);
+	}
+
+	@Test
+	public void testOrderColumnShift() {
+		inTransaction(
+				session -> {
+					final Playlist playlist = new Playlist();
+					playlist.id = 1;
+					for ( int i = 0; i < 10; i++ ) {
+						playlist.songs.add( "song #" + i );
+					}
+					session.persist( playlist );
+				}
+		);
+
+		sqlStatementInterceptor.clear();
+		inTransaction(
+				session -> {
+					final Playlist playlist = session.get( Playlist.class, 1 );
+					playlist.songs.remove( 1 );
+					playlist.songs.remove( 1 );
+				}
+		);
+		// the removed range, then the following rows shifted
+		assertEquals( 1, countStatements( "delete from playlist_songs" ) );
+		assertEquals( 2, countStatements( "update playlist_songs" ) );
+		assertEquals( 0, countStatements( "insert into playlist_songs" ) );
+
+		sqlStatementInterceptor.clear();
+		inTransaction(
+				session -> {
+					final Playlist playlist = session.get( Playlist.class, 1 );
+					assertEquals( 8, playlist.songs.size() );
+					assertEquals( "song #3", playlist.songs.get( 1 ) );
+					playlist.songs.add( 0, "first song" );
+					playlist.songs.set( 2, "replaced song" );
+				}
+		);
+		assertEquals( 1, countStatements( "delete from playlist_songs" ) );
+		assertEquals( 2, countStatements( "update playlist_songs" ) );
+		assertEquals( 1, countStatements( "insert into playlist_songs" ) );
+
+		inTransaction(
+				session -> assertEquals(
+						Arrays.asList(
+								"first song",
+								"song #0",
+								"replaced song",
+								"song #4",
+								"song #5",
+								"song #6",
+								"song #7",
+								"song #8",
+								"song #9"
+						),
+						session.get( Playlist.class, 1 ).songs
+				)
+		);
+	}
+
+	private int countStatements(String prefix) {
+		int count = 0;
+		for ( String sql : sqlStatementInterceptor.getSqlQueries() ) {
+			if ( sql.toLowerCase().startsWith( prefix ) ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Entity( name = "Playlist" )
+	public static class Playlist {
+
+		@Id
+		Integer id;
+
+		@ElementCollection
+		@CollectionTable( name = "playlist_tags" )
+		Set<String> tags = new HashSet<>();
+
+		@ElementCollection
+		@CollectionTable( name = "playlist_songs" )
+		@OrderColumn( name = "song_order" )
+		List<String> songs = new ArrayList<>();
+	}
+}
@@ -0,0 +1,357 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.collection.operationlog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.persistence.CascadeType;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.OneToMany;
+
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.collection.internal.CollectionOperationLog;
+import org.hibernate.collection.spi.PersistentCollection;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the flushing of collections recording their additions and removals rather than keeping a snapshot.
+ */
+public class CollectionOperationLogTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Owner.class, Item.class, Part.class, Child.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.COLLECTION_OPERATION_LOG, "true" );
+	}
+
+	@Override
+	protected void configureSessionFactoryBuilder(SessionFactoryBuilder sfb) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( sfb );
+	}
+
+	@Before
+	public void prepare() {
+		inTransaction(
+				session -> {
+					final Owner owner = new Owner();
+					owner.id = 1;
+					owner.tags.addAll( Arrays.asList( "a", "b", "c", "d", "e" ) );
+					owner.notes.addAll( Arrays.asList( "a", "b" ) );
+					for ( int i = 1; i <= 5; i++ ) {
+						final Item item = new Item();
+						item.id = i;
+						session.persist( item );
+						owner.items.add( item );
+
+						final Part part = new Part();
+						part.id = i;
+						session.persist( part );
+						owner.parts.add( part );
+					}
+					session.persist( owner );
+				}
+		);
+	}
+
+	@After
+	public void cleanup() {
+		inTransaction(
+				session -> {
+					final Owner owner = session.get( Owner.class, 1 );
+					if ( owner != null ) {
+						session.delete( owner );
+					}
+					session.createQuery( "delete from Item" ).executeUpdate();
+					session.createQuery( "delete from Part" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testElementCollection() {
+		inTransaction(
+				session -> {
+					final Owner owner = session.get( Owner.class, 1 );
+					assertEquals( 5, owner.tags.size() );
+					assertTrue( ( (PersistentCollection) owner.tags ).getStoredSnapshot() instanceof CollectionOperationLog );
+
+					owner.tags.add( "f" );
+					owner.tags.remove( "a" );
+					// changes cancelling each other out
+					owner.tags.add( "g" );
+					owner.tags.remove( "g" );
+					owner.tags.remove( "b" );
+					owner.tags.add( "b" );
+					owner.tags.removeIf( "c"::equals );
+
+					sqlStatementInterceptor.clear();
+					session.flush();
+					assertEquals( 2, countStatements( "delete" ) );
+					assertEquals( 1, countStatements( "insert" ) );
+				}
+		);
+
+		inTransaction(
+				session -> {
+					final Owner owner = session.get( Owner.class, 1 );
+					assertEquals( new HashSet<>( Arrays.asList( "b", "d", "e", "f" ) ), owner.tags );
+
+					owner.tags.clear();
+					owner.tags.add( "h" );
+				}
+		);
+
+		inTransaction(
+				session -> assertEquals(
+						new HashSet<>( Arrays.asList( "h" ) ),
+						session.get( Owner.class, 1 ).tags
+				)
+		);
+	}
+
+	@Test
+	public void testOneToManySet() {
+		inTransaction(
+				session -> {
+					final Owner owner = session.get( Owner.class, 1 );
+					owner.items.remove( session.get( Item.class, 1 ) );
+					owner.items.retainAll( Arrays.asList( session.get( Item.class, 2 ), session.get( Item.class, 3 ) ) );
+					final Item item = new Item();
+					item.id = 6;
+					session.persist( item );
+					owner.items.add( item );
+				}
+		);
+
+		inTransaction(
+				session -> {
+					final Owner owner = session.get( Owner.class, 1 );
+					assertEquals( Arrays.asList( 2, 3, 6 ), ids( owner.items ) );
+					// the removed items are kept
+					assertEquals( 6L, session.createQuery( "select count(i) from Item i" ).uniqueResult() );
+				}
+		);
+	}
+
+	@Test
+	public void testOneToManyBagOrphanRemoval() {
+		inTransaction(
+				session -> {
+					final Owner owner = session.get( Owner.class, 1 );
+					owner.parts.removeIf( part -> part.id == 1 );
+					owner.parts.remove( 0 );
+					final Part part = new Part();
+					part.id = 6;
+					owner.parts.add( part );
+					session.persist( part );
+					// already an element
+					owner.parts.add( session.get( Part.class, 5 ) );
+
+					sqlStatementInterceptor.clear();
+					session.flush();
+					// the orphans are deleted, after their foreign keys are set to null
+					assertEquals( 2, countStatements( "delete" ) );
+					assertEquals( 3, countStatements( "update" ) );
+				}
+		);
+
+		inTransaction(
+				session -> {
+					final Owner owner = session.get( Owner.class, 1 );
+					assertEquals( Arrays.asList( 3, 4, 5, 6 ), ids( owner.parts ) );
+					assertNull( session.get( Part.class, 1 ) );
+					assertNull( session.get( Part.class, 2 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testElementsWithGeneratedIdBasedHashCode() {
+		inTransaction(
+				session -> {
+					final Owner owner = session.get( Owner.class, 1 );
+					// the hash codes change when the children are cascade persisted at flush
+					owner.children.add( new Child() );
+					owner.childList.add( new Child() );
+				}
+		);
+
+		inTransaction(
+				session -> {
+					final Owner owner = session.get( Owner.class, 1 );
+					assertEquals( 1, owner.children.size() );
+					assertEquals( 1, owner.childList.size() );
+				}
+		);
+	}
+
+	@Test
+	public void testUnrecordedWriteFallsBackToSnapshot() {
+		inTransaction(
+				session -> {
+					final Owner owner = session.get( Owner.class, 1 );
+					owner.parts.remove( session.get( Part.class, 1 ) );
+					// cannot be recorded
+					owner.parts.subList( 0, 2 ).clear();
+					final CollectionOperationLog operationLog = (CollectionOperationLog) ( (PersistentCollection) owner.parts ).getStoredSnapshot();
+					assertTrue( operationLog.isSuperseded() );
+					// the loaded state
+					assertEquals( 5, ( (List) operationLog.getSnapshot() ).size() );
+					owner.parts.add( session.get( Part.class, 1 ) );
+				}
+		);
+
+		inTransaction(
+				session -> {
+					final Owner owner = session.get( Owner.class, 1 );
+					assertEquals( Arrays.asList( 1, 4, 5 ), ids( owner.parts ) );
+					final CollectionOperationLog operationLog = (CollectionOperationLog) ( (PersistentCollection) owner.parts ).getStoredSnapshot();
+					assertFalse( operationLog.isSuperseded() );
+					assertEquals( 3, operationLog.getInitialSize() );
+				}
+		);
+	}
+
+	@Test
+	public void testUnsupportedCollectionKeepsSnapshot() {
+		inTransaction(
+				session -> {
+					final Owner owner = session.get( Owner.class, 1 );
+					// the rows of element collection bags are not keyed by their elements
+					assertFalse( ( (PersistentCollection) owner.notes ).getStoredSnapshot() instanceof CollectionOperationLog );
+					owner.notes.remove( "a" );
+					owner.notes.subList( 0, 1 ).clear();
+					owner.notes.add( "c" );
+				}
+		);
+
+		inTransaction(
+				session -> assertEquals( Arrays.asList( "c" ), session.get( Owner.class, 1 ).notes )
+		);
+	}
+
+	private int countStatements(String prefix) {
+		int count = 0;
+		for ( String sql : sqlStatementInterceptor.getSqlQueries() ) {
+			if ( sql.toLowerCase().startsWith( prefix ) ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static List<Integer> ids(Iterable<? extends Identified> entities) {
+		final List<Integer> ids = new ArrayList<>();
+		for ( Identified entity : entities ) {
+			ids.add( entity.getId() );
+		}
+		return ids.stream().sorted().collect( Collectors.toList() );
+	}
+
+	interface Identified {
+		Integer getId();
+	}
+
+	@Entity( name = "Owner" )
+	public static class Owner {
+
+		@Id
+		Integer id;
+
+		@ElementCollection
+		Set<String> tags = new HashSet<>();
+
+		@OneToMany
+		@JoinColumn( name = "item_owner_id" )
+		Set<Item> items = new HashSet<>();
+
+		@OneToMany( orphanRemoval = true )
+		@JoinColumn( name = "part_owner_id" )
+		List<Part> parts = new ArrayList<>();
+
+		@ElementCollection
+		List<String> notes = new ArrayList<>();
+
+		@OneToMany( cascade = CascadeType.ALL )
+		@JoinColumn( name = "child_owner_id" )
+		Set<Child> children = new HashSet<>();
+
+		@OneToMany( cascade = CascadeType.ALL )
+		@JoinColumn( name = "listed_child_owner_id" )
+		List<Child> childList = new ArrayList<>();
+	}
+
+	@Entity( name = "Item" )
+	public static class Item implements Identified {
+
+		@Id
+		Integer id;
+
+		@Override
+		public Integer getId() {
+			return id;
+		}
+	}
+
+	@Entity( name = "Part" )
+	public static class Part implements Identified {
+
+		@Id
+		Integer id;
+
+		@Override
+		public Integer getId() {
+			return id;
+		}
+	}
+
+	@Entity( name = "Child" )
+	public static class Child {
+
+		@Id
+		@GeneratedValue
+		Integer id;
+
+		@Override
+		public boolean equals(Object o) {
+			return this == o || o instanceof Child && id != null && id.equals( ( (Child) o ).id );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode( id );
+		}
+	}
+}
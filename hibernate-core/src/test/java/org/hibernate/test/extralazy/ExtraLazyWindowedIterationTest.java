@@ -0,0 +1,177 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.extralazy;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.OneToMany;
+import javax.persistence.OrderColumn;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.LazyCollection;
+import org.hibernate.annotations.LazyCollectionOption;
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the iteration of uninitialized extra-lazy lists by windows of elements.
+ */
+public class ExtraLazyWindowedIterationTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final int NUMBER_OF_ELEMENTS = 25;
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Feed.class, Entry.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.EXTRA_LAZY_WINDOW_SIZE, "10" );
+	}
+
+	@Override
+	protected void configureSessionFactoryBuilder(SessionFactoryBuilder sfb) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( sfb );
+	}
+
+	@Before
+	public void prepare() {
+		inTransaction(
+				session -> {
+					final Feed feed = new Feed();
+					feed.id = 1;
+					for ( int i = 0; i < NUMBER_OF_ELEMENTS; i++ ) {
+						final Entry entry = new Entry();
+						entry.id = i;
+						session.persist( entry );
+						feed.entries.add( entry );
+						feed.tags.add( "tag #" + i );
+					}
+					// a gap in the indexes
+					feed.tags.set( 12, null );
+					session.persist( feed );
+				}
+		);
+	}
+
+	@After
+	public void cleanup() {
+		inTransaction(
+				session -> {
+					session.delete( session.get( Feed.class, 1 ) );
+					session.createQuery( "delete from Entry" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testIterationByWindows() {
+		inTransaction(
+				session -> {
+					final Feed feed = session.get( Feed.class, 1 );
+
+					sqlStatementInterceptor.clear();
+					int expectedId = 0;
+					for ( Entry entry : feed.entries ) {
+						assertEquals( Integer.valueOf( expectedId++ ), entry.id );
+					}
+					assertEquals( NUMBER_OF_ELEMENTS, expectedId );
+					assertFalse( Hibernate.isInitialized( feed.entries ) );
+					// the size, then windows of 10, 10 and 5 entries, each read by a select of the rows followed by a
+					// single load of their entries
+					assertEquals( 7, sqlStatementInterceptor.getSqlQueries().size() );
+
+					final List<String> tags = new ArrayList<>();
+					for ( String tag : feed.tags ) {
+						tags.add( tag );
+					}
+					assertEquals( NUMBER_OF_ELEMENTS, tags.size() );
+					assertEquals( "tag #11", tags.get( 11 ) );
+					assertNull( tags.get( 12 ) );
+					assertEquals( "tag #24", tags.get( 24 ) );
+					assertFalse( Hibernate.isInitialized( feed.tags ) );
+				}
+		);
+	}
+
+	@Test
+	public void testRemovalInitializes() {
+		inTransaction(
+				session -> {
+					final Feed feed = session.get( Feed.class, 1 );
+					final Iterator<String> iterator = feed.tags.iterator();
+					for ( int i = 0; i < 15; i++ ) {
+						iterator.next();
+					}
+					iterator.remove();
+					assertTrue( Hibernate.isInitialized( feed.tags ) );
+					assertEquals( "tag #15", iterator.next() );
+
+					int count = 16;
+					while ( iterator.hasNext() ) {
+						iterator.next();
+						count++;
+					}
+					assertEquals( NUMBER_OF_ELEMENTS, count );
+				}
+		);
+
+		inTransaction(
+				session -> {
+					final Feed feed = session.get( Feed.class, 1 );
+					assertEquals( NUMBER_OF_ELEMENTS - 1, feed.tags.size() );
+					assertEquals( "tag #15", feed.tags.get( 14 ) );
+				}
+		);
+	}
+
+	@Entity( name = "Feed" )
+	public static class Feed {
+
+		@Id
+		Integer id;
+
+		@OneToMany
+		@JoinColumn( name = "feed_id" )
+		@OrderColumn( name = "feed_position" )
+		@LazyCollection( LazyCollectionOption.EXTRA )
+		List<Entry> entries = new ArrayList<>();
+
+		@ElementCollection
+		@OrderColumn( name = "tag_position" )
+		@LazyCollection( LazyCollectionOption.EXTRA )
+		List<String> tags = new ArrayList<>();
+	}
+
+	@Entity( name = "Entry" )
+	public static class Entry {
+
+		@Id
+		Integer id;
+	}
+}
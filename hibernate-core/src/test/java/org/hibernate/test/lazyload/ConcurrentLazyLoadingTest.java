@@ -0,0 +1,194 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.lazyload;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.LazyCollection;
+import org.hibernate.annotations.LazyCollectionOption;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the concurrent lazy initialization of the proxies and collections of a detached read-only entity graph.
+ */
+public class ConcurrentLazyLoadingTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final int NUMBER_OF_THREADS = 8;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Catalog.class, Item.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS, "true" );
+		settings.put( AvailableSettings.CONCURRENT_LAZY_LOAD_NO_TRANS, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.STATEMENT_INSPECTOR, SlowSelectInspector.class.getName() );
+	}
+
+	@Before
+	public void prepare() {
+		inTransaction(
+				session -> {
+					final Catalog catalog = new Catalog();
+					catalog.id = 1;
+					catalog.name = "Catalog";
+					session.persist( catalog );
+					for ( int i = 1; i <= 3; i++ ) {
+						final Item item = new Item();
+						item.id = i;
+						item.catalog = catalog;
+						session.persist( item );
+					}
+				}
+		);
+	}
+
+	@After
+	public void cleanup() {
+		inTransaction(
+				session -> {
+					session.createQuery( "delete from Item" ).executeUpdate();
+					session.createQuery( "delete from Catalog" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testConcurrentProxyInitialization() throws Exception {
+		final Item item = loadReadOnly( 1 );
+		assertFalse( Hibernate.isInitialized( item.catalog ) );
+
+		final StatisticsImplementor statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		final List<Object> names = inConcurrentThreads( () -> item.catalog.getName() );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+		for ( Object name : names ) {
+			assertEquals( "Catalog", name );
+		}
+	}
+
+	@Test
+	public void testConcurrentCollectionInitialization() throws Exception {
+		final Item item = loadReadOnly( 1 );
+		final Catalog catalog = (Catalog) Hibernate.unproxy( item.catalog );
+		assertFalse( Hibernate.isInitialized( catalog.items ) );
+
+		final StatisticsImplementor statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		// initialized at once, rather than read by extra lazy queries
+		final List<Object> sizes = inConcurrentThreads( () -> catalog.items.size() );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+		for ( Object size : sizes ) {
+			assertEquals( 3, size );
+		}
+		assertTrue( Hibernate.isInitialized( catalog.items ) );
+	}
+
+	private Item loadReadOnly(int id) {
+		return fromTransaction(
+				session -> {
+					session.setDefaultReadOnly( true );
+					return session.get( Item.class, id );
+				}
+		);
+	}
+
+	private static List<Object> inConcurrentThreads(Callable<Object> task) throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool( NUMBER_OF_THREADS );
+		try {
+			final CountDownLatch start = new CountDownLatch( 1 );
+			final List<Future<Object>> futures = new ArrayList<>();
+			for ( int i = 0; i < NUMBER_OF_THREADS; i++ ) {
+				futures.add( executor.submit( () -> {
+					start.await();
+					return task.call();
+				} ) );
+			}
+			start.countDown();
+			final List<Object> results = new ArrayList<>();
+			for ( Future<Object> future : futures ) {
+				results.add( future.get( 30, TimeUnit.SECONDS ) );
+			}
+			return results;
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Slows the selects down, so that the threads touch the graph while it is being initialized.
+	 */
+	public static class SlowSelectInspector implements StatementInspector {
+		@Override
+		public String inspect(String sql) {
+			if ( sql.startsWith( "select" ) ) {
+				try {
+					Thread.sleep( 100 );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return sql;
+		}
+	}
+
+	@Entity(name = "Catalog")
+	public static class Catalog {
+		@Id
+		Integer id;
+
+		String name;
+
+		@OneToMany(mappedBy = "catalog")
+		@LazyCollection(LazyCollectionOption.EXTRA)
+		List<Item> items = new ArrayList<>();
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Catalog catalog;
+	}
+}
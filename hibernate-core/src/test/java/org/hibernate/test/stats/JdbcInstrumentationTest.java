@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stats;
+
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.JdbcStatementStatistics;
+import org.hibernate.stat.spi.JdbcInstrumentation;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link JdbcInstrumentation}
+ */
+public class JdbcInstrumentationTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Sample.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.JDBC_INSTRUMENTATION_ENABLED, "true" );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+	}
+
+	@Test
+	public void testStatementStatistics() {
+		final JdbcInstrumentation instrumentation = sessionFactory().getServiceRegistry()
+				.getService( JdbcInstrumentation.class );
+		assertTrue( instrumentation.isEnabled() );
+		instrumentation.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 12; i++ ) {
+				session.persist( new Sample( i ) );
+			}
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 12, session.createQuery( "from Sample" ).list().size() );
+			assertEquals( 12, session.createQuery( "from Sample" ).list().size() );
+		} );
+
+		JdbcStatementStatistics insert = null;
+		JdbcStatementStatistics select = null;
+		for ( JdbcStatementStatistics statistics : instrumentation.getStatementStatistics() ) {
+			if ( statistics.getSql().startsWith( "insert" ) ) {
+				insert = statistics;
+			}
+			else if ( statistics.getSql().startsWith( "select" ) ) {
+				select = statistics;
+			}
+		}
+
+		assertNotNull( insert );
+		assertEquals( 3, insert.getBatchSize().getCount() );
+		assertEquals( 5, insert.getBatchSize().getMax() );
+		assertEquals( 12, insert.getBatchSize().getTotal() );
+
+		assertNotNull( select );
+		assertEquals( 2, select.getPrepareTime().getCount() );
+		assertEquals( 2, select.getExecutionTime().getCount() );
+		assertEquals( 2, select.getFetchTime().getCount() );
+		assertEquals( 24, select.getRowsRead() );
+		assertTrue(
+				select.getExecutionTime().getValueAtPercentile( 99 ) >= select.getExecutionTime().getValueAtPercentile( 50 )
+		);
+
+		assertTrue( instrumentation.getConnectionAcquisitionTime().getCount() >= 2 );
+	}
+
+	@Entity(name = "Sample")
+	public static class Sample {
+		@Id
+		private Integer id;
+
+		public Sample() {
+		}
+
+		public Sample(Integer id) {
+			this.id = id;
+		}
+	}
+}
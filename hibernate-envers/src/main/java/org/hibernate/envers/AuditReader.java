@@ -6,6 +6,7 @@
  */
 package org.hibernate.envers;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -109,6 +110,48 @@ public interface AuditReader {
 			Number revision, boolean includeDeletions) throws IllegalArgumentException,
 			NotAuditedException, IllegalStateException;
 
+	/**
+	 * Find entities by primary key at the given revision, loading the ones not read yet in a single query
+	 * (per batch of primary keys, when the database limits the size of {@code in} lists).
+	 *
+	 * @param cls Class of the entities.
+	 * @param primaryKeys Primary keys of the entities.
+	 * @param revision Revision in which to get the entities.
+	 * @param <T> The type of the entities to find
+	 *
+	 * @return The found entity instances at the given revision, in the order of the given primary keys, with
+	 *         null elements for the primary keys of entities which didn't exist at that revision.
+	 *
+	 * @throws IllegalArgumentException If cls, primaryKeys or one of them is null or revision is less or equal to 0.
+	 * @throws NotAuditedException When entities of the given class are not audited.
+	 * @throws IllegalStateException If the associated entity manager is closed.
+	 */
+	<T> List<T> findAll(Class<T> cls, Collection<?> primaryKeys, Number revision) throws
+			IllegalArgumentException, NotAuditedException, IllegalStateException;
+
+	/**
+	 * Find entities by primary key at the given revision with the specified entityName, possibly including
+	 * deleted entities in the search.  See {@link #findAll(Class, Collection, Number)}.
+	 *
+	 * @param cls Class of the entities.
+	 * @param entityName Name of the entity (if can't be guessed basing on the {@code cls}).
+	 * @param primaryKeys Primary keys of the entities.
+	 * @param revision Revision in which to get the entities.
+	 * @param includeDeletions Whether to include deleted entities in the search.
+	 * @param <T> The type of the entities to find
+	 *
+	 * @return The found entity instances at the given revision, in the order of the given primary keys, with
+	 *         null elements for the primary keys of entities which didn't exist at that revision.
+	 *
+	 * @throws IllegalArgumentException If cls, primaryKeys or one of them is null or revision is less or equal to 0.
+	 * @throws NotAuditedException When entities of the given class are not audited.
+	 * @throws IllegalStateException If the associated entity manager is closed.
+	 */
+	<T> List<T> findAll(
+			Class<T> cls, String entityName, Collection<?> primaryKeys,
+			Number revision, boolean includeDeletions) throws IllegalArgumentException,
+			NotAuditedException, IllegalStateException;
+
 	/**
 	 * Get a list of revision numbers, at which an entity was modified.
 	 *
@@ -19,6 +19,7 @@ import org.hibernate.envers.event.spi.EnversPostUpdateEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreCollectionRemoveEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreCollectionUpdateEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreUpdateEventListenerImpl;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.EventType;
 import org.hibernate.integrator.spi.Integrator;
@@ -112,10 +113,18 @@ public class EnversIntegrator implements Integrator {
 					new EnversPreCollectionUpdateEventListenerImpl( enversService )
 			);
 		}
+
+		final AuditOutbox auditOutbox = enversService.getAuditProcessManager().getAuditOutbox();
+		if ( auditOutbox != null ) {
+			auditOutbox.start( metadata, sessionFactory );
+		}
 	}
 
 	@Override
 	public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
-		// nothing to do
+		final EnversService enversService = serviceRegistry.getService( EnversService.class );
+		if ( enversService.isInitialized() && enversService.getAuditProcessManager().getAuditOutbox() != null ) {
+			enversService.getAuditProcessManager().getAuditOutbox().stop();
+		}
 	}
 }
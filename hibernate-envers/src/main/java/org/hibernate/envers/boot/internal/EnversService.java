@@ -12,6 +12,7 @@ import org.hibernate.envers.configuration.internal.AuditEntitiesConfiguration;
 import org.hibernate.envers.configuration.internal.GlobalConfiguration;
 import org.hibernate.envers.configuration.internal.MappingCollector;
 import org.hibernate.envers.internal.entities.EntitiesConfigurations;
+import org.hibernate.envers.internal.reader.AuditSnapshotCache;
 import org.hibernate.envers.internal.revisioninfo.ModifiedEntityNamesReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoQueryCreator;
@@ -63,6 +64,11 @@ public interface EnversService extends Service {
 
 	AuditStrategy getAuditStrategy();
 
+	/**
+	 * @return The cache of audit data shared by the audit readers, {@code null} if disabled.
+	 */
+	AuditSnapshotCache getAuditSnapshotCache();
+
 	EntitiesConfigurations getEntitiesConfigurations();
 
 	RevisionInfoQueryCreator getRevisionInfoQueryCreator();
@@ -22,9 +22,11 @@ import org.hibernate.envers.configuration.internal.RevisionInfoConfiguration;
 import org.hibernate.envers.configuration.internal.RevisionInfoConfigurationResult;
 import org.hibernate.envers.internal.entities.EntitiesConfigurations;
 import org.hibernate.envers.internal.entities.PropertyData;
+import org.hibernate.envers.internal.reader.AuditSnapshotCache;
 import org.hibernate.envers.internal.revisioninfo.ModifiedEntityNamesReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoQueryCreator;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 import org.hibernate.envers.internal.synchronization.AuditProcessManager;
 import org.hibernate.envers.internal.tools.ReflectionTools;
 import org.hibernate.envers.strategy.AuditStrategy;
@@ -68,6 +70,7 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 	private AuditEntitiesConfiguration auditEntitiesConfiguration;
 	private AuditProcessManager auditProcessManager;
 	private AuditStrategy auditStrategy;
+	private AuditSnapshotCache auditSnapshotCache;
 	private EntitiesConfigurations entitiesConfigurations;
 	private RevisionInfoQueryCreator revisionInfoQueryCreator;
 	private RevisionInfoNumberReader revisionInfoNumberReader;
@@ -135,7 +138,6 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 				revInfoCfgResult.getRevisionInfoEntityName(),
 				this
 		);
-		this.auditProcessManager = new AuditProcessManager( revInfoCfgResult.getRevisionInfoGenerator() );
 		this.revisionInfoQueryCreator = revInfoCfgResult.getRevisionInfoQueryCreator();
 		this.revisionInfoNumberReader = revInfoCfgResult.getRevisionInfoNumberReader();
 		this.modifiedEntityNamesReader = revInfoCfgResult.getModifiedEntityNamesReader();
@@ -145,6 +147,20 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 				revInfoCfgResult.getRevisionInfoTimestampData(),
 				serviceRegistry
 		);
+		if ( globalConfiguration.isAsyncAuditWriter() ) {
+			final AuditOutbox auditOutbox = new AuditOutbox( this, auditStrategy );
+			this.auditStrategy = auditOutbox.getRecordingAuditStrategy();
+			this.auditProcessManager = new AuditProcessManager( revInfoCfgResult.getRevisionInfoGenerator(), auditOutbox );
+		}
+		else {
+			this.auditProcessManager = new AuditProcessManager( revInfoCfgResult.getRevisionInfoGenerator() );
+		}
+		if ( globalConfiguration.getAuditReaderCacheSize() > 0 ) {
+			this.auditSnapshotCache = new AuditSnapshotCache(
+					auditEntitiesConfiguration,
+					globalConfiguration.getAuditReaderCacheSize()
+			);
+		}
 		this.entitiesConfigurations = new EntitiesConfigurator().configure(
 				metadata,
 				serviceRegistry,
@@ -231,6 +247,14 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 		return auditStrategy;
 	}
 
+	@Override
+	public AuditSnapshotCache getAuditSnapshotCache() {
+		if ( !initialized ) {
+			throw new IllegalStateException( "Service is not yet initialized" );
+		}
+		return auditSnapshotCache;
+	}
+
 	@Override
 	public EntitiesConfigurations getEntitiesConfigurations() {
 		if ( !initialized ) {
@@ -281,6 +305,8 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 
 	@Override
 	public void stop() {
-		// anything to release?
+		if ( auditProcessManager != null && auditProcessManager.getAuditOutbox() != null ) {
+			auditProcessManager.getAuditOutbox().stop();
+		}
 	}
 }
@@ -109,6 +109,34 @@ public interface EnversSettings {
 	 */
 	String AUDIT_STRATEGY_VALIDITY_REVEND_TIMESTAMP_FIELD_NAME = "org.hibernate.envers.audit_strategy_validity_revend_timestamp_field_name";
 
+	/**
+	 * Number of end revision updates the validity audit strategy sends to the database in a single
+	 * JDBC batch.  When greater than {@code 1}, the updates of the previous audit rows are collected
+	 * per audit table and executed as JDBC batches before the transaction completes, instead of one
+	 * statement per audited entity change.  Defaults to {@code 0} (one statement per change).
+	 */
+	String AUDIT_STRATEGY_VALIDITY_REVEND_BATCH_SIZE = "org.hibernate.envers.audit_strategy_validity_revend_batch_size";
+
+	/**
+	 * Generates an index on the identifier, revision and end revision columns, in this order, of the audit table
+	 * of each entity hierarchy, matching the restriction the validity audit strategy uses to read entities at a
+	 * revision.  Defaults to {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String AUDIT_STRATEGY_VALIDITY_REVISION_INDEX = "org.hibernate.envers.audit_strategy_validity_revision_index";
+
+	/**
+	 * Declares the audit tables as range partitioned on the end revision timestamp column.  When reading entities
+	 * at a revision, the validity audit strategy then also restricts that column with the timestamp of the revision,
+	 * so that the database only scans the partitions which may hold matching rows.  The partitioning itself is
+	 * defined in the database.  Requires {@link #AUDIT_STRATEGY_VALIDITY_STORE_REVEND_TIMESTAMP}, and revision
+	 * timestamps which never decrease as revision numbers increase.  Defaults to {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String AUDIT_STRATEGY_VALIDITY_REVEND_TIMESTAMP_PARTITIONED = "org.hibernate.envers.audit_strategy_validity_revend_timestamp_partitioned";
+
 	/**
 	 * Name of column used for storing ordinal of the change in sets of embeddable elements. Defaults to {@literal SETORDINAL}.
 	 */
@@ -142,4 +170,88 @@ public interface EnversSettings {
 	 * @since 5.4.7
 	 */
 	String MODIFIED_COLUMN_NAMING_STRATEGY = "org.hibernate.envers.modified_column_naming_strategy";
+
+	/**
+	 * Moves the writing of audit rows out of the audited transaction.  The audit work of a transaction is
+	 * serialized into a single row of an outbox table, written in the same transaction, and a background
+	 * writer materializes the audit rows from the outbox afterwards.  Outbox rows left over by a crash are
+	 * written once the application is started again.  Defaults to {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String ASYNC_AUDIT_WRITER = "org.hibernate.envers.async_audit_writer";
+
+	/**
+	 * Name of the outbox table used by the {@link #ASYNC_AUDIT_WRITER asynchronous audit writer}.
+	 * Defaults to {@literal REVOUTBOX}.
+	 *
+	 * @since 5.5
+	 */
+	String ASYNC_AUDIT_WRITER_OUTBOX_TABLE = "org.hibernate.envers.async_audit_writer_outbox_table";
+
+	/**
+	 * Maximum number of outbox rows the {@link #ASYNC_AUDIT_WRITER asynchronous audit writer} materializes
+	 * in a single transaction.  Defaults to {@literal 100}.
+	 *
+	 * @since 5.5
+	 */
+	String ASYNC_AUDIT_WRITER_BATCH_SIZE = "org.hibernate.envers.async_audit_writer_batch_size";
+
+	/**
+	 * Maximum number of transactions of this application whose audit rows may wait for the
+	 * {@link #ASYNC_AUDIT_WRITER asynchronous audit writer}.  Once reached, committing transactions
+	 * block until the writer catches up.  Defaults to {@literal 1000}.
+	 *
+	 * @since 5.5
+	 */
+	String ASYNC_AUDIT_WRITER_MAX_PENDING = "org.hibernate.envers.async_audit_writer_max_pending";
+
+	/**
+	 * Interval, in milliseconds, at which the {@link #ASYNC_AUDIT_WRITER asynchronous audit writer} checks
+	 * the outbox table for rows it was not notified about (written by other nodes, left over by a crash or
+	 * by a failed attempt).  Defaults to {@literal 1000}.
+	 *
+	 * @since 5.5
+	 */
+	String ASYNC_AUDIT_WRITER_POLL_INTERVAL = "org.hibernate.envers.async_audit_writer_poll_interval";
+
+	/**
+	 * What an {@code AuditReader} sees when the {@link #ASYNC_AUDIT_WRITER asynchronous audit writer} is used.
+	 * <ul>
+	 * <li>{@literal eventual} (default): audit rows appear once the writer got to them.</li>
+	 * <li>{@literal committed}: obtaining an {@code AuditReader} waits until the audit rows of all transactions
+	 * committed by this application beforehand are written.</li>
+	 * </ul>
+	 *
+	 * @since 5.5
+	 */
+	String ASYNC_AUDIT_WRITER_READ_CONSISTENCY = "org.hibernate.envers.async_audit_writer_read_consistency";
+
+	/**
+	 * Inserts audit rows directly through the persister of their audit entity, instead of saving them in the
+	 * session.  Audit rows then take part in JDBC batching ({@literal hibernate.jdbc.batch_size}) and are not
+	 * added to the persistence context, but interceptors and event listeners are not notified of them.
+	 * Defaults to {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String DIRECT_AUDIT_ROW_INSERTS = "org.hibernate.envers.direct_audit_row_inserts";
+
+	/**
+	 * Maximum number of audited entity instances whose audit data, as read by {@code AuditReader#find}, is kept
+	 * in a cache shared by all the audit readers.  Entries of an entity are evicted when audit rows are written
+	 * for it through this application.  Defaults to {@literal 0}, which disables the cache.
+	 *
+	 * @since 5.5
+	 */
+	String AUDIT_READER_CACHE_SIZE = "org.hibernate.envers.audit_reader_cache_size";
+
+	/**
+	 * Maximum number of lazy audited *-to-one references of an audit reader, of the same entity at the same
+	 * revision, initialized by a single query when one of them is accessed.  Defaults to {@literal 1}, which
+	 * initializes each reference on its own.
+	 *
+	 * @since 5.5
+	 */
+	String AUDIT_READER_BATCH_FETCH_SIZE = "org.hibernate.envers.audit_reader_batch_fetch_size";
 }
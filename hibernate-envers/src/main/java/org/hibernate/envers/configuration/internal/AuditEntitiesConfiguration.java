@@ -10,6 +10,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 
+import org.hibernate.MappingException;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.EnversSettings;
 import org.hibernate.envers.strategy.DefaultAuditStrategy;
@@ -43,7 +44,10 @@ public class  AuditEntitiesConfiguration {
 	private final String revisionEndFieldName;
 
 	private final boolean revisionEndTimestampEnabled;
+	private final int revisionEndBatchSize;
 	private final String revisionEndTimestampFieldName;
+	private final boolean revisionEndTimestampPartitioned;
+	private final boolean revisionIndexEnabled;
 
 	private final String embeddableSetOrdinalPropertyName;
 	private final EnversService enversService;
@@ -90,6 +94,24 @@ public class  AuditEntitiesConfiguration {
 			revisionEndTimestampFieldName = null;
 		}
 
+		revisionEndBatchSize = ConfigurationHelper.getInt(
+				EnversSettings.AUDIT_STRATEGY_VALIDITY_REVEND_BATCH_SIZE, properties, 0
+		);
+
+		revisionEndTimestampPartitioned = ConfigurationHelper.getBoolean(
+				EnversSettings.AUDIT_STRATEGY_VALIDITY_REVEND_TIMESTAMP_PARTITIONED, properties, false
+		);
+		if ( revisionEndTimestampPartitioned && !revisionEndTimestampEnabled ) {
+			throw new MappingException(
+					EnversSettings.AUDIT_STRATEGY_VALIDITY_REVEND_TIMESTAMP_PARTITIONED + " requires "
+							+ EnversSettings.AUDIT_STRATEGY_VALIDITY_STORE_REVEND_TIMESTAMP + " to be enabled"
+			);
+		}
+
+		revisionIndexEnabled = ConfigurationHelper.getBoolean(
+				EnversSettings.AUDIT_STRATEGY_VALIDITY_REVISION_INDEX, properties, false
+		);
+
 		customAuditTablesNames = new HashMap<>();
 
 		revisionNumberPath = originalIdPropName + "." + revisionFieldName + ".id";
@@ -112,10 +134,22 @@ public class  AuditEntitiesConfiguration {
 		return revisionEndTimestampEnabled;
 	}
 
+	public int getRevisionEndBatchSize() {
+		return revisionEndBatchSize;
+	}
+
 	public String getRevisionEndTimestampFieldName() {
 		return revisionEndTimestampFieldName;
 	}
 
+	public boolean isRevisionEndTimestampPartitioned() {
+		return revisionEndTimestampPartitioned;
+	}
+
+	public boolean isRevisionIndexEnabled() {
+		return revisionIndexEnabled;
+	}
+
 	public String getRevisionNumberPath() {
 		return revisionNumberPath;
 	}
@@ -15,10 +15,13 @@ import org.hibernate.annotations.common.reflection.ReflectionManager;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.envers.configuration.internal.metadata.AuditEntityNameRegister;
 import org.hibernate.envers.configuration.internal.metadata.AuditMetadataGenerator;
+import org.hibernate.envers.configuration.internal.metadata.AuditTableData;
 import org.hibernate.envers.configuration.internal.metadata.EntityXmlMappingData;
+import org.hibernate.envers.configuration.internal.metadata.MetadataTools;
 import org.hibernate.envers.configuration.internal.metadata.reader.AnnotationsMetadataReader;
 import org.hibernate.envers.configuration.internal.metadata.reader.ClassAuditingData;
 import org.hibernate.envers.internal.entities.EntitiesConfigurations;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 import org.hibernate.envers.internal.tools.StringTools;
 import org.hibernate.envers.internal.tools.graph.GraphTopologicalSort;
 import org.hibernate.envers.strategy.AuditStrategy;
@@ -126,6 +129,9 @@ public class EntitiesConfigurator {
 				if ( revisionInfoXmlMapping != null ) {
 					mappingCollector.addDocument( revisionInfoXmlMapping );
 				}
+				if ( globalConfiguration.isAsyncAuditWriter() ) {
+					mappingCollector.addDocument( generateAuditOutboxMapping( globalConfiguration ) );
+				}
 			}
 			catch (DocumentException e) {
 				throw new MappingException( e );
@@ -137,4 +143,54 @@ public class EntitiesConfigurator {
 				auditMetaGen.getNotAuditedEntitiesConfigurations()
 		);
 	}
+
+	/**
+	 * Maps the outbox table of the asynchronous audit writer as a dynamic-map entity.
+	 */
+	private Document generateAuditOutboxMapping(GlobalConfiguration globalConfiguration) {
+		final Document document = new XMLHelper().getDocumentFactory().createDocument();
+
+		final Element classMapping = MetadataTools.createEntity(
+				document,
+				new AuditTableData(
+						AuditOutbox.ENTITY_NAME,
+						globalConfiguration.getAsyncAuditWriterOutboxTable(),
+						globalConfiguration.getDefaultSchemaName(),
+						globalConfiguration.getDefaultCatalogName()
+				),
+				null,
+				null
+		);
+
+		final Element idMapping = classMapping.addElement( "id" );
+		idMapping.addAttribute( "name", AuditOutbox.ID_PROPERTY ).addAttribute( "type", "long" );
+		MetadataTools.addColumn( idMapping, "ID", null, null, null, null, null, null );
+		// a plain sequence, no optimizer: identifiers have to follow the order in which the rows are created
+		final Element generatorMapping = idMapping.addElement( "generator" );
+		generatorMapping.addAttribute( "class", "enhanced-sequence" );
+		generatorMapping.addElement( "param" )
+				.addAttribute( "name", "sequence_name" )
+				.setText( globalConfiguration.getAsyncAuditWriterOutboxTable() + "_SEQ" );
+		generatorMapping.addElement( "param" ).addAttribute( "name", "increment_size" ).setText( "1" );
+
+		final Element revisionProperty = MetadataTools.addProperty(
+				classMapping,
+				AuditOutbox.REVISION_PROPERTY,
+				"long",
+				true,
+				false
+		);
+		MetadataTools.addColumn( revisionProperty, "REV", null, null, null, null, null, null );
+
+		final Element payloadProperty = MetadataTools.addProperty(
+				classMapping,
+				AuditOutbox.PAYLOAD_PROPERTY,
+				"materialized_blob",
+				true,
+				false
+		);
+		MetadataTools.addColumn( payloadProperty, "PAYLOAD", null, null, null, null, null, null );
+
+		return document;
+	}
 }
@@ -83,6 +83,23 @@ public class GlobalConfiguration {
 
 	private final ModifiedColumnNamingStrategy modifiedColumnNamingStrategy;
 
+	// Maximum number of entity instances in the audit reader cache shared by the readers, 0 when disabled
+	private final int auditReaderCacheSize;
+
+	// Number of lazy to-one references initialized together by the audit readers
+	private final int auditReaderBatchFetchSize;
+
+	// Insert audit rows without saving them in the session
+	private final boolean directAuditRowInserts;
+
+	// Write audit rows asynchronously, through an outbox table
+	private final boolean asyncAuditWriter;
+	private final String asyncAuditWriterOutboxTable;
+	private final int asyncAuditWriterBatchSize;
+	private final int asyncAuditWriterMaxPending;
+	private final long asyncAuditWriterPollInterval;
+	private final boolean asyncAuditWriterCommittedReads;
+
 	public GlobalConfiguration(
 			EnversService enversService,
 			Map properties) {
@@ -186,6 +203,37 @@ public class GlobalConfiguration {
 		findByRevisionExactMatch = ConfigurationHelper.getBoolean(
 				EnversSettings.FIND_BY_REVISION_EXACT_MATCH, properties, false
 		);
+
+		auditReaderCacheSize = ConfigurationHelper.getInt(
+				EnversSettings.AUDIT_READER_CACHE_SIZE, properties, 0
+		);
+
+		auditReaderBatchFetchSize = ConfigurationHelper.getInt(
+				EnversSettings.AUDIT_READER_BATCH_FETCH_SIZE, properties, 1
+		);
+
+		directAuditRowInserts = ConfigurationHelper.getBoolean(
+				EnversSettings.DIRECT_AUDIT_ROW_INSERTS, properties, false
+		);
+
+		asyncAuditWriter = ConfigurationHelper.getBoolean(
+				EnversSettings.ASYNC_AUDIT_WRITER, properties, false
+		);
+		asyncAuditWriterOutboxTable = ConfigurationHelper.getString(
+				EnversSettings.ASYNC_AUDIT_WRITER_OUTBOX_TABLE, properties, "REVOUTBOX"
+		);
+		asyncAuditWriterBatchSize = ConfigurationHelper.getInt(
+				EnversSettings.ASYNC_AUDIT_WRITER_BATCH_SIZE, properties, 100
+		);
+		asyncAuditWriterMaxPending = ConfigurationHelper.getInt(
+				EnversSettings.ASYNC_AUDIT_WRITER_MAX_PENDING, properties, 1000
+		);
+		asyncAuditWriterPollInterval = ConfigurationHelper.getLong(
+				EnversSettings.ASYNC_AUDIT_WRITER_POLL_INTERVAL, properties, 1000
+		);
+		asyncAuditWriterCommittedReads = "committed".equalsIgnoreCase(
+				ConfigurationHelper.getString( EnversSettings.ASYNC_AUDIT_WRITER_READ_CONSISTENCY, properties, "eventual" )
+		);
 	}
 
 	public EnversService getEnversService() {
@@ -259,4 +307,40 @@ public class GlobalConfiguration {
 	public ModifiedColumnNamingStrategy getModifiedColumnNamingStrategy() {
 		return modifiedColumnNamingStrategy;
 	}
+
+	public int getAuditReaderCacheSize() {
+		return auditReaderCacheSize;
+	}
+
+	public int getAuditReaderBatchFetchSize() {
+		return auditReaderBatchFetchSize;
+	}
+
+	public boolean isDirectAuditRowInserts() {
+		return directAuditRowInserts;
+	}
+
+	public boolean isAsyncAuditWriter() {
+		return asyncAuditWriter;
+	}
+
+	public String getAsyncAuditWriterOutboxTable() {
+		return asyncAuditWriterOutboxTable;
+	}
+
+	public int getAsyncAuditWriterBatchSize() {
+		return asyncAuditWriterBatchSize;
+	}
+
+	public int getAsyncAuditWriterMaxPending() {
+		return asyncAuditWriterMaxPending;
+	}
+
+	public long getAsyncAuditWriterPollInterval() {
+		return asyncAuditWriterPollInterval;
+	}
+
+	public boolean isAsyncAuditWriterCommittedReads() {
+		return asyncAuditWriterCommittedReads;
+	}
 }
@@ -8,6 +8,7 @@ package org.hibernate.envers.configuration.internal.metadata;
 
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.MappingException;
@@ -30,6 +31,7 @@ import org.hibernate.envers.internal.tools.Triple;
 import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.envers.strategy.spi.MappingContext;
 import org.hibernate.mapping.Collection;
+import org.hibernate.mapping.Constraint;
 import org.hibernate.mapping.Join;
 import org.hibernate.mapping.OneToOne;
 import org.hibernate.mapping.PersistentClass;
@@ -177,6 +179,45 @@ public final class AuditMetadataGenerator {
 		auditStrategy.addAdditionalColumns( new MappingContext( anyMapping, revisionInfoRelationMapping, verEntCfg ) );
 	}
 
+	/**
+	 * Adds an index on the identifier, revision and end revision columns of an audit table, which the point-in-time
+	 * queries of the validity audit strategy can be resolved with.
+	 */
+	@SuppressWarnings({"unchecked"})
+	private void addRevisionIndex(Element classMapping, AuditTableData auditTableData) {
+		if ( !verEntCfg.isRevisionIndexEnabled() ) {
+			return;
+		}
+
+		Element revisionEndMapping = null;
+		for ( Element manyToOne : (List<Element>) classMapping.elements( "many-to-one" ) ) {
+			if ( verEntCfg.getRevisionEndFieldName().equals( manyToOne.attributeValue( "name" ) ) ) {
+				revisionEndMapping = manyToOne;
+			}
+		}
+		if ( revisionEndMapping == null ) {
+			// Only the validity audit strategy maps an end revision
+			return;
+		}
+
+		final String indexName = "IDX" + Constraint.hashedName( auditTableData.getAuditTableName() + "_REV" );
+		addColumnsToIndex( classMapping.element( "composite-id" ), indexName );
+		addColumnsToIndex( revisionEndMapping, indexName );
+	}
+
+	@SuppressWarnings({"unchecked"})
+	private static void addColumnsToIndex(Element mapping, String indexName) {
+		for ( Element element : (List<Element>) mapping.elements() ) {
+			if ( "column".equals( element.getName() ) ) {
+				final String indexes = element.attributeValue( "index" );
+				element.addAttribute( "index", indexes == null ? indexName : indexes + "," + indexName );
+			}
+			else {
+				addColumnsToIndex( element, indexName );
+			}
+		}
+	}
+
 	private void addValueInFirstPass(
 			Element parent,
 			Value value,
@@ -521,6 +562,8 @@ public final class AuditMetadataGenerator {
 
 		addAdditionalColumns( classMapping );
 
+		addRevisionIndex( classMapping, auditTableData );
+
 		return Triple.make( classMapping, propertyMapper, null );
 	}
 
@@ -17,6 +17,7 @@ import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
 import org.hibernate.envers.internal.entities.mapper.relation.lazy.ToOneDelegateSessionImplementor;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
 import org.hibernate.envers.internal.tools.ReflectionTools;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 
@@ -48,13 +49,7 @@ public class EntityInstantiator {
 			return null;
 		}
 
-		// The $type$ property holds the name of the (versions) entity
-		final String type = enversService.getEntitiesConfigurations()
-				.getEntityNameForVersionsEntityName( (String) versionsEntity.get( "$type$" ) );
-
-		if ( type != null ) {
-			entityName = type;
-		}
+		entityName = getEntityName( entityName, versionsEntity );
 
 		// First mapping the primary key
 		final IdMapper idMapper = enversService.getEntitiesConfigurations().get( entityName ).getIdMapper();
@@ -102,6 +97,45 @@ public class EntityInstantiator {
 		return ret;
 	}
 
+	/**
+	 * Removes the entity instance created from an entry from the versions table from the first level cache of the
+	 * versions reader, so that it is not retained by the reader anymore.  The instance is looked up under the name of
+	 * the given entity and of its subclasses.
+	 *
+	 * @param entityName Name of the entity, which instances are read
+	 * @param versionsEntity The entry in the versions table, the entity instance was created from.
+	 * @param revision Revision at which this entity was read.
+	 */
+	public void removeInstanceFromCache(String entityName, Map versionsEntity, Number revision) {
+		entityName = getEntityName( entityName, versionsEntity );
+		final IdMapper idMapper = enversService.getEntitiesConfigurations().get( entityName ).getIdMapper();
+		final Object primaryKey = idMapper.mapToIdFromMap(
+				(Map) versionsEntity.get( enversService.getAuditEntitiesConfiguration().getOriginalIdPropName() )
+		);
+		if ( versionsReader.getFirstLevelCache().contains( entityName, revision, primaryKey ) ) {
+			versionsReader.getFirstLevelCache().remove( entityName, revision, primaryKey );
+			return;
+		}
+		// The instance is cached under the name of its concrete entity, which may be a subclass of the given one
+		final EntityPersister persister = versionsReader.getSessionImplementor()
+				.getFactory()
+				.getMetamodel()
+				.entityPersister( entityName );
+		for ( Object subclassEntityName : persister.getEntityMetamodel().getSubclassEntityNames() ) {
+			if ( versionsReader.getFirstLevelCache().contains( (String) subclassEntityName, revision, primaryKey ) ) {
+				versionsReader.getFirstLevelCache().remove( (String) subclassEntityName, revision, primaryKey );
+				return;
+			}
+		}
+	}
+
+	private String getEntityName(String entityName, Map versionsEntity) {
+		// The $type$ property holds the name of the (versions) entity
+		final String type = enversService.getEntitiesConfigurations()
+				.getEntityNameForVersionsEntityName( (String) versionsEntity.get( "$type$" ) );
+		return type != null ? type : entityName;
+	}
+
 	@SuppressWarnings({"unchecked"})
 	private void replaceNonAuditIdProxies(Map versionsEntity, Number revision) {
 		final Map originalId = (Map) versionsEntity.get( enversService.getAuditEntitiesConfiguration().getOriginalIdPropName() );
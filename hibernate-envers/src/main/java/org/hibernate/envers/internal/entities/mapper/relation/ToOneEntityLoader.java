@@ -7,6 +7,7 @@
 package org.hibernate.envers.internal.entities.mapper.relation;
 
 import java.io.Serializable;
+import java.util.List;
 
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.internal.entities.mapper.relation.lazy.ToOneDelegateSessionImplementor;
@@ -36,6 +37,13 @@ public final class ToOneEntityLoader {
 			// Audited relation, look up entity with Envers.
 			// When user traverses removed entities graph, do not restrict revision type of referencing objects
 			// to ADD or MOD (DEL possible). See HHH-5845.
+			final int batchSize = enversService.getGlobalConfiguration().getAuditReaderBatchFetchSize();
+			if ( batchSize > 1 && !versionsReader.getFirstLevelCache().contains( entityName, revision, entityId ) ) {
+				// Loading the other references to the same entity at this revision which are not initialized yet.
+				final List<Object> entityIds = versionsReader.getBatchFetchQueue()
+						.getEntityBatch( entityName, revision, removed, entityId, batchSize );
+				return versionsReader.findAll( entityClass, entityName, entityIds, revision, removed ).get( 0 );
+			}
 			return versionsReader.find( entityClass, entityName, entityId, revision, removed );
 		}
 		else {
@@ -59,6 +67,10 @@ public final class ToOneEntityLoader {
 				.getFactory()
 				.getMetamodel()
 				.entityPersister( entityName );
+		if ( enversService.getGlobalConfiguration().getAuditReaderBatchFetchSize() > 1
+				&& enversService.getEntitiesConfigurations().getNotVersionEntityConfiguration( entityName ) == null ) {
+			versionsReader.getBatchFetchQueue().addPendingEntity( entityName, revision, removed, entityId );
+		}
 		return persister.createProxy(
 				(Serializable) entityId,
 				new ToOneDelegateSessionImplementor( versionsReader, entityClass, entityId, revision, removed, enversService )
@@ -9,6 +9,7 @@ package org.hibernate.envers.internal.entities.mapper.relation.query;
 import java.util.Collections;
 import java.util.Map;
 
+import org.hibernate.Session;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.envers.RevisionType;
@@ -24,6 +25,7 @@ import org.hibernate.query.Query;
 
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.DEL_REVISION_TYPE_PARAMETER;
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
+import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_TIMESTAMP_PARAMETER;
 
 /**
  * Base class for implementers of {@code RelationQueryGenerator} contract.
@@ -67,6 +69,12 @@ public abstract class AbstractRelationQueryGenerator implements RelationQueryGen
 		final Query query = session.createQuery( queryString );
 		query.setParameter( DEL_REVISION_TYPE_PARAMETER, RevisionType.DEL );
 		query.setParameter( REVISION_PARAMETER, revision );
+		if ( query.getParameterMetadata().getNamedParameterNames().contains( REVISION_TIMESTAMP_PARAMETER ) ) {
+			query.setParameter(
+					REVISION_TIMESTAMP_PARAMETER,
+					verEntCfg.getEnversService().getRevisionInfoQueryCreator().getLatestRevisionDate( (Session) session, revision )
+			);
+		}
 
 		final IdMapper prefixIdMapper = referencingIdData.getPrefixedMapper();
 		for ( QueryParameterData paramData : prefixIdMapper.mapToQueryParametersFromId( primaryKey ) ) {
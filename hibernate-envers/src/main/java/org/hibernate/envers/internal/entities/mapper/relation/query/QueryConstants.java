@@ -25,5 +25,6 @@ public final class QueryConstants {
 	public static final String MIDDLE_ENTITY_ALIAS_DEF_AUD_STR = "ee2__";
 
 	public static final String REVISION_PARAMETER = "revision";
+	public static final String REVISION_TIMESTAMP_PARAMETER = "revisiontimestamp";
 	public static final String DEL_REVISION_TYPE_PARAMETER = "delrevisiontype";
 }
@@ -0,0 +1,70 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.reader;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.envers.internal.tools.Triple;
+
+import static org.hibernate.envers.internal.tools.Tools.newHashMap;
+import static org.hibernate.envers.internal.tools.Triple.make;
+
+/**
+ * Keeps track of the lazy audited *-to-one references created by an audit reader and not initialized yet, so that
+ * they can be initialized in batches, like {@link org.hibernate.engine.spi.BatchFetchQueue} does for entities
+ * of a session.  Versions reader-scoped.
+ */
+public class AuditBatchFetchQueue {
+	/**
+	 * Identifiers of the referenced entities not loaded yet, by entity name, revision and whether deleted
+	 * entities are included.
+	 */
+	private final Map<Triple<String, Number, Boolean>, Set<Object>> pendingIds;
+
+	public AuditBatchFetchQueue() {
+		pendingIds = newHashMap();
+	}
+
+	/**
+	 * Registers a reference to an entity at a revision, which is not loaded yet.
+	 */
+	public void addPendingEntity(String entityName, Number revision, boolean includeDeletions, Object id) {
+		pendingIds.computeIfAbsent( make( entityName, revision, includeDeletions ), k -> new LinkedHashSet<>() ).add( id );
+	}
+
+	/**
+	 * Gets the identifiers of the entities to load together with the given one, which comes first, and stops
+	 * tracking them.
+	 *
+	 * @return At most {@code batchSize} identifiers.
+	 */
+	public List<Object> getEntityBatch(
+			String entityName,
+			Number revision,
+			boolean includeDeletions,
+			Object id,
+			int batchSize) {
+		final List<Object> batch = new ArrayList<>( batchSize );
+		batch.add( id );
+
+		final Set<Object> ids = pendingIds.get( make( entityName, revision, includeDeletions ) );
+		if ( ids != null ) {
+			ids.remove( id );
+			final Iterator<Object> iterator = ids.iterator();
+			while ( batch.size() < batchSize && iterator.hasNext() ) {
+				batch.add( iterator.next() );
+				iterator.remove();
+			}
+		}
+		return batch;
+	}
+}
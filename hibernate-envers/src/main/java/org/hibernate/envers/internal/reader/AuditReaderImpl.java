@@ -6,6 +6,8 @@
  */
 package org.hibernate.envers.internal.reader;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -18,16 +20,23 @@ import javax.persistence.NoResultException;
 import org.hibernate.HibernateException;
 import org.hibernate.NonUniqueResultException;
 import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.envers.CrossTypeRevisionChangesReader;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.exception.NotAuditedException;
 import org.hibernate.envers.exception.RevisionDoesNotExistException;
+import org.hibernate.envers.internal.entities.EntityInstantiator;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 import org.hibernate.envers.internal.synchronization.AuditProcess;
 import org.hibernate.envers.query.AuditEntity;
 import org.hibernate.envers.query.AuditQueryCreator;
+import org.hibernate.envers.query.criteria.AuditCriterion;
+import org.hibernate.envers.query.criteria.AuditDisjunction;
+import org.hibernate.envers.query.internal.impl.EntitiesAtRevisionQuery;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.query.Query;
 
@@ -46,6 +55,7 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 	private final SessionImplementor sessionImplementor;
 	private final Session session;
 	private final FirstLevelCache firstLevelCache;
+	private final AuditBatchFetchQueue batchFetchQueue;
 	private final CrossTypeRevisionChangesReader crossTypeRevisionChangesReader;
 
 	public AuditReaderImpl(
@@ -57,7 +67,13 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		this.session = session;
 
 		firstLevelCache = new FirstLevelCache();
+		batchFetchQueue = new AuditBatchFetchQueue();
 		crossTypeRevisionChangesReader = new CrossTypeRevisionChangesReaderImpl( this, enversService );
+
+		final AuditOutbox auditOutbox = enversService.getAuditProcessManager().getAuditOutbox();
+		if ( auditOutbox != null ) {
+			auditOutbox.beforeRead();
+		}
 	}
 
 	private void checkSession() {
@@ -81,6 +97,11 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		return firstLevelCache;
 	}
 
+	@Override
+	public AuditBatchFetchQueue getBatchFetchQueue() {
+		return batchFetchQueue;
+	}
+
 	@Override
 	public <T> T find(Class<T> cls, Object primaryKey, Number revision) throws
 			IllegalArgumentException, NotAuditedException, IllegalStateException {
@@ -114,6 +135,11 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 			return (T) firstLevelCache.get( entityName, revision, primaryKey );
 		}
 
+		final AuditSnapshotCache auditSnapshotCache = enversService.getAuditSnapshotCache();
+		if ( auditSnapshotCache != null ) {
+			return (T) findThroughSnapshotCache( auditSnapshotCache, cls, entityName, primaryKey, revision, includeDeletions );
+		}
+
 		Object result;
 		try {
 			// The result is put into the cache by the entity instantiator called from the query
@@ -130,6 +156,132 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		return (T) result;
 	}
 
+	@SuppressWarnings({"unchecked"})
+	private Object findThroughSnapshotCache(
+			AuditSnapshotCache auditSnapshotCache,
+			Class<?> cls,
+			String entityName,
+			Object primaryKey,
+			Number revision,
+			boolean includeDeletions) {
+		final SessionFactoryImplementor factory = sessionImplementor.getFactory();
+
+		AuditSnapshotCache.Snapshot snapshot = auditSnapshotCache.get(
+				sessionImplementor,
+				entityName,
+				primaryKey,
+				revision,
+				includeDeletions
+		);
+		if ( snapshot == null ) {
+			final long stamp = auditSnapshotCache.stamp( sessionImplementor, entityName, primaryKey );
+			final List<Map<String, Object>> auditData = ( (EntitiesAtRevisionQuery) createQuery()
+					.forEntitiesAtRevision( cls, entityName, revision, includeDeletions )
+					.add( AuditEntity.id().eq( primaryKey ) ) ).listAuditData();
+			if ( auditData.size() > 1 ) {
+				throw new AuditException( new NonUniqueResultException( auditData.size() ) );
+			}
+			snapshot = auditSnapshotCache.put(
+					sessionImplementor,
+					entityName,
+					primaryKey,
+					revision,
+					includeDeletions,
+					stamp,
+					auditData.isEmpty() ? null : auditData.get( 0 )
+			);
+		}
+
+		// The result is put into the first level cache by the entity instantiator
+		return new EntityInstantiator( enversService, this ).createInstanceFromVersionsEntity(
+				entityName,
+				snapshot.getVersionsEntity( factory ),
+				revision
+		);
+	}
+
+	@Override
+	public <T> List<T> findAll(Class<T> cls, Collection<?> primaryKeys, Number revision)
+			throws IllegalArgumentException, NotAuditedException, IllegalStateException {
+		cls = getTargetClassIfProxied( cls );
+		return this.findAll( cls, cls.getName(), primaryKeys, revision, false );
+	}
+
+	@Override
+	@SuppressWarnings({"unchecked"})
+	public <T> List<T> findAll(
+			Class<T> cls,
+			String entityName,
+			Collection<?> primaryKeys,
+			Number revision,
+			boolean includeDeletions) throws IllegalArgumentException, NotAuditedException, IllegalStateException {
+		cls = getTargetClassIfProxied( cls );
+		checkNotNull( cls, "Entity class" );
+		checkNotNull( entityName, "Entity name" );
+		checkNotNull( primaryKeys, "Primary keys" );
+		checkNotNull( revision, "Entity revision" );
+		checkPositive( revision, "Entity revision" );
+		checkSession();
+
+		final List<Object> toLoad = new ArrayList<>();
+		final Set<Object> distinctPrimaryKeys = new HashSet<>();
+		for ( Object primaryKey : primaryKeys ) {
+			checkNotNull( primaryKey, "Primary key" );
+			if ( getCachedEntityName( entityName, revision, primaryKey ) == null && distinctPrimaryKeys.add( primaryKey ) ) {
+				toLoad.add( primaryKey );
+			}
+		}
+
+		if ( !toLoad.isEmpty() ) {
+			final int inExpressionCountLimit = sessionImplementor.getJdbcServices().getDialect().getInExpressionCountLimit();
+			final int batchSize = inExpressionCountLimit > 0 ? inExpressionCountLimit : toLoad.size();
+			for ( int i = 0; i < toLoad.size(); i += batchSize ) {
+				// The results are put into the cache by the entity instantiator called from the query
+				createQuery().forEntitiesAtRevision( cls, entityName, revision, includeDeletions )
+						.add( identifiersIn( entityName, toLoad.subList( i, Math.min( i + batchSize, toLoad.size() ) ) ) )
+						.getResultList();
+			}
+		}
+
+		final List<T> result = new ArrayList<>( primaryKeys.size() );
+		for ( Object primaryKey : primaryKeys ) {
+			final String cachedEntityName = getCachedEntityName( entityName, revision, primaryKey );
+			result.add( cachedEntityName == null ? null : (T) firstLevelCache.get( cachedEntityName, revision, primaryKey ) );
+		}
+		return result;
+	}
+
+	/**
+	 * The instances are cached under the name of their concrete entity, which may be a subclass of the queried one.
+	 *
+	 * @return The name of the entity the instance with the given primary key is cached under, or null if not cached.
+	 */
+	private String getCachedEntityName(String entityName, Number revision, Object primaryKey) {
+		if ( firstLevelCache.contains( entityName, revision, primaryKey ) ) {
+			return entityName;
+		}
+		final EntityPersister persister = sessionImplementor.getFactory().getMetamodel().entityPersister( entityName );
+		for ( Object subclassEntityName : persister.getEntityMetamodel().getSubclassEntityNames() ) {
+			if ( firstLevelCache.contains( (String) subclassEntityName, revision, primaryKey ) ) {
+				return (String) subclassEntityName;
+			}
+		}
+		return null;
+	}
+
+	private AuditCriterion identifiersIn(String entityName, List<Object> primaryKeys) {
+		final EntityPersister persister = sessionImplementor.getFactory().getMetamodel().entityPersister( entityName );
+		if ( persister.getIdentifierType().isComponentType() ) {
+			// Composite identifiers cannot be compared with a single in list
+			final AuditDisjunction disjunction = AuditEntity.disjunction();
+			for ( Object primaryKey : primaryKeys ) {
+				disjunction.add( AuditEntity.id().eq( primaryKey ) );
+			}
+			return disjunction;
+		}
+		return AuditEntity.id().in( primaryKeys );
+	}
+
 	@Override
 	public List<Number> getRevisions(Class<?> cls, Object primaryKey)
 			throws IllegalArgumentException, NotAuditedException, IllegalStateException {
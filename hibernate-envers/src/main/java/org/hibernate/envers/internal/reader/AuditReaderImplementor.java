@@ -21,4 +21,6 @@ public interface AuditReaderImplementor extends AuditReader {
 	Session getSession();
 
 	FirstLevelCache getFirstLevelCache();
+
+	AuditBatchFetchQueue getBatchFetchQueue();
 }
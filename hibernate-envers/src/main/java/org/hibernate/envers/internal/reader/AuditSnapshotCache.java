@@ -0,0 +1,242 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.reader;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.Session;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.envers.configuration.internal.AuditEntitiesConfiguration;
+import org.hibernate.envers.internal.tools.Triple;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.type.Type;
+
+/**
+ * Cache of the audit data read by {@code AuditReader#find}, shared by all the readers of a session factory.
+ * <p>
+ * Audit rows are append-only, so the audit data of an entity at a revision does not change, but when an audit row
+ * of the entity is written: the entries of the entity are then evicted, right away and once the writing transaction
+ * completed (which covers the end revision updates of the validity audit strategy as well).  Entries hold copies of
+ * the audit data, without references to the revision entity: each reader builds its own entity instances from them.
+ * <p>
+ * Readers take a {@link #stamp} of the entity before reading its audit data from the database: the data is only
+ * cached if the entity was not evicted since, and no transaction writing its audit rows is in progress, so that data
+ * read before a write cannot be put back once evicted.  Evictions and puts are serialized by a lock per stripe of
+ * entities.
+ * <p>
+ * The cache is bounded by the number of entity instances (tenant, entity hierarchy and identifier); each of them
+ * keeps the entries of the revisions it was read at.
+ *
+ * @see org.hibernate.envers.configuration.EnversSettings#AUDIT_READER_CACHE_SIZE
+ */
+public class AuditSnapshotCache {
+	private static final int STRIPES = 64;
+
+	private final AuditEntitiesConfiguration auditEntitiesConfiguration;
+	private final BoundedConcurrentHashMap<Triple<String, String, Object>, ConcurrentMap<Triple<String, Long, Boolean>, Snapshot>> cache;
+
+	private final Object[] locks = new Object[STRIPES];
+	/**
+	 * The number of evictions of the entities of each stripe, guarded by the lock of the stripe
+	 */
+	private final long[] evictions = new long[STRIPES];
+	/**
+	 * The number of incomplete transactions having written audit rows of each entity, guarded by the lock of the
+	 * stripe of the entity
+	 */
+	private final ConcurrentMap<Triple<String, String, Object>, Integer> pendingWrites = new ConcurrentHashMap<>();
+
+	public AuditSnapshotCache(AuditEntitiesConfiguration auditEntitiesConfiguration, int maxSize) {
+		this.auditEntitiesConfiguration = auditEntitiesConfiguration;
+		this.cache = new BoundedConcurrentHashMap<>( maxSize, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		for ( int i = 0; i < STRIPES; i++ ) {
+			locks[i] = new Object();
+		}
+	}
+
+	/**
+	 * @return The cached audit data of the given entity at the given revision, to be mapped by the caller;
+	 * {@code null} if it is not cached.
+	 */
+	public Snapshot get(
+			SharedSessionContractImplementor session,
+			String entityName,
+			Object primaryKey,
+			Number revision,
+			boolean includeDeletions) {
+		final ConcurrentMap<Triple<String, Long, Boolean>, Snapshot> snapshots = cache.get( entityKey( session, entityName, primaryKey ) );
+		return snapshots == null
+				? null
+				: snapshots.get( Triple.make( entityName, revision.longValue(), includeDeletions ) );
+	}
+
+	/**
+	 * To be called before reading the audit data of the given entity from the audit table.
+	 *
+	 * @return The stamp to {@link #put} the audit data with.
+	 */
+	public long stamp(SharedSessionContractImplementor session, String entityName, Object primaryKey) {
+		final int stripe = stripe( entityKey( session, entityName, primaryKey ) );
+		synchronized ( locks[stripe] ) {
+			return evictions[stripe];
+		}
+	}
+
+	/**
+	 * Caches the audit data of the given entity at the given revision, as read from the audit table, unless the
+	 * entity was evicted since the given stamp was taken, or is being written.
+	 *
+	 * @param stamp The {@link #stamp} taken before reading the audit data.
+	 * @param versionsEntity The audit data, {@code null} if there is none.
+	 *
+	 * @return The snapshot of the audit data, whether or not it could be cached.
+	 */
+	public Snapshot put(
+			SharedSessionContractImplementor session,
+			String entityName,
+			Object primaryKey,
+			Number revision,
+			boolean includeDeletions,
+			long stamp,
+			Map<String, Object> versionsEntity) {
+		final Snapshot snapshot = new Snapshot( versionsEntity == null ? null : copy( session.getFactory(), versionsEntity, true ) );
+		if ( versionsEntity != null && snapshot.data == null ) {
+			// references entities which are not audited, bound to the reading session
+			return new Snapshot( versionsEntity );
+		}
+
+		final Triple<String, String, Object> entityKey = entityKey( session, entityName, primaryKey );
+		final int stripe = stripe( entityKey );
+		synchronized ( locks[stripe] ) {
+			if ( evictions[stripe] == stamp && !pendingWrites.containsKey( entityKey ) ) {
+				cache.computeIfAbsent( entityKey, k -> new ConcurrentHashMap<>() )
+						.put( Triple.make( entityName, revision.longValue(), includeDeletions ), snapshot );
+			}
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Evicts the entries of an entity an audit row is written for, now and once the transaction of the given
+	 * session completes.
+	 */
+	public void evictOnWrite(Session session, String entityName, Object primaryKey) {
+		final EventSource eventSource = (EventSource) session;
+		final Triple<String, String, Object> entityKey = entityKey( eventSource, entityName, primaryKey );
+		final int stripe = stripe( entityKey );
+		synchronized ( locks[stripe] ) {
+			evictions[stripe]++;
+			pendingWrites.merge( entityKey, 1, Integer::sum );
+			cache.remove( entityKey );
+		}
+		eventSource.getActionQueue().registerProcess(
+				new AfterTransactionCompletionProcess() {
+					@Override
+					public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+						synchronized ( locks[stripe] ) {
+							evictions[stripe]++;
+							pendingWrites.computeIfPresent( entityKey, (key, count) -> count == 1 ? null : count - 1 );
+							cache.remove( entityKey );
+						}
+					}
+				}
+		);
+	}
+
+	public void clear() {
+		for ( int stripe = 0; stripe < STRIPES; stripe++ ) {
+			synchronized ( locks[stripe] ) {
+				evictions[stripe]++;
+			}
+		}
+		cache.clear();
+	}
+
+	private static int stripe(Triple<String, String, Object> entityKey) {
+		return ( entityKey.hashCode() & Integer.MAX_VALUE ) % STRIPES;
+	}
+
+	private static Triple<String, String, Object> entityKey(
+			SharedSessionContractImplementor session,
+			String entityName,
+			Object primaryKey) {
+		// Keyed by hierarchy, so that writes of a subclass evict reads through its superclasses, and by tenant, as
+		// the tenants of a session factory have their own audit data
+		final String rootEntityName = session.getFactory().getMetamodel().entityPersister( entityName ).getRootEntityName();
+		return Triple.make( session.getTenantIdentifier(), rootEntityName, primaryKey );
+	}
+
+	/**
+	 * Copies the audit data, deep copying mutable property values.  When caching, the references to the revision
+	 * entity are dropped: nothing maps them to the audited entity.
+	 *
+	 * @return The copy; {@code null} if the audit data cannot be cached.
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> copy(
+			SessionFactoryImplementor factory,
+			Map<String, Object> versionsEntity,
+			boolean caching) {
+		final String originalIdPropName = auditEntitiesConfiguration.getOriginalIdPropName();
+		final Map<String, Object> copy = new HashMap<>( versionsEntity );
+
+		final Map<String, Object> originalId = new HashMap<>( (Map<String, Object>) versionsEntity.get( originalIdPropName ) );
+		if ( caching ) {
+			originalId.remove( auditEntitiesConfiguration.getRevisionFieldName() );
+			for ( Object value : originalId.values() ) {
+				if ( value instanceof HibernateProxy ) {
+					return null;
+				}
+			}
+		}
+		copy.put( originalIdPropName, originalId );
+
+		final EntityPersister persister = factory.getMetamodel().entityPersister( (String) versionsEntity.get( "$type$" ) );
+		final String[] propertyNames = persister.getPropertyNames();
+		final Type[] propertyTypes = persister.getPropertyTypes();
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			if ( !copy.containsKey( propertyNames[i] ) ) {
+				continue;
+			}
+			if ( propertyTypes[i].isEntityType() ) {
+				if ( caching ) {
+					copy.remove( propertyNames[i] );
+				}
+			}
+			else {
+				copy.put( propertyNames[i], propertyTypes[i].deepCopy( copy.get( propertyNames[i] ), factory ) );
+			}
+		}
+		return copy;
+	}
+
+	/**
+	 * Audit data of an entity at a revision.
+	 */
+	public final class Snapshot {
+		private final Map<String, Object> data;
+
+		private Snapshot(Map<String, Object> data) {
+			this.data = data;
+		}
+
+		/**
+		 * @return A copy of the audit data, owned by the caller; {@code null} if there is none.
+		 */
+		public Map<String, Object> getVersionsEntity(SessionFactoryImplementor factory) {
+			return data == null ? null : copy( factory, data, false );
+		}
+	}
+}
@@ -68,6 +68,26 @@ public class FirstLevelCache {
 		return cache.containsKey( make( entityName, revision, id ) );
 	}
 
+	/**
+	 * Removes an entity from the cache, together with its entry in the entityName cache.
+	 *
+	 * @param entityName name of the entity
+	 * @param revision revision number
+	 * @param id primaryKey
+	 */
+	public void remove(String entityName, Number revision, Object id) {
+		LOG.debugf(
+				"Removing entity from First Level Cache: - primaryKey:%s - revision:%s - entityName:%s",
+				id,
+				revision,
+				entityName
+		);
+		final Object entity = cache.remove( make( entityName, revision, id ) );
+		if ( entity != null ) {
+			entityNameCache.remove( make( id, revision, entity ) );
+		}
+	}
+
 	/**
 	 * Adds the entityName into the cache. The key is a triple make with primaryKey, revision and entity
 	 *
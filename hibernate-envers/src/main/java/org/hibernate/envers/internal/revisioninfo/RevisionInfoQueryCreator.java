@@ -20,6 +20,7 @@ import org.hibernate.query.Query;
 public class RevisionInfoQueryCreator {
 	private static final String REVISION_DATE_QUERY = "SELECT %s FROM %s WHERE %s = :revision";
 	private static final String REVISION_DATE_QUERY_PARAMETER = "revision";
+	private static final String LATEST_REVISION_DATE_QUERY = "SELECT %1$s FROM %2$s WHERE %3$s = (SELECT MAX(%3$s) FROM %2$s WHERE %3$s <= :revision)";
 	private static final String REVISION_NUMBER_FOR_DATE_QUERY = "SELECT MAX(%s) FROM %s WHERE %s <= :date";
 	private static final String REVISION_NUMBER_FOR_DATE_QUERY_PARAMETER = "date";
 	private static final String REVISIONS_QUERY = "FROM %s WHERE %s IN (:revisions)";
@@ -50,6 +51,27 @@ public class RevisionInfoQueryCreator {
 		).setParameter( REVISION_DATE_QUERY_PARAMETER, revision );
 	}
 
+	/**
+	 * @return The date of the given revision or, if it does not exist, of the closest revision before it;
+	 * {@code null} if there is none.
+	 */
+	public Date getLatestRevisionDate(Session session, Number revision) {
+		final Object timestampObject = session.createQuery(
+				String.format(
+						LATEST_REVISION_DATE_QUERY,
+						revisionInfoTimestampName,
+						revisionInfoEntityName,
+						revisionInfoIdName
+				)
+		).setParameter( REVISION_DATE_QUERY_PARAMETER, revision ).uniqueResult();
+
+		// The timestamp object is either a date or a long
+		if ( timestampObject == null || timestampObject instanceof Date ) {
+			return (Date) timestampObject;
+		}
+		return new Date( (Long) timestampObject );
+	}
+
 	public Query<?> getRevisionNumberForDateQuery(Session session, Date date) {
 		return session.createQuery(
 				String.format(
@@ -0,0 +1,864 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.MappingException;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.Transaction;
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.internal.AuditEntitiesConfiguration;
+import org.hibernate.envers.configuration.internal.GlobalConfiguration;
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.envers.internal.entities.PropertyData;
+import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
+import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
+import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
+import org.hibernate.envers.internal.tools.query.Parameters;
+import org.hibernate.envers.internal.tools.query.QueryBuilder;
+import org.hibernate.envers.strategy.AuditStrategy;
+import org.hibernate.envers.strategy.spi.MappingContext;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+import org.jboss.logging.Logger;
+
+/**
+ * Writes audit rows asynchronously, out of the audited transactions.
+ * <p>
+ * The {@link AuditStrategy} calls made while an {@link AuditProcess} performs its work units are recorded
+ * instead of executed, and stored as a single serialized row of the outbox table, in the audited transaction.
+ * A background writer replays the recorded calls against the actual strategy, in outbox order, and removes
+ * the outbox rows in the same transaction.  Outbox rows which could not be written (crash, shutdown, failure)
+ * stay in the table and are picked up again by the writer.
+ * <p>
+ * Changes of the same entity are always replayed in commit order: the entity row is locked by the flush which
+ * precedes the creation of the outbox row, so a later change of the entity gets a greater outbox identifier.
+ * The same goes for the rows of the collection tables, which are locked by the flush as well.
+ * <p>
+ * The writers of several nodes sharing the outbox table take turns: the outbox rows are locked when read, so
+ * a writer waits for the rows being written by another one, and never writes them twice.  Locked rows are not
+ * skipped, as writing the rows which follow them could write the changes of an entity out of commit order.
+ * <p>
+ * The recorded audit data is read back from the outbox with a class allow-list: the payload may only contain
+ * the JDK value types, and the types of the audit entity properties, checked to be serializable at boot.
+ *
+ * @see org.hibernate.envers.configuration.EnversSettings#ASYNC_AUDIT_WRITER
+ */
+public class AuditOutbox {
+	private static final Logger log = Logger.getLogger( AuditOutbox.class );
+
+	/**
+	 * Name of the dynamic-map entity mapping the outbox table.
+	 */
+	public static final String ENTITY_NAME = "org.hibernate.envers.AuditOutboxEntry";
+
+	public static final String ID_PROPERTY = "id";
+	public static final String REVISION_PROPERTY = "revision";
+	public static final String PAYLOAD_PROPERTY = "payload";
+
+	private final EnversService enversService;
+	private final AuditStrategy auditStrategy;
+	private final AuditStrategy recordingAuditStrategy;
+	private final AuditRowInserter auditRowInserter = new AuditRowInserter();
+
+	private final int batchSize;
+	private final long pollInterval;
+	private final boolean committedReads;
+
+	private final ThreadLocal<List<Operation>> recordings = new ThreadLocal<>();
+
+	/**
+	 * Outbox rows saved by this application, each holding a permit of {@link #pendingPermits}: the ones whose
+	 * transaction did not complete yet, the ones committed and not written yet, and the ones the writer got to
+	 * before their transaction reported its completion.  Guarded by {@link #monitor}.
+	 */
+	private final Set<Long> inFlightIds = new HashSet<>();
+	private final NavigableSet<Long> pendingIds = new ConcurrentSkipListSet<>();
+	private final Set<Long> writtenIds = new HashSet<>();
+	private final Semaphore pendingPermits;
+
+	private final Object monitor = new Object();
+	private boolean signaled;
+
+	/**
+	 * Classes allowed in a payload read back from the outbox, by name, and the types of the audit entity
+	 * properties, whose subclasses are allowed as well.
+	 */
+	private final Map<String, Class<?>> payloadClasses = new HashMap<>();
+	private final Set<Class<?>> payloadTypes = new LinkedHashSet<>();
+
+	private volatile SessionFactoryImplementor sessionFactory;
+	private volatile ExecutorService writer;
+	private boolean stopped;
+
+	public AuditOutbox(EnversService enversService, AuditStrategy auditStrategy) {
+		final GlobalConfiguration globalCfg = enversService.getGlobalConfiguration();
+
+		this.enversService = enversService;
+		this.auditStrategy = auditStrategy;
+		this.recordingAuditStrategy = new RecordingAuditStrategy();
+		this.batchSize = Math.max( 1, globalCfg.getAsyncAuditWriterBatchSize() );
+		this.pollInterval = Math.max( 1L, globalCfg.getAsyncAuditWriterPollInterval() );
+		this.committedReads = globalCfg.isAsyncAuditWriterCommittedReads();
+		this.pendingPermits = new Semaphore( Math.max( 1, globalCfg.getAsyncAuditWriterMaxPending() ) );
+
+		for ( Class<?> payloadClass : Arrays.asList(
+				Payload.class, Operation.class, HashMap.class, ArrayList.class, Number.class, Enum.class,
+				Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+				Float.class, Double.class, BigInteger.class, BigDecimal.class, java.util.Date.class,
+				java.sql.Date.class, java.sql.Time.class, java.sql.Timestamp.class, UUID.class, Locale.class ) ) {
+			payloadClasses.put( payloadClass.getName(), payloadClass );
+		}
+		try {
+			// the serialized form of the java.time types
+			final Class<?> javaTimeSer = Class.forName( "java.time.Ser", false, null );
+			payloadClasses.put( javaTimeSer.getName(), javaTimeSer );
+		}
+		catch (ClassNotFoundException e) {
+			log.debug( "java.time serialized form not found, java.time values are not allowed in the audit outbox" );
+		}
+		// zones of the calendar values
+		payloadTypes.add( TimeZone.class );
+	}
+
+	/**
+	 * @return The strategy to hand out to the work units: it records the audit writes while an
+	 * {@link AuditProcess} is {@link #record recording}, and delegates everything else to the actual strategy.
+	 */
+	public AuditStrategy getRecordingAuditStrategy() {
+		return recordingAuditStrategy;
+	}
+
+	/**
+	 * Runs the given work, recording the audit writes it issues into a new outbox row saved in the given session.
+	 *
+	 * @return The identifier of the outbox row if it has to be reported to {@link #afterTransactionCompletion};
+	 * {@code null} if the work did not write anything or the writer is not running.
+	 */
+	Long record(Session session, Object revisionData, Runnable work) {
+		final List<Operation> operations = new ArrayList<>();
+		recordings.set( operations );
+		try {
+			work.run();
+		}
+		finally {
+			recordings.remove();
+		}
+
+		if ( operations.isEmpty() ) {
+			return null;
+		}
+
+		final Number revisionNumber = enversService.getRevisionInfoNumberReader().getRevisionNumber( revisionData );
+		final Map<String, Object> entry = new HashMap<>();
+		entry.put( REVISION_PROPERTY, revisionNumber.longValue() );
+		entry.put( PAYLOAD_PROPERTY, serialize( new Payload( revisionNumber, operations ) ) );
+
+		if ( !acquirePermit() ) {
+			// picked up by the next run of the writer
+			session.save( ENTITY_NAME, entry );
+			return null;
+		}
+
+		final Long outboxId;
+		try {
+			outboxId = (Long) session.save( ENTITY_NAME, entry );
+		}
+		catch (RuntimeException e) {
+			pendingPermits.release();
+			throw e;
+		}
+		synchronized ( monitor ) {
+			inFlightIds.add( outboxId );
+		}
+		return outboxId;
+	}
+
+	/**
+	 * Called once the transaction which saved the given outbox row completed.
+	 */
+	void afterTransactionCompletion(Long outboxId, boolean success) {
+		synchronized ( monitor ) {
+			inFlightIds.remove( outboxId );
+			if ( writtenIds.remove( outboxId ) || !success ) {
+				pendingPermits.release();
+			}
+			else {
+				pendingIds.add( outboxId );
+				signaled = true;
+				monitor.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Applies the configured read consistency before an {@code AuditReader} is handed out: with
+	 * {@literal committed} reads, waits until the audit rows of the transactions committed so far are written.
+	 */
+	public void beforeRead() {
+		final Long lastCommitted = pendingIds.floor( Long.MAX_VALUE );
+		if ( !committedReads || lastCommitted == null ) {
+			return;
+		}
+
+		synchronized ( monitor ) {
+			while ( writer != null && isPending( lastCommitted ) ) {
+				signaled = true;
+				monitor.notifyAll();
+				try {
+					monitor.wait( pollInterval );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new AuditException( "Interrupted while waiting for the audit outbox to be written", e );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Starts the background writer once the given session factory is built, and stops it when the session
+	 * factory is closed.  The writer first writes the outbox rows left over by a previous run.
+	 *
+	 * @throws MappingException If an audit entity property has a type which cannot be stored in the outbox.
+	 */
+	public void start(Metadata metadata, SessionFactoryImplementor sessionFactory) {
+		registerPayloadTypes( metadata );
+		this.sessionFactory = sessionFactory;
+		sessionFactory.addObserver(
+				new SessionFactoryObserver() {
+					@Override
+					public void sessionFactoryCreated(SessionFactory factory) {
+						startWriter();
+					}
+
+					@Override
+					public void sessionFactoryClosed(SessionFactory factory) {
+						stop();
+					}
+				}
+		);
+	}
+
+	private void startWriter() {
+		synchronized ( monitor ) {
+			if ( stopped ) {
+				return;
+			}
+			writer = Executors.newSingleThreadExecutor(
+					runnable -> {
+						final Thread thread = new Thread( runnable, "Envers audit outbox writer" );
+						thread.setDaemon( true );
+						return thread;
+					}
+			);
+			writer.execute( this::writeLoop );
+		}
+	}
+
+	/**
+	 * Stops the background writer.  Outbox rows not written yet are written on next start.
+	 */
+	public void stop() {
+		final ExecutorService executor;
+		synchronized ( monitor ) {
+			stopped = true;
+			executor = writer;
+			writer = null;
+			monitor.notifyAll();
+		}
+		if ( executor == null ) {
+			return;
+		}
+
+		executor.shutdown();
+		try {
+			if ( !executor.awaitTermination( pollInterval * 10, TimeUnit.MILLISECONDS ) ) {
+				executor.shutdownNow();
+			}
+		}
+		catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Collects the classes allowed in the payloads: the types of the properties of the audit entities (the
+	 * recorded audit data) and of the identifiers of the audited entities (the recorded identifiers).
+	 */
+	private void registerPayloadTypes(Metadata metadata) {
+		final AuditEntitiesConfiguration auditEntitiesCfg = enversService.getAuditEntitiesConfiguration();
+		for ( PersistentClass persistentClass : metadata.getEntityBindings() ) {
+			final Property identifierProperty = persistentClass.getIdentifierProperty();
+			if ( identifierProperty == null
+					|| !auditEntitiesCfg.getOriginalIdPropName().equals( identifierProperty.getName() ) ) {
+				continue;
+			}
+
+			final String auditEntityName = persistentClass.getEntityName();
+			registerPayloadType( auditEntityName, identifierProperty.getName(), identifierProperty.getType() );
+			final Iterator<Property> properties = persistentClass.getPropertyClosureIterator();
+			while ( properties.hasNext() ) {
+				final Property property = properties.next();
+				registerPayloadType( auditEntityName, property.getName(), property.getType() );
+			}
+
+			final String entityName = enversService.getEntitiesConfigurations()
+					.getEntityNameForVersionsEntityName( auditEntityName );
+			final PersistentClass audited = entityName == null ? null : metadata.getEntityBinding( entityName );
+			if ( audited != null ) {
+				registerPayloadType( entityName, "id", audited.getIdentifier().getType() );
+			}
+		}
+	}
+
+	private void registerPayloadType(String entityName, String propertyName, Type type) {
+		if ( type.isEntityType() || type.isCollectionType() ) {
+			// references to the revision entity, which are not recorded
+			return;
+		}
+		final Class<?> returnedClass = type.getReturnedClass();
+		if ( type.isComponentType() ) {
+			if ( Serializable.class.isAssignableFrom( returnedClass ) ) {
+				payloadClasses.put( returnedClass.getName(), returnedClass );
+			}
+			final CompositeType compositeType = (CompositeType) type;
+			final String[] names = compositeType.getPropertyNames();
+			final Type[] subtypes = compositeType.getSubtypes();
+			for ( int i = 0; i < subtypes.length; i++ ) {
+				registerPayloadType( entityName, propertyName + '.' + names[i], subtypes[i] );
+			}
+			return;
+		}
+		if ( returnedClass.isPrimitive() ) {
+			return;
+		}
+		if ( returnedClass == Serializable.class || !Serializable.class.isAssignableFrom( returnedClass ) ) {
+			throw new MappingException(
+					"Property " + entityName + "." + propertyName + " is of type " + returnedClass.getName()
+							+ ", which is not a serializable class: its audit data cannot be written asynchronously"
+			);
+		}
+		payloadClasses.put( returnedClass.getName(), returnedClass );
+		payloadTypes.add( returnedClass );
+	}
+
+	private boolean acquirePermit() {
+		try {
+			// Back-pressure: block the committing thread while the writer is behind.
+			while ( !pendingPermits.tryAcquire( pollInterval, TimeUnit.MILLISECONDS ) ) {
+				if ( writer == null ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AuditException( "Interrupted while waiting for the audit outbox writer to catch up", e );
+		}
+	}
+
+	private boolean isPending(Long lastCommitted) {
+		final Long firstPending = pendingIds.ceiling( Long.MIN_VALUE );
+		return firstPending != null && firstPending <= lastCommitted;
+	}
+
+	private void writeLoop() {
+		while ( writer != null ) {
+			try {
+				while ( writeBatch() && writer != null ) {
+					// keep going while the outbox is full
+				}
+			}
+			catch (RuntimeException e) {
+				log.warn( "Unable to write audit rows from the audit outbox, will retry", e );
+			}
+
+			synchronized ( monitor ) {
+				monitor.notifyAll();
+				if ( !signaled && writer != null ) {
+					try {
+						monitor.wait( pollInterval );
+					}
+					catch (InterruptedException e) {
+						return;
+					}
+				}
+				signaled = false;
+			}
+		}
+	}
+
+	/**
+	 * Writes up to {@link #batchSize} outbox rows in one transaction.  The batch ends before a row changing an
+	 * entity or collection row already changed in it: strategies may defer work on the previous audit rows of
+	 * an entity to the completion of the transaction, so each change of an entity is written in its own
+	 * transaction, just like when auditing synchronously.
+	 *
+	 * @return Whether more outbox rows may be waiting.
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean writeBatch() {
+		// committed before the outbox is read, so still in the table unless written by another node
+		final List<Long> committed = new ArrayList<>( pendingIds );
+		final List<Long> written = new ArrayList<>();
+		final boolean more;
+		final Session session = sessionFactory.openSession();
+		try {
+			final Transaction transaction = session.beginTransaction();
+			try {
+				final List<Map<String, Object>> entries = session.createQuery(
+						"from " + ENTITY_NAME + " e order by e." + ID_PROPERTY
+				).setLockOptions( new LockOptions( LockMode.PESSIMISTIC_WRITE ) ).setMaxResults( batchSize ).list();
+
+				final Set<Object> changedRows = new HashSet<>();
+				for ( Map<String, Object> entry : entries ) {
+					final Payload payload = deserialize( (byte[]) entry.get( PAYLOAD_PROPERTY ) );
+					final Set<Object> entryRows = payload.getChangedRows(
+							enversService.getAuditEntitiesConfiguration().getOriginalIdPropName()
+					);
+					if ( !Collections.disjoint( changedRows, entryRows ) ) {
+						break;
+					}
+					changedRows.addAll( entryRows );
+					replay( session, payload );
+					session.delete( ENTITY_NAME, entry );
+					written.add( (Long) entry.get( ID_PROPERTY ) );
+				}
+				more = entries.size() == batchSize || written.size() < entries.size();
+
+				final Long lastRead = entries.size() < batchSize
+						? Long.MAX_VALUE
+						: (Long) entries.get( entries.size() - 1 ).get( ID_PROPERTY );
+				for ( Long id : committed ) {
+					if ( id < lastRead && !containsId( entries, id ) ) {
+						written.add( id );
+					}
+				}
+
+				auditRowInserter.executePendingInserts( session );
+				transaction.commit();
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+				throw e;
+			}
+		}
+		finally {
+			session.close();
+		}
+
+		synchronized ( monitor ) {
+			for ( Long id : written ) {
+				if ( pendingIds.remove( id ) ) {
+					pendingPermits.release();
+				}
+				else if ( inFlightIds.contains( id ) ) {
+					writtenIds.add( id );
+				}
+			}
+		}
+		return more;
+	}
+
+	private static boolean containsId(List<Map<String, Object>> entries, Long id) {
+		for ( Map<String, Object> entry : entries ) {
+			if ( id.equals( entry.get( ID_PROPERTY ) ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void replay(Session session, Payload payload) {
+		final AuditEntitiesConfiguration auditEntitiesCfg = enversService.getAuditEntitiesConfiguration();
+		final Object revision = session.get( auditEntitiesCfg.getRevisionInfoEntityName(), payload.revisionId );
+		if ( revision == null ) {
+			throw new AuditException( "Revision " + payload.revisionId + " of an audit outbox row does not exist" );
+		}
+
+		for ( Operation operation : payload.operations ) {
+			final Map<String, Object> data = withRevision( operation.data, revision );
+			if ( operation.propertyName == null ) {
+				auditStrategy.perform( session, operation.entityName, enversService, operation.id, data, revision );
+			}
+			else {
+				auditStrategy.performCollectionChange(
+						session,
+						operation.entityName,
+						operation.propertyName,
+						enversService,
+						new PersistentCollectionChangeData( operation.collectionEntityName, data, null ),
+						revision
+				);
+			}
+		}
+	}
+
+	/**
+	 * The revision entity is referenced from the original id of the audit data.  It is not part of the
+	 * recorded data, but loaded again when replaying.
+	 */
+	@SuppressWarnings("unchecked")
+	private HashMap<String, Object> withRevision(Map<String, Object> data, Object revision) {
+		final AuditEntitiesConfiguration auditEntitiesCfg = enversService.getAuditEntitiesConfiguration();
+		final HashMap<String, Object> copy = new HashMap<>( data );
+		final Object originalId = copy.get( auditEntitiesCfg.getOriginalIdPropName() );
+		if ( originalId instanceof Map ) {
+			final HashMap<String, Object> originalIdCopy = new HashMap<>( (Map<String, Object>) originalId );
+			originalIdCopy.put( auditEntitiesCfg.getRevisionFieldName(), revision );
+			copy.put( auditEntitiesCfg.getOriginalIdPropName(), originalIdCopy );
+		}
+		return copy;
+	}
+
+	private static byte[] serialize(Payload payload) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream out = new ObjectOutputStream( new GZIPOutputStream( bytes ) ) ) {
+			out.writeObject( payload );
+		}
+		catch (IOException | RuntimeException e) {
+			throw new AuditException( "Unable to serialize audit data into the audit outbox", e );
+		}
+		return bytes.toByteArray();
+	}
+
+	private Payload deserialize(byte[] payload) {
+		try ( ObjectInputStream in = new PayloadInputStream( new GZIPInputStream( new ByteArrayInputStream( payload ) ) ) ) {
+			return (Payload) in.readObject();
+		}
+		catch (IOException | ClassNotFoundException | ClassCastException e) {
+			throw new AuditException( "Unable to read audit outbox row", e );
+		}
+	}
+
+	private Class<?> resolvePayloadClass(String name) throws ClassNotFoundException, InvalidClassException {
+		final Class<?> payloadClass = payloadClasses.get( name );
+		if ( payloadClass != null ) {
+			return payloadClass;
+		}
+
+		final Class<?> resolved = loadPayloadClass( name );
+		Class<?> checked = resolved;
+		while ( checked.isArray() ) {
+			checked = checked.getComponentType();
+		}
+		if ( checked.isPrimitive() || payloadClasses.containsKey( checked.getName() ) ) {
+			return resolved;
+		}
+		for ( Class<?> payloadType : payloadTypes ) {
+			if ( payloadType.isAssignableFrom( checked ) ) {
+				return resolved;
+			}
+		}
+		throw new InvalidClassException( name, "Not allowed in an audit outbox row" );
+	}
+
+	private Class<?> loadPayloadClass(String name) throws ClassNotFoundException {
+		final Set<ClassLoader> classLoaders = new LinkedHashSet<>();
+		classLoaders.add( AuditOutbox.class.getClassLoader() );
+		for ( Class<?> payloadType : payloadTypes ) {
+			if ( payloadType.getClassLoader() != null ) {
+				classLoaders.add( payloadType.getClassLoader() );
+			}
+		}
+		for ( ClassLoader classLoader : classLoaders ) {
+			try {
+				return Class.forName( name, false, classLoader );
+			}
+			catch (ClassNotFoundException e) {
+				// try the next one
+			}
+		}
+		throw new ClassNotFoundException( name );
+	}
+
+	/**
+	 * Only resolves the classes allowed in a payload, checked before any instance of them is created.
+	 */
+	private class PayloadInputStream extends ObjectInputStream {
+		private PayloadInputStream(InputStream in) throws IOException {
+			super( in );
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			return resolvePayloadClass( desc.getName() );
+		}
+
+		@Override
+		protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+			throw new InvalidClassException( "Proxies are not allowed in an audit outbox row" );
+		}
+	}
+
+	private static class Payload implements Serializable {
+		private final Serializable revisionId;
+		private final List<Operation> operations;
+
+		private Payload(Number revisionId, List<Operation> operations) {
+			this.revisionId = (Serializable) revisionId;
+			this.operations = operations;
+		}
+
+		/**
+		 * @return The entities, and the collection table rows (identified by their original identifier, which
+		 * holds the identifier of the owner), changed by the recorded operations.
+		 */
+		private Set<Object> getChangedRows(String originalIdPropName) {
+			final Set<Object> changedRows = new HashSet<>();
+			for ( Operation operation : operations ) {
+				if ( operation.propertyName == null ) {
+					changedRows.add( Arrays.asList( operation.entityName, operation.id ) );
+				}
+				else {
+					changedRows.add(
+							Arrays.asList( operation.collectionEntityName, operation.data.get( originalIdPropName ) )
+					);
+				}
+			}
+			return changedRows;
+		}
+	}
+
+	/**
+	 * A recorded {@code perform} (no property name) or {@code performCollectionChange} call.
+	 */
+	private static class Operation implements Serializable {
+		private final String entityName;
+		private final String propertyName;
+		private final String collectionEntityName;
+		private final Serializable id;
+		private final HashMap<String, Object> data;
+
+		private Operation(
+				String entityName,
+				String propertyName,
+				String collectionEntityName,
+				Serializable id,
+				HashMap<String, Object> data) {
+			this.entityName = entityName;
+			this.propertyName = propertyName;
+			this.collectionEntityName = collectionEntityName;
+			this.id = id;
+			this.data = data;
+		}
+	}
+
+	private class RecordingAuditStrategy implements AuditStrategy {
+		@Override
+		public void postInitialize(
+				Class<?> revisionInfoClass,
+				PropertyData revisionInfoTimestampData,
+				ServiceRegistry serviceRegistry) {
+			auditStrategy.postInitialize( revisionInfoClass, revisionInfoTimestampData, serviceRegistry );
+		}
+
+		@Override
+		public void addAdditionalColumns(MappingContext mappingContext) {
+			auditStrategy.addAdditionalColumns( mappingContext );
+		}
+
+		@Override
+		public void perform(
+				Session session,
+				String entityName,
+				EnversService enversService,
+				Serializable id,
+				Object data,
+				Object revision) {
+			final List<Operation> recording = recordings.get();
+			if ( recording == null ) {
+				auditStrategy.perform( session, entityName, enversService, id, data, revision );
+			}
+			else {
+				recording.add( new Operation( entityName, null, null, id, withoutRevision( data ) ) );
+			}
+		}
+
+		@Override
+		public void perform(
+				Session session,
+				String entityName,
+				AuditEntitiesConfiguration auditEntitiesConfiguration,
+				Serializable id,
+				Object data,
+				Object revision) {
+			perform( session, entityName, enversService, id, data, revision );
+		}
+
+		@Override
+		public void performCollectionChange(
+				Session session,
+				String entityName,
+				String propertyName,
+				EnversService enversService,
+				PersistentCollectionChangeData persistentCollectionChangeData,
+				Object revision) {
+			final List<Operation> recording = recordings.get();
+			if ( recording == null ) {
+				auditStrategy.performCollectionChange(
+						session,
+						entityName,
+						propertyName,
+						enversService,
+						persistentCollectionChangeData,
+						revision
+				);
+			}
+			else {
+				recording.add(
+						new Operation(
+								entityName,
+								propertyName,
+								persistentCollectionChangeData.getEntityName(),
+								null,
+								withoutRevision( persistentCollectionChangeData.getData() )
+						)
+				);
+			}
+		}
+
+		@Override
+		public void performCollectionChange(
+				Session session,
+				String entityName,
+				String propertyName,
+				AuditEntitiesConfiguration auditEntitiesConfiguration,
+				PersistentCollectionChangeData persistentCollectionChangeData,
+				Object revision) {
+			performCollectionChange(
+					session,
+					entityName,
+					propertyName,
+					enversService,
+					persistentCollectionChangeData,
+					revision
+			);
+		}
+
+		@Override
+		public void addEntityAtRevisionRestriction(
+				GlobalConfiguration globalCfg,
+				QueryBuilder rootQueryBuilder,
+				Parameters parameters,
+				String revisionProperty,
+				String revisionEndProperty,
+				boolean addAlias,
+				MiddleIdData idData,
+				String revisionPropertyPath,
+				String originalIdPropertyName,
+				String alias1,
+				String alias2,
+				boolean inclusive) {
+			auditStrategy.addEntityAtRevisionRestriction(
+					globalCfg,
+					rootQueryBuilder,
+					parameters,
+					revisionProperty,
+					revisionEndProperty,
+					addAlias,
+					idData,
+					revisionPropertyPath,
+					originalIdPropertyName,
+					alias1,
+					alias2,
+					inclusive
+			);
+		}
+
+		@Override
+		public void addAssociationAtRevisionRestriction(
+				QueryBuilder rootQueryBuilder,
+				Parameters parameters,
+				String revisionProperty,
+				String revisionEndProperty,
+				boolean addAlias,
+				MiddleIdData referencingIdData,
+				String versionsMiddleEntityName,
+				String eeOriginalIdPropertyPath,
+				String revisionPropertyPath,
+				String originalIdPropertyName,
+				String alias1,
+				boolean inclusive,
+				MiddleComponentData... componentDatas) {
+			auditStrategy.addAssociationAtRevisionRestriction(
+					rootQueryBuilder,
+					parameters,
+					revisionProperty,
+					revisionEndProperty,
+					addAlias,
+					referencingIdData,
+					versionsMiddleEntityName,
+					eeOriginalIdPropertyPath,
+					revisionPropertyPath,
+					originalIdPropertyName,
+					alias1,
+					inclusive,
+					componentDatas
+			);
+		}
+
+		@SuppressWarnings("unchecked")
+		private HashMap<String, Object> withoutRevision(Object data) {
+			final AuditEntitiesConfiguration auditEntitiesCfg = enversService.getAuditEntitiesConfiguration();
+			final HashMap<String, Object> copy = new HashMap<>( (Map<String, Object>) data );
+			final Object originalId = copy.get( auditEntitiesCfg.getOriginalIdPropName() );
+			if ( originalId instanceof Map ) {
+				final HashMap<String, Object> originalIdCopy = new HashMap<>( (Map<String, Object>) originalId );
+				originalIdCopy.remove( auditEntitiesCfg.getRevisionFieldName() );
+				copy.put( auditEntitiesCfg.getOriginalIdPropName(), originalIdCopy );
+			}
+			return copy;
+		}
+	}
+}
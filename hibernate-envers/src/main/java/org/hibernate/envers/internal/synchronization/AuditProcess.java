@@ -30,6 +30,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private static final Logger log = Logger.getLogger( AuditProcess.class );
 
 	private final RevisionInfoGenerator revisionInfoGenerator;
+	private final AuditOutbox auditOutbox;
 	private final SessionImplementor session;
 
 	private final LinkedList<AuditWorkUnit> workUnits;
@@ -37,10 +38,17 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private final Map<Pair<String, Object>, AuditWorkUnit> usedIds;
 	private final Map<Pair<String, Object>, Object[]> entityStateCache;
 	private final EntityChangeNotifier entityChangeNotifier;
+	private final AuditRowInserter auditRowInserter;
 	private Object revisionData;
+	private Long outboxId;
 
 	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session) {
+		this( revisionInfoGenerator, null, session );
+	}
+
+	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, AuditOutbox auditOutbox, SessionImplementor session) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.auditOutbox = auditOutbox;
 		this.session = session;
 
 		workUnits = new LinkedList<>();
@@ -48,6 +56,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 		usedIds = new HashMap<>();
 		entityStateCache = new HashMap<>();
 		entityChangeNotifier = new EntityChangeNotifier( revisionInfoGenerator, session );
+		auditRowInserter = new AuditRowInserter();
 	}
 
 	public void cacheEntityState(Object id, String entityName, Object[] snapshot) {
@@ -121,10 +130,24 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 			vwu.undo( session );
 		}
 
+		if ( auditOutbox != null ) {
+			// The audit rows are written later on, by the audit outbox writer
+			outboxId = auditOutbox.record( session, revisionData, () -> performWorkUnits( session, currentRevisionData ) );
+		}
+		else {
+			performWorkUnits( session, currentRevisionData );
+		}
+	}
+
+	private void performWorkUnits(Session session, Object currentRevisionData) {
+		AuditWorkUnit vwu;
 		while ( (vwu = workUnits.poll()) != null ) {
 			vwu.perform( session, revisionData );
 			entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
 		}
+
+		// Audit rows inserted directly are not flushed with the session
+		auditRowInserter.executePendingInserts( session );
 	}
 
 	public Object getCurrentRevisionData(Session session, boolean persist) {
@@ -177,4 +200,13 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 			session.flush();
 		}
 	}
+
+	/**
+	 * Called once the transaction completed, whether the audit data was processed or not.
+	 */
+	public void doAfterTransactionCompletion(boolean success) {
+		if ( outboxId != null ) {
+			auditOutbox.afterTransactionCompletion( outboxId, success );
+		}
+	}
 }
@@ -0,0 +1,53 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.io.Serializable;
+import java.util.Collections;
+
+import org.hibernate.Session;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Class responsible for inserting audit data directly through the persister of the audit entity, bypassing the
+ * persistence context and the action queue.  The INSERT statements go through the JDBC batch of the session when
+ * JDBC batching is enabled, so {@link #executePendingInserts} has to be called before the transaction completes.
+ *
+ * @see org.hibernate.envers.configuration.EnversSettings#DIRECT_AUDIT_ROW_INSERTS
+ */
+public class AuditRowInserter {
+	/**
+	 * Inserts a row of the given audit entity.
+	 *
+	 * @param session Active Hibernate session.
+	 * @param auditEntityName Name of the audit entity.
+	 * @param data Audit data, as saved through {@link Session#save(String, Object)} otherwise.
+	 */
+	public void insert(Session session, String auditEntityName, Object data) {
+		final EventSource eventSource = (EventSource) session;
+
+		// The audit row references the revision entity, which may be waiting in the action queue.
+		if ( eventSource.getActionQueue().hasAnyQueuedActions() ) {
+			eventSource.flush();
+		}
+
+		final EntityPersister persister = eventSource.getFactory().getMetamodel().entityPersister( auditEntityName );
+		final Serializable id = persister.getIdentifier( data, eventSource );
+		final Object[] values = persister.getPropertyValuesToInsert( data, Collections.emptyMap(), eventSource );
+		persister.insert( id, values, data, eventSource );
+	}
+
+	/**
+	 * Executes the audit rows still waiting in the JDBC batch of the given session.
+	 *
+	 * @param session Active Hibernate session.
+	 */
+	public void executePendingInserts(Session session) {
+		( (EventSource) session ).getJdbcCoordinator().executeBatch();
+	}
+}
@@ -44,6 +44,9 @@ public interface AuditAssociationQuery<Q extends AuditQuery> extends AuditQuery
 	@Override
 	AuditAssociationQuery<Q> setFirstResult(int firstResult);
 
+	@Override
+	AuditAssociationQuery<Q> setFirstResultAfter(Number revision, Object id);
+
 	@Override
 	AuditAssociationQuery<Q> setCacheable(boolean cacheable);
 
@@ -7,6 +7,7 @@
 package org.hibernate.envers.query;
 
 import java.util.List;
+import java.util.stream.Stream;
 import javax.persistence.NoResultException;
 import javax.persistence.NonUniqueResultException;
 import javax.persistence.criteria.JoinType;
@@ -28,6 +29,15 @@ public interface AuditQuery {
 
 	Object getSingleResult() throws AuditException, NonUniqueResultException, NoResultException;
 
+	/**
+	 * Scrolls through the results instead of reading them all at once: each result is built as the stream advances,
+	 * and the audit data read for it is released from the session and from the audit reader once the stream moves on
+	 * to the next one.  The stream must be closed, to release the underlying JDBC resources.
+	 *
+	 * @return A sequential stream of the results, in the same form as {@link #getResultList()} returns them.
+	 */
+	Stream stream() throws AuditException;
+
 	AuditAssociationQuery<? extends AuditQuery> traverseRelation(String associationName, JoinType joinType);
 
 	AuditAssociationQuery<? extends AuditQuery> traverseRelation(String associationName, JoinType joinType,
@@ -43,6 +53,18 @@ public interface AuditQuery {
 
 	AuditQuery setFirstResult(int firstResult);
 
+	/**
+	 * Orders the results by revision number, then by entity identifier, and keeps only the audit rows which follow
+	 * the one of the entity with the given identifier at the given revision in that order.  Together with
+	 * {@link #setMaxResults(int)}, this reads the results page by page, each page starting after the last row of the
+	 * previous one, whatever the number of rows skipped (keyset pagination).  Only entities with a single identifier
+	 * property are supported.
+	 *
+	 * @param revision Revision number of the last row of the previous page, {@code null} for the first page.
+	 * @param id Identifier of the entity of the last row of the previous page, {@code null} for the first page.
+	 */
+	AuditQuery setFirstResultAfter(Number revision, Object id);
+
 	AuditQuery setCacheable(boolean cacheable);
 
 	AuditQuery setCacheRegion(String cacheRegion);
@@ -7,9 +7,18 @@
 package org.hibernate.envers.query.internal.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.persistence.NoResultException;
 import javax.persistence.NonUniqueResultException;
@@ -27,15 +36,19 @@ import org.hibernate.envers.internal.entities.EntityInstantiator;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
 import org.hibernate.envers.query.AuditAssociationQuery;
+import org.hibernate.envers.query.AuditEntity;
 import org.hibernate.envers.query.AuditQuery;
 import org.hibernate.envers.query.criteria.AuditCriterion;
 import org.hibernate.envers.query.criteria.internal.CriteriaTools;
 import org.hibernate.envers.query.order.AuditOrder;
 import org.hibernate.envers.query.projection.AuditProjection;
 import org.hibernate.envers.tools.Pair;
+import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.query.Query;
 
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REFERENCED_ENTITY_ALIAS;
+import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
+import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_TIMESTAMP_PARAMETER;
 
 /**
  * @author Adam Warski (adam at warski dot org)
@@ -100,6 +113,22 @@ public abstract class AbstractAuditQuery implements AuditQueryImplementor {
 		return query;
 	}
 
+	/**
+	 * Sets the revision parameters the restrictions of the audit strategy use, if the query has them.
+	 */
+	protected void setRevisionParameters(Query query, Number revision) {
+		final Collection<String> params = query.getParameterMetadata().getNamedParameterNames();
+		if ( params.contains( REVISION_PARAMETER ) ) {
+			query.setParameter( REVISION_PARAMETER, revision );
+		}
+		if ( params.contains( REVISION_TIMESTAMP_PARAMETER ) ) {
+			query.setParameter(
+					REVISION_TIMESTAMP_PARAMETER,
+					enversService.getRevisionInfoQueryCreator().getLatestRevisionDate( versionsReader.getSession(), revision )
+			);
+		}
+	}
+
 	protected List buildAndExecuteQuery() {
 		Query query = buildQuery();
 
@@ -112,6 +141,102 @@ public abstract class AbstractAuditQuery implements AuditQueryImplementor {
 		return list();
 	}
 
+	/**
+	 * Streams the results of the given query, mapping each row as it is read.  The audit data of a row is released,
+	 * from the session and from the first level cache of the versions reader, once the stream moves on to the next
+	 * row or is closed.
+	 *
+	 * @param query The query reading the audit data.
+	 * @param rowMapper Maps a row of the query into a result.
+	 * @param revisionGetter Gets the revision an entity is read at from its entry in the versions table.
+	 */
+	@SuppressWarnings({"unchecked"})
+	protected Stream stream(Query query, Function<Object, Object> rowMapper, Function<Map, Number> revisionGetter) {
+		final RowReleaser releaser = new RowReleaser( revisionGetter );
+		final Stream<Object> rows = query.stream();
+		return StreamSupport.stream( Spliterators.spliteratorUnknownSize( rows.iterator(), Spliterator.ORDERED ), false )
+				.map(
+						row -> {
+							releaser.moveTo( row );
+							return rowMapper.apply( row );
+						}
+				)
+				.onClose(
+						() -> {
+							releaser.moveTo( null );
+							rows.close();
+						}
+				);
+	}
+
+	private class RowReleaser {
+		private final Function<Map, Number> revisionGetter;
+		private Object row;
+		private Set<Object> auditData = Collections.emptySet();
+
+		private RowReleaser(Function<Map, Number> revisionGetter) {
+			this.revisionGetter = revisionGetter;
+		}
+
+		/**
+		 * Releases the audit data of the current row and makes the given one current.  Audit data the given row shares
+		 * with the current one, such as the revision entity of rows read at the same revision, is kept, as the given
+		 * row has already been read with it.
+		 */
+		private void moveTo(Object nextRow) {
+			final Set<Object> nextAuditData = getAuditData( nextRow );
+			if ( row != null ) {
+				final Object[] values = row instanceof Object[] ? (Object[]) row : new Object[] { row };
+				if ( values[0] instanceof Map && !hasProjection() ) {
+					final Map versionsEntity = (Map) values[0];
+					entityInstantiator.removeInstanceFromCache( entityName, versionsEntity, revisionGetter.apply( versionsEntity ) );
+				}
+				for ( Object value : auditData ) {
+					if ( !nextAuditData.contains( value ) ) {
+						evict( value );
+					}
+				}
+			}
+			row = nextRow;
+			auditData = nextAuditData;
+		}
+
+		/**
+		 * @return The audit rows and revision entities of the given row, compared by identity.
+		 */
+		private Set<Object> getAuditData(Object row) {
+			if ( row == null ) {
+				return Collections.emptySet();
+			}
+			final Object[] values = row instanceof Object[] ? (Object[]) row : new Object[] { row };
+			final Set<Object> data = Collections.newSetFromMap( new IdentityHashMap<>() );
+			if ( values[0] instanceof Map ) {
+				// the revision entity referenced by the audit row
+				final Map originalId = (Map) ( (Map) values[0] ).get( enversService.getAuditEntitiesConfiguration().getOriginalIdPropName() );
+				if ( originalId != null ) {
+					addIfNotNull( data, originalId.get( enversService.getAuditEntitiesConfiguration().getRevisionFieldName() ) );
+				}
+			}
+			for ( Object value : values ) {
+				addIfNotNull( data, value );
+			}
+			return data;
+		}
+
+		private void addIfNotNull(Set<Object> data, Object value) {
+			if ( value != null ) {
+				data.add( value );
+			}
+		}
+
+		private void evict(Object value) {
+			if ( value instanceof HibernateProxy
+					|| versionsReader.getSessionImplementor().getPersistenceContext().getEntry( value ) != null ) {
+				versionsReader.getSession().evict( value );
+			}
+		}
+	}
+
 	public Object getSingleResult() throws AuditException, NonUniqueResultException, NoResultException {
 		List result = list();
 
@@ -229,6 +354,27 @@ public abstract class AbstractAuditQuery implements AuditQueryImplementor {
 		return this;
 	}
 
+	public AuditQuery setFirstResultAfter(Number revision, Object id) {
+		if ( versionsReader.getSessionImplementor().getFactory().getMetamodel().entityPersister( entityName )
+				.getIdentifierPropertyName() == null ) {
+			throw new AuditException(
+					"Entity [" + entityName + "] does not have a single identifier property, which keyset pagination requires"
+			);
+		}
+		if ( revision != null ) {
+			// e.revision > :revision or (e.revision = :revision and e.id > :id)
+			add(
+					AuditEntity.or(
+							AuditEntity.revisionNumber().gt( revision ),
+							AuditEntity.and( AuditEntity.revisionNumber().eq( revision ), AuditEntity.id().gt( id ) )
+					)
+			);
+		}
+		addOrder( AuditEntity.revisionNumber().asc() );
+		addOrder( AuditEntity.id().asc() );
+		return this;
+	}
+
 	public AuditQuery setCacheable(boolean cacheable) {
 		this.cacheable = cacheable;
 		return this;
@@ -320,21 +466,7 @@ public abstract class AbstractAuditQuery implements AuditQueryImplementor {
 		final List result = new ArrayList( queryResult.size() );
 		if ( hasProjection() ) {
 			for (final Object qr : queryResult) {
-				if ( projections.size() == 1 ) {
-					// qr is the value of the projection itself
-					final Pair<String, AuditProjection> projection = projections.get( 0 );
-					result.add( projection.getSecond().convertQueryResult( enversService, entityInstantiator, projection.getFirst(), revision, qr ) );
-				}
-				else {
-					// qr is an array where each of its components holds the value of corresponding projection
-					Object[] qresults = (Object[]) qr;
-					Object[] tresults = new Object[qresults.length];
-					for ( int i = 0; i < qresults.length; i++ ) {
-						final Pair<String, AuditProjection> projection = projections.get( i );
-						tresults[i] = projection.getSecond().convertQueryResult( enversService, entityInstantiator, projection.getFirst(), revision, qresults[i] );
-					}
-					result.add( tresults );
-				}
+				result.add( applyProjection( qr, revision ) );
 			}
 		}
 		else {
@@ -343,6 +475,25 @@ public abstract class AbstractAuditQuery implements AuditQueryImplementor {
 		return result;
 	}
 
+	protected Object applyProjection(final Object qr, final Number revision) {
+		if ( !hasProjection() ) {
+			return entityInstantiator.createInstanceFromVersionsEntity( entityName, (Map) qr, revision );
+		}
+		if ( projections.size() == 1 ) {
+			// qr is the value of the projection itself
+			final Pair<String, AuditProjection> projection = projections.get( 0 );
+			return projection.getSecond().convertQueryResult( enversService, entityInstantiator, projection.getFirst(), revision, qr );
+		}
+		// qr is an array where each of its components holds the value of corresponding projection
+		Object[] qresults = (Object[]) qr;
+		Object[] tresults = new Object[qresults.length];
+		for ( int i = 0; i < qresults.length; i++ ) {
+			final Pair<String, AuditProjection> projection = projections.get( i );
+			tresults[i] = projection.getSecond().convertQueryResult( enversService, entityInstantiator, projection.getFirst(), revision, qresults[i] );
+		}
+		return tresults;
+	}
+
 	protected EntityConfiguration getEntityConfiguration() {
 		return enversService.getEntitiesConfigurations().get( entityName );
 	}
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 import javax.persistence.NoResultException;
 import javax.persistence.NonUniqueResultException;
 import javax.persistence.criteria.JoinType;
@@ -99,6 +100,11 @@ public class AuditAssociationQueryImpl<Q extends AuditQueryImplementor>
 		return parent.getResultList();
 	}
 
+	@Override
+	public Stream stream() throws AuditException {
+		return parent.stream();
+	}
+
 	@Override
 	public Object getSingleResult() throws AuditException, NonUniqueResultException, NoResultException {
 		return parent.getSingleResult();
@@ -193,6 +199,12 @@ public class AuditAssociationQueryImpl<Q extends AuditQueryImplementor>
 		return this;
 	}
 
+	@Override
+	public AuditAssociationQueryImpl<Q> setFirstResultAfter(Number revision, Object id) {
+		parent.setFirstResultAfter( revision, id );
+		return this;
+	}
+
 	@Override
 	public AuditAssociationQueryImpl<Q> setCacheable(boolean cacheable) {
 		parent.setCacheable( cacheable );
@@ -6,8 +6,8 @@
  */
 package org.hibernate.envers.query.internal.impl;
 
-import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
@@ -51,6 +51,23 @@ public class EntitiesAtRevisionQuery extends AbstractAuditQuery {
 	}
 
 	public List list() {
+		return applyProjections( listAuditData(), revision );
+	}
+
+	/**
+	 * @return The audit data of the entities at the revision, as read from the audit table, before any projection
+	 * or mapping to entity instances.
+	 */
+	public List listAuditData() {
+		return buildAuditDataQuery().list();
+	}
+
+	@Override
+	public Stream stream() {
+		return stream( buildAuditDataQuery(), row -> applyProjection( row, revision ), versionsEntity -> revision );
+	}
+
+	private Query buildAuditDataQuery() {
 		/*
          * The query that we need to create:
          *   SELECT new list(e) FROM versionsReferencedEntity e
@@ -124,12 +141,8 @@ public class EntitiesAtRevisionQuery extends AbstractAuditQuery {
 		}
 
 		Query query = buildQuery();
-		// add named parameter (used for ValidityAuditStrategy and association queries)
-		Collection<String> params = query.getParameterMetadata().getNamedParameterNames();
-		if ( params.contains( REVISION_PARAMETER ) ) {
-			query.setParameter( REVISION_PARAMETER, revision );
-		}
-		List queryResult = query.list();
-		return applyProjections( queryResult, revision );
+		// add named parameters (used for ValidityAuditStrategy and association queries)
+		setRevisionParameters( query, revision );
+		return query;
 	}
 }
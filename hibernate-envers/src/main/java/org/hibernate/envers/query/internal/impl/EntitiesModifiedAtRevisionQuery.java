@@ -6,8 +6,8 @@
  */
 package org.hibernate.envers.query.internal.impl;
 
-import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.internal.AuditEntitiesConfiguration;
@@ -16,7 +16,6 @@ import org.hibernate.envers.internal.reader.AuditReaderImplementor;
 import org.hibernate.envers.query.criteria.AuditCriterion;
 import org.hibernate.query.Query;
 
-import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
 
 /**
  * In comparison to {@link EntitiesAtRevisionQuery} this query returns an empty collection if an entity
@@ -49,6 +48,15 @@ public class EntitiesModifiedAtRevisionQuery extends AbstractAuditQuery {
 
 	@Override
 	public List list() {
+		return applyProjections( buildAuditDataQuery().list(), revision );
+	}
+
+	@Override
+	public Stream stream() {
+		return stream( buildAuditDataQuery(), row -> applyProjection( row, revision ), versionsEntity -> revision );
+	}
+
+	private Query buildAuditDataQuery() {
 		/*
          * The query that we need to create:
          *   SELECT new list(e) FROM versionsReferencedEntity e
@@ -77,12 +85,8 @@ public class EntitiesModifiedAtRevisionQuery extends AbstractAuditQuery {
 		}
 
 		Query query = buildQuery();
-		// add named parameter (used for ValidityAuditStrategy and association queries)
-		Collection<String> params = query.getParameterMetadata().getNamedParameterNames();
-		if ( params.contains( REVISION_PARAMETER ) ) {
-			query.setParameter( REVISION_PARAMETER, revision );
-		}
-		List queryResult = query.list();
-		return applyProjections( queryResult, revision );
+		// add named parameters (used for ValidityAuditStrategy and association queries)
+		setRevisionParameters( query, revision );
+		return query;
 	}
 }
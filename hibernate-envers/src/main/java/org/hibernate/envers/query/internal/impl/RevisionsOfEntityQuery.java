@@ -12,7 +12,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.persistence.criteria.JoinType;
 
@@ -28,6 +28,7 @@ import org.hibernate.envers.query.AuditAssociationQuery;
 import org.hibernate.envers.query.AuditQuery;
 import org.hibernate.envers.query.criteria.AuditCriterion;
 import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.query.Query;
 
 /**
  * @author Adam Warski (adam at warski dot org)
@@ -90,6 +91,23 @@ public class RevisionsOfEntityQuery extends AbstractAuditQuery {
 
 	@SuppressWarnings({"unchecked"})
 	public List list() throws AuditException {
+		List<?> queryResults = buildAuditDataQuery().list();
+		if ( hasProjection() ) {
+			return queryResults;
+		}
+		List results = new ArrayList( queryResults.size() );
+		for ( Object row : queryResults ) {
+			results.add( getQueryResult( row ) );
+		}
+		return results;
+	}
+
+	@Override
+	public Stream stream() throws AuditException {
+		return stream( buildAuditDataQuery(), this::getQueryResult, this::getRevisionNumber );
+	}
+
+	private Query buildAuditDataQuery() {
 		AuditEntitiesConfiguration verEntCfg = enversService.getAuditEntitiesConfiguration();
 
         /*
@@ -133,7 +151,7 @@ public class RevisionsOfEntityQuery extends AbstractAuditQuery {
 			);
 		}
 
-		return getQueryResults();
+		return buildQuery();
 	}
 
 	@Override
@@ -169,31 +187,22 @@ public class RevisionsOfEntityQuery extends AbstractAuditQuery {
 		return changedPropertyNames;
 	}
 
-	private List getQueryResults() {
-		List<?> queryResults = buildAndExecuteQuery();
+	private Object getQueryResult(Object row) {
 		if ( hasProjection() ) {
-			return queryResults;
+			return row;
 		}
 		else if ( selectRevisionInfoOnly ) {
-			return queryResults.stream().map( e -> ( (Object[]) e )[1] ).collect( Collectors.toList() );
+			return ( (Object[]) row )[1];
+		}
+		else if ( selectEntitiesOnly ) {
+			final Map versionsEntity = (Map) row;
+			return getQueryResultRowValue( versionsEntity, null, getEntityName() );
 		}
 		else {
-			List entities = new ArrayList();
-			if ( selectEntitiesOnly ) {
-				for ( Object row : queryResults ) {
-					final Map versionsEntity = (Map) row;
-					entities.add( getQueryResultRowValue( versionsEntity, null, getEntityName() ) );
-				}
-			}
-			else {
-				for ( Object row : queryResults ) {
-					final Object[] rowArray = (Object[]) row;
-					final Map versionsEntity = (Map) rowArray[ 0 ];
-					final Object revisionData = rowArray[ 1 ];
-					entities.add( getQueryResultRowValue( versionsEntity, revisionData, getEntityName() ) );
-				}
-			}
-			return entities;
+			final Object[] rowArray = (Object[]) row;
+			final Map versionsEntity = (Map) rowArray[ 0 ];
+			final Object revisionData = rowArray[ 1 ];
+			return getQueryResultRowValue( versionsEntity, revisionData, getEntityName() );
 		}
 	}
 
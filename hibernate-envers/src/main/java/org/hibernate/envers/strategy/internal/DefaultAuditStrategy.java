@@ -14,6 +14,8 @@ import org.hibernate.envers.configuration.internal.GlobalConfiguration;
 import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
+import org.hibernate.envers.internal.reader.AuditSnapshotCache;
+import org.hibernate.envers.internal.synchronization.AuditRowInserter;
 import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
 import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
@@ -33,9 +35,11 @@ import static org.hibernate.envers.internal.entities.mapper.relation.query.Query
  */
 public class DefaultAuditStrategy implements AuditStrategy {
 	private final SessionCacheCleaner sessionCacheCleaner;
+	private final AuditRowInserter auditRowInserter;
 
 	public DefaultAuditStrategy() {
 		sessionCacheCleaner = new SessionCacheCleaner();
+		auditRowInserter = new AuditRowInserter();
 	}
 
 	@Override
@@ -46,8 +50,12 @@ public class DefaultAuditStrategy implements AuditStrategy {
 			Serializable id,
 			Object data,
 			Object revision) {
-		session.save( auditEntitiesConfiguration.getAuditEntityName( entityName ), data );
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
+		saveAuditData( session, auditEntitiesConfiguration, auditEntitiesConfiguration.getAuditEntityName( entityName ), data );
+
+		final AuditSnapshotCache auditSnapshotCache = auditEntitiesConfiguration.getEnversService().getAuditSnapshotCache();
+		if ( auditSnapshotCache != null ) {
+			auditSnapshotCache.evictOnWrite( session, entityName, id );
+		}
 	}
 
 	@Override
@@ -58,8 +66,27 @@ public class DefaultAuditStrategy implements AuditStrategy {
 			AuditEntitiesConfiguration auditEntitiesConfiguration,
 			PersistentCollectionChangeData persistentCollectionChangeData,
 			Object revision) {
-		session.save( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
+		saveAuditData(
+				session,
+				auditEntitiesConfiguration,
+				persistentCollectionChangeData.getEntityName(),
+				persistentCollectionChangeData.getData()
+		);
+	}
+
+	private void saveAuditData(
+			Session session,
+			AuditEntitiesConfiguration auditEntitiesConfiguration,
+			String auditEntityName,
+			Object data) {
+		if ( auditEntitiesConfiguration.getEnversService().getGlobalConfiguration().isDirectAuditRowInserts() ) {
+			// Never enters the session, nothing to remove from it
+			auditRowInserter.insert( session, auditEntityName, data );
+		}
+		else {
+			session.save( auditEntityName, data );
+			sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
+		}
 	}
 
 	/**
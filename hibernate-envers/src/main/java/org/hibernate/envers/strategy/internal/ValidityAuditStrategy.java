@@ -8,22 +8,32 @@ package org.hibernate.envers.strategy.internal;
 
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.MIDDLE_ENTITY_ALIAS;
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
+import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_TIMESTAMP_PARAMETER;
 
 import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.dom4j.Element;
 import org.hibernate.LockOptions;
 import org.hibernate.Session;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.internal.AuditEntitiesConfiguration;
 import org.hibernate.envers.configuration.internal.GlobalConfiguration;
 import org.hibernate.envers.configuration.internal.metadata.MetadataTools;
@@ -31,6 +41,8 @@ import org.hibernate.envers.internal.entities.PropertyData;
 import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
+import org.hibernate.envers.internal.reader.AuditSnapshotCache;
+import org.hibernate.envers.internal.synchronization.AuditRowInserter;
 import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
 import org.hibernate.envers.internal.tools.ReflectionTools;
 import org.hibernate.envers.internal.tools.query.Parameters;
@@ -39,9 +51,11 @@ import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.envers.strategy.spi.MappingContext;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.jdbc.ReturningWork;
+import org.hibernate.jdbc.Work;
 import org.hibernate.persister.entity.Queryable;
 import org.hibernate.persister.entity.UnionSubclassEntityPersister;
 import org.hibernate.property.access.spi.Getter;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.sql.Update;
 import org.hibernate.type.CollectionType;
@@ -80,10 +94,25 @@ public class ValidityAuditStrategy implements AuditStrategy {
 	 */
 	private Getter revisionTimestampGetter;
 
+	/**
+	 * Names of the end revision and end revision timestamp properties, when the audit tables are
+	 * {@link AuditEntitiesConfiguration#isRevisionEndTimestampPartitioned() partitioned} on the latter.
+	 */
+	private String revisionEndFieldName;
+	private String revisionEndTimestampFieldName;
+
 	private final SessionCacheCleaner sessionCacheCleaner;
+	private final AuditRowInserter auditRowInserter;
+
+	/**
+	 * End revision updates collected per session when
+	 * {@link AuditEntitiesConfiguration#getRevisionEndBatchSize() batching} is enabled.
+	 */
+	private final ConcurrentMap<EventSource, RevisionEndUpdateBatch> revisionEndUpdateBatches = new ConcurrentHashMap<>();
 
 	public ValidityAuditStrategy() {
 		sessionCacheCleaner = new SessionCacheCleaner();
+		auditRowInserter = new AuditRowInserter();
 	}
 
 	@Override
@@ -98,6 +127,13 @@ public class ValidityAuditStrategy implements AuditStrategy {
 				serviceRegistry
 		);
 		setRevisionTimestampGetter( revisionTimestampGetter );
+
+		final AuditEntitiesConfiguration auditEntitiesConfiguration = serviceRegistry.getService( EnversService.class )
+				.getAuditEntitiesConfiguration();
+		if ( auditEntitiesConfiguration.isRevisionEndTimestampPartitioned() ) {
+			revisionEndFieldName = auditEntitiesConfiguration.getRevisionEndFieldName();
+			revisionEndTimestampFieldName = auditEntitiesConfiguration.getRevisionEndTimestampFieldName();
+		}
 	}
 
 	@Override
@@ -145,10 +181,15 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			final Object data,
 			final Object revision) {
 		final String auditedEntityName = audEntitiesCfg.getAuditEntityName( entityName );
-		final String revisionInfoEntityName = audEntitiesCfg.getRevisionInfoEntityName();
 
 		// Save the audit data
-		session.save( auditedEntityName, data );
+		saveAuditData( session, audEntitiesCfg, auditedEntityName, data );
+
+		// Evict the cached audit data of the entity, the end revision of its previous row changes
+		final AuditSnapshotCache auditSnapshotCache = audEntitiesCfg.getEnversService().getAuditSnapshotCache();
+		if ( auditSnapshotCache != null ) {
+			auditSnapshotCache.evictOnWrite( session, entityName, id );
+		}
 
 		// Update the end date of the previous row.
 		//
@@ -159,130 +200,60 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = audEntitiesCfg.getEnversService().getGlobalConfiguration().isAllowIdentifierReuse();
 		if ( reuseEntityIdentifier || getRevisionType( audEntitiesCfg, data ) != RevisionType.ADD ) {
-			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
-			( (EventSource) session ).getActionQueue().registerProcess( new BeforeTransactionCompletionProcess() {
-				@Override
-				public void doBeforeTransactionCompletion(final SessionImplementor sessionImplementor) {
-					final Queryable productionEntityQueryable = getQueryable( entityName, sessionImplementor );
-					final Queryable rootProductionEntityQueryable = getQueryable(
-							productionEntityQueryable.getRootEntityName(), sessionImplementor
-					);
-					final Queryable auditedEntityQueryable = getQueryable( auditedEntityName, sessionImplementor );
-					final Queryable rootAuditedEntityQueryable = getQueryable(
-							auditedEntityQueryable.getRootEntityName(), sessionImplementor
-					);
-
-					final String updateTableName;
-					if ( UnionSubclassEntityPersister.class.isInstance( rootProductionEntityQueryable ) ) {
-						// this is the condition causing all the problems in terms of the generated SQL UPDATE
-						// the problem being that we currently try to update the in-line view made up of the union query
-						//
-						// this is extremely hacky means to get the root table name for the union subclass style entities.
-						// hacky because it relies on internal behavior of UnionSubclassEntityPersister
-						// !!!!!! NOTICE - using subclass persister, not root !!!!!!
-						updateTableName = auditedEntityQueryable.getSubclassTableName( 0 );
-					}
-					else {
-						updateTableName = rootAuditedEntityQueryable.getTableName();
-					}
-
-					final Type revisionInfoIdType = sessionImplementor.getFactory().getMetamodel().entityPersister( revisionInfoEntityName ).getIdentifierType();
-					final String revEndColumnName = rootAuditedEntityQueryable.toColumns( audEntitiesCfg.getRevisionEndFieldName() )[0];
-
-					final boolean isRevisionEndTimestampEnabled = audEntitiesCfg.isRevisionEndTimestampEnabled();
+			final RevisionEndUpdate revisionEndUpdate = new RevisionEndUpdate(
+					entityName,
+					auditedEntityName,
+					id,
+					revision,
+					!reuseEntityIdentifier || getRevisionType( audEntitiesCfg, data ) != RevisionType.ADD
+			);
 
-					// update audit_ent set REVEND = ? [, REVEND_TSTMP = ?] where (prod_ent_id) = ? and REV <> ? and REVEND is null
-					final Update update = new Update( sessionImplementor.getFactory().getJdbcServices().getDialect() ).setTableName( updateTableName );
-					// set REVEND = ?
-					update.addColumn( revEndColumnName );
-					// set [, REVEND_TSTMP = ?]
-					if ( isRevisionEndTimestampEnabled ) {
-						update.addColumn(
-								rootAuditedEntityQueryable.toColumns( audEntitiesCfg.getRevisionEndTimestampFieldName() )[0]
+			if ( audEntitiesCfg.getRevisionEndBatchSize() > 1 ) {
+				// Collect the UPDATE, all updates of the transaction are executed in JDBC batches by a single
+				// transaction completion process, still after the INSERT statements.
+				getRevisionEndUpdateBatch( (EventSource) session, audEntitiesCfg ).add( revisionEndUpdate );
+			}
+			else {
+				// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
+				( (EventSource) session ).getActionQueue().registerProcess( new BeforeTransactionCompletionProcess() {
+					@Override
+					public void doBeforeTransactionCompletion(final SessionImplementor sessionImplementor) {
+						final RevisionEndUpdateStatement updateStatement = new RevisionEndUpdateStatement(
+								entityName,
+								auditedEntityName,
+								audEntitiesCfg,
+								sessionImplementor
 						);
-					}
-
-					// where (prod_ent_id) = ?
-					update.addPrimaryKeyColumns( rootProductionEntityQueryable.getIdentifierColumnNames() );
-					// where REV <> ?
-					update.addWhereColumn(
-							rootAuditedEntityQueryable.toColumns( audEntitiesCfg.getRevisionNumberPath() )[0], "<> ?"
-					);
-					// where REVEND is null
-					update.addWhereColumn( revEndColumnName, " is null" );
-
-					// Now lets execute the sql...
-					final String updateSql = update.toStatementString();
-
-					int rowCount = sessionImplementor.doReturningWork(
-							new ReturningWork<Integer>() {
-								@Override
-								public Integer execute(Connection connection) throws SQLException {
-									PreparedStatement preparedStatement = sessionImplementor
-											.getJdbcCoordinator().getStatementPreparer().prepareStatement( updateSql );
 
-									try {
-										int index = 1;
-
-										// set REVEND = ?
-										final Number revisionNumber = audEntitiesCfg.getEnversService()
-												.getRevisionInfoNumberReader()
-												.getRevisionNumber( revision );
-
-										revisionInfoIdType.nullSafeSet(
-												preparedStatement, revisionNumber, index, sessionImplementor
-										);
-										index += revisionInfoIdType.getColumnSpan( sessionImplementor.getFactory() );
-
-										// set [, REVEND_TSTMP = ?]
-										if ( isRevisionEndTimestampEnabled ) {
-											final Object revEndTimestampObj = revisionTimestampGetter.get( revision );
-											final Date revisionEndTimestamp = convertRevEndTimestampToDate( revEndTimestampObj );
-											final Type revEndTsType = rootAuditedEntityQueryable.getPropertyType(
-													audEntitiesCfg.getRevisionEndTimestampFieldName()
-											);
-											revEndTsType.nullSafeSet(
-													preparedStatement, revisionEndTimestamp, index, sessionImplementor
+						int rowCount = sessionImplementor.doReturningWork(
+								new ReturningWork<Integer>() {
+									@Override
+									public Integer execute(Connection connection) throws SQLException {
+										PreparedStatement preparedStatement = sessionImplementor
+												.getJdbcCoordinator().getStatementPreparer().prepareStatement( updateStatement.sql );
+
+										try {
+											updateStatement.bind( preparedStatement, revisionEndUpdate, sessionImplementor );
+											return sessionImplementor
+													.getJdbcCoordinator().getResultSetReturn().executeUpdate( preparedStatement );
+										}
+										finally {
+											sessionImplementor.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release(
+													preparedStatement
 											);
-											index += revEndTsType.getColumnSpan( sessionImplementor.getFactory() );
+											sessionImplementor.getJdbcCoordinator().afterStatementExecution();
 										}
-
-										// where (prod_ent_id) = ?
-										final Type idType = rootProductionEntityQueryable.getIdentifierType();
-										idType.nullSafeSet( preparedStatement, id, index, sessionImplementor );
-										index += idType.getColumnSpan( sessionImplementor.getFactory() );
-
-										// where REV <> ?
-										final Type revType = rootAuditedEntityQueryable.getPropertyType(
-												audEntitiesCfg.getRevisionNumberPath()
-										);
-										revType.nullSafeSet( preparedStatement, revisionNumber, index, sessionImplementor );
-
-										// where REVEND is null
-										// 		nothing to bind....
-
-										return sessionImplementor
-												.getJdbcCoordinator().getResultSetReturn().executeUpdate( preparedStatement );
-									}
-									finally {
-										sessionImplementor.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release(
-												preparedStatement
-										);
-										sessionImplementor.getJdbcCoordinator().afterStatementExecution();
 									}
 								}
-							}
-					);
-
-					if ( rowCount != 1 && ( !reuseEntityIdentifier || ( getRevisionType( audEntitiesCfg, data ) != RevisionType.ADD ) ) ) {
-						throw new RuntimeException(
-								"Cannot update previous revision for entity " + auditedEntityName + " and id " + id
 						);
+
+						if ( rowCount != 1 && revisionEndUpdate.verifyRowCount ) {
+							throw revisionEndUpdate.failure();
+						}
 					}
-				}
-			} );
+				} );
+			}
 		}
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 	}
 
 	@Override
@@ -325,6 +296,11 @@ public class ValidityAuditStrategy implements AuditStrategy {
 
 		addEndRevisionNullRestriction( auditEntitiesConfiguration, qb.getRootParameters() );
 
+		if ( auditEntitiesConfiguration.getEnversService().getGlobalConfiguration().isDirectAuditRowInserts() ) {
+			// The auto flush of the query does not know about the audit rows inserted directly
+			auditRowInserter.executePendingInserts( session );
+		}
+
 		final List<Object> l = qb.toQuery( session ).setLockOptions( LockOptions.UPGRADE ).list();
 
 		// Update the last revision if one exists.
@@ -337,8 +313,12 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 
 		// Save the audit data
-		session.save( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
+		saveAuditData(
+				session,
+				auditEntitiesConfiguration,
+				persistentCollectionChangeData.getEntityName(),
+				persistentCollectionChangeData.getData()
+		);
 	}
 
 	/**
@@ -408,6 +388,18 @@ public class ValidityAuditStrategy implements AuditStrategy {
 				revisionEndProperty + ".id", addAlias, inclusive ? ">" : ">=", REVISION_PARAMETER
 		);
 		subParm.addWhere( revisionEndProperty, addAlias, "is", "null", false );
+
+		if ( revisionEndTimestampFieldName != null ) {
+			// and (e.endRevisionTimestamp >= _revisionTimestamp or e.endRevisionTimestamp is null), which is implied
+			// by the restriction of the end revision, but lets the database prune the partitions of the audit table
+			final String revisionEndTimestampProperty = revisionEndProperty.substring(
+					0,
+					revisionEndProperty.length() - revisionEndFieldName.length()
+			) + revisionEndTimestampFieldName;
+			final Parameters timestampParm = rootParameters.addSubParameters( "or" );
+			timestampParm.addWhereWithNamedParam( revisionEndTimestampProperty, addAlias, ">=", REVISION_TIMESTAMP_PARAMETER );
+			timestampParm.addWhere( revisionEndTimestampProperty, addAlias, "is", "null", false );
+		}
 	}
 
 	@SuppressWarnings({"unchecked"})
@@ -449,6 +441,21 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 	}
 
+	private void saveAuditData(
+			Session session,
+			AuditEntitiesConfiguration auditEntitiesConfiguration,
+			String auditEntityName,
+			Object data) {
+		if ( auditEntitiesConfiguration.getEnversService().getGlobalConfiguration().isDirectAuditRowInserts() ) {
+			// Never enters the session, nothing to remove from it
+			auditRowInserter.insert( session, auditEntityName, data );
+		}
+		else {
+			session.save( auditEntityName, data );
+			sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
+		}
+	}
+
 	private Date convertRevEndTimestampToDate(Object revEndTimestampObj) {
 		// convert to a java.util.Date
 		if ( revEndTimestampObj instanceof Date ) {
@@ -495,4 +502,270 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 		return false;
 	}
+
+	private RevisionEndUpdateBatch getRevisionEndUpdateBatch(EventSource session, AuditEntitiesConfiguration audEntitiesCfg) {
+		RevisionEndUpdateBatch batch = revisionEndUpdateBatches.get( session );
+		if ( batch == null ) {
+			batch = new RevisionEndUpdateBatch( session, audEntitiesCfg );
+			revisionEndUpdateBatches.put( session, batch );
+			session.getActionQueue().registerProcess( (BeforeTransactionCompletionProcess) batch );
+			session.getActionQueue().registerProcess( (AfterTransactionCompletionProcess) batch );
+		}
+		return batch;
+	}
+
+	/**
+	 * The update of the end revision of the previous audit row of a single entity.
+	 */
+	private static class RevisionEndUpdate {
+		private final String entityName;
+		private final String auditedEntityName;
+		private final Serializable id;
+		private final Object revision;
+		private final boolean verifyRowCount;
+
+		private RevisionEndUpdate(
+				String entityName,
+				String auditedEntityName,
+				Serializable id,
+				Object revision,
+				boolean verifyRowCount) {
+			this.entityName = entityName;
+			this.auditedEntityName = auditedEntityName;
+			this.id = id;
+			this.revision = revision;
+			this.verifyRowCount = verifyRowCount;
+		}
+
+		private RuntimeException failure() {
+			return new RuntimeException(
+					"Cannot update previous revision for entity " + auditedEntityName + " and id " + id
+			);
+		}
+	}
+
+	/**
+	 * The end revision UPDATE statement of an audit table, along with the types needed to bind it.
+	 * Entities of the same hierarchy share the same statement.
+	 */
+	private class RevisionEndUpdateStatement {
+		private final AuditEntitiesConfiguration audEntitiesCfg;
+		private final Queryable rootProductionEntityQueryable;
+		private final Queryable rootAuditedEntityQueryable;
+		private final Type revisionInfoIdType;
+		private final String sql;
+
+		private RevisionEndUpdateStatement(
+				String entityName,
+				String auditedEntityName,
+				AuditEntitiesConfiguration audEntitiesCfg,
+				SessionImplementor sessionImplementor) {
+			this.audEntitiesCfg = audEntitiesCfg;
+
+			final Queryable productionEntityQueryable = getQueryable( entityName, sessionImplementor );
+			rootProductionEntityQueryable = getQueryable(
+					productionEntityQueryable.getRootEntityName(), sessionImplementor
+			);
+			final Queryable auditedEntityQueryable = getQueryable( auditedEntityName, sessionImplementor );
+			rootAuditedEntityQueryable = getQueryable(
+					auditedEntityQueryable.getRootEntityName(), sessionImplementor
+			);
+
+			final String updateTableName;
+			if ( UnionSubclassEntityPersister.class.isInstance( rootProductionEntityQueryable ) ) {
+				// this is the condition causing all the problems in terms of the generated SQL UPDATE
+				// the problem being that we currently try to update the in-line view made up of the union query
+				//
+				// this is extremely hacky means to get the root table name for the union subclass style entities.
+				// hacky because it relies on internal behavior of UnionSubclassEntityPersister
+				// !!!!!! NOTICE - using subclass persister, not root !!!!!!
+				updateTableName = auditedEntityQueryable.getSubclassTableName( 0 );
+			}
+			else {
+				updateTableName = rootAuditedEntityQueryable.getTableName();
+			}
+
+			revisionInfoIdType = sessionImplementor.getFactory().getMetamodel()
+					.entityPersister( audEntitiesCfg.getRevisionInfoEntityName() ).getIdentifierType();
+			final String revEndColumnName = rootAuditedEntityQueryable.toColumns( audEntitiesCfg.getRevisionEndFieldName() )[0];
+
+			// update audit_ent set REVEND = ? [, REVEND_TSTMP = ?] where (prod_ent_id) = ? and REV <> ? and REVEND is null
+			final Update update = new Update( sessionImplementor.getFactory().getJdbcServices().getDialect() ).setTableName( updateTableName );
+			// set REVEND = ?
+			update.addColumn( revEndColumnName );
+			// set [, REVEND_TSTMP = ?]
+			if ( audEntitiesCfg.isRevisionEndTimestampEnabled() ) {
+				update.addColumn(
+						rootAuditedEntityQueryable.toColumns( audEntitiesCfg.getRevisionEndTimestampFieldName() )[0]
+				);
+			}
+
+			// where (prod_ent_id) = ?
+			update.addPrimaryKeyColumns( rootProductionEntityQueryable.getIdentifierColumnNames() );
+			// where REV <> ?
+			update.addWhereColumn(
+					rootAuditedEntityQueryable.toColumns( audEntitiesCfg.getRevisionNumberPath() )[0], "<> ?"
+			);
+			// where REVEND is null
+			update.addWhereColumn( revEndColumnName, " is null" );
+
+			sql = update.toStatementString();
+		}
+
+		private void bind(
+				PreparedStatement preparedStatement,
+				RevisionEndUpdate revisionEndUpdate,
+				SessionImplementor sessionImplementor) throws SQLException {
+			int index = 1;
+
+			// set REVEND = ?
+			final Number revisionNumber = audEntitiesCfg.getEnversService()
+					.getRevisionInfoNumberReader()
+					.getRevisionNumber( revisionEndUpdate.revision );
+
+			revisionInfoIdType.nullSafeSet(
+					preparedStatement, revisionNumber, index, sessionImplementor
+			);
+			index += revisionInfoIdType.getColumnSpan( sessionImplementor.getFactory() );
+
+			// set [, REVEND_TSTMP = ?]
+			if ( audEntitiesCfg.isRevisionEndTimestampEnabled() ) {
+				final Object revEndTimestampObj = revisionTimestampGetter.get( revisionEndUpdate.revision );
+				final Date revisionEndTimestamp = convertRevEndTimestampToDate( revEndTimestampObj );
+				final Type revEndTsType = rootAuditedEntityQueryable.getPropertyType(
+						audEntitiesCfg.getRevisionEndTimestampFieldName()
+				);
+				revEndTsType.nullSafeSet(
+						preparedStatement, revisionEndTimestamp, index, sessionImplementor
+				);
+				index += revEndTsType.getColumnSpan( sessionImplementor.getFactory() );
+			}
+
+			// where (prod_ent_id) = ?
+			final Type idType = rootProductionEntityQueryable.getIdentifierType();
+			idType.nullSafeSet( preparedStatement, revisionEndUpdate.id, index, sessionImplementor );
+			index += idType.getColumnSpan( sessionImplementor.getFactory() );
+
+			// where REV <> ?
+			final Type revType = rootAuditedEntityQueryable.getPropertyType(
+					audEntitiesCfg.getRevisionNumberPath()
+			);
+			revType.nullSafeSet( preparedStatement, revisionNumber, index, sessionImplementor );
+
+			// where REVEND is null
+			// 		nothing to bind....
+		}
+	}
+
+	/**
+	 * Collects the end revision updates of a session and executes them, grouped by audit table,
+	 * as JDBC batches once the audit process of the transaction has written the new audit rows.
+	 */
+	private class RevisionEndUpdateBatch implements BeforeTransactionCompletionProcess, AfterTransactionCompletionProcess {
+		private final EventSource session;
+		private final AuditEntitiesConfiguration audEntitiesCfg;
+		private final List<RevisionEndUpdate> updates = new ArrayList<>();
+
+		private RevisionEndUpdateBatch(EventSource session, AuditEntitiesConfiguration audEntitiesCfg) {
+			this.session = session;
+			this.audEntitiesCfg = audEntitiesCfg;
+		}
+
+		private void add(RevisionEndUpdate update) {
+			updates.add( update );
+		}
+
+		@Override
+		public void doBeforeTransactionCompletion(SessionImplementor sessionImplementor) {
+			revisionEndUpdateBatches.remove( session, this );
+
+			final Map<String, RevisionEndUpdateStatement> statementsByEntityName = new HashMap<>();
+			final Map<String, RevisionEndUpdateStatement> statementsBySql = new LinkedHashMap<>();
+			final Map<String, List<RevisionEndUpdate>> updatesBySql = new LinkedHashMap<>();
+			for ( RevisionEndUpdate update : updates ) {
+				RevisionEndUpdateStatement statement = statementsByEntityName.get( update.entityName );
+				if ( statement == null ) {
+					statement = new RevisionEndUpdateStatement(
+							update.entityName,
+							update.auditedEntityName,
+							audEntitiesCfg,
+							sessionImplementor
+					);
+					statementsByEntityName.put( update.entityName, statement );
+					statementsBySql.putIfAbsent( statement.sql, statement );
+				}
+				updatesBySql.computeIfAbsent( statement.sql, sql -> new ArrayList<>() ).add( update );
+			}
+			updates.clear();
+
+			for ( Map.Entry<String, List<RevisionEndUpdate>> entry : updatesBySql.entrySet() ) {
+				execute( statementsBySql.get( entry.getKey() ), entry.getValue(), sessionImplementor );
+			}
+		}
+
+		@Override
+		public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor sessionImplementor) {
+			// the transaction may complete without running the before completion processes (rollback)
+			revisionEndUpdateBatches.remove( session, this );
+		}
+
+		private void execute(
+				RevisionEndUpdateStatement statement,
+				List<RevisionEndUpdate> statementUpdates,
+				SessionImplementor sessionImplementor) {
+			final int batchSize = audEntitiesCfg.getRevisionEndBatchSize();
+			sessionImplementor.doWork(
+					new Work() {
+						@Override
+						public void execute(Connection connection) throws SQLException {
+							final JdbcCoordinator jdbcCoordinator = sessionImplementor.getJdbcCoordinator();
+							final PreparedStatement preparedStatement = jdbcCoordinator.getStatementPreparer()
+									.prepareStatement( statement.sql );
+
+							try {
+								int batchStart = 0;
+								for ( int i = 0; i < statementUpdates.size(); i++ ) {
+									statement.bind( preparedStatement, statementUpdates.get( i ), sessionImplementor );
+									preparedStatement.addBatch();
+
+									if ( i + 1 - batchStart == batchSize || i + 1 == statementUpdates.size() ) {
+										verifyRowCounts(
+												executeBatch( preparedStatement, jdbcCoordinator ),
+												statementUpdates.subList( batchStart, i + 1 )
+										);
+										batchStart = i + 1;
+									}
+								}
+							}
+							finally {
+								jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( preparedStatement );
+								jdbcCoordinator.afterStatementExecution();
+							}
+						}
+					}
+			);
+		}
+
+		private int[] executeBatch(PreparedStatement preparedStatement, JdbcCoordinator jdbcCoordinator)
+				throws SQLException {
+			final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+			try {
+				observer.jdbcExecuteBatchStart();
+				return preparedStatement.executeBatch();
+			}
+			finally {
+				observer.jdbcExecuteBatchEnd();
+			}
+		}
+
+		private void verifyRowCounts(int[] rowCounts, List<RevisionEndUpdate> executedUpdates) {
+			for ( int i = 0; i < rowCounts.length && i < executedUpdates.size(); i++ ) {
+				final RevisionEndUpdate update = executedUpdates.get( i );
+				// drivers are allowed to report SUCCESS_NO_INFO for batched statements
+				if ( rowCounts[i] != 1 && rowCounts[i] != Statement.SUCCESS_NO_INFO && update.verifyRowCount ) {
+					throw update.failure();
+				}
+			}
+		}
+	}
 }
@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.asyncwriter;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.MappingException;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.Audited;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.test.AbstractEnversTest;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * The {@link EnversSettings#ASYNC_AUDIT_WRITER asynchronous audit writer} rejects at boot the audited properties
+ * whose values cannot be stored in the outbox.
+ */
+public class AsyncAuditWriterPayloadTypeTest extends AbstractEnversTest {
+	@Test
+	public void testNotSerializablePropertyIsRejectedAtBoot() {
+		StandardServiceRegistry ssr = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( EnversSettings.ASYNC_AUDIT_WRITER, "true" )
+				.build();
+		try {
+			final SessionFactory sessionFactory = new MetadataSources( ssr )
+					.addAnnotatedClass( Shape.class )
+					.buildMetadata()
+					.buildSessionFactory();
+			sessionFactory.close();
+			fail( "Expecting the not serializable property to be rejected" );
+		}
+		catch (MappingException e) {
+			assertTrue( e.getMessage(), e.getMessage().contains( "origin" ) );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( ssr );
+		}
+	}
+
+	@Entity(name = "Shape")
+	@Audited
+	public static class Shape {
+		@Id
+		Integer id;
+
+		@Convert(converter = PointConverter.class)
+		Point origin;
+	}
+
+	public static class Point {
+		int x;
+		int y;
+	}
+
+	public static class PointConverter implements AttributeConverter<Point, String> {
+		@Override
+		public String convertToDatabaseColumn(Point point) {
+			return point == null ? null : point.x + "," + point.y;
+		}
+
+		@Override
+		public Point convertToEntityAttribute(String value) {
+			if ( value == null ) {
+				return null;
+			}
+			final Point point = new Point();
+			point.x = Integer.parseInt( value.substring( 0, value.indexOf( ',' ) ) );
+			point.y = Integer.parseInt( value.substring( value.indexOf( ',' ) + 1 ) );
+			return point;
+		}
+	}
+}
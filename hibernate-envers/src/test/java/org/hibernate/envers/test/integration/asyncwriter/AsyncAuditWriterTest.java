@@ -0,0 +1,167 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.asyncwriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import javax.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.test.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.StrTestEntity;
+import org.hibernate.envers.test.entities.collection.StringSetEntity;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
+import org.hibernate.envers.test.tools.TestTools;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Audits through the outbox of the {@link EnversSettings#ASYNC_AUDIT_WRITER asynchronous audit writer},
+ * reading with {@literal committed} consistency.
+ */
+public class AsyncAuditWriterTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer strId;
+	private Integer setId;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class, StringSetEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.ASYNC_AUDIT_WRITER, "true" );
+		options.put( EnversSettings.ASYNC_AUDIT_WRITER_READ_CONSISTENCY, "committed" );
+		options.put( EnversSettings.ASYNC_AUDIT_WRITER_BATCH_SIZE, "2" );
+		options.put( EnversSettings.ASYNC_AUDIT_WRITER_POLL_INTERVAL, "50" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		StrTestEntity str = new StrTestEntity( "x" );
+		StringSetEntity set = new StringSetEntity();
+		set.getStrings().add( "a" );
+		em.persist( str );
+		em.persist( set );
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		str = em.find( StrTestEntity.class, str.getId() );
+		str.setStr( "y" );
+		set = em.find( StringSetEntity.class, set.getId() );
+		set.getStrings().add( "b" );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.remove( em.find( StrTestEntity.class, str.getId() ) );
+		set = em.find( StringSetEntity.class, set.getId() );
+		set.getStrings().remove( "a" );
+		em.getTransaction().commit();
+
+		strId = str.getId();
+		setId = set.getId();
+		em.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, strId ) );
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StringSetEntity.class, setId ) );
+	}
+
+	@Test
+	public void testHistory() {
+		assertEquals( "x", getAuditReader().find( StrTestEntity.class, strId, 1 ).getStr() );
+		assertEquals( "y", getAuditReader().find( StrTestEntity.class, strId, 2 ).getStr() );
+		assertNull( getAuditReader().find( StrTestEntity.class, strId, 3 ) );
+
+		assertEquals( TestTools.makeSet( "a" ), getAuditReader().find( StringSetEntity.class, setId, 1 ).getStrings() );
+		assertEquals( TestTools.makeSet( "a", "b" ), getAuditReader().find( StringSetEntity.class, setId, 2 ).getStrings() );
+		assertEquals( TestTools.makeSet( "b" ), getAuditReader().find( StringSetEntity.class, setId, 3 ).getStrings() );
+	}
+
+	@Test
+	public void testOutboxIsDrained() {
+		getAuditReader();
+
+		EntityManager em = getEntityManager();
+		try {
+			Number entries = (Number) em.createNativeQuery( "select count(*) from REVOUTBOX" ).getSingleResult();
+			assertEquals( 0, entries.intValue() );
+		}
+		finally {
+			em.close();
+		}
+	}
+
+	@Test
+	public void testDisallowedPayloadClassIsNotRead() throws Exception {
+		getAuditReader();
+
+		final Map<String, Object> entry = new HashMap<>();
+		entry.put( AuditOutbox.REVISION_PROPERTY, 1L );
+		entry.put( AuditOutbox.PAYLOAD_PROPERTY, serialize( new Gadget() ) );
+
+		EntityManager em = getEntityManager();
+		try {
+			em.getTransaction().begin();
+			em.unwrap( Session.class ).save( AuditOutbox.ENTITY_NAME, entry );
+			em.getTransaction().commit();
+
+			// a few runs of the writer
+			Thread.sleep( 500 );
+			assertFalse( Gadget.deserialized );
+
+			em.getTransaction().begin();
+			Number entries = (Number) em.createNativeQuery( "select count(*) from REVOUTBOX" ).getSingleResult();
+			assertEquals( 1, entries.intValue() );
+			em.createNativeQuery( "delete from REVOUTBOX" ).executeUpdate();
+			em.getTransaction().commit();
+		}
+		finally {
+			em.close();
+		}
+	}
+
+	private static byte[] serialize(Object payload) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream out = new ObjectOutputStream( new GZIPOutputStream( bytes ) ) ) {
+			out.writeObject( payload );
+		}
+		return bytes.toByteArray();
+	}
+
+	public static class Gadget implements Serializable {
+		static volatile boolean deserialized;
+
+		private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+			in.defaultReadObject();
+			deserialized = true;
+		}
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.auditReader;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.test.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.StrTestEntity;
+import org.hibernate.envers.test.entities.onetomany.SetRefEdEntity;
+import org.hibernate.envers.test.entities.onetomany.SetRefIngEntity;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests {@link AuditReader#findAll} and the batch fetching of lazy audited references
+ * ({@link EnversSettings#AUDIT_READER_BATCH_FETCH_SIZE}).
+ */
+public class AuditReaderFindAllTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer str1Id;
+	private Integer str2Id;
+	private Integer str3Id;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class, SetRefEdEntity.class, SetRefIngEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_READER_BATCH_FETCH_SIZE, "3" );
+		options.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		StrTestEntity str1 = new StrTestEntity( "a" );
+		StrTestEntity str2 = new StrTestEntity( "b" );
+		em.persist( str1 );
+		em.persist( str2 );
+		for ( int i = 1; i <= 4; i++ ) {
+			SetRefEdEntity ed = new SetRefEdEntity( i, "ed" + i );
+			em.persist( ed );
+			em.persist( new SetRefIngEntity( 10 + i, "ing" + i, ed ) );
+		}
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		StrTestEntity str3 = new StrTestEntity( "c" );
+		em.persist( str3 );
+		em.find( StrTestEntity.class, str1.getId() ).setStr( "a2" );
+		em.remove( em.find( StrTestEntity.class, str2.getId() ) );
+		em.getTransaction().commit();
+
+		str1Id = str1.getId();
+		str2Id = str2.getId();
+		str3Id = str3.getId();
+		em.close();
+	}
+
+	@Test
+	public void testFindAllInPrimaryKeyOrder() {
+		AuditReader auditReader = getAuditReader();
+
+		List<StrTestEntity> rev1 = auditReader.findAll( StrTestEntity.class, Arrays.asList( str3Id, str2Id, str1Id ), 1 );
+		assertNull( rev1.get( 0 ) );
+		assertEquals( new StrTestEntity( "b", str2Id ), rev1.get( 1 ) );
+		assertEquals( new StrTestEntity( "a", str1Id ), rev1.get( 2 ) );
+
+		List<StrTestEntity> rev2 = auditReader.findAll( StrTestEntity.class, Arrays.asList( str1Id, str2Id, str3Id, str1Id ), 2 );
+		assertEquals( new StrTestEntity( "a2", str1Id ), rev2.get( 0 ) );
+		assertNull( rev2.get( 1 ) );
+		assertEquals( new StrTestEntity( "c", str3Id ), rev2.get( 2 ) );
+		assertSame( rev2.get( 0 ), rev2.get( 3 ) );
+	}
+
+	@Test
+	public void testFindAllIncludingDeletions() {
+		List<StrTestEntity> rev2 = getAuditReader().findAll(
+				StrTestEntity.class,
+				StrTestEntity.class.getName(),
+				Arrays.asList( str1Id, str2Id ),
+				2,
+				true
+		);
+		assertEquals( new StrTestEntity( "a2", str1Id ), rev2.get( 0 ) );
+		assertEquals( str2Id, rev2.get( 1 ).getId() );
+	}
+
+	@Test
+	public void testFindAllExecutesSingleQuery() {
+		AuditReader auditReader = getAuditReader();
+		Statistics statistics = getStatistics();
+		statistics.clear();
+
+		List<StrTestEntity> entities = auditReader.findAll( StrTestEntity.class, Arrays.asList( str1Id, str2Id, str3Id ), 2 );
+		assertEquals( 1, statistics.getQueryExecutionCount() );
+
+		// Already loaded by the reader
+		assertSame( entities.get( 0 ), auditReader.find( StrTestEntity.class, str1Id, 2 ) );
+		assertEquals( 1, statistics.getQueryExecutionCount() );
+	}
+
+	@Test
+	public void testReferencesAreBatchFetched() {
+		AuditReader auditReader = getAuditReader();
+		Statistics statistics = getStatistics();
+
+		List<SetRefIngEntity> ings = auditReader.findAll( SetRefIngEntity.class, Arrays.asList( 11, 12, 13, 14 ), 1 );
+		statistics.clear();
+
+		// Initializes the first three references
+		assertEquals( "ed1", ings.get( 0 ).getReference().getData() );
+		assertEquals( 1, statistics.getQueryExecutionCount() );
+		assertEquals( "ed2", ings.get( 1 ).getReference().getData() );
+		assertEquals( "ed3", ings.get( 2 ).getReference().getData() );
+		assertEquals( 1, statistics.getQueryExecutionCount() );
+
+		assertEquals( "ed4", ings.get( 3 ).getReference().getData() );
+		assertEquals( 2, statistics.getQueryExecutionCount() );
+	}
+
+	private Statistics getStatistics() {
+		return entityManagerFactory().unwrap( SessionFactoryImplementor.class ).getStatistics();
+	}
+}
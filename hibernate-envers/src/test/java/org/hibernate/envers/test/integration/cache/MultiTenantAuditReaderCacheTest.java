@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MultiTenancyStrategy;
+import org.hibernate.Session;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.AbstractMultiTenantConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.test.entities.StrTestEntity;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.tool.schema.internal.SchemaCreatorImpl;
+import org.hibernate.tool.schema.internal.SchemaDropperImpl;
+import org.hibernate.tool.schema.internal.exec.GenerationTargetToDatabase;
+
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.hibernate.test.util.DdlTransactionIsolatorTestingImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the audit data cache shared by the audit readers does not leak audit data across tenants.
+ */
+public class MultiTenantAuditReaderCacheTest extends BaseUnitTestCase {
+	private DriverManagerConnectionProviderImpl acmeProvider;
+	private DriverManagerConnectionProviderImpl jbossProvider;
+
+	private ServiceRegistryImplementor serviceRegistry;
+	private SessionFactoryImplementor sessionFactory;
+
+	@Before
+	public void setUp() {
+		acmeProvider = ConnectionProviderBuilder.buildConnectionProvider( "acme" );
+		jbossProvider = ConnectionProviderBuilder.buildConnectionProvider( "jboss" );
+		final MultiTenantConnectionProvider multiTenantConnectionProvider = new AbstractMultiTenantConnectionProvider() {
+			@Override
+			protected ConnectionProvider getAnyConnectionProvider() {
+				return acmeProvider;
+			}
+
+			@Override
+			protected ConnectionProvider selectConnectionProvider(String tenantIdentifier) {
+				if ( "acme".equals( tenantIdentifier ) ) {
+					return acmeProvider;
+				}
+				else if ( "jboss".equals( tenantIdentifier ) ) {
+					return jbossProvider;
+				}
+				throw new HibernateException( "Unknown tenant identifier" );
+			}
+		};
+
+		final Map settings = new HashMap();
+		settings.put( AvailableSettings.MULTI_TENANT, MultiTenancyStrategy.DATABASE );
+		settings.put( EnversSettings.AUDIT_READER_CACHE_SIZE, "100" );
+
+		serviceRegistry = (ServiceRegistryImplementor) new StandardServiceRegistryBuilder()
+				.applySettings( settings )
+				.addService( MultiTenantConnectionProvider.class, multiTenantConnectionProvider )
+				.build();
+
+		final Metadata metadata = new MetadataSources( serviceRegistry )
+				.addAnnotatedClass( StrTestEntity.class )
+				.buildMetadata();
+
+		final GenerationTargetToDatabase acmeTarget = new GenerationTargetToDatabase(
+				new DdlTransactionIsolatorTestingImpl( serviceRegistry, acmeProvider )
+		);
+		final GenerationTargetToDatabase jbossTarget = new GenerationTargetToDatabase(
+				new DdlTransactionIsolatorTestingImpl( serviceRegistry, jbossProvider )
+		);
+		new SchemaDropperImpl( serviceRegistry ).doDrop( metadata, serviceRegistry, settings, true, acmeTarget, jbossTarget );
+		new SchemaCreatorImpl( serviceRegistry ).doCreation( metadata, serviceRegistry, settings, true, acmeTarget, jbossTarget );
+
+		sessionFactory = (SessionFactoryImplementor) metadata.buildSessionFactory();
+	}
+
+	@After
+	public void tearDown() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+		if ( serviceRegistry != null ) {
+			serviceRegistry.destroy();
+		}
+		if ( jbossProvider != null ) {
+			jbossProvider.stop();
+		}
+		if ( acmeProvider != null ) {
+			acmeProvider.stop();
+		}
+	}
+
+	@Test
+	public void testTenantsDoNotShareAuditData() {
+		// the same identifier and revision in both tenants
+		final Integer acmeId = inTenant( "acme", session -> {
+			session.beginTransaction();
+			final StrTestEntity entity = new StrTestEntity( "acme" );
+			session.persist( entity );
+			session.getTransaction().commit();
+			return entity.getId();
+		} );
+		final Integer jbossId = inTenant( "jboss", session -> {
+			session.beginTransaction();
+			final StrTestEntity entity = new StrTestEntity( "jboss" );
+			session.persist( entity );
+			session.getTransaction().commit();
+			return entity.getId();
+		} );
+		assertEquals( acmeId, jbossId );
+
+		assertEquals( "acme", inTenant( "acme", session -> AuditReaderFactory.get( session ).find( StrTestEntity.class, acmeId, 1 ).getStr() ) );
+		assertEquals( "jboss", inTenant( "jboss", session -> AuditReaderFactory.get( session ).find( StrTestEntity.class, jbossId, 1 ).getStr() ) );
+	}
+
+	private <T> T inTenant(String tenantIdentifier, Function<Session, T> work) {
+		final Session session = sessionFactory.withOptions().tenantIdentifier( tenantIdentifier ).openSession();
+		try {
+			return work.apply( session );
+		}
+		finally {
+			session.close();
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.cache;
+
+import java.util.Map;
+import java.util.function.Function;
+import javax.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.internal.reader.AuditSnapshotCache;
+import org.hibernate.envers.test.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.StrTestEntity;
+import org.hibernate.envers.test.entities.onetomany.SetRefEdEntity;
+import org.hibernate.envers.test.entities.onetomany.SetRefIngEntity;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the audit data cache shared by the audit readers, {@link EnversSettings#AUDIT_READER_CACHE_SIZE}.
+ */
+public class SharedAuditReaderCacheTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer strId;
+	private Integer updatedStrId;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class, SetRefEdEntity.class, SetRefIngEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_READER_CACHE_SIZE, "100" );
+		options.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		StrTestEntity str = new StrTestEntity( "x" );
+		StrTestEntity updatedStr = new StrTestEntity( "a" );
+		SetRefEdEntity ed = new SetRefEdEntity( 1, "ed" );
+		em.persist( str );
+		em.persist( updatedStr );
+		em.persist( ed );
+		em.persist( new SetRefIngEntity( 2, "ing", ed ) );
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, str.getId() ).setStr( "y" );
+		em.getTransaction().commit();
+
+		strId = str.getId();
+		updatedStrId = updatedStr.getId();
+		em.close();
+	}
+
+	@Test
+	public void testReadersShareAuditData() {
+		final StrTestEntity first = read( reader -> reader.find( StrTestEntity.class, strId, 1 ) );
+
+		final long queries = statistics().getQueryExecutionCount();
+		final StrTestEntity second = read( reader -> reader.find( StrTestEntity.class, strId, 1 ) );
+		assertEquals( queries, statistics().getQueryExecutionCount() );
+
+		assertNotSame( first, second );
+		assertEquals( "x", second.getStr() );
+		assertEquals( "y", read( reader -> reader.find( StrTestEntity.class, strId, 2 ) ).getStr() );
+	}
+
+	@Test
+	public void testCachedInstancesAreNotShared() {
+		read( reader -> reader.find( StrTestEntity.class, strId, 1 ) ).setStr( "changed" );
+		assertEquals( "x", read( reader -> reader.find( StrTestEntity.class, strId, 1 ) ).getStr() );
+	}
+
+	@Test
+	public void testRelationsAreReadByEachReader() {
+		read( reader -> reader.find( SetRefIngEntity.class, 2, 1 ) );
+		assertEquals( "ed", read( reader -> reader.find( SetRefIngEntity.class, 2, 1 ).getReference().getData() ) );
+		assertEquals( 1, (int) read( reader -> reader.find( SetRefEdEntity.class, 1, 1 ).getReffering().size() ) );
+	}
+
+	@Test
+	public void testWriteEvictsAuditData() {
+		// revision 3 does not exist yet, the audit data at revision 1 is found
+		assertEquals( "a", read( reader -> reader.find( StrTestEntity.class, updatedStrId, 3 ) ).getStr() );
+
+		EntityManager em = entityManagerFactory().createEntityManager();
+		try {
+			// Revision 3
+			em.getTransaction().begin();
+			em.remove( em.find( StrTestEntity.class, updatedStrId ) );
+			em.getTransaction().commit();
+		}
+		finally {
+			em.close();
+		}
+
+		assertNull( read( reader -> reader.find( StrTestEntity.class, updatedStrId, 3 ) ) );
+	}
+
+	@Test
+	public void testAuditDataReadBeforeWriteIsNotCached() {
+		final SessionFactoryImplementor factory = entityManagerFactory().unwrap( SessionFactoryImplementor.class );
+		final AuditSnapshotCache cache = factory.getServiceRegistry().getService( EnversService.class ).getAuditSnapshotCache();
+		final String entityName = StrTestEntity.class.getName();
+
+		EntityManager reader = entityManagerFactory().createEntityManager();
+		try {
+			final SessionImplementor session = reader.unwrap( SessionImplementor.class );
+			final long stamp = cache.stamp( session, entityName, strId );
+			EntityManager em = entityManagerFactory().createEntityManager();
+			try {
+				em.getTransaction().begin();
+				cache.evictOnWrite( em.unwrap( Session.class ), entityName, strId );
+
+				// read before the write
+				cache.put( session, entityName, strId, 100, false, stamp, null );
+				assertNull( cache.get( session, entityName, strId, 100, false ) );
+				// read while the write is in progress
+				cache.put( session, entityName, strId, 100, false, cache.stamp( session, entityName, strId ), null );
+				assertNull( cache.get( session, entityName, strId, 100, false ) );
+
+				em.getTransaction().rollback();
+			}
+			finally {
+				em.close();
+			}
+
+			cache.put( session, entityName, strId, 100, false, cache.stamp( session, entityName, strId ), null );
+			assertNotNull( cache.get( session, entityName, strId, 100, false ) );
+		}
+		finally {
+			reader.close();
+		}
+	}
+
+	private <T> T read(Function<AuditReader, T> work) {
+		EntityManager em = entityManagerFactory().createEntityManager();
+		try {
+			return work.apply( AuditReaderFactory.get( em ) );
+		}
+		finally {
+			em.close();
+		}
+	}
+
+	private Statistics statistics() {
+		return entityManagerFactory().unwrap( SessionFactoryImplementor.class ).getStatistics();
+	}
+}
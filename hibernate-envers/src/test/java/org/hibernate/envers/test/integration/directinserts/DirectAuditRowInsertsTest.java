@@ -0,0 +1,116 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.directinserts;
+
+import java.util.Arrays;
+import java.util.Map;
+import javax.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.test.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.StrTestEntity;
+import org.hibernate.envers.test.entities.collection.StringSetEntity;
+import org.hibernate.envers.test.entities.onetomany.SetRefEdEntity;
+import org.hibernate.envers.test.entities.onetomany.SetRefIngEntity;
+import org.hibernate.envers.test.tools.TestTools;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Audits with {@link EnversSettings#DIRECT_AUDIT_ROW_INSERTS} and JDBC batching enabled.
+ */
+public class DirectAuditRowInsertsTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer strId;
+	private Integer setId;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class, StringSetEntity.class, SetRefEdEntity.class, SetRefIngEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.DIRECT_AUDIT_ROW_INSERTS, "true" );
+		options.put( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+		options.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		StrTestEntity str = new StrTestEntity( "x" );
+		StringSetEntity set = new StringSetEntity();
+		set.getStrings().add( "a" );
+		SetRefEdEntity ed = new SetRefEdEntity( 1, "ed" );
+		em.persist( str );
+		em.persist( set );
+		em.persist( ed );
+		em.persist( new SetRefIngEntity( 2, "ing", ed ) );
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		str = em.find( StrTestEntity.class, str.getId() );
+		str.setStr( "y" );
+		set = em.find( StringSetEntity.class, set.getId() );
+		set.getStrings().add( "b" );
+		em.find( SetRefIngEntity.class, 2 ).setReference( null );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.remove( em.find( StrTestEntity.class, str.getId() ) );
+		set = em.find( StringSetEntity.class, set.getId() );
+		set.getStrings().remove( "a" );
+		em.getTransaction().commit();
+
+		strId = str.getId();
+		setId = set.getId();
+		em.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, strId ) );
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StringSetEntity.class, setId ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( SetRefEdEntity.class, 1 ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( SetRefIngEntity.class, 2 ) );
+	}
+
+	@Test
+	public void testHistory() {
+		assertEquals( "x", getAuditReader().find( StrTestEntity.class, strId, 1 ).getStr() );
+		assertEquals( "y", getAuditReader().find( StrTestEntity.class, strId, 2 ).getStr() );
+		assertNull( getAuditReader().find( StrTestEntity.class, strId, 3 ) );
+
+		assertEquals( TestTools.makeSet( "a" ), getAuditReader().find( StringSetEntity.class, setId, 1 ).getStrings() );
+		assertEquals( TestTools.makeSet( "a", "b" ), getAuditReader().find( StringSetEntity.class, setId, 2 ).getStrings() );
+		assertEquals( TestTools.makeSet( "b" ), getAuditReader().find( StringSetEntity.class, setId, 3 ).getStrings() );
+
+		assertEquals( 1, getAuditReader().find( SetRefEdEntity.class, 1, 1 ).getReffering().size() );
+		assertEquals( 0, getAuditReader().find( SetRefEdEntity.class, 1, 2 ).getReffering().size() );
+		assertNull( getAuditReader().find( SetRefIngEntity.class, 2, 2 ).getReference() );
+	}
+
+	@Test
+	public void testAuditRowsBypassTheSession() {
+		final SessionFactoryImplementor sessionFactory = entityManagerFactory().unwrap( SessionFactoryImplementor.class );
+		final String auditEntityName = StrTestEntity.class.getName() + "_AUD";
+		assertEquals( 0, sessionFactory.getStatistics().getEntityStatistics( auditEntityName ).getInsertCount() );
+	}
+}
@@ -7,8 +7,11 @@
 package org.hibernate.envers.test.integration.inheritance.single;
 
 import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.persistence.EntityManager;
 
+import org.hibernate.envers.internal.reader.AuditReaderImplementor;
 import org.hibernate.envers.test.BaseEnversJPAFunctionalTestCase;
 import org.hibernate.envers.test.Priority;
 
@@ -62,6 +65,13 @@ public class ChildAuditing extends BaseEnversJPAFunctionalTestCase {
 		assert getAuditReader().find( ParentEntity.class, id1, 2 ).equals( ver2 );
 	}
 
+	@Test
+	public void testFindAllOfParent() {
+		ChildEntity ver1 = new ChildEntity( id1, "x", 1l );
+
+		assert getAuditReader().findAll( ParentEntity.class, Arrays.asList( id1 ), 1 ).equals( Arrays.asList( ver1 ) );
+	}
+
 	@Test
 	public void testPolymorphicQuery() {
 		ChildEntity childVer1 = new ChildEntity( id1, "x", 1l );
@@ -72,4 +82,20 @@ public class ChildAuditing extends BaseEnversJPAFunctionalTestCase {
 		assert getAuditReader().createQuery().forEntitiesAtRevision( ParentEntity.class, 1 ).getSingleResult()
 				.equals( childVer1 );
 	}
+
+	@Test
+	public void testStreamOfParentReleasesAuditData() {
+		ChildEntity ver1 = new ChildEntity( id1, "x", 1l );
+		ChildEntity ver2 = new ChildEntity( id1, "y", 2l );
+
+		final AuditReaderImplementor auditReader = (AuditReaderImplementor) getAuditReader();
+		try (Stream stream = auditReader.createQuery()
+				.forRevisionsOfEntity( ParentEntity.class, true, false )
+				.stream()) {
+			assert stream.collect( Collectors.toList() ).equals( Arrays.asList( ver1, ver2 ) );
+		}
+
+		assert !auditReader.getFirstLevelCache().contains( ChildEntity.class.getName(), 1, id1 );
+		assert !auditReader.getFirstLevelCache().contains( ChildEntity.class.getName(), 2, id1 );
+	}
 }
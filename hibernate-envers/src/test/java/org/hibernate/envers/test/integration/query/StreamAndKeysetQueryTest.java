@@ -0,0 +1,201 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.enhanced.SequenceIdRevisionEntity;
+import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.query.AuditQuery;
+import org.hibernate.envers.test.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.StrIntTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link AuditQuery#stream()} and {@link AuditQuery#setFirstResultAfter(Number, Object)}.
+ */
+public class StreamAndKeysetQueryTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id1;
+	private Integer id2;
+	private Integer id3;
+	private Integer id4;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrIntTestEntity.class };
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		StrIntTestEntity site1 = new StrIntTestEntity( "a", 10 );
+		StrIntTestEntity site2 = new StrIntTestEntity( "b", 20 );
+		StrIntTestEntity site3 = new StrIntTestEntity( "c", 30 );
+		em.persist( site1 );
+		em.persist( site2 );
+		em.persist( site3 );
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		site1 = em.find( StrIntTestEntity.class, site1.getId() );
+		site2 = em.find( StrIntTestEntity.class, site2.getId() );
+		site1.setNumber( 11 );
+		site2.setStr1( "b2" );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.remove( em.find( StrIntTestEntity.class, site3.getId() ) );
+		StrIntTestEntity site4 = new StrIntTestEntity( "d", 40 );
+		em.persist( site4 );
+		em.getTransaction().commit();
+
+		id1 = site1.getId();
+		id2 = site2.getId();
+		id3 = site3.getId();
+		id4 = site4.getId();
+		em.close();
+	}
+
+	@Test
+	public void testStreamRevisionsOfEntity() {
+		List expected = getAuditReader().createQuery()
+				.forRevisionsOfEntity( StrIntTestEntity.class, true, true )
+				.getResultList();
+
+		try (Stream stream = getAuditReader().createQuery()
+				.forRevisionsOfEntity( StrIntTestEntity.class, true, true )
+				.stream()) {
+			assertEquals( expected, stream.collect( Collectors.toList() ) );
+		}
+	}
+
+	@Test
+	public void testStreamEntitiesAtRevision() {
+		try (Stream stream = getAuditReader().createQuery()
+				.forEntitiesAtRevision( StrIntTestEntity.class, 2 )
+				.addOrder( AuditEntity.id().asc() )
+				.stream()) {
+			assertEquals(
+					Arrays.asList(
+							new StrIntTestEntity( "a", 11, id1 ),
+							new StrIntTestEntity( "b2", 20, id2 ),
+							new StrIntTestEntity( "c", 30, id3 )
+					),
+					stream.collect( Collectors.toList() )
+			);
+		}
+	}
+
+	@Test
+	public void testStreamWithProjection() {
+		try (Stream stream = getAuditReader().createQuery()
+				.forEntitiesModifiedAtRevision( StrIntTestEntity.class, 2 )
+				.addProjection( AuditEntity.property( "number" ) )
+				.addOrder( AuditEntity.id().asc() )
+				.stream()) {
+			assertEquals( Arrays.asList( 11, 20 ), stream.collect( Collectors.toList() ) );
+		}
+	}
+
+	@Test
+	public void testStreamReleasesAuditData() {
+		final AuditReaderImplementor auditReader = (AuditReaderImplementor) getAuditReader();
+		final SessionImplementor session = auditReader.getSessionImplementor();
+		session.clear();
+
+		final List<Integer> managedEntities = new ArrayList<>();
+		try (Stream stream = auditReader.createQuery()
+				.forRevisionsOfEntity( StrIntTestEntity.class, false, true )
+				.stream()) {
+			stream.forEach(
+					row -> {
+						final StrIntTestEntity entity = (StrIntTestEntity) ( (Object[]) row )[0];
+						final SequenceIdRevisionEntity revision = (SequenceIdRevisionEntity) ( (Object[]) row )[1];
+						assertTrue( auditReader.getFirstLevelCache().contains(
+								StrIntTestEntity.class.getName(),
+								revision.getId(),
+								entity.getId()
+						) );
+						// rows read at the same revision share its revision entity
+						assertTrue( session.contains( revision ) );
+						managedEntities.add( session.getPersistenceContext().getNumberOfManagedEntities() );
+					}
+			);
+		}
+
+		assertEquals( 7, managedEntities.size() );
+		for ( Integer managed : managedEntities ) {
+			// the audit row and the revision entity of the current row only
+			assertTrue( managed <= 2 );
+		}
+		assertFalse( auditReader.getFirstLevelCache().contains( StrIntTestEntity.class.getName(), 3, id4 ) );
+		assertEquals( 0, session.getPersistenceContext().getNumberOfManagedEntities() );
+	}
+
+	@Test
+	public void testKeysetPagination() {
+		final List<Object[]> expected = new ArrayList<>();
+		for ( Object row : getAuditReader().createQuery()
+				.forRevisionsOfEntity( StrIntTestEntity.class, false, true )
+				.addOrder( AuditEntity.revisionNumber().asc() )
+				.addOrder( AuditEntity.id().asc() )
+				.getResultList() ) {
+			expected.add( (Object[]) row );
+		}
+		assertEquals( 7, expected.size() );
+
+		final List<Object[]> read = new ArrayList<>();
+		Number lastRevision = null;
+		Integer lastId = null;
+		List page;
+		do {
+			page = getAuditReader().createQuery()
+					.forRevisionsOfEntity( StrIntTestEntity.class, false, true )
+					.setFirstResultAfter( lastRevision, lastId )
+					.setMaxResults( 3 )
+					.getResultList();
+			for ( Object row : page ) {
+				final Object[] rowArray = (Object[]) row;
+				read.add( rowArray );
+				lastRevision = ( (SequenceIdRevisionEntity) rowArray[1] ).getId();
+				lastId = ( (StrIntTestEntity) rowArray[0] ).getId();
+			}
+		}
+		while ( page.size() == 3 );
+
+		assertEquals( expected.size(), read.size() );
+		for ( int i = 0; i < expected.size(); i++ ) {
+			assertEquals( expected.get( i )[0], read.get( i )[0] );
+			assertEquals(
+					( (SequenceIdRevisionEntity) expected.get( i )[1] ).getId(),
+					( (SequenceIdRevisionEntity) read.get( i )[1] ).getId()
+			);
+			assertEquals( expected.get( i )[2], read.get( i )[2] );
+		}
+		assertEquals( RevisionType.DEL, read.get( read.size() - 2 )[2] );
+	}
+}
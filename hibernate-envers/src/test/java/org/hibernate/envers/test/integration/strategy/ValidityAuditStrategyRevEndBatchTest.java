@@ -0,0 +1,108 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.test.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Checks the end revisions written by the validity audit strategy when
+ * {@link EnversSettings#AUDIT_STRATEGY_VALIDITY_REVEND_BATCH_SIZE} is enabled.
+ */
+public class ValidityAuditStrategyRevEndBatchTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITIES = 7;
+
+	private final List<Integer> ids = new ArrayList<>();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_STRATEGY, "org.hibernate.envers.strategy.ValidityAuditStrategy" );
+		options.put( EnversSettings.AUDIT_STRATEGY_VALIDITY_REVEND_BATCH_SIZE, "3" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITIES; i++ ) {
+			StrTestEntity entity = new StrTestEntity( "x" + i );
+			em.persist( entity );
+			ids.add( entity.getId() );
+		}
+		em.getTransaction().commit();
+		em.clear();
+
+		// Revision 2
+		em.getTransaction().begin();
+		for ( Integer id : ids ) {
+			em.find( StrTestEntity.class, id ).setStr( "y" + id );
+		}
+		em.getTransaction().commit();
+		em.clear();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.remove( em.find( StrTestEntity.class, ids.get( 0 ) ) );
+		em.find( StrTestEntity.class, ids.get( 1 ) ).setStr( "z" );
+		em.getTransaction().commit();
+		em.close();
+	}
+
+	@Test
+	public void testRevisionCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, ids.get( 0 ) ) );
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, ids.get( 1 ) ) );
+		for ( Integer id : ids.subList( 2, ENTITIES ) ) {
+			assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StrTestEntity.class, id ) );
+		}
+	}
+
+	@Test
+	public void testHistory() {
+		for ( Integer id : ids ) {
+			assertEquals( "y" + id, getAuditReader().find( StrTestEntity.class, id, 2 ).getStr() );
+		}
+		assertNull( getAuditReader().find( StrTestEntity.class, ids.get( 0 ), 3 ) );
+		assertEquals( "z", getAuditReader().find( StrTestEntity.class, ids.get( 1 ), 3 ).getStr() );
+	}
+
+	@Test
+	public void testOneOpenRowPerEntity() {
+		EntityManager em = getEntityManager();
+		try {
+			Number openRows = (Number) em.createNativeQuery( "select count(*) from STR_TEST_AUD where REVEND is null" )
+					.getSingleResult();
+			// the removed entity keeps its DEL row open
+			assertEquals( ENTITIES, openRows.intValue() );
+		}
+		finally {
+			em.close();
+		}
+	}
+}
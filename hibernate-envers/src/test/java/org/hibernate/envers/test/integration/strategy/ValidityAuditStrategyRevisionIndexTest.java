@@ -0,0 +1,142 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.envers.test.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.onetomany.SetRefEdEntity;
+import org.hibernate.envers.test.entities.onetomany.SetRefIngEntity;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.Index;
+import org.hibernate.mapping.Table;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the index on the identifier and revision columns of the audit tables
+ * ({@link EnversSettings#AUDIT_STRATEGY_VALIDITY_REVISION_INDEX}) and the restriction on the end revision timestamp
+ * ({@link EnversSettings#AUDIT_STRATEGY_VALIDITY_REVEND_TIMESTAMP_PARTITIONED}) of {@link ValidityAuditStrategy}.
+ */
+public class ValidityAuditStrategyRevisionIndexTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer ed1Id;
+	private Integer ed2Id;
+	private Integer ingId;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { SetRefEdEntity.class, SetRefIngEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+		options.put( EnversSettings.AUDIT_STRATEGY_VALIDITY_STORE_REVEND_TIMESTAMP, "true" );
+		options.put( EnversSettings.AUDIT_STRATEGY_VALIDITY_REVEND_TIMESTAMP_PARTITIONED, "true" );
+		options.put( EnversSettings.AUDIT_STRATEGY_VALIDITY_REVISION_INDEX, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		SetRefEdEntity ed1 = new SetRefEdEntity( 1, "data_ed_1" );
+		SetRefEdEntity ed2 = new SetRefEdEntity( 2, "data_ed_2" );
+		SetRefIngEntity ing = new SetRefIngEntity( 3, "data_ing", ed1 );
+		em.persist( ed1 );
+		em.persist( ed2 );
+		em.persist( ing );
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		ed1 = em.find( SetRefEdEntity.class, ed1.getId() );
+		ed1.setData( "data_ed_1_2" );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		ing = em.find( SetRefIngEntity.class, ing.getId() );
+		ing.setReference( em.find( SetRefEdEntity.class, ed2.getId() ) );
+		em.getTransaction().commit();
+
+		// Revision 4
+		em.getTransaction().begin();
+		em.remove( em.find( SetRefIngEntity.class, ing.getId() ) );
+		em.getTransaction().commit();
+
+		ed1Id = ed1.getId();
+		ed2Id = ed2.getId();
+		ingId = ing.getId();
+		em.close();
+	}
+
+	@Test
+	public void testRevisionIndex() {
+		final Table table = metadata().getEntityBinding( SetRefIngEntity.class.getName() + "_AUD" ).getTable();
+
+		final List<Index> indexes = new ArrayList<>();
+		for ( Iterator<Index> iterator = table.getIndexIterator(); iterator.hasNext(); ) {
+			indexes.add( iterator.next() );
+		}
+		assertEquals( 1, indexes.size() );
+
+		final List<String> columns = new ArrayList<>();
+		for ( Iterator<Column> iterator = indexes.get( 0 ).getColumnIterator(); iterator.hasNext(); ) {
+			columns.add( iterator.next().getName() );
+		}
+		assertEquals( Arrays.asList( "id", "REV", "REVEND" ), columns );
+	}
+
+	@Test
+	public void testFindAtRevision() {
+		assertEquals( "data_ed_1", getAuditReader().find( SetRefEdEntity.class, ed1Id, 1 ).getData() );
+		assertEquals( "data_ed_1_2", getAuditReader().find( SetRefEdEntity.class, ed1Id, 2 ).getData() );
+		assertEquals( "data_ed_1_2", getAuditReader().find( SetRefEdEntity.class, ed1Id, 4 ).getData() );
+		assertEquals( "data_ing", getAuditReader().find( SetRefIngEntity.class, ingId, 3 ).getData() );
+		assertNull( getAuditReader().find( SetRefIngEntity.class, ingId, 4 ) );
+	}
+
+	@Test
+	public void testRelationsAtRevision() {
+		assertEquals( ed1Id, getAuditReader().find( SetRefIngEntity.class, ingId, 2 ).getReference().getId() );
+		assertEquals( ed2Id, getAuditReader().find( SetRefIngEntity.class, ingId, 3 ).getReference().getId() );
+
+		assertEquals( 1, getAuditReader().find( SetRefEdEntity.class, ed1Id, 2 ).getReffering().size() );
+		assertTrue( getAuditReader().find( SetRefEdEntity.class, ed1Id, 3 ).getReffering().isEmpty() );
+		assertEquals( 1, getAuditReader().find( SetRefEdEntity.class, ed2Id, 3 ).getReffering().size() );
+		assertEquals( Collections.emptySet(), getAuditReader().find( SetRefEdEntity.class, ed2Id, 4 ).getReffering() );
+	}
+
+	@Test
+	public void testEntitiesAtRevision() {
+		assertEquals(
+				1,
+				getAuditReader().createQuery().forEntitiesAtRevision( SetRefIngEntity.class, 3 ).getResultList().size()
+		);
+		assertTrue(
+				getAuditReader().createQuery().forEntitiesAtRevision( SetRefIngEntity.class, 4 ).getResultList().isEmpty()
+		);
+	}
+}
@@ -27,6 +27,21 @@ public class HibernateSpatialConfigurationSettings implements Serializable {
 	 */
 	public static final String DB2_DEFAULT_SRID = "hibernate.spatial.db2.srid";
 
+	/**
+	 * Whether the Postgis dialects read geometries as byte arrays (through {@code getBytes}), rather than as
+	 * hex-encoded strings wrapped in {@code PGobject}s.  Saves the string conversions when reading large amounts of
+	 * geometries.  Geometries are still bound as {@code geometry} typed values.  Defaults to {@code false}.
+	 */
+	public static final String POSTGIS_BINARY_TRANSFER = "hibernate.spatial.postgis.binary_transfer";
+
+	/**
+	 * Comma-separated list of the geometry attributes to keep an in-memory index of, each one qualified by the name
+	 * of its entity (e.g. {@code com.acme.Zone.boundary}).  The indexes of a session factory are populated on first use,
+	 * maintained from the committed inserts, updates and deletes, and are queried through the
+	 * {@link org.hibernate.spatial.index.SpatialIndexService} of the session factory service registry.
+	 */
+	public static final String IN_MEMORY_INDEX = "hibernate.spatial.in_memory_index";
+
 	private HibernateSpatialConfigurationSettings() {
 		//prevent this object from being instantiated
 	}
@@ -166,6 +166,24 @@ public enum SpatialFunction {
 	 */
 	extent( "common" ),
 
+	/**
+	 * the simplify function
+	 * <p>
+	 * <p>The semantics are those of the Postgis function ST_SimplifyPreserveTopology(geometry, tolerance) : geometry.
+	 * It returns a simplified version of the geometry, using the Douglas-Peucker algorithm with the given tolerance,
+	 * where supported by the database without introducing invalid geometries.</p>
+	 */
+	simplify( "common" ),
+
+	/**
+	 * the snap to grid function
+	 * <p>
+	 * <p>The semantics are those of the Postgis function ST_SnapToGrid(geometry, size) : geometry. It returns the
+	 * geometry with its coordinates rounded to a grid of the given cell size, dropping the consecutive points which
+	 * fall on the same grid cell.</p>
+	 */
+	snaptogrid( "common" ),
+
 	/**
 	 * The filter function
 	 * <p>
@@ -6,15 +6,20 @@
  */
 package org.hibernate.spatial.criterion;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.Criteria;
 import org.hibernate.HibernateException;
 import org.hibernate.criterion.CriteriaQuery;
 import org.hibernate.criterion.Projection;
 import org.hibernate.criterion.SimpleProjection;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.function.SQLFunction;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.spatial.SpatialAggregate;
 import org.hibernate.spatial.SpatialDialect;
+import org.hibernate.spatial.SpatialFunction;
 import org.hibernate.type.Type;
 
 /**
@@ -67,4 +72,83 @@ public class SpatialProjections {
 
 	}
 
+	/**
+	 * Applies an envelope projection to the specified geometry property, so that only the bounding box of the
+	 * geometries is read.
+	 *
+	 * @param propertyName The geometry property
+	 *
+	 * @return an envelope-projection for the specified property.
+	 */
+	public static Projection envelope(String propertyName) {
+		return new SpatialFunctionProjection( propertyName, SpatialFunction.envelope );
+	}
+
+	/**
+	 * Applies a simplify projection to the specified geometry property, so that the geometries are simplified by the
+	 * database before being read.
+	 *
+	 * @param propertyName The geometry property
+	 * @param tolerance The distance tolerance of the simplification
+	 *
+	 * @return a simplify-projection for the specified property.
+	 *
+	 * @see SpatialFunction#simplify
+	 */
+	public static Projection simplify(String propertyName, double tolerance) {
+		return new SpatialFunctionProjection( propertyName, SpatialFunction.simplify, tolerance );
+	}
+
+	/**
+	 * Applies a snap to grid projection to the specified geometry property, so that the precision of the geometries
+	 * is reduced by the database before being read.
+	 *
+	 * @param propertyName The geometry property
+	 * @param size The cell size of the grid
+	 *
+	 * @return a snap to grid-projection for the specified property.
+	 *
+	 * @see SpatialFunction#snaptogrid
+	 */
+	public static Projection snapToGrid(String propertyName, double size) {
+		return new SpatialFunctionProjection( propertyName, SpatialFunction.snaptogrid, size );
+	}
+
+	private static class SpatialFunctionProjection extends SimpleProjection {
+		private final String propertyName;
+		private final SpatialFunction spatialFunction;
+		private final Object[] arguments;
+
+		private SpatialFunctionProjection(String propertyName, SpatialFunction spatialFunction, Object... arguments) {
+			this.propertyName = propertyName;
+			this.spatialFunction = spatialFunction;
+			this.arguments = arguments;
+		}
+
+		public Type[] getTypes(Criteria criteria, CriteriaQuery criteriaQuery) throws HibernateException {
+			return new Type[] {
+					criteriaQuery.getType( criteria, propertyName )
+			};
+		}
+
+		public String toSqlString(Criteria criteria, int position, CriteriaQuery criteriaQuery)
+				throws HibernateException {
+			final SessionFactoryImplementor factory = criteriaQuery.getFactory();
+			final SQLFunction function = factory.getSqlFunctionRegistry().findSQLFunction( spatialFunction.name() );
+			if ( function == null ) {
+				throw new HibernateException(
+						String.format( "Spatial function %s is not supported by the dialect", spatialFunction.name() )
+				);
+			}
+
+			final List<String> functionArguments = new ArrayList<String>();
+			functionArguments.add( criteriaQuery.getColumnsUsingProjection( criteria, propertyName )[0] );
+			for ( Object argument : arguments ) {
+				functionArguments.add( argument.toString() );
+			}
+			return function.render( criteriaQuery.getType( criteria, propertyName ), functionArguments, factory )
+					+ " as y" + position + '_';
+		}
+	}
+
 }
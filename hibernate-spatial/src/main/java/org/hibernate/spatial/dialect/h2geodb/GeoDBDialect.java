@@ -80,6 +80,7 @@ public class GeoDBDialect extends H2Dialect implements SpatialDialect {
 		registerFunction( "geomunion", new StandardSQLFunction( "ST_Union" ) );
 
 		registerFunction( "dwithin", new StandardSQLFunction( "ST_DWithin", StandardBasicTypes.BOOLEAN ) );
+		registerFunction( "simplify", new StandardSQLFunction( "ST_SimplifyPreserveTopology" ) );
 
 		// Register Spatial Filter function
 		registerFunction( SpatialFunction.filter.name(), new FilterFunction() );
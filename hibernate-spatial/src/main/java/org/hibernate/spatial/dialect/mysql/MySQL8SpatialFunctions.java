@@ -171,6 +171,13 @@ class MySQL8SpatialFunctions extends SpatialFunctionsRegistry {
 				)
 		);
 
+		// ST_Simplify() does not preserve the validity of the geometry
+		functionMap.put(
+				"simplify", new StandardSQLFunction(
+						"ST_Simplify"
+				)
+		);
+
 		functionMap.put(
 				SpatialFunction.filter.name(), new StandardSQLFunction(
 						"MBRIntersects",
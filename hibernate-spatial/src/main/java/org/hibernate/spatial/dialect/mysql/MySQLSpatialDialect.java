@@ -127,6 +127,8 @@ public class MySQLSpatialDialect extends MySQLDialect implements SpatialDialect
 			case dwithin:
 			case transform:
 			case extent:
+			case simplify:
+			case snaptogrid:
 				return false;
 			default:
 				return true;
@@ -7,6 +7,7 @@
 
 package org.hibernate.spatial.dialect.postgis;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -44,10 +45,36 @@ public class PGGeometryTypeDescriptor implements SqlTypeDescriptor {
 	 */
 	public static final PGGeometryTypeDescriptor INSTANCE = new PGGeometryTypeDescriptor();
 
+	/**
+	 * An instance of this class which transfers geometries as binary EWKB
+	 *
+	 * @see org.hibernate.spatial.HibernateSpatialConfigurationSettings#POSTGIS_BINARY_TRANSFER
+	 */
+	public static final PGGeometryTypeDescriptor BINARY_INSTANCE = new PGGeometryTypeDescriptor( true );
+
+	private final boolean binaryTransfer;
+
+	public PGGeometryTypeDescriptor() {
+		this( false );
+	}
+
+	/**
+	 * Creates an instance
+	 *
+	 * @param binaryTransfer Whether geometries are read as EWKB byte arrays, rather than as hex-encoded strings
+	 * wrapped in {@code PGobject}s
+	 */
+	public PGGeometryTypeDescriptor(boolean binaryTransfer) {
+		this.binaryTransfer = binaryTransfer;
+	}
+
 	public static Geometry<?> toGeometry(Object object) {
 		if ( object == null ) {
 			return null;
 		}
+		if ( object instanceof byte[] ) {
+			return toGeometry( (byte[]) object );
+		}
 		ByteBuffer buffer = null;
 		if ( object instanceof PGobject ) {
 			String pgValue = ( (PGobject) object ).getValue();
@@ -67,6 +94,38 @@ public class PGGeometryTypeDescriptor implements SqlTypeDescriptor {
 		throw new IllegalStateException( "Received object of type " + object.getClass().getCanonicalName() );
 	}
 
+	/**
+	 * Decodes the value of a geometry column read as a byte array, without converting it to a string first.
+	 * <p>
+	 * Depending on the transfer format the driver negotiated, the array holds either the EWKB itself, or its hex
+	 * encoding as ASCII characters.
+	 *
+	 * @param bytes The value of the geometry column
+	 *
+	 * @return The decoded {@code Geometry}
+	 */
+	public static Geometry<?> toGeometry(byte[] bytes) {
+		if ( bytes == null ) {
+			return null;
+		}
+		if ( bytes.length > 0 && bytes[0] != 0 && bytes[0] != 1 ) {
+			if ( bytes[0] != '0' ) {
+				return parseWkt( new String( bytes, StandardCharsets.US_ASCII ) );
+			}
+			bytes = fromHex( bytes );
+		}
+		final WkbDecoder decoder = Wkb.newDecoder( Wkb.Dialect.POSTGIS_EWKB_1 );
+		return decoder.decode( ByteBuffer.from( bytes ) );
+	}
+
+	private static byte[] fromHex(byte[] hex) {
+		final byte[] bytes = new byte[hex.length / 2];
+		for ( int i = 0; i < bytes.length; i++ ) {
+			bytes[i] = (byte) ( ( Character.digit( hex[2 * i], 16 ) << 4 ) + Character.digit( hex[2 * i + 1], 16 ) );
+		}
+		return bytes;
+	}
+
 	private static Geometry<?> parseWkt(String pgValue) {
 		final WktDecoder decoder = Wkt.newDecoder( Wkt.Dialect.POSTGIS_EWKT_1 );
 		return decoder.decode( pgValue );
@@ -82,6 +141,11 @@ public class PGGeometryTypeDescriptor implements SqlTypeDescriptor {
 		return false;
 	}
 
+	/**
+	 * Geometries are bound as {@code geometry} typed {@code PGobject}s holding the hex-encoded EWKB, whatever the
+	 * transfer used for reading them: a parameter bound as a byte array would only be converted to a geometry by
+	 * the implicit {@code bytea} casts of Postgis, which are ambiguous for the functions also accepting geographies.
+	 */
 	@Override
 	public <X> ValueBinder<X> getBinder(final JavaTypeDescriptor<X> javaTypeDescriptor) {
 		return new BasicBinder<X>( javaTypeDescriptor, this ) {
@@ -102,10 +166,11 @@ public class PGGeometryTypeDescriptor implements SqlTypeDescriptor {
 			private PGobject toPGobject(X value, WrapperOptions options) throws SQLException {
 				final WkbEncoder encoder = Wkb.newEncoder( Wkb.Dialect.POSTGIS_EWKB_1 );
 				final Geometry geometry = getJavaDescriptor().unwrap( value, Geometry.class, options );
-				final String hexString = encoder.encode( geometry, ByteOrder.NDR ).toString();
+				final ByteBuffer buffer = geometry == null ? null : encoder.encode( geometry, ByteOrder.NDR );
 				final PGobject obj = new PGobject();
 				obj.setType( "geometry" );
-				obj.setValue( hexString );
+				// a null value binds a null geometry
+				obj.setValue( buffer == null ? null : buffer.toString() );
 				return obj;
 			}
 
@@ -118,18 +183,27 @@ public class PGGeometryTypeDescriptor implements SqlTypeDescriptor {
 
 			@Override
 			protected X doExtract(ResultSet rs, String name, WrapperOptions options) throws SQLException {
-				return getJavaDescriptor().wrap( toGeometry( rs.getObject( name ) ), options );
+				return getJavaDescriptor().wrap(
+						toGeometry( binaryTransfer ? rs.getBytes( name ) : rs.getObject( name ) ),
+						options
+				);
 			}
 
 			@Override
 			protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
-				return getJavaDescriptor().wrap( toGeometry( statement.getObject( index ) ), options );
+				return getJavaDescriptor().wrap(
+						toGeometry( binaryTransfer ? statement.getBytes( index ) : statement.getObject( index ) ),
+						options
+				);
 			}
 
 			@Override
 			protected X doExtract(CallableStatement statement, String name, WrapperOptions options)
 					throws SQLException {
-				return getJavaDescriptor().wrap( toGeometry( statement.getObject( name ) ), options );
+				return getJavaDescriptor().wrap(
+						toGeometry( binaryTransfer ? statement.getBytes( name ) : statement.getObject( name ) ),
+						options
+				);
 			}
 		};
 	}
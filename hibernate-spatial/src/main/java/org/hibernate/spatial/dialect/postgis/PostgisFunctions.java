@@ -198,6 +198,16 @@ class PostgisFunctions extends SpatialFunctionsRegistry {
 						"st_transform"
 				)
 		);
+		put(
+				"simplify", new StandardSQLFunction(
+						"st_simplifypreservetopology"
+				)
+		);
+		put(
+				"snaptogrid", new StandardSQLFunction(
+						"st_snaptogrid"
+				)
+		);
 	}
 
 	private static class ExtentFunction extends StandardSQLFunction {
@@ -49,6 +49,8 @@ class SqlServerFunctions extends SpatialFunctionsRegistry {
 		put( "intersection", new SqlServerMethod( "STIntersection" ) );
 		put( "symdifference", new SqlServerMethod( "STSymDifference" ) );
 		put( "geomunion", new SqlServerMethod( "STUnion" ) );
+		// Reduce() does not preserve the validity of the geometry
+		put( "simplify", new SqlServerMethod( "Reduce" ) );
 		// we rename OGC union to geomunion because union is a reserved SQL keyword.
 		// (See also postgis documentation).
 
@@ -0,0 +1,551 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.spatial.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.Query;
+import org.hibernate.spatial.HSMessageLogger;
+import org.hibernate.spatial.SpatialRelation;
+
+import org.jboss.logging.Logger;
+
+import org.geolatte.geom.jts.JTS;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * An in-memory index over the geometry attribute of an entity, which evaluates spatial relations locally instead of
+ * in the database.
+ * <p>
+ * The index is populated with the committed geometries of all the entity instances on first use, and then kept up to
+ * date with the instances inserted, updated or deleted by the transactions committed through the session factory,
+ * which makes it suited to mostly static data, e.g. held in the second-level cache.  Geometries are kept in an
+ * STR-tree, which is rebuilt once enough geometries changed since it was built; the changed geometries are checked
+ * one by one meanwhile.
+ * <p>
+ * Queries are evaluated in the database instead while the index is not known to be complete (not populated yet,
+ * or {@link #invalidate() invalidated}), or when the session holds changes which are not committed yet.
+ *
+ * @see org.hibernate.spatial.HibernateSpatialConfigurationSettings#IN_MEMORY_INDEX
+ */
+public class SpatialIndex {
+	private static final HSMessageLogger LOG = Logger.getMessageLogger(
+			HSMessageLogger.class,
+			SpatialIndex.class.getName()
+	);
+
+	private static final int MIN_PENDING_ENTRIES = 64;
+
+	private static final String DISTANCE_CONDITION = "distance(%s, :geometry) <= :distance";
+
+	private final String entityName;
+	private final String attributeName;
+
+	private final ConcurrentMap<Object, Entry> entries = new ConcurrentHashMap<>();
+	// Entries changed since the tree was built
+	private final ConcurrentMap<Object, Entry> pendingEntries = new ConcurrentHashMap<>();
+	private volatile STRtree tree = buildTree( Collections.emptyList() );
+
+	// Whether the index holds the geometries of all the entity instances
+	private volatile boolean complete;
+	// Guarded by this: identifiers committed while the index is being populated, which have to be kept as committed
+	private boolean populating;
+	private boolean invalidatedWhilePopulating;
+	private final Set<Object> committedWhilePopulating = new HashSet<>();
+
+	public SpatialIndex(String entityName, String attributeName) {
+		this.entityName = entityName;
+		this.attributeName = attributeName;
+	}
+
+	public String getEntityName() {
+		return entityName;
+	}
+
+	public String getAttributeName() {
+		return attributeName;
+	}
+
+	/**
+	 * @return The number of geometries in the index
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return Whether the index holds the geometries of all the entity instances, and so can be queried instead of
+	 * the database
+	 */
+	public boolean isComplete() {
+		return complete;
+	}
+
+	/**
+	 * Marks the index as not complete, to be populated again on next use.  To be called once the indexed entities
+	 * were changed without going through the entity events of the session factory: bulk or native statements,
+	 * other applications.
+	 */
+	public synchronized void invalidate() {
+		complete = false;
+		if ( populating ) {
+			invalidatedWhilePopulating = true;
+		}
+	}
+
+	/**
+	 * Applies the geometry of an entity instance written by a committed transaction.
+	 *
+	 * @param id The identifier of the entity instance
+	 * @param geometry The geometry; {@code null} if the entity instance was deleted
+	 */
+	synchronized void committed(Object id, Object geometry) {
+		if ( populating ) {
+			committedWhilePopulating.add( id );
+		}
+		put( id, geometry );
+	}
+
+	/**
+	 * Populates the index with the committed geometries of all the entity instances, read in a transaction of its
+	 * own, unless it is complete already.
+	 */
+	void populate(SessionFactoryImplementor sessionFactory) {
+		synchronized ( this ) {
+			if ( complete || populating ) {
+				return;
+			}
+			populating = true;
+			clear();
+		}
+
+		try {
+			final List<?> rows;
+			try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+				final Transaction transaction = session.beginTransaction();
+				try {
+					rows = session.createQuery(
+							"select e.id, e." + attributeName + " from " + entityName + " e"
+					).list();
+					transaction.commit();
+				}
+				catch (RuntimeException e) {
+					if ( transaction.isActive() ) {
+						transaction.rollback();
+					}
+					throw e;
+				}
+			}
+
+			synchronized ( this ) {
+				for ( Object row : rows ) {
+					final Object[] values = (Object[]) row;
+					// the changes committed meanwhile may be more recent than the ones read
+					if ( !committedWhilePopulating.contains( values[0] ) ) {
+						put( values[0], values[1] );
+					}
+				}
+				complete = !invalidatedWhilePopulating;
+			}
+		}
+		finally {
+			synchronized ( this ) {
+				populating = false;
+				invalidatedWhilePopulating = false;
+				committedWhilePopulating.clear();
+			}
+		}
+	}
+
+	/**
+	 * Indexes the geometry of an entity instance, replacing the one indexed for it before.
+	 *
+	 * @param id The identifier of the entity instance
+	 * @param geometry The geometry, either a Geolatte or a JTS {@code Geometry}; {@code null} removes the entity
+	 * instance from the index
+	 */
+	void put(Object id, Object geometry) {
+		final Geometry jtsGeometry = toJts( geometry );
+		if ( jtsGeometry == null || jtsGeometry.isEmpty() ) {
+			remove( id );
+			return;
+		}
+
+		final Entry entry = new Entry( id, jtsGeometry );
+		final Entry indexed = entries.compute(
+				id,
+				(key, previous) -> previous != null && previous.geometry.equalsExact( jtsGeometry ) ? previous : entry
+		);
+		if ( indexed == entry ) {
+			pendingEntries.put( id, entry );
+		}
+	}
+
+	/**
+	 * Removes an entity instance from the index.
+	 */
+	void remove(Object id) {
+		entries.remove( id );
+		pendingEntries.remove( id );
+	}
+
+	/**
+	 * Removes all the geometries, and marks the index as not complete.
+	 */
+	public synchronized void clear() {
+		complete = false;
+		entries.clear();
+		pendingEntries.clear();
+		tree = buildTree( Collections.emptyList() );
+	}
+
+	/**
+	 * Gets the identifiers of the entity instances whose geometry is in the given relation with the given geometry,
+	 * from the index if it can be used, or else from the database.
+	 *
+	 * @param session The session issuing the query
+	 * @param geometry The geometry to test against
+	 * @param spatialRelation The relation, one of the {@link SpatialRelation} constants; the geometry of the entity
+	 * instances is the first operand
+	 *
+	 * @return The identifiers of the matching entity instances
+	 */
+	public List<Object> getIdentifiers(Session session, Geometry geometry, int spatialRelation) {
+		if ( useIndex( session ) ) {
+			return getIdentifiers( geometry, spatialRelation );
+		}
+		return queryIdentifiers( session, getRelationCondition( spatialRelation ), geometry, null );
+	}
+
+	/**
+	 * @see #getIdentifiers(Session, Geometry, int)
+	 */
+	public List<Object> getIdentifiers(Session session, org.geolatte.geom.Geometry<?> geometry, int spatialRelation) {
+		if ( useIndex( session ) ) {
+			return getIdentifiers( JTS.to( geometry ), spatialRelation );
+		}
+		return queryIdentifiers( session, getRelationCondition( spatialRelation ), geometry, null );
+	}
+
+	/**
+	 * Gets the identifiers of the entity instances whose geometry is within the given distance of the given geometry,
+	 * from the index if it can be used, or else from the database.
+	 *
+	 * @param session The session issuing the query
+	 * @param geometry The geometry to test against
+	 * @param distance The distance, in the units of the coordinate reference system of the geometries
+	 *
+	 * @return The identifiers of the matching entity instances
+	 */
+	public List<Object> getIdentifiersWithinDistance(Session session, Geometry geometry, double distance) {
+		if ( useIndex( session ) ) {
+			return getIdentifiersWithinDistance( geometry, distance );
+		}
+		return queryIdentifiers( session, DISTANCE_CONDITION, geometry, distance );
+	}
+
+	/**
+	 * @see #getIdentifiersWithinDistance(Session, Geometry, double)
+	 */
+	public List<Object> getIdentifiersWithinDistance(
+			Session session,
+			org.geolatte.geom.Geometry<?> geometry,
+			double distance) {
+		if ( useIndex( session ) ) {
+			return getIdentifiersWithinDistance( JTS.to( geometry ), distance );
+		}
+		return queryIdentifiers( session, DISTANCE_CONDITION, geometry, distance );
+	}
+
+	/**
+	 * Gets the entity instances whose geometry is in the given relation with the given geometry.  When the index can
+	 * be used, the matching instances are loaded by identifier through the given session (and so the second-level
+	 * cache).
+	 *
+	 * @see #getIdentifiers(Session, Geometry, int)
+	 */
+	public <T> List<T> getEntities(Session session, Geometry geometry, int spatialRelation) {
+		if ( useIndex( session ) ) {
+			return loadEntities( session, getIdentifiers( geometry, spatialRelation ) );
+		}
+		return queryEntities( session, getRelationCondition( spatialRelation ), geometry );
+	}
+
+	/**
+	 * @see #getEntities(Session, Geometry, int)
+	 */
+	public <T> List<T> getEntities(Session session, org.geolatte.geom.Geometry<?> geometry, int spatialRelation) {
+		if ( useIndex( session ) ) {
+			return loadEntities( session, getIdentifiers( JTS.to( geometry ), spatialRelation ) );
+		}
+		return queryEntities( session, getRelationCondition( spatialRelation ), geometry );
+	}
+
+	/**
+	 * The index only holds committed geometries: a session which changed entities in a transaction not committed yet
+	 * has to see its own changes, so it queries the database.
+	 */
+	private boolean useIndex(Session session) {
+		final SessionImplementor sessionImplementor = (SessionImplementor) session;
+		if ( sessionImplementor.getActionQueue().hasAfterTransactionActions() || session.isDirty() ) {
+			return false;
+		}
+		if ( !complete ) {
+			try {
+				populate( sessionImplementor.getFactory() );
+			}
+			catch (RuntimeException e) {
+				LOG.warn( "Could not populate the in-memory spatial index of " + entityName + ", querying the database", e );
+			}
+		}
+		return complete;
+	}
+
+	/**
+	 * Gets the identifiers of the indexed entity instances whose geometry is in the given relation with the given
+	 * geometry.
+	 */
+	List<Object> getIdentifiers(Geometry geometry, int spatialRelation) {
+		final Collection<Entry> candidates = spatialRelation == SpatialRelation.DISJOINT
+				? entries.values()
+				: getCandidates( geometry.getEnvelopeInternal() );
+
+		final List<Object> ids = new ArrayList<>();
+		for ( Entry candidate : candidates ) {
+			if ( matches( candidate, geometry, spatialRelation ) ) {
+				ids.add( candidate.id );
+			}
+		}
+		return ids;
+	}
+
+	/**
+	 * Gets the identifiers of the indexed entity instances whose geometry is within the given distance of the given
+	 * geometry.
+	 */
+	List<Object> getIdentifiersWithinDistance(Geometry geometry, double distance) {
+		final Envelope envelope = new Envelope( geometry.getEnvelopeInternal() );
+		envelope.expandBy( distance );
+
+		final List<Object> ids = new ArrayList<>();
+		for ( Entry candidate : getCandidates( envelope ) ) {
+			if ( candidate.geometry.isWithinDistance( geometry, distance ) ) {
+				ids.add( candidate.id );
+			}
+		}
+		return ids;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object> queryIdentifiers(Session session, String condition, Object geometry, Double distance) {
+		final Query<Object> query = session.createQuery(
+				"select e.id from " + entityName + " e where " + String.format( condition, "e." + attributeName )
+		);
+		query.setParameter( "geometry", toAttributeType( session, geometry ) );
+		if ( distance != null ) {
+			query.setParameter( "distance", distance );
+		}
+		return query.list();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> List<T> queryEntities(Session session, String condition, Object geometry) {
+		return session.createQuery(
+				"select e from " + entityName + " e where " + String.format( condition, "e." + attributeName )
+		).setParameter( "geometry", toAttributeType( session, geometry ) ).list();
+	}
+
+	/**
+	 * Converts the given geometry to the geometry library of the indexed attribute, for it to be bound as a query
+	 * parameter.
+	 */
+	private Object toAttributeType(Session session, Object geometry) {
+		final Class<?> attributeType = ( (SessionImplementor) session ).getFactory().getMetamodel()
+				.entityPersister( entityName )
+				.getPropertyType( attributeName )
+				.getReturnedClass();
+		if ( org.geolatte.geom.Geometry.class.isAssignableFrom( attributeType ) ) {
+			return geometry instanceof Geometry ? JTS.from( (Geometry) geometry ) : geometry;
+		}
+		return geometry instanceof org.geolatte.geom.Geometry
+				? JTS.to( (org.geolatte.geom.Geometry<?>) geometry )
+				: geometry;
+	}
+
+	private static String getRelationCondition(int spatialRelation) {
+		if ( spatialRelation == SpatialRelation.EQUALS ) {
+			return "equals(%s, :geometry) = true";
+		}
+		else if ( spatialRelation == SpatialRelation.DISJOINT ) {
+			return "disjoint(%s, :geometry) = true";
+		}
+		else if ( spatialRelation == SpatialRelation.TOUCHES ) {
+			return "touches(%s, :geometry) = true";
+		}
+		else if ( spatialRelation == SpatialRelation.CROSSES ) {
+			return "crosses(%s, :geometry) = true";
+		}
+		else if ( spatialRelation == SpatialRelation.WITHIN ) {
+			return "within(%s, :geometry) = true";
+		}
+		else if ( spatialRelation == SpatialRelation.OVERLAPS ) {
+			return "overlaps(%s, :geometry) = true";
+		}
+		else if ( spatialRelation == SpatialRelation.CONTAINS ) {
+			return "contains(%s, :geometry) = true";
+		}
+		else if ( spatialRelation == SpatialRelation.INTERSECTS ) {
+			return "intersects(%s, :geometry) = true";
+		}
+		else if ( spatialRelation == SpatialRelation.FILTER ) {
+			return "intersects(envelope(%s), envelope(:geometry)) = true";
+		}
+		throw new IllegalArgumentException( "Spatial relation is not known by this index" );
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> List<T> loadEntities(Session session, List<Object> ids) {
+		if ( ids.isEmpty() ) {
+			return Collections.emptyList();
+		}
+		final List<T> entities = new ArrayList<>( ids.size() );
+		for ( Object entity : session.byMultipleIds( entityName ).multiLoad( ids ) ) {
+			// null if deleted since it was indexed
+			if ( entity != null ) {
+				entities.add( (T) entity );
+			}
+		}
+		return entities;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Collection<Entry> getCandidates(Envelope envelope) {
+		if ( needsRebuild() ) {
+			rebuild();
+		}
+
+		final Set<Entry> candidates = new LinkedHashSet<>();
+		for ( Entry entry : (List<Entry>) tree.query( envelope ) ) {
+			// skip the entries which were removed or replaced since the tree was built
+			if ( entries.get( entry.id ) == entry ) {
+				candidates.add( entry );
+			}
+		}
+		for ( Entry entry : pendingEntries.values() ) {
+			if ( entry.geometry.getEnvelopeInternal().intersects( envelope ) && entries.get( entry.id ) == entry ) {
+				candidates.add( entry );
+			}
+		}
+		return candidates;
+	}
+
+	private boolean needsRebuild() {
+		return pendingEntries.size() > Math.max( MIN_PENDING_ENTRIES, entries.size() / 16 );
+	}
+
+	private synchronized void rebuild() {
+		if ( !needsRebuild() ) {
+			// rebuilt by another thread meanwhile
+			return;
+		}
+		// entries are indexed before being added as pending, so the tree built next holds the ones collected here
+		final List<Entry> indexed = new ArrayList<>( pendingEntries.values() );
+		tree = buildTree( entries.values() );
+		pendingEntries.values().removeAll( indexed );
+	}
+
+	private static STRtree buildTree(Collection<Entry> entries) {
+		final STRtree tree = new STRtree();
+		for ( Entry entry : entries ) {
+			tree.insert( entry.geometry.getEnvelopeInternal(), entry );
+		}
+		tree.build();
+		return tree;
+	}
+
+	private static boolean matches(Entry entry, Geometry geometry, int spatialRelation) {
+		if ( spatialRelation == SpatialRelation.EQUALS ) {
+			return entry.geometry.equalsTopo( geometry );
+		}
+		else if ( spatialRelation == SpatialRelation.DISJOINT ) {
+			return entry.getPrepared().disjoint( geometry );
+		}
+		else if ( spatialRelation == SpatialRelation.TOUCHES ) {
+			return entry.getPrepared().touches( geometry );
+		}
+		else if ( spatialRelation == SpatialRelation.CROSSES ) {
+			return entry.getPrepared().crosses( geometry );
+		}
+		else if ( spatialRelation == SpatialRelation.WITHIN ) {
+			return entry.getPrepared().within( geometry );
+		}
+		else if ( spatialRelation == SpatialRelation.OVERLAPS ) {
+			return entry.getPrepared().overlaps( geometry );
+		}
+		else if ( spatialRelation == SpatialRelation.CONTAINS ) {
+			return entry.getPrepared().contains( geometry );
+		}
+		else if ( spatialRelation == SpatialRelation.INTERSECTS ) {
+			return entry.getPrepared().intersects( geometry );
+		}
+		else if ( spatialRelation == SpatialRelation.FILTER ) {
+			return entry.geometry.getEnvelopeInternal().intersects( geometry.getEnvelopeInternal() );
+		}
+		throw new IllegalArgumentException( "Spatial relation is not known by this index" );
+	}
+
+	private static Geometry toJts(Object geometry) {
+		if ( geometry == null ) {
+			return null;
+		}
+		if ( geometry instanceof Geometry ) {
+			return (Geometry) geometry;
+		}
+		if ( geometry instanceof org.geolatte.geom.Geometry ) {
+			return JTS.to( (org.geolatte.geom.Geometry<?>) geometry );
+		}
+		throw new IllegalArgumentException( "Can't index value of type " + geometry.getClass().getCanonicalName() );
+	}
+
+	private static final class Entry {
+		private final Object id;
+		private final Geometry geometry;
+		// prepared on first use, as most geometries are only ever tested against their envelope
+		private volatile PreparedGeometry prepared;
+
+		private Entry(Object id, Geometry geometry) {
+			this.id = id;
+			this.geometry = geometry;
+		}
+
+		private PreparedGeometry getPrepared() {
+			PreparedGeometry result = prepared;
+			if ( result == null ) {
+				result = PreparedGeometryFactory.prepare( geometry );
+				prepared = result;
+			}
+			return result;
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.spatial.index;
+
+import java.io.Serializable;
+
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Maintains the in-memory spatial indexes from the entity instances inserted, updated or deleted by committed
+ * transactions.  Loaded entity instances are not indexed: they may hold changes of a transaction which did not
+ * commit yet.
+ */
+public class SpatialIndexEventListener
+		implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+	private final SpatialIndexService spatialIndexService;
+
+	public SpatialIndexEventListener(SpatialIndexService spatialIndexService) {
+		this.spatialIndexService = spatialIndexService;
+	}
+
+	@Override
+	public void onPostInsert(PostInsertEvent event) {
+		index( event.getPersister(), event.getId(), event.getEntity() );
+	}
+
+	@Override
+	public void onPostUpdate(PostUpdateEvent event) {
+		index( event.getPersister(), event.getId(), event.getEntity() );
+	}
+
+	@Override
+	public void onPostDelete(PostDeleteEvent event) {
+		final SpatialIndex index = spatialIndexService.getIndex( event.getPersister().getEntityName() );
+		if ( index != null ) {
+			index.committed( event.getId(), null );
+		}
+	}
+
+	@Override
+	public void onPostInsertCommitFailed(PostInsertEvent event) {
+		// nothing was indexed
+	}
+
+	@Override
+	public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+		// nothing was indexed
+	}
+
+	@Override
+	public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+		// nothing was removed from the index
+	}
+
+	@Override
+	public boolean requiresPostCommitHanding(EntityPersister persister) {
+		return spatialIndexService.getIndex( persister.getEntityName() ) != null;
+	}
+
+	private void index(EntityPersister persister, Serializable id, Object entity) {
+		final SpatialIndex index = spatialIndexService.getIndex( persister.getEntityName() );
+		if ( index != null ) {
+			index.committed( id, persister.getPropertyValue( entity, index.getAttributeName() ) );
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.spatial.index;
+
+import java.util.Iterator;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.spatial.HibernateSpatialConfigurationSettings;
+import org.hibernate.spatial.integration.SpatialService;
+
+/**
+ * Creates the in-memory spatial indexes and hooks up the event listeners maintaining them.
+ *
+ * @see HibernateSpatialConfigurationSettings#IN_MEMORY_INDEX
+ */
+public class SpatialIndexIntegrator implements Integrator {
+
+	@Override
+	public void integrate(
+			Metadata metadata,
+			SessionFactoryImplementor sessionFactory,
+			SessionFactoryServiceRegistry serviceRegistry) {
+		if ( !serviceRegistry.getService( SpatialService.class ).isEnabled() ) {
+			return;
+		}
+
+		final String indexedAttributes = ConfigurationHelper.getString(
+				HibernateSpatialConfigurationSettings.IN_MEMORY_INDEX,
+				serviceRegistry.getService( ConfigurationService.class ).getSettings()
+		);
+		if ( StringHelper.isEmpty( indexedAttributes ) ) {
+			return;
+		}
+
+		final SpatialIndexService spatialIndexService = serviceRegistry.getService( SpatialIndexService.class );
+		for ( String indexedAttribute : StringHelper.split( ", ", indexedAttributes ) ) {
+			final String entityName = StringHelper.qualifier( indexedAttribute );
+			final String attributeName = StringHelper.unqualify( indexedAttribute );
+
+			final PersistentClass persistentClass = metadata.getEntityBinding( entityName );
+			if ( persistentClass == null ) {
+				throw new HibernateException(
+						"Invalid value for " + HibernateSpatialConfigurationSettings.IN_MEMORY_INDEX
+								+ ", unknown entity: " + entityName
+				);
+			}
+			// fails if there is no such attribute
+			persistentClass.getRecursiveProperty( attributeName );
+
+			// shared by the subclasses, so that their instances are indexed as well
+			final SpatialIndex index = new SpatialIndex( entityName, attributeName );
+			final Iterator<PersistentClass> subclasses = persistentClass.getSubclassClosureIterator();
+			while ( subclasses.hasNext() ) {
+				spatialIndexService.addIndex( subclasses.next().getEntityName(), index );
+			}
+		}
+
+		final SpatialIndexEventListener listener = new SpatialIndexEventListener( spatialIndexService );
+		final EventListenerRegistry listenerRegistry = serviceRegistry.getService( EventListenerRegistry.class );
+		listenerRegistry.appendListeners( EventType.POST_COMMIT_INSERT, listener );
+		listenerRegistry.appendListeners( EventType.POST_COMMIT_UPDATE, listener );
+		listenerRegistry.appendListeners( EventType.POST_COMMIT_DELETE, listener );
+	}
+
+	@Override
+	public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+		serviceRegistry.getService( SpatialIndexService.class ).clear();
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.spatial.index;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.service.Service;
+
+/**
+ * Gives access to the in-memory spatial indexes of a session factory, through its service registry.
+ *
+ * @see org.hibernate.spatial.HibernateSpatialConfigurationSettings#IN_MEMORY_INDEX
+ */
+public class SpatialIndexService implements Service {
+	private final Map<String, SpatialIndex> indexes = new ConcurrentHashMap<>();
+
+	/**
+	 * @param entityName The name of an entity
+	 *
+	 * @return The index over the geometry attribute of the entity, or of the superclass declaring it; {@code null}
+	 * if there is none
+	 */
+	public SpatialIndex getIndex(String entityName) {
+		return indexes.get( entityName );
+	}
+
+	/**
+	 * @see #getIndex(String)
+	 */
+	public SpatialIndex getIndex(Class<?> entityClass) {
+		return getIndex( entityClass.getName() );
+	}
+
+	public boolean hasIndexes() {
+		return !indexes.isEmpty();
+	}
+
+	/**
+	 * Registers an index for the given entity, or one of its subclasses.
+	 */
+	void addIndex(String entityName, SpatialIndex index) {
+		indexes.put( entityName, index );
+	}
+
+	void clear() {
+		indexes.clear();
+	}
+}
@@ -0,0 +1,22 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.spatial.index;
+
+import org.hibernate.service.spi.SessionFactoryServiceContributor;
+import org.hibernate.service.spi.SessionFactoryServiceRegistryBuilder;
+
+/**
+ * Contributes a {@link SpatialIndexService} to each session factory, so that the indexes of a session factory only
+ * hold the data it loaded and committed.
+ */
+public class SpatialIndexServiceContributor implements SessionFactoryServiceContributor {
+
+	@Override
+	public void contribute(SessionFactoryServiceRegistryBuilder serviceRegistryBuilder) {
+		serviceRegistryBuilder.addService( SpatialIndexService.class, new SpatialIndexService() );
+	}
+}
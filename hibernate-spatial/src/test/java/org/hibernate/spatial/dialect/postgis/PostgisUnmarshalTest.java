@@ -6,6 +6,7 @@
  */
 package org.hibernate.spatial.dialect.postgis;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 
 import org.junit.Test;
@@ -65,6 +66,25 @@ public class PostgisUnmarshalTest {
 		testCase( wkb, geom );
 	}
 
+	@Test
+	public void testBinaryWkb() {
+		byte[] wkb = Wkb.toWkb( geom, ByteOrder.NDR ).toByteArray();
+		assertEquals( geom, PGGeometryTypeDescriptor.toGeometry( wkb ) );
+		byte[] wkbNoSrid = Wkb.toWkb( geomNoSrid, ByteOrder.XDR ).toByteArray();
+		assertEquals( geomNoSrid, PGGeometryTypeDescriptor.toGeometry( wkbNoSrid ) );
+	}
+
+	@Test
+	public void testHexWkbBytes() {
+		byte[] hexWkb = Wkb.toWkb( geom, ByteOrder.NDR ).toString().getBytes( StandardCharsets.US_ASCII );
+		assertEquals( geom, PGGeometryTypeDescriptor.toGeometry( hexWkb ) );
+	}
+
+	@Test
+	public void testWktBytes() {
+		byte[] ewkt = Wkt.toWkt( geom ).getBytes( StandardCharsets.US_ASCII );
+		assertEquals( geom, PGGeometryTypeDescriptor.toGeometry( ewkt ) );
+	}
 
 	public void testCase(String pgValue, Geometry<?> expected) throws SQLException {
 		PGobject pgo = new PGobject();
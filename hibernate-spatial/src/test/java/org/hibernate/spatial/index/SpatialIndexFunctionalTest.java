@@ -0,0 +1,203 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.spatial.index;
+
+import java.util.Collections;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.spatial.HibernateSpatialConfigurationSettings;
+import org.hibernate.spatial.SpatialRelation;
+import org.hibernate.spatial.testing.SpatialDialectMatcher;
+
+import org.hibernate.testing.Skip;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Test;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the population and the maintenance of {@link SpatialIndex} by a session factory.
+ */
+@Skip(condition = SpatialDialectMatcher.class, message = "No Spatial Dialect")
+public class SpatialIndexFunctionalTest extends BaseCoreFunctionalTestCase {
+
+	private final GeometryFactory factory = new GeometryFactory();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Zone.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( HibernateSpatialConfigurationSettings.IN_MEMORY_INDEX, Zone.class.getName() + ".boundary" );
+	}
+
+	@After
+	public void cleanUp() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Zone" ).executeUpdate();
+		} );
+		getIndex( sessionFactory() ).invalidate();
+	}
+
+	@Test
+	public void testPopulatedWithCommittedData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Zone( 1, square( 0, 0, 10 ) ) );
+		} );
+
+		final SpatialIndex index = getIndex( sessionFactory() );
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals(
+					Collections.singletonList( 1 ),
+					index.getIdentifiers( session, point( 1, 1 ), SpatialRelation.CONTAINS )
+			);
+		} );
+		assertTrue( index.isComplete() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Zone( 2, square( 0, 0, 10 ) ) );
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			session.delete( session.get( Zone.class, 1 ) );
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals(
+					Collections.singletonList( 2 ),
+					index.getIdentifiers( session, point( 1, 1 ), SpatialRelation.CONTAINS )
+			);
+			final List<Zone> zones = index.getEntities( session, point( 1, 1 ), SpatialRelation.CONTAINS );
+			assertEquals( 1, zones.size() );
+			assertEquals( Integer.valueOf( 2 ), zones.get( 0 ).id );
+		} );
+	}
+
+	@Test
+	public void testRolledBackChangesAreNotIndexed() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Zone( 1, square( 0, 0, 10 ) ) );
+		} );
+
+		final SpatialIndex index = getIndex( sessionFactory() );
+		inSession(
+				session -> {
+					session.beginTransaction();
+					session.persist( new Zone( 2, square( 0, 0, 10 ) ) );
+					session.get( Zone.class, 1 ).boundary = square( 20, 20, 10 );
+					session.flush();
+					session.getTransaction().rollback();
+				}
+		);
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals(
+					Collections.singletonList( 1 ),
+					index.getIdentifiers( session, point( 1, 1 ), SpatialRelation.CONTAINS )
+			);
+		} );
+	}
+
+	@Test
+	public void testInvalidate() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Zone( 1, square( 0, 0, 10 ) ) );
+		} );
+
+		final SpatialIndex index = getIndex( sessionFactory() );
+		doInHibernate( this::sessionFactory, session -> {
+			index.getIdentifiers( session, point( 1, 1 ), SpatialRelation.CONTAINS );
+		} );
+		assertTrue( index.isComplete() );
+
+		// not seen by the index
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Zone" ).executeUpdate();
+		} );
+		index.invalidate();
+		assertFalse( index.isComplete() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertTrue( index.getIdentifiers( session, point( 1, 1 ), SpatialRelation.CONTAINS ).isEmpty() );
+		} );
+	}
+
+	@Test
+	public void testIndexesAreScopedToTheSessionFactory() {
+		final StandardServiceRegistry ssr = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "none" )
+				.applySetting( HibernateSpatialConfigurationSettings.IN_MEMORY_INDEX, Zone.class.getName() + ".boundary" )
+				.build();
+		try {
+			final SessionFactory other = new MetadataSources( ssr )
+					.addAnnotatedClass( Zone.class )
+					.buildMetadata()
+					.buildSessionFactory();
+			try {
+				assertNotSame( getIndex( sessionFactory() ), getIndex( other ) );
+			}
+			finally {
+				other.close();
+			}
+			// closing the other session factory leaves the indexes of this one
+			assertTrue( getIndex( sessionFactory() ) != null );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( ssr );
+		}
+	}
+
+	private static SpatialIndex getIndex(SessionFactory sessionFactory) {
+		return ( (SessionFactoryImplementor) sessionFactory ).getServiceRegistry()
+				.getService( SpatialIndexService.class )
+				.getIndex( Zone.class );
+	}
+
+	private Geometry square(double x, double y, double size) {
+		return factory.toGeometry( new Envelope( x, x + size, y, y + size ) );
+	}
+
+	private Geometry point(double x, double y) {
+		return factory.createPoint( new Coordinate( x, y ) );
+	}
+
+	@Entity(name = "Zone")
+	public static class Zone {
+		@Id
+		Integer id;
+
+		Geometry boundary;
+
+		public Zone() {
+		}
+
+		public Zone(Integer id, Geometry boundary) {
+			this.id = id;
+			this.boundary = boundary;
+		}
+	}
+}
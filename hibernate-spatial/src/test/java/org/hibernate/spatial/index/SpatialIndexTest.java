@@ -0,0 +1,117 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.spatial.index;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.hibernate.spatial.SpatialRelation;
+
+import org.junit.Test;
+
+import org.geolatte.geom.G2D;
+import org.geolatte.geom.builder.DSL;
+import org.geolatte.geom.crs.CoordinateReferenceSystems;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import static org.geolatte.geom.builder.DSL.g;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the evaluation of spatial relations by {@link SpatialIndex}
+ */
+public class SpatialIndexTest {
+
+	private final GeometryFactory factory = new GeometryFactory();
+
+	@Test
+	public void testContainsPoint() {
+		SpatialIndex index = new SpatialIndex( "Zone", "boundary" );
+		index.put( 1, square( 0, 0, 10 ) );
+		index.put( 2, square( 5, 5, 10 ) );
+		index.put( 3, square( 20, 20, 10 ) );
+
+		assertEquals( Collections.singletonList( 1 ), index.getIdentifiers( point( 1, 1 ), SpatialRelation.CONTAINS ) );
+		assertEquals(
+				new HashSet<>( Arrays.asList( 1, 2 ) ),
+				new HashSet<>( index.getIdentifiers( point( 7, 7 ), SpatialRelation.CONTAINS ) )
+		);
+		assertTrue( index.getIdentifiers( point( 17, 17 ), SpatialRelation.CONTAINS ).isEmpty() );
+		assertEquals(
+				new HashSet<>( Arrays.asList( 2, 3 ) ),
+				new HashSet<>( index.getIdentifiers( point( 1, 1 ), SpatialRelation.DISJOINT ) )
+		);
+	}
+
+	@Test
+	public void testGeolatteGeometries() {
+		SpatialIndex index = new SpatialIndex( "Zone", "boundary" );
+		index.put( 1, org.geolatte.geom.jts.JTS.from( square( 0, 0, 10 ), CoordinateReferenceSystems.WGS84 ) );
+
+		org.geolatte.geom.Geometry<G2D> inside = DSL.point( CoordinateReferenceSystems.WGS84, g( 1, 1 ) );
+		assertEquals( Collections.singletonList( 1 ), index.getIdentifiers( org.geolatte.geom.jts.JTS.to( inside ), SpatialRelation.CONTAINS ) );
+	}
+
+	@Test
+	public void testUpdateAndRemove() {
+		SpatialIndex index = new SpatialIndex( "Zone", "boundary" );
+		index.put( 1, square( 0, 0, 10 ) );
+		index.put( 2, square( 0, 0, 10 ) );
+		assertEquals( 2, index.getIdentifiers( point( 1, 1 ), SpatialRelation.CONTAINS ).size() );
+
+		index.put( 1, square( 20, 20, 10 ) );
+		index.remove( 2 );
+		assertTrue( index.getIdentifiers( point( 1, 1 ), SpatialRelation.CONTAINS ).isEmpty() );
+		assertEquals( Collections.singletonList( 1 ), index.getIdentifiers( point( 21, 21 ), SpatialRelation.CONTAINS ) );
+
+		index.put( 1, null );
+		assertEquals( 0, index.size() );
+	}
+
+	@Test
+	public void testRebuild() {
+		SpatialIndex index = new SpatialIndex( "Zone", "boundary" );
+		for ( int i = 0; i < 1000; i++ ) {
+			index.put( i, square( i * 10, 0, 5 ) );
+		}
+		assertEquals( Collections.singletonList( 500 ), index.getIdentifiers( point( 5001, 1 ), SpatialRelation.CONTAINS ) );
+
+		// replaced after the tree was built
+		for ( int i = 0; i < 1000; i += 2 ) {
+			index.put( i, square( i * 10, 100, 5 ) );
+		}
+		assertTrue( index.getIdentifiers( point( 5001, 1 ), SpatialRelation.CONTAINS ).isEmpty() );
+		assertEquals( Collections.singletonList( 500 ), index.getIdentifiers( point( 5001, 101 ), SpatialRelation.CONTAINS ) );
+		assertEquals( Collections.singletonList( 501 ), index.getIdentifiers( point( 5011, 1 ), SpatialRelation.CONTAINS ) );
+	}
+
+	@Test
+	public void testWithinDistance() {
+		SpatialIndex index = new SpatialIndex( "Zone", "boundary" );
+		index.put( 1, square( 0, 0, 10 ) );
+		index.put( 2, square( 20, 0, 10 ) );
+
+		List<Object> ids = index.getIdentifiersWithinDistance( point( 15, 5 ), 4 );
+		assertTrue( ids.isEmpty() );
+		ids = index.getIdentifiersWithinDistance( point( 15, 5 ), 5 );
+		assertEquals( new HashSet<>( Arrays.asList( 1, 2 ) ), new HashSet<>( ids ) );
+	}
+
+	private Geometry square(double x, double y, double size) {
+		return factory.toGeometry( new Envelope( x, x + size, y, y + size ) );
+	}
+
+	private Geometry point(double x, double y) {
+		return factory.createPoint( new Coordinate( x, y ) );
+	}
+}
@@ -697,6 +697,52 @@ public class TestSpatialFunctions extends SpatialFunctionalTestCase {
 
 	}
 
+	@Test
+	public void test_simplify_on_jts() throws SQLException {
+		simplify( JTS );
+	}
+
+	@Test
+	public void test_simplify_on_geolatte() throws SQLException {
+		simplify( GEOLATTE );
+	}
+
+	public void simplify(String pckg) throws SQLException {
+		if ( !isSupportedByDialect( SpatialFunction.simplify ) ) {
+			return;
+		}
+		Map<Integer, Geometry> dbexpected = expectationsFactory.getSimplify( Double.valueOf( 1.0 ) );
+		String hql = format(
+				"SELECT id, simplify(geom, :tolerance) from %s where srid(geom) = %d",
+				entityName( pckg ), expectationsFactory.getTestSrid()
+		);
+		Map<String, Object> params = createQueryParams( "tolerance", Double.valueOf( 1.0 ) );
+		retrieveHQLResultsAndCompare( dbexpected, hql, params, pckg );
+	}
+
+	@Test
+	public void test_snaptogrid_on_jts() throws SQLException {
+		snaptogrid( JTS );
+	}
+
+	@Test
+	public void test_snaptogrid_on_geolatte() throws SQLException {
+		snaptogrid( GEOLATTE );
+	}
+
+	public void snaptogrid(String pckg) throws SQLException {
+		if ( !isSupportedByDialect( SpatialFunction.snaptogrid ) ) {
+			return;
+		}
+		Map<Integer, Geometry> dbexpected = expectationsFactory.getSnapToGrid( Double.valueOf( 1.0 ) );
+		String hql = format(
+				"SELECT id, snaptogrid(geom, :size) from %s where srid(geom) = %d",
+				entityName( pckg ), expectationsFactory.getTestSrid()
+		);
+		Map<String, Object> params = createQueryParams( "size", Double.valueOf( 1.0 ) );
+		retrieveHQLResultsAndCompare( dbexpected, hql, params, pckg );
+	}
+
 	@Test
 	public void test_extent_on_jts() throws SQLException {
 		extent( JTS );
@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+package org.hibernate.spatial.integration;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Criteria;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.criterion.Criterion;
+import org.hibernate.criterion.Projection;
+import org.hibernate.criterion.Projections;
+import org.hibernate.spatial.HSMessageLogger;
+import org.hibernate.spatial.SpatialFunction;
+import org.hibernate.spatial.criterion.SpatialProjections;
+import org.hibernate.spatial.criterion.SpatialRestrictions;
+import org.hibernate.spatial.integration.jts.JtsGeomEntity;
+import org.hibernate.spatial.testing.SpatialDialectMatcher;
+import org.hibernate.spatial.testing.SpatialFunctionalTestCase;
+
+import org.hibernate.testing.Skip;
+import org.junit.Test;
+
+import org.jboss.logging.Logger;
+
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Tests the geometry function projections of {@link SpatialProjections} against the results of the corresponding
+ * native SQL functions.
+ */
+@Skip(condition = SpatialDialectMatcher.class, message = "No Spatial Dialect")
+public class TestSpatialProjections extends SpatialFunctionalTestCase {
+
+	private static final HSMessageLogger LOG = Logger.getMessageLogger(
+			HSMessageLogger.class,
+			TestSpatialProjections.class.getName()
+	);
+
+	protected HSMessageLogger getLogger() {
+		return LOG;
+	}
+
+	@Test
+	public void envelope() throws SQLException {
+		if ( !isSupportedByDialect( SpatialFunction.envelope ) ) {
+			return;
+		}
+		Map<Integer, Geometry> dbexpected = expectationsFactory.getEnvelope();
+		retrieveAndCompare( dbexpected, SpatialProjections.envelope( "geom" ), null );
+	}
+
+	@Test
+	public void simplify() throws SQLException {
+		if ( !isSupportedByDialect( SpatialFunction.simplify ) ) {
+			return;
+		}
+		Map<Integer, Geometry> dbexpected = expectationsFactory.getSimplify( Double.valueOf( 1.0 ) );
+		retrieveAndCompare(
+				dbexpected,
+				SpatialProjections.simplify( "geom", 1.0 ),
+				SpatialRestrictions.havingSRID( "geom", expectationsFactory.getTestSrid() )
+		);
+	}
+
+	@Test
+	public void snapToGrid() throws SQLException {
+		if ( !isSupportedByDialect( SpatialFunction.snaptogrid ) ) {
+			return;
+		}
+		Map<Integer, Geometry> dbexpected = expectationsFactory.getSnapToGrid( Double.valueOf( 1.0 ) );
+		retrieveAndCompare(
+				dbexpected,
+				SpatialProjections.snapToGrid( "geom", 1.0 ),
+				SpatialRestrictions.havingSRID( "geom", expectationsFactory.getTestSrid() )
+		);
+	}
+
+	private void retrieveAndCompare(Map<Integer, Geometry> dbexpected, Projection projection, Criterion criterion) {
+		Session session = null;
+		Transaction tx = null;
+		try {
+			session = openSession();
+			tx = session.beginTransaction();
+			Criteria criteria = session.createCriteria( JtsGeomEntity.class );
+			criteria.setProjection( Projections.projectionList().add( Projections.id() ).add( projection ) );
+			if ( criterion != null ) {
+				criteria.add( criterion );
+			}
+			Map<Integer, Geometry> received = new HashMap<Integer, Geometry>();
+			for ( Object[] row : (List<Object[]>) criteria.list() ) {
+				received.put( (Integer) row[0], (Geometry) row[1] );
+			}
+			compare( dbexpected, received, JTS );
+		}
+		finally {
+			if ( tx != null ) {
+				tx.rollback();
+			}
+			if ( session != null ) {
+				session.close();
+			}
+		}
+	}
+}
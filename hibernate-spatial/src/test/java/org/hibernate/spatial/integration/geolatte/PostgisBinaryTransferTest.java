@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.spatial.integration.geolatte;
+
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.spatial.HibernateSpatialConfigurationSettings;
+import org.hibernate.spatial.dialect.postgis.PostgisPG95Dialect;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Test;
+
+import org.geolatte.geom.C2D;
+import org.geolatte.geom.Point;
+import org.geolatte.geom.Polygon;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.crs.CoordinateReferenceSystems;
+
+import static org.geolatte.geom.builder.DSL.c;
+import static org.geolatte.geom.builder.DSL.point;
+import static org.geolatte.geom.builder.DSL.polygon;
+import static org.geolatte.geom.builder.DSL.ring;
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Round-trips geometries, as column values and query parameters, with the
+ * {@link HibernateSpatialConfigurationSettings#POSTGIS_BINARY_TRANSFER binary transfer} of Postgis.
+ */
+@RequiresDialect(PostgisPG95Dialect.class)
+public class PostgisBinaryTransferTest extends BaseCoreFunctionalTestCase {
+
+	private static final CoordinateReferenceSystem<C2D> crs = CoordinateReferenceSystems.PROJECTED_2D_METER;
+
+	private final Polygon<C2D> window = polygon( crs, ring( c( 1, 1 ), c( 1, 20 ),
+															c( 20, 20 ), c( 20, 1 ), c( 1, 1 )
+	) );
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] {
+				Place.class,
+		};
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( HibernateSpatialConfigurationSettings.POSTGIS_BINARY_TRANSFER, "true" );
+	}
+
+	@After
+	public void cleanUp() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Place" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testRoundTrip() {
+		final Point<C2D> location = point( crs, c( 10, 5 ) );
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Place( 1, location ) );
+			session.persist( new Place( 2, null ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( location, session.get( Place.class, 1 ).location );
+			assertNull( session.get( Place.class, 2 ).location );
+		} );
+	}
+
+	@Test
+	public void testBoundParameter() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Place( 1, point( crs, c( 10, 5 ) ) ) );
+			session.persist( new Place( 2, point( crs, c( 30, 5 ) ) ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			// intersects also accepts geographies, so the parameter has to be bound as a geometry
+			final List<Place> places = session.createQuery(
+					"select p from Place p where intersects(p.location, :window) = true", Place.class )
+					.setParameter( "window", window )
+					.getResultList();
+
+			assertEquals( 1, places.size() );
+			assertEquals( Integer.valueOf( 1 ), places.get( 0 ).id );
+		} );
+	}
+
+	@Entity(name = "Place")
+	public static class Place {
+
+		@Id
+		private Integer id;
+
+		private Point<C2D> location;
+
+		public Place() {
+		}
+
+		public Place(Integer id, Point<C2D> location) {
+			this.id = id;
+			this.location = location;
+		}
+	}
+}
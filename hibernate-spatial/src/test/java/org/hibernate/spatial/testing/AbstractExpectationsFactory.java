@@ -435,6 +435,32 @@ public abstract class AbstractExpectationsFactory {
 		return retrieveExpected( createNativeTransformStatement( epsg ), GEOMETRY );
 	}
 
+	/**
+	 * Returns the expected result of the simplify function
+	 *
+	 * @param tolerance distance tolerance parameter to the simplify function
+	 *
+	 * @return
+	 *
+	 * @throws SQLException
+	 */
+	public Map<Integer, Geometry> getSimplify(Double tolerance) throws SQLException {
+		return retrieveExpected( createNativeSimplifyStatement( tolerance ), GEOMETRY );
+	}
+
+	/**
+	 * Returns the expected result of the snaptogrid function
+	 *
+	 * @param size grid cell size parameter to the snaptogrid function
+	 *
+	 * @return
+	 *
+	 * @throws SQLException
+	 */
+	public Map<Integer, Geometry> getSnapToGrid(Double size) throws SQLException {
+		return retrieveExpected( createNativeSnapToGridStatement( size ), GEOMETRY );
+	}
+
 	/**
 	 * Returns a statement corresponding to the HQL statement:
 	 * "SELECT id, touches(geom, :filter) from GeomEntity where touches(geom, :filter) = true and srid(geom) = 4326"
@@ -708,6 +734,26 @@ public abstract class AbstractExpectationsFactory {
 	 */
 	protected abstract NativeSQLStatement createNativeTransformStatement(int epsg);
 
+	/**
+	 * Returns a statement corresponding to the HQL statement
+	 * "SELECT id, simplify(geom, :tolerance) from GeomEntity where srid(geom) = 4326"
+	 *
+	 * @param tolerance parameter corresponding to the ':tolerance' query parameter
+	 *
+	 * @return the native SQL Statement
+	 */
+	protected abstract NativeSQLStatement createNativeSimplifyStatement(Double tolerance);
+
+	/**
+	 * Returns a statement corresponding to the HQL statement
+	 * "SELECT id, snaptogrid(geom, :size) from GeomEntity where srid(geom) = 4326"
+	 *
+	 * @param size parameter corresponding to the ':size' query parameter
+	 *
+	 * @return the native SQL Statement
+	 */
+	protected abstract NativeSQLStatement createNativeSnapToGridStatement(Double size);
+
 	/**
 	 * Returns the statement corresponding to the HQL statement
 	 * "select id, (srid(geom) = :epsg) from GeomEntity where srid(geom) = :epsg ";
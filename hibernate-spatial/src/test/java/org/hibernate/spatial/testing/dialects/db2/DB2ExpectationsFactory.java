@@ -176,6 +176,16 @@ public class DB2ExpectationsFactory extends AbstractExpectationsFactory {
 		);
 	}
 
+	@Override
+	protected NativeSQLStatement createNativeSimplifyStatement(Double tolerance) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	protected NativeSQLStatement createNativeSnapToGridStatement(Double size) {
+		throw new UnsupportedOperationException();
+	}
+
 	@Override
 	protected NativeSQLStatement createNativeHavingSRIDStatement(int srid) {
 		return createNativeSQLStatement(
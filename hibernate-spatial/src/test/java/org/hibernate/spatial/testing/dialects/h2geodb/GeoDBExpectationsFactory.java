@@ -103,6 +103,19 @@ public class GeoDBExpectationsFactory extends AbstractExpectationsFactory {
 		throw new UnsupportedOperationException();
 	}
 
+	@Override
+	protected NativeSQLStatement createNativeSimplifyStatement(Double tolerance) {
+		return createNativeSQLStatement(
+				"select t.id, ST_SimplifyPreserveTopology(t.geom,?) from GEOMTEST t where ST_SRID(t.geom) = 4326",
+				new Object[] { tolerance }
+		);
+	}
+
+	@Override
+	protected NativeSQLStatement createNativeSnapToGridStatement(Double size) {
+		throw new UnsupportedOperationException();
+	}
+
 	@Override
 	protected NativeSQLStatement createNativeHavingSRIDStatement(int srid) {
 		return createNativeSQLStatement(
@@ -109,6 +109,19 @@ public class GeoDBNoSRIDExpectationsFactory extends AbstractExpectationsFactory
 		throw new UnsupportedOperationException();
 	}
 
+	@Override
+	protected NativeSQLStatement createNativeSimplifyStatement(Double tolerance) {
+		return createNativeSQLStatement(
+				"select t.id, ST_SimplifyPreserveTopology(t.geom,?) from GEOMTEST t where ST_SRID(t.geom) = 4326",
+				new Object[] { tolerance }
+		);
+	}
+
+	@Override
+	protected NativeSQLStatement createNativeSnapToGridStatement(Double size) {
+		throw new UnsupportedOperationException();
+	}
+
 	@Override
 	protected NativeSQLStatement createNativeHavingSRIDStatement(int srid) {
 		return createNativeSQLStatement( "select t.id, (st_srid(t.geom) = " + srid + ") from GeomTest t where ST_SRID(t.geom) =  " + srid );
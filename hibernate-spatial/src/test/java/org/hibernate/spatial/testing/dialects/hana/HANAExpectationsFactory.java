@@ -179,6 +179,16 @@ public class HANAExpectationsFactory extends AbstractExpectationsFactory {
 				"select t.id, t.geom.ST_Transform(" + epsg + ") from GeomTest t where t.geom.ST_SRID() = " + getTestSrid() );
 	}
 
+	@Override
+	protected NativeSQLStatement createNativeSimplifyStatement(Double tolerance) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	protected NativeSQLStatement createNativeSnapToGridStatement(Double size) {
+		throw new UnsupportedOperationException();
+	}
+
 	@Override
 	protected NativeSQLStatement createNativeHavingSRIDStatement(int srid) {
 		return createNativeSQLStatement( "select t.id, 1 from GeomTest t where t.geom.ST_SRID() =  " + srid );
@@ -224,6 +224,19 @@ public class MySQL8ExpectationsFactory extends AbstractExpectationsFactory {
 		throw new UnsupportedOperationException();
 	}
 
+	@Override
+	protected NativeSQLStatement createNativeSimplifyStatement(Double tolerance) {
+		return createNativeSQLStatement(
+				"select t.id, ST_Simplify(t.geom,?) from geomtest t ",
+				new Object[] { tolerance }
+		);
+	}
+
+	@Override
+	protected NativeSQLStatement createNativeSnapToGridStatement(Double size) {
+		throw new UnsupportedOperationException();
+	}
+
 	@Override
 	protected NativeSQLStatement createNativeHavingSRIDStatement(int srid) {
 		return createNativeSQLStatement( "select t.id, (ST_Srid(t.geom) = " + srid + ") from geomtest t where ST_SRID(t.geom) =  " + srid );
@@ -148,6 +148,22 @@ public class PostgisExpectationsFactory extends AbstractExpectationsFactory {
 		);
 	}
 
+	@Override
+	protected NativeSQLStatement createNativeSimplifyStatement(Double tolerance) {
+		return createNativeSQLStatement(
+				"select t.id, st_simplifypreservetopology(t.geom,?) from GeomTest t where ST_SRID(t.geom) = 4326",
+				new Object[] { tolerance }
+		);
+	}
+
+	@Override
+	protected NativeSQLStatement createNativeSnapToGridStatement(Double size) {
+		return createNativeSQLStatement(
+				"select t.id, st_snaptogrid(t.geom,?) from GeomTest t where ST_SRID(t.geom) = 4326",
+				new Object[] { size }
+		);
+	}
+
 	@Override
 	protected NativeSQLStatement createNativeHavingSRIDStatement(int srid) {
 		return createNativeSQLStatement( "select t.id, (st_srid(t.geom) = " + srid + ") from GeomTest t where ST_SRID(t.geom) =  " + srid );
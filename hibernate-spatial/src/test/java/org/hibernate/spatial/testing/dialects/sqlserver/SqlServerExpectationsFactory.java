@@ -176,6 +176,19 @@ public class SqlServerExpectationsFactory extends AbstractExpectationsFactory {
 		throw new UnsupportedOperationException();
 	}
 
+	@Override
+	protected NativeSQLStatement createNativeSimplifyStatement(Double tolerance) {
+		return createNativeSQLStatement(
+				"select t.id, t.geom.Reduce(?) from GeomTest t where t.geom.STSrid = 4326",
+				new Object[] { tolerance }
+		);
+	}
+
+	@Override
+	protected NativeSQLStatement createNativeSnapToGridStatement(Double size) {
+		throw new UnsupportedOperationException();
+	}
+
 	@Override
 	protected NativeSQLStatement createNativeHavingSRIDStatement(int srid) {
 		return createNativeSQLStatement( "select t.id, 1 from GeomTest t where t.geom.STSrid =  " + srid );
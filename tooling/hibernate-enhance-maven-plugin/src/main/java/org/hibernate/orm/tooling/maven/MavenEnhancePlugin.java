@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import javax.persistence.Entity;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.AbstractMojo;
@@ -38,10 +39,15 @@ import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.enhance.spi.UnloadedClass;
 import org.hibernate.bytecode.enhance.spi.UnloadedField;
+import org.hibernate.bytecode.internal.bytebuddy.ProxyFactoryFactoryImpl;
+import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.cfg.Environment;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
 import org.sonatype.plexus.build.incremental.BuildContext;
 
+import net.bytebuddy.dynamic.DynamicType;
+
 /**
  * This plugin will enhance Entity objects.
  *
@@ -80,10 +86,17 @@ public class MavenEnhancePlugin extends AbstractMojo {
 	@Parameter(property = "enableExtendedEnhancement", defaultValue = "false")
 	private boolean enableExtendedEnhancement;
 
-	private boolean shouldApply() {
+	@Parameter(property = "enableProxyGeneration", defaultValue = "false")
+	private boolean enableProxyGeneration;
+
+	private boolean shouldEnhance() {
 		return enableLazyInitialization || enableDirtyTracking || enableAssociationManagement || enableExtendedEnhancement;
 	}
 
+	private boolean shouldApply() {
+		return shouldEnhance() || enableProxyGeneration;
+	}
+
 	@Override
 	public void execute() throws MojoExecutionException, MojoFailureException {
 		final Log log = getLog();
@@ -108,6 +121,17 @@ public class MavenEnhancePlugin extends AbstractMojo {
 			return;
 		}
 
+		if ( shouldEnhance() ) {
+			enhance();
+		}
+
+		if ( enableProxyGeneration ) {
+			generateProxies();
+		}
+	}
+
+	private void enhance() throws MojoExecutionException {
+		final Log log = getLog();
 		log.info( "Starting Hibernate enhancement for classes on " + dir );
 		final ClassLoader classLoader = toClassLoader( Collections.singletonList( new File( base ) ) );
 
@@ -164,6 +188,58 @@ public class MavenEnhancePlugin extends AbstractMojo {
 		}
 	}
 
+	/**
+	 * Generates the proxy classes of the entities next to them, so that they need not be generated when the
+	 * SessionFactory is built.  Runs after the enhancement, with a fresh class loader, since the proxy classes are
+	 * bound to the enhanced entity classes.
+	 */
+	private void generateProxies() throws MojoExecutionException {
+		final Log log = getLog();
+		final ProxyFactoryFactory proxyFactoryFactory = Environment.getBytecodeProvider().getProxyFactoryFactory();
+		if ( !( proxyFactoryFactory instanceof ProxyFactoryFactoryImpl ) ) {
+			log.warn( "Skipping Hibernate proxy generation since the bytecode provider is not Byte Buddy" );
+			return;
+		}
+		final ByteBuddyProxyHelper proxyHelper = ( (ProxyFactoryFactoryImpl) proxyFactoryFactory ).getByteBuddyProxyHelper();
+
+		log.info( "Starting Hibernate proxy generation for classes on " + dir );
+		final ClassLoader classLoader = toClassLoader( Collections.singletonList( new File( base ) ) );
+
+		for ( File file : sourceSet ) {
+			final String className = determineClassName( file );
+			if ( className.endsWith( ByteBuddyProxyHelper.PREBUILT_PROXY_NAME_SUFFIX ) ) {
+				continue;
+			}
+
+			try {
+				final Class<?> entityClass = Class.forName( className, false, classLoader );
+				if ( !entityClass.isAnnotationPresent( Entity.class ) ) {
+					continue;
+				}
+				final DynamicType.Unloaded<?> proxy = proxyHelper.buildUnloadedPrebuiltProxy( entityClass );
+				if ( proxy == null ) {
+					log.debug( "Skipping class [" + className + "], it cannot be proxied" );
+					continue;
+				}
+				final File proxyFile = new File(
+						base,
+						proxy.getTypeDescription().getName().replace( '.', File.separatorChar ) + ".class"
+				);
+				writeOutClass( proxy.getBytes(), proxyFile );
+				if ( log.isDebugEnabled() ) {
+					log.debug( "Successfully generated proxy class [" + proxyFile + "]" );
+				}
+			}
+			catch (Exception | LinkageError e) {
+				String msg = "Unable to generate the proxy class of: " + className;
+				if ( failOnError ) {
+					throw new MojoExecutionException( msg, e );
+				}
+				buildContext.addMessage( file, 0, 0, msg, BuildContext.SEVERITY_WARNING, e );
+			}
+		}
+	}
+
 	private ClassLoader toClassLoader(List<File> runtimeClasspath) throws MojoExecutionException {
 		List<URL> urls = new ArrayList<URL>( runtimeClasspath.size() );
 		final Log log = getLog();
@@ -209,10 +285,7 @@ public class MavenEnhancePlugin extends AbstractMojo {
 
 	private byte[] doEnhancement(File javaClassFile, Enhancer enhancer) throws MojoExecutionException {
 		try {
-			String className = javaClassFile.getAbsolutePath().substring(
-					base.length() + 1,
-					javaClassFile.getAbsolutePath().length() - ".class".length()
-			).replace( File.separatorChar, '.' );
+			String className = determineClassName( javaClassFile );
 			ByteArrayOutputStream originalBytes = new ByteArrayOutputStream();
 			FileInputStream fileInputStream = new FileInputStream( javaClassFile );
 			try {
@@ -237,6 +310,13 @@ public class MavenEnhancePlugin extends AbstractMojo {
 		}
 	}
 
+	private String determineClassName(File javaClassFile) {
+		return javaClassFile.getAbsolutePath().substring(
+				base.length() + 1,
+				javaClassFile.getAbsolutePath().length() - ".class".length()
+		).replace( File.separatorChar, '.' );
+	}
+
 	/**
 	 * Expects a directory.
 	 */
@@ -282,14 +362,18 @@ public class MavenEnhancePlugin extends AbstractMojo {
 			buildContext.addMessage( file, 0, 0, "Problem preparing class file for writing out enhancements", BuildContext.SEVERITY_WARNING, e );
 		}
 
+		writeOutClass( enhancedBytecode, file );
+	}
+
+	private void writeOutClass(byte[] bytecode, File file) throws MojoExecutionException {
 		OutputStream outputStream = null;
 		try {
 			outputStream = buildContext.newFileOutputStream( file );
-			outputStream.write( enhancedBytecode );
+			outputStream.write( bytecode );
 			outputStream.flush();
 		}
 		catch (IOException e) {
-			String msg = String.format( "Error writing to enhanced class [%s] to file [%s]", file.getName(), file.getAbsolutePath() );
+			String msg = String.format( "Error writing class [%s] to file [%s]", file.getName(), file.getAbsolutePath() );
 			if ( failOnError ) {
 				throw new MojoExecutionException( msg, e );
 			}
@@ -17,6 +17,7 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.List;
+import javax.persistence.Entity;
 
 import org.gradle.api.GradleException;
 import org.gradle.api.Project;
@@ -30,13 +31,27 @@ import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.enhance.spi.UnloadedClass;
 import org.hibernate.bytecode.enhance.spi.UnloadedField;
+import org.hibernate.bytecode.internal.bytebuddy.ProxyFactoryFactoryImpl;
+import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.cfg.Environment;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+
+import net.bytebuddy.dynamic.DynamicType;
 
 /**
  * @author Steve Ebersole
  */
 public class EnhancementHelper {
 	static void enhance(SourceSet sourceSet, EnhanceExtension options, Project project) {
+		if ( options.shouldEnhance() ) {
+			doEnhance( sourceSet, options, project );
+		}
+		if ( options.getEnableProxyGeneration() ) {
+			generateProxies( sourceSet, project );
+		}
+	}
+
+	private static void doEnhance(SourceSet sourceSet, EnhanceExtension options, Project project) {
 		final ClassLoader classLoader = toClassLoader( sourceSet.getRuntimeClasspath() );
 
 		final EnhancementContext enhancementContext = new DefaultEnhancementContext() {
@@ -96,6 +111,58 @@ public class EnhancementHelper {
 		}
 	}
 
+	/**
+	 * Generates the proxy classes of the entities next to them, so that they need not be generated when the
+	 * SessionFactory is built.  Runs after the enhancement, with a fresh class loader, since the proxy classes are
+	 * bound to the enhanced entity classes.
+	 */
+	private static void generateProxies(SourceSet sourceSet, Project project) {
+		final ProxyFactoryFactory proxyFactoryFactory = Environment.getBytecodeProvider().getProxyFactoryFactory();
+		if ( !( proxyFactoryFactory instanceof ProxyFactoryFactoryImpl ) ) {
+			project.getLogger().warn( "Skipping Hibernate proxy generation since the bytecode provider is not Byte Buddy" );
+			return;
+		}
+		final ByteBuddyProxyHelper proxyHelper = ( (ProxyFactoryFactoryImpl) proxyFactoryFactory ).getByteBuddyProxyHelper();
+		final ClassLoader classLoader = toClassLoader( sourceSet.getRuntimeClasspath() );
+
+		for ( File classesDir: sourceSet.getOutput().getClassesDirs() ) {
+			final FileTree fileTree = project.fileTree( classesDir );
+			for ( File file : fileTree ) {
+				if ( !file.getName().endsWith( ".class" ) ) {
+					continue;
+				}
+				final String className = determineClassName( classesDir, file );
+				if ( className.endsWith( ByteBuddyProxyHelper.PREBUILT_PROXY_NAME_SUFFIX ) ) {
+					continue;
+				}
+
+				final DynamicType.Unloaded<?> proxy;
+				try {
+					final Class<?> entityClass = Class.forName( className, false, classLoader );
+					if ( !entityClass.isAnnotationPresent( Entity.class ) ) {
+						continue;
+					}
+					proxy = proxyHelper.buildUnloadedPrebuiltProxy( entityClass );
+				}
+				catch (Exception | LinkageError e) {
+					throw new GradleException( "Unable to generate the proxy class of : " + className, e );
+				}
+
+				if ( proxy != null ) {
+					final File proxyFile = new File(
+							classesDir,
+							proxy.getTypeDescription().getName().replace( '.', File.separatorChar ) + ".class"
+					);
+					writeOutClass( proxy.getBytes(), proxyFile );
+					project.getLogger().info( "Successfully generated proxy class [" + proxyFile + "]" );
+				}
+				else {
+					project.getLogger().info( "Skipping class [" + file.getAbsolutePath() + "], it cannot be proxied" );
+				}
+			}
+		}
+	}
+
 	public static ClassLoader toClassLoader(FileCollection runtimeClasspath) {
 		List<URL> urls = new ArrayList<>();
 		for ( File file : runtimeClasspath ) {
@@ -150,14 +217,18 @@ public class EnhancementHelper {
 			logger.warn( "Problem preparing class file for writing out enhancements [" + file.getName() + "]" );
 		}
 
+		writeOutClass( enhancedBytecode, file );
+	}
+
+	private static void writeOutClass(byte[] bytecode, File file) {
 		try {
 			FileOutputStream outputStream = new FileOutputStream( file, false );
 			try {
-				outputStream.write( enhancedBytecode );
+				outputStream.write( bytecode );
 				outputStream.flush();
 			}
 			catch (IOException e) {
-				throw new GradleException( "Error writing to enhanced class [" + file.getName() + "] to file [" + file.getAbsolutePath() + "]", e );
+				throw new GradleException( "Error writing class [" + file.getName() + "] to file [" + file.getAbsolutePath() + "]", e );
 			}
 			finally {
 				try {
@@ -170,7 +241,6 @@ public class EnhancementHelper {
 		catch (FileNotFoundException e) {
 			throw new GradleException( "Error opening class file for writing : " + file.getAbsolutePath(), e );
 		}
-
 	}
 
 	private EnhancementHelper() {